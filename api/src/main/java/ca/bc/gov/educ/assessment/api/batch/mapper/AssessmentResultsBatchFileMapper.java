@@ -15,6 +15,7 @@ public interface AssessmentResultsBatchFileMapper {
 
     @Mapping(target = "stagedStudentResultID", ignore = true)
     @Mapping(target = "stagedStudentResultStatus", ignore = true)
+    @Mapping(target = "loadID", ignore = true)
     @Mapping(target = "oeMarks", ignore = true)
     @Mapping(target = "mcMarks", ignore = true)
     @Mapping(target = "provincialSpecialCaseCode", ignore = true)
@@ -1,12 +1,17 @@
 package ca.bc.gov.educ.assessment.api.batch.processor;
 
 import ca.bc.gov.educ.assessment.api.batch.exception.KeyFileError;
+import ca.bc.gov.educ.assessment.api.batch.exception.ResultFileError;
 import ca.bc.gov.educ.assessment.api.batch.exception.ResultsFileUnProcessableException;
 import ca.bc.gov.educ.assessment.api.batch.service.AssessmentResultService;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultDetails;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultLoadContext;
+import ca.bc.gov.educ.assessment.api.batch.validation.DuplicatePenDetector;
 import ca.bc.gov.educ.assessment.api.batch.validation.ResultsFileValidator;
 import ca.bc.gov.educ.assessment.api.exception.ConfirmationRequiredException;
 import ca.bc.gov.educ.assessment.api.exception.InvalidPayloadException;
 import ca.bc.gov.educ.assessment.api.exception.errors.ApiError;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentResultFileUpload;
 import ca.bc.gov.educ.assessment.api.util.ValidationUtil;
 import com.google.common.base.Stopwatch;
@@ -14,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.sf.flatpack.DataSet;
 import net.sf.flatpack.DefaultParserFactory;
+import net.sf.flatpack.brparse.BuffReaderParseFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 
@@ -30,12 +36,15 @@ public class AssessmentResultsProcessor {
 
     public static final String INVALID_PAYLOAD_MSG = "Payload contains invalid data.";
     public static final String ASSESSMENT_RESULT_UPLOAD = "assessmentResultUpload";
+    private static final String ROW_LENGTH_ERROR = "SHOULD BE 486";
     private final ResultsFileValidator resultsFileValidator;
     private final AssessmentResultService assessmentResultService;
+    private final ApplicationProperties applicationProperties;
 
-    public AssessmentResultsProcessor(ResultsFileValidator resultsFileValidator, AssessmentResultService assessmentResultService) {
+    public AssessmentResultsProcessor(ResultsFileValidator resultsFileValidator, AssessmentResultService assessmentResultService, ApplicationProperties applicationProperties) {
         this.resultsFileValidator = resultsFileValidator;
         this.assessmentResultService = assessmentResultService;
+        this.applicationProperties = applicationProperties;
     }
 
     public void processAssessmentResults(AssessmentResultFileUpload fileUpload, UUID assessmentSessionID, boolean isSingleResult) {
@@ -44,12 +53,16 @@ public class AssessmentResultsProcessor {
         Optional<Reader> batchFileReaderOptional = Optional.empty();
         try {
             final Reader mapperReader = new FileReader(Objects.requireNonNull(this.getClass().getClassLoader().getResource("assessmentResultMapper.xml")).getFile());
-            var byteArrayOutputStream = new ByteArrayInputStream(resultsFileValidator.getUploadedFileBytes(correlationID, fileUpload));
-            batchFileReaderOptional = Optional.of(new InputStreamReader(byteArrayOutputStream));
-            final DataSet ds = DefaultParserFactory.getInstance().newFixedLengthParser(mapperReader, batchFileReaderOptional.get()).setStoreRawDataToDataError(true).setStoreRawDataToDataSet(true).setNullEmptyStrings(true).parse();
+            batchFileReaderOptional = Optional.of(new BufferedReader(new InputStreamReader(resultsFileValidator.getUploadedFileStream(correlationID, fileUpload))));
+            if (isSingleResult) {
+                final DataSet ds = DefaultParserFactory.getInstance().newFixedLengthParser(mapperReader, batchFileReaderOptional.get()).setStoreRawDataToDataError(true).setStoreRawDataToDataSet(true).setNullEmptyStrings(true).parse();
 
-            resultsFileValidator.validateFileForFormatAndLength(correlationID, ds, "SHOULD BE 486");
-            assessmentResultService.populateBatchFileAndLoadData(correlationID, ds, assessmentSessionID, fileUpload, isSingleResult);
+                resultsFileValidator.validateFileForFormatAndLength(correlationID, ds, ROW_LENGTH_ERROR);
+                assessmentResultService.populateBatchFileAndLoadData(correlationID, ds, assessmentSessionID, fileUpload);
+            } else {
+                final DataSet ds = BuffReaderParseFactory.getInstance().newFixedLengthParser(mapperReader, batchFileReaderOptional.get()).setNullEmptyStrings(true).parse();
+                streamBatchFileAndLoadData(correlationID, ds, assessmentSessionID, fileUpload);
+            }
         } catch (final ResultsFileUnProcessableException resultsFileUnProcessableException) {
             log.error("File could not be processed exception :: {}", resultsFileUnProcessableException);
             ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message(INVALID_PAYLOAD_MSG).status(BAD_REQUEST).build();
@@ -76,6 +89,53 @@ public class AssessmentResultsProcessor {
         }
     }
 
+    /**
+     * Reads the file one record at a time and stages it in chunks of {@code results.file.ingestion.chunk.size} rows,
+     * each committed in its own transaction. Only the PEN, component type and line of rows already read are kept for the
+     * duplicate check, which reports every duplicate once the whole file has been read. The staged rows are released for processing once the whole file has passed
+     * validation and are removed again if it does not.
+     */
+    private void streamBatchFileAndLoadData(final String correlationID, final DataSet ds, final UUID assessmentSessionID, final AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
+        assessmentResultService.validateResultLoadSession(correlationID, assessmentSessionID);
+
+        final int chunkSize = applicationProperties.getResultsFileIngestionChunkSize();
+        final DuplicatePenDetector duplicatePenDetector = new DuplicatePenDetector();
+        final List<AssessmentResultDetails> chunk = new ArrayList<>(chunkSize);
+        AssessmentResultLoadContext loadContext = null;
+        int rowCount = 0;
+        try {
+            while (ds.next()) {
+                rowCount++;
+                resultsFileValidator.processStreamedRowLengthErrors(correlationID, ds.getErrors(), rowCount, false, ROW_LENGTH_ERROR);
+                var studentResult = assessmentResultService.getAssessmentResultDetailRecordFromFile(ds, correlationID, Integer.toString(rowCount));
+                duplicatePenDetector.add(studentResult);
+                if (loadContext == null) {
+                    loadContext = assessmentResultService.startResultLoad(correlationID, assessmentSessionID, studentResult.getAssessmentCode(), fileUpload);
+                }
+                chunk.add(studentResult);
+                if (chunk.size() >= chunkSize) {
+                    assessmentResultService.stageResultChunk(correlationID, loadContext, chunk, fileUpload);
+                    chunk.clear();
+                }
+            }
+            resultsFileValidator.processStreamedRowLengthErrors(correlationID, ds.getErrors(), rowCount, true, ROW_LENGTH_ERROR);
+            duplicatePenDetector.validate(correlationID);
+            if (loadContext == null) {
+                throw new ResultsFileUnProcessableException(ResultFileError.EMPTY_FILE, correlationID, AssessmentResultService.LOAD_FAIL);
+            }
+            if (!chunk.isEmpty()) {
+                assessmentResultService.stageResultChunk(correlationID, loadContext, chunk, fileUpload);
+            }
+            assessmentResultService.completeResultLoad(correlationID, loadContext);
+            log.info("Streamed {} result rows for assessment {} with correlationID :: {}", rowCount, loadContext.getAssessmentID(), correlationID);
+        } catch (final ResultsFileUnProcessableException | RuntimeException e) {
+            if (loadContext != null) {
+                assessmentResultService.abandonResultLoad(loadContext);
+            }
+            throw e;
+        }
+    }
+
     private void closeBatchFileReader(final Reader reader) {
         try {
             if (reader != null) {
@@ -9,6 +9,7 @@ import ca.bc.gov.educ.assessment.api.exception.errors.ApiError;
 import ca.bc.gov.educ.assessment.api.mappers.StringMapper;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
+import ca.bc.gov.educ.assessment.api.service.v1.AssessmentFormAnswerKeyCache;
 import ca.bc.gov.educ.assessment.api.service.v1.CodeTableService;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentKeyFileUpload;
 import lombok.NonNull;
@@ -67,6 +68,7 @@ public class AssessmentKeyService {
 
     public static final String LOAD_FAIL = "LOADFAIL";
     private final AssessmentQuestionRepository assessmentQuestionRepository;
+    private final AssessmentFormAnswerKeyCache assessmentFormAnswerKeyCache;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void populateBatchFileAndLoadData(String guid, DataSet ds, UUID sessionID, AssessmentKeyFileUpload fileUpload) throws KeyFileUnProcessableException {
@@ -140,6 +142,7 @@ public class AssessmentKeyService {
 
         List<UUID> formIds = assessmentEntity.getAssessmentForms().stream().map(AssessmentFormEntity::getAssessmentFormID).toList();
         assessmentQuestionRepository.deleteAllByAssessmentComponentEntity_AssessmentFormEntity_AssessmentFormIDIn(formIds);
+        assessmentFormAnswerKeyCache.evict(formIds);
         assessmentEntity.getAssessmentForms().clear();
         assessmentEntity.getAssessmentForms().addAll(formEntities);
         log.debug("Saving forms: {}", formEntities.size());
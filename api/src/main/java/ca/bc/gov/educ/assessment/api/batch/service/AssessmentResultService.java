@@ -4,6 +4,8 @@ import ca.bc.gov.educ.assessment.api.batch.exception.ResultsFileUnProcessableExc
 import ca.bc.gov.educ.assessment.api.batch.mapper.AssessmentResultsBatchFileMapper;
 import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultDetails;
 import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultFile;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultLoadContext;
+import ca.bc.gov.educ.assessment.api.batch.validation.DuplicatePenDetector;
 import ca.bc.gov.educ.assessment.api.constants.v1.ComponentSubTypeCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.ComponentTypeCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.LegacyComponentTypeCodes;
@@ -31,6 +33,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -55,6 +58,12 @@ public class AssessmentResultService {
     private final Pattern pattern = Pattern.compile("^[0-9.]*$");
 
     public static final String LOAD_FAIL = "LOADFAIL";
+    public static final String LOADING = "LOADING";
+    public static final String LOADED = "LOADED";
+    /**
+     * A results load runs for minutes; LOADING rows this old belong to a load that will never complete.
+     */
+    private static final Duration STALE_LOAD_AGE = Duration.ofHours(12);
     private final RestUtils restUtils;
     private static final AssessmentResultsBatchFileMapper assessmentResultsBatchFileMapper = AssessmentResultsBatchFileMapper.mapper;
     private final StagedStudentResultRepository  stagedStudentResultRepository;
@@ -63,7 +72,7 @@ public class AssessmentResultService {
     private final AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void populateBatchFileAndLoadData(String correlationID, DataSet ds, UUID sessionID, AssessmentResultFileUpload fileUpload, boolean isSingleResult) throws ResultsFileUnProcessableException {
+    public void populateBatchFileAndLoadData(String correlationID, DataSet ds, UUID sessionID, AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
         val batchFile = new AssessmentResultFile();
 
         AssessmentSessionEntity validSession =
@@ -71,94 +80,159 @@ public class AssessmentResultService {
                         .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_INCOMING_REQUEST_SESSION, correlationID, LOAD_FAIL));
         populateAssessmentResultsFile(ds, batchFile, correlationID);
         validatePENsInFile(batchFile, correlationID);
-        if(isSingleResult) {
-            processCorrectionRecordsInBatchFile(correlationID, batchFile, validSession, fileUpload);
-        } else {
-            processLoadedRecordsInBatchFile(correlationID, batchFile, validSession, fileUpload);
-        }
+        processCorrectionRecordsInBatchFile(correlationID, batchFile, validSession, fileUpload);
     }
     
-    private void validatePENsInFile(AssessmentResultFile batchFile, String correlationID) throws ResultsFileUnProcessableException {
-        for(var assessmentResultData: batchFile.getAssessmentResultData()){
-            var pen = assessmentResultData.getPen();
-            var componentType = assessmentResultData.getComponentType();
-            var filteredPEN = batchFile.getAssessmentResultData().stream().filter(student -> student.getPen().equals(pen) && student.getComponentType().equalsIgnoreCase(componentType)).count();
-            if(filteredPEN > 1) {
-                throw new ResultsFileUnProcessableException(INVALID_PEN_DUPLICATE_IN_FILE, correlationID, pen);
-            }
+    @Transactional(readOnly = true)
+    public void validateResultLoadSession(String correlationID, UUID sessionID) throws ResultsFileUnProcessableException {
+        if (!assessmentSessionRepository.existsById(sessionID)) {
+            throw new ResultsFileUnProcessableException(INVALID_INCOMING_REQUEST_SESSION, correlationID, LOAD_FAIL);
         }
     }
 
-    private void populateAssessmentResultsFile(final DataSet ds, final AssessmentResultFile batchFile, final String guid) throws ResultsFileUnProcessableException {
-        int index = 0;
-        while (ds.next()) {
-            batchFile.getAssessmentResultData().add(getAssessmentResultDetailRecordFromFile(ds, guid, Integer.toString(index + 1)));
-            index++;
-        }
-    }
-
-    private void processLoadedRecordsInBatchFile(@NonNull final String correlationID, @NonNull final AssessmentResultFile batchFile, AssessmentSessionEntity validSession, AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
-        var typeCode = batchFile.getAssessmentResultData().getFirst().getAssessmentCode();
-        var assessmentEntity = assessmentRepository.findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCode(validSession.getSessionID(), typeCode)
+    /**
+     * Runs the assessment level checks for a streamed results load and resolves the form key needed to stage its rows.
+     * The load gets its own load ID, and its rows are only ever promoted or removed by that ID, so loads of the same
+     * assessment that overlap never touch each other's rows. Rows left LOADING by a load that stopped long ago are cleared.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public AssessmentResultLoadContext startResultLoad(String correlationID, UUID sessionID, String typeCode, AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
+        var assessmentID = assessmentRepository.findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCode(sessionID, typeCode)
+                .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_ASSESSMENT_TYPE, correlationID, LOAD_FAIL))
+                .getAssessmentID();
+        var assessmentEntity = assessmentRepository.findByIdForUpdate(assessmentID)
                 .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_ASSESSMENT_TYPE, correlationID, LOAD_FAIL));
 
-        Map<String, AssessmentFormEntity> formMap;
-        if(!assessmentEntity.getAssessmentForms().isEmpty()) {
-            formMap = assessmentEntity.getAssessmentForms().stream()
-                    .collect(Collectors.toMap(AssessmentFormEntity::getFormCode, obj -> obj,(oldValue, newValue) -> newValue, HashMap::new));
-        } else {
+        if(assessmentEntity.getAssessmentForms().isEmpty()) {
             throw new ResultsFileUnProcessableException(INVALID_KEY, correlationID, LOAD_FAIL);
         }
 
-        List<UUID> formIds = assessmentEntity.getAssessmentForms().stream().map(AssessmentFormEntity::getAssessmentFormID).toList();
-
         var stud = stagedStudentResultRepository.findByAssessmentIdAndStagedStudentResultStatusOrderByCreateDateDesc(assessmentEntity.getAssessmentID());
         if(stud.isPresent()) {
             throw new ResultsFileUnProcessableException(RESULT_LOAD_ALREADY_IN_FLIGHT, correlationID, LOAD_FAIL);
         }
-        
+
+        List<UUID> formIds = assessmentEntity.getAssessmentForms().stream().map(AssessmentFormEntity::getAssessmentFormID).toList();
         Optional<StagedAssessmentStudentEntity> student = stagedAssessmentStudentRepository.findByAssessmentIdAndAssessmentFormIdOrderByCreateDateDesc(assessmentEntity.getAssessmentID(), formIds);
         if("N".equalsIgnoreCase(fileUpload.getReplaceResultsFlag()) && student.isPresent()) {
             throw new ConfirmationRequiredException(ApiError.builder().timestamp(LocalDateTime.now()).message(typeCode).status(PRECONDITION_REQUIRED).build());
         }
-        
-        stagedAssessmentStudentRepository.deleteAllByAssessmentID(assessmentEntity.getAssessmentID());
 
-        for(val studentResult : batchFile.getAssessmentResultData()) {
-            StagedStudentResultEntity resultEntity = assessmentResultsBatchFileMapper.toStagedStudentResultEntity(studentResult, assessmentEntity, fileUpload);
-            var formEntity = formMap.get(studentResult.getFormCode());
-            if(formEntity == null) {
+        stagedStudentResultRepository.deleteAllByAssessmentIDAndStatusAndCreateDateBefore(assessmentEntity.getAssessmentID(), LOADING, LocalDateTime.now().minus(STALE_LOAD_AGE));
+
+        Map<String, UUID> formIDsByFormCode = new HashMap<>();
+        Set<String> formCodesWithMultiChoice = new HashSet<>();
+        Set<String> formCodesWithChoicePathTasks = new HashSet<>();
+        for(var formEntity : assessmentEntity.getAssessmentForms()) {
+            formIDsByFormCode.put(formEntity.getFormCode(), formEntity.getAssessmentFormID());
+            var mcComponent = getMultiChoiceComponents(formEntity);
+            if(!mcComponent.isEmpty()) {
+                formCodesWithMultiChoice.add(formEntity.getFormCode());
+                if(hasChoicePathTasks(mcComponent)) {
+                    formCodesWithChoicePathTasks.add(formEntity.getFormCode());
+                }
+            }
+        }
+
+        return AssessmentResultLoadContext.builder()
+                .loadID(UUID.randomUUID())
+                .assessmentID(assessmentEntity.getAssessmentID())
+                .formIDsByFormCode(formIDsByFormCode)
+                .formCodesWithMultiChoice(formCodesWithMultiChoice)
+                .formCodesWithChoicePathTasks(formCodesWithChoicePathTasks)
+                .build();
+    }
+
+    /**
+     * Validates and stages one chunk of a streamed results load. Rows are held back as LOADING until
+     * {@link #completeResultLoad} runs, so the result processing scheduler never sees a partial file. The chunk is
+     * written with a bulk insert rather than through the persistence context.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void stageResultChunk(String correlationID, AssessmentResultLoadContext loadContext, List<AssessmentResultDetails> chunk, AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
+        var assessmentEntity = assessmentRepository.getReferenceById(loadContext.getAssessmentID());
+        List<StagedStudentResultEntity> resultEntities = new ArrayList<>(chunk.size());
+        for(val studentResult : chunk) {
+            var formID = loadContext.getFormIDsByFormCode().get(studentResult.getFormCode());
+            if(formID == null) {
                 throw new ResultsFileUnProcessableException(INVALID_FORM_CODE, correlationID, LOAD_FAIL);
             }
-            checkChoicePathValue(studentResult, formEntity, correlationID);
-            resultEntity.setAssessmentFormID(formEntity.getAssessmentFormID());
-            resultEntity.setStagedStudentResultStatus("LOADED");
-            stagedStudentResultRepository.save(resultEntity);
+            checkChoicePathValue(studentResult, loadContext.getFormCodesWithMultiChoice().contains(studentResult.getFormCode()), loadContext.getFormCodesWithChoicePathTasks().contains(studentResult.getFormCode()), correlationID);
+            StagedStudentResultEntity resultEntity = assessmentResultsBatchFileMapper.toStagedStudentResultEntity(studentResult, assessmentEntity, fileUpload);
+            resultEntity.setAssessmentFormID(formID);
+            resultEntity.setStagedStudentResultStatus(LOADING);
+            resultEntity.setLoadID(loadContext.getLoadID());
+            resultEntities.add(resultEntity);
+        }
+        stagedStudentResultRepository.bulkInsert(resultEntities);
+    }
+
+    /**
+     * Releases the rows of this load for processing. Completing holds the lock on the assessment, so of two loads that
+     * overlapped only the first to complete is released; the other finds its results already loaded and is rejected.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void completeResultLoad(String correlationID, AssessmentResultLoadContext loadContext) throws ResultsFileUnProcessableException {
+        assessmentRepository.findByIdForUpdate(loadContext.getAssessmentID())
+                .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_ASSESSMENT_TYPE, correlationID, LOAD_FAIL));
+        if(stagedStudentResultRepository.findByAssessmentIdAndStagedStudentResultStatusOrderByCreateDateDesc(loadContext.getAssessmentID()).isPresent()) {
+            throw new ResultsFileUnProcessableException(RESULT_LOAD_ALREADY_IN_FLIGHT, correlationID, LOAD_FAIL);
+        }
+        stagedAssessmentStudentRepository.deleteAllByAssessmentID(loadContext.getAssessmentID());
+        var loadedCount = stagedStudentResultRepository.updateStatusByLoadID(loadContext.getLoadID(), LOADING, LOADED);
+        log.info("Promoted {} staged result rows of load {} for assessment {} to {}", loadedCount, loadContext.getLoadID(), loadContext.getAssessmentID(), LOADED);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void abandonResultLoad(AssessmentResultLoadContext loadContext) {
+        stagedStudentResultRepository.deleteAllByLoadID(loadContext.getLoadID());
+    }
+
+    private void validatePENsInFile(AssessmentResultFile batchFile, String correlationID) throws ResultsFileUnProcessableException {
+        DuplicatePenDetector.of(batchFile.getAssessmentResultData()).validate(correlationID);
+    }
+
+    private void populateAssessmentResultsFile(final DataSet ds, final AssessmentResultFile batchFile, final String guid) throws ResultsFileUnProcessableException {
+        int index = 0;
+        while (ds.next()) {
+            batchFile.getAssessmentResultData().add(getAssessmentResultDetailRecordFromFile(ds, guid, Integer.toString(index + 1)));
+            index++;
         }
     }
 
     private void checkChoicePathValue(AssessmentResultDetails studentResult, AssessmentFormEntity formEntity, final String correlationID) throws ResultsFileUnProcessableException {
+        final var mcComponent = getMultiChoiceComponents(formEntity);
+        checkChoicePathValue(studentResult, !mcComponent.isEmpty(), !mcComponent.isEmpty() && hasChoicePathTasks(mcComponent), correlationID);
+    }
+
+    private void checkChoicePathValue(AssessmentResultDetails studentResult, boolean hasMultiChoice, boolean hasChoicePathTasks, final String correlationID) throws ResultsFileUnProcessableException {
         final var choicePath = studentResult.getChoicePath();
-        final var mcComponent = formEntity.getAssessmentComponentEntities().stream()
-                .filter(component -> component.getComponentTypeCode().equalsIgnoreCase("MUL_CHOICE")).toList();
-        if(StringUtils.isNotBlank(choicePath) && mcComponent.isEmpty()) {
+        if(StringUtils.isNotBlank(choicePath) && !hasMultiChoice) {
             throw new ResultsFileUnProcessableException(BLANK_CHOICE_PATH, correlationID, studentResult.getLineNumber());
-        } else if(StringUtils.isNotBlank(choicePath) && !mcComponent.isEmpty()) {
-            var hasTaskCodes = mcComponent.getFirst()
-                    .getAssessmentQuestionEntities()
-                    .stream()
-                    .anyMatch(questionEntity ->
-                            questionEntity.getTaskCode().equalsIgnoreCase("I") || questionEntity.getTaskCode().equalsIgnoreCase("E"));
-
-            if(hasTaskCodes && Arrays.stream(validChoicePaths).noneMatch(choicePath::equalsIgnoreCase)) {
-                throw new ResultsFileUnProcessableException(INVALID_CHOICE_PATH, correlationID, studentResult.getLineNumber());
-            }
+        } else if(StringUtils.isNotBlank(choicePath) && hasChoicePathTasks && Arrays.stream(validChoicePaths).noneMatch(choicePath::equalsIgnoreCase)) {
+            throw new ResultsFileUnProcessableException(INVALID_CHOICE_PATH, correlationID, studentResult.getLineNumber());
         }
     }
 
+    private List<AssessmentComponentEntity> getMultiChoiceComponents(AssessmentFormEntity formEntity) {
+        return formEntity.getAssessmentComponentEntities().stream()
+                .filter(component -> component.getComponentTypeCode().equalsIgnoreCase("MUL_CHOICE")).toList();
+    }
+
+    private boolean hasChoicePathTasks(List<AssessmentComponentEntity> mcComponent) {
+        return mcComponent.getFirst()
+                .getAssessmentQuestionEntities()
+                .stream()
+                .anyMatch(questionEntity ->
+                        "I".equalsIgnoreCase(questionEntity.getTaskCode()) || "E".equalsIgnoreCase(questionEntity.getTaskCode()));
+    }
+
     private void processCorrectionRecordsInBatchFile(@NonNull final String correlationID, @NonNull final AssessmentResultFile batchFile, AssessmentSessionEntity validSession, AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
         var typeCode = batchFile.getAssessmentResultData().getFirst().getAssessmentCode();
-        var assessmentEntity = assessmentRepository.findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCode(validSession.getSessionID(), typeCode)
+        var assessmentID = assessmentRepository.findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCode(validSession.getSessionID(), typeCode)
+                .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_ASSESSMENT_TYPE, correlationID, LOAD_FAIL))
+                .getAssessmentID();
+        var assessmentEntity = assessmentRepository.findByIdForUpdate(assessmentID)
                 .orElseThrow(() -> new ResultsFileUnProcessableException(INVALID_ASSESSMENT_TYPE, correlationID, LOAD_FAIL));
 
         var stud = stagedStudentResultRepository.findByAssessmentIdAndStagedStudentResultStatusOrderByCreateDateDesc(assessmentEntity.getAssessmentID());
@@ -242,7 +316,7 @@ public class AssessmentResultService {
         groupedResult.forEach(assessmentResultEntity -> {
             StagedStudentResultEntity resultEntity = assessmentResultsBatchFileMapper.toStagedStudentResultEntity(assessmentResultEntity, assessmentEntity, fileUpload);
             resultEntity.setAssessmentFormID(formEntity.getAssessmentFormID());
-            resultEntity.setStagedStudentResultStatus("LOADED");
+            resultEntity.setStagedStudentResultStatus(LOADED);
             stagedStudentResultRepository.save(resultEntity);
         });
     }
@@ -286,7 +360,7 @@ public class AssessmentResultService {
         }
     }
 
-    private AssessmentResultDetails getAssessmentResultDetailRecordFromFile(final DataSet ds, final String guid, final String lineNumber) throws ResultsFileUnProcessableException {
+    public AssessmentResultDetails getAssessmentResultDetailRecordFromFile(final DataSet ds, final String guid, final String lineNumber) throws ResultsFileUnProcessableException {
         final var txID = StringMapper.trimAndUppercase(ds.getString(TX_ID.getName()));
         if (StringUtils.isBlank(txID) || !txID.equalsIgnoreCase("A01")) {
             throw new ResultsFileUnProcessableException(INVALID_TXID, guid, lineNumber);
@@ -0,0 +1,26 @@
+package ca.bc.gov.educ.assessment.api.batch.struct;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Everything a streamed results load needs to stage rows for one assessment, resolved once up front so that
+ * each chunk can be staged without touching the assessment key again.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssessmentResultLoadContext {
+    private UUID loadID;
+    private UUID assessmentID;
+    private Map<String, UUID> formIDsByFormCode;
+    private Set<String> formCodesWithMultiChoice;
+    private Set<String> formCodesWithChoicePathTasks;
+}
@@ -0,0 +1,49 @@
+package ca.bc.gov.educ.assessment.api.batch.validation;
+
+import ca.bc.gov.educ.assessment.api.batch.exception.ResultsFileUnProcessableException;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultDetails;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static ca.bc.gov.educ.assessment.api.batch.exception.ResultFileError.INVALID_PEN_DUPLICATE_IN_FILE;
+
+/**
+ * Finds rows in a results file that share a PEN and component type in a single pass. Rows are fed in as they are
+ * read and every duplicate is reported together with the lines it appeared on once the file has been read.
+ */
+public class DuplicatePenDetector {
+
+    private final Map<String, String> firstLineByKey = new HashMap<>();
+    private final Map<String, List<String>> duplicateLinesByKey = new LinkedHashMap<>();
+    private final Map<String, String> penByKey = new HashMap<>();
+
+    public void add(AssessmentResultDetails studentResult) {
+        var componentType = studentResult.getComponentType();
+        var key = studentResult.getPen() + "|" + (componentType == null ? null : componentType.toUpperCase());
+        var firstLine = firstLineByKey.putIfAbsent(key, studentResult.getLineNumber());
+        if (firstLine != null) {
+            penByKey.putIfAbsent(key, studentResult.getPen());
+            duplicateLinesByKey.computeIfAbsent(key, k -> new ArrayList<>(List.of(firstLine))).add(studentResult.getLineNumber());
+        }
+    }
+
+    public boolean hasDuplicates() {
+        return !duplicateLinesByKey.isEmpty();
+    }
+
+    public void validate(String correlationID) throws ResultsFileUnProcessableException {
+        if (hasDuplicates()) {
+            var duplicates = duplicateLinesByKey.entrySet().stream()
+                    .map(entry -> "PEN " + penByKey.get(entry.getKey()) + " on lines " + String.join(", ", entry.getValue()))
+                    .collect(Collectors.joining("; "));
+            throw new ResultsFileUnProcessableException(INVALID_PEN_DUPLICATE_IN_FILE, correlationID, duplicates);
+        }
+    }
+
+    public static DuplicatePenDetector of(Collection<AssessmentResultDetails> studentResults) {
+        var detector = new DuplicatePenDetector();
+        studentResults.forEach(detector::add);
+        return detector;
+    }
+}
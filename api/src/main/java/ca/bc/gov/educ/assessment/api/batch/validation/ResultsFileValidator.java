@@ -8,10 +8,17 @@ import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentResultFileUpload;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.flatpack.DataError;
 import net.sf.flatpack.DataSet;
+import org.apache.commons.io.input.ReaderInputStream;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -21,12 +28,22 @@ public class ResultsFileValidator {
     public static final String LOAD_FAIL = "LOADFAIL";
     public static final String MINCODE = "mincode";
 
-    public byte[] getUploadedFileBytes(@NonNull final String guid, final AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
-        byte[] bytes = Base64.getDecoder().decode(fileUpload.getFileContents());
-        if (bytes.length == 0) {
+    /**
+     * Decodes the uploaded file lazily so that the decoded bytes are never held in memory all at once.
+     */
+    public InputStream getUploadedFileStream(@NonNull final String guid, final AssessmentResultFileUpload fileUpload) throws ResultsFileUnProcessableException {
+        if (StringUtils.isEmpty(fileUpload.getFileContents())) {
+            throw new ResultsFileUnProcessableException(ResultFileError.EMPTY_FILE, guid, LOAD_FAIL);
+        }
+        try {
+            var encodedStream = ReaderInputStream.builder()
+                    .setReader(new StringReader(fileUpload.getFileContents()))
+                    .setCharset(StandardCharsets.US_ASCII)
+                    .get();
+            return Base64.getDecoder().wrap(encodedStream);
+        } catch (IOException e) {
             throw new ResultsFileUnProcessableException(ResultFileError.EMPTY_FILE, guid, LOAD_FAIL);
         }
-        return bytes;
     }
 
     public void validateFileForFormatAndLength(@NonNull final String guid, @NonNull final DataSet ds, @NonNull final String lengthError) throws ResultsFileUnProcessableException {
@@ -64,6 +81,30 @@ public class ResultsFileValidator {
         }
     }
 
+    /**
+     * Row length check for a file that is read one record at a time. Mirrors {@link #processDataSetForRowLengthErrors}:
+     * an error on the line matching the final row count is the trailer and is ignored. Before the end of the file an
+     * error can only be reported once it falls behind the rows read so far, as it can then never be the trailer.
+     */
+    public void processStreamedRowLengthErrors(@NonNull final String guid, @NonNull final List<DataError> errors, final int rowCount, final boolean endOfFile, @NonNull final String lengthError) throws ResultsFileUnProcessableException {
+        Optional<DataError> maybeError = errors
+                .stream()
+                .filter(error -> isMalformedRowError(error, lengthError))
+                .findFirst();
+
+        if (maybeError.isPresent()) {
+            DataError error = maybeError.get();
+            boolean isMalformed = endOfFile ? rowCount != error.getLineNo() : error.getLineNo() < rowCount;
+            if (isMalformed) {
+                throw new ResultsFileUnProcessableException(
+                        ResultFileError.INVALID_ROW_LENGTH,
+                        guid,
+                        this.getMalformedRowMessage(error.getErrorDesc(), error, lengthError)
+                );
+            }
+        }
+    }
+
     /**
      * Gets detail row length incorrect message.
      * here 1 is subtracted from the line number as line number starts from header record and here header record
@@ -64,6 +64,13 @@ public class AsyncConfiguration {
             .setCorePoolSize(5).setMaximumPoolSize(10).setKeepAliveTime(Duration.ofSeconds(60)).build();
   }
 
+  @Bean(name = "doarRecalculationTaskExecutor")
+  public Executor doarRecalculationTaskExecutor() {
+    return new EnhancedQueueExecutor.Builder()
+            .setThreadFactory(new ThreadFactoryBuilder().withNameFormat("async-doar-recalculation-executor-%d").get())
+            .setCorePoolSize(1).setMaximumPoolSize(2).setKeepAliveTime(Duration.ofSeconds(60)).build();
+  }
+
   @Bean(name = "publisherExecutor")
   public Executor publisherExecutor() {
     return new EnhancedQueueExecutor.Builder()
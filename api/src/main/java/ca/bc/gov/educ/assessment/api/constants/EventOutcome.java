@@ -8,6 +8,7 @@ public enum EventOutcome {
   SESSIONS_FOUND,
   GDC_CACHE_UPDATED,
   STUDENT_REGISTRATION_PROCESSED_IN_ASSESSMENT_API,
+  STUDENT_REGISTRATION_BATCH_PROCESSED_IN_ASSESSMENT_API,
   STUDENT_REGISTRATION_EVENT_READ,
   STUDENT_REGISTRATION_PUBLISHED,
   GRAD_STUDENT_API_NOTIFIED,
@@ -6,6 +6,7 @@ public enum EventType {
   GET_PAGINATED_SCHOOLS,
   GET_MERGES_IN_DATE_RANGE,
   PROCESS_STUDENT_REGISTRATION,
+  PROCESS_STUDENT_REGISTRATION_BATCH,
   GET_STUDENT_ASSESSMENT_DETAILS,
   PUBLISH_STUDENT_REGISTRATION_EVENT,
   PUBLISH_STUDENT_REGISTRATION,
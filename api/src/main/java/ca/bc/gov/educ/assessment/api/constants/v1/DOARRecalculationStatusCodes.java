@@ -0,0 +1,15 @@
+package ca.bc.gov.educ.assessment.api.constants.v1;
+
+import lombok.Getter;
+
+@Getter
+public enum DOARRecalculationStatusCodes {
+  IN_PROGRESS("IN_PROGRESS"),
+  COMPLETED("COMPLETED"),
+  FAILED("FAILED");
+
+  private final String code;
+  DOARRecalculationStatusCodes(String code) {
+    this.code = code;
+  }
+}
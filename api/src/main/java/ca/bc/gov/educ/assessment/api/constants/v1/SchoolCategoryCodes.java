@@ -25,6 +25,8 @@ public enum SchoolCategoryCodes {
     private final String code;
     public static final Set<String> INDEPENDENTS = new HashSet<>(Arrays.asList(INDEPEND.getCode(), INDP_FNS.getCode()));
     public static final Set<String> INDEPENDENTS_AND_OFFSHORE = new HashSet<>(Arrays.asList(INDEPEND.getCode(), INDP_FNS.getCode(), OFFSHORE.getCode()));
+    public static final Set<String> PUBLIC_AND_YUKON = new HashSet<>(Arrays.asList(PUBLIC.getCode(), YUKON.getCode()));
+    public static final Set<String> PROVINCIAL = new HashSet<>(Arrays.asList(PUBLIC.getCode(), YUKON.getCode(), INDEPEND.getCode(), INDP_FNS.getCode(), OFFSHORE.getCode()));
     SchoolCategoryCodes(String code) { this.code = code; }
 
     public static String[] getActiveSchoolCategoryCodes(){
@@ -0,0 +1,25 @@
+package ca.bc.gov.educ.assessment.api.constants.v1;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+@Getter
+public enum StudentRegistrationOutcomeCodes {
+  CREATED("CREATED"),
+  UPDATED("UPDATED"),
+  DELETED("DELETED"),
+  IGNORED("IGNORED"),
+  FAILED("FAILED");
+
+  private final String code;
+  StudentRegistrationOutcomeCodes(String code) {
+    this.code = code;
+  }
+
+  public static Optional<StudentRegistrationOutcomeCodes> findByValue(String value) {
+    return Arrays.stream(values()).filter(e -> Objects.equals(e.code, value)).findFirst();
+  }
+}
@@ -7,6 +7,7 @@ public final class URL {
 
   public static final String BASE_URL= "/api/v1/student-assessment";
   public static final String PAGINATED="/paginated";
+  public static final String KEYSET_PAGINATED="/keyset-paginated";
   public static final String BASE_URL_STUDENT = BASE_URL + "/student";
   public static final String BASE_URL_STUDENT_HISTORY = BASE_URL + "/student-history";
   public static final String BASE_URL_REPORT = BASE_URL + "/report";
@@ -3,11 +3,16 @@ package ca.bc.gov.educ.assessment.api.controller.v1;
 import ca.bc.gov.educ.assessment.api.endpoint.v1.AssessmentSessionEndpoint;
 import ca.bc.gov.educ.assessment.api.exception.InvalidPayloadException;
 import ca.bc.gov.educ.assessment.api.exception.errors.ApiError;
+import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentDOARRecalculationMapper;
 import ca.bc.gov.educ.assessment.api.mappers.v1.SessionMapper;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentDOARRecalculationEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
+import ca.bc.gov.educ.assessment.api.service.v1.DOARRecalculationAsyncService;
+import ca.bc.gov.educ.assessment.api.service.v1.DOARRecalculationService;
 import ca.bc.gov.educ.assessment.api.service.v1.SessionService;
 import ca.bc.gov.educ.assessment.api.service.v1.XAMFileService;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentApproval;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentDOARRecalculation;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentSession;
 import ca.bc.gov.educ.assessment.api.util.RequestUtil;
 import lombok.AccessLevel;
@@ -40,6 +45,10 @@ public class AssessmentSessionController implements AssessmentSessionEndpoint {
 
     private final XAMFileService xamFileService;
 
+    private final DOARRecalculationService doarRecalculationService;
+
+    private final DOARRecalculationAsyncService doarRecalculationAsyncService;
+
     @Override
     public List<AssessmentSession> getAllSessions() {
         return getSessionService().getAllSessions();
@@ -85,4 +94,16 @@ public class AssessmentSessionController implements AssessmentSessionEndpoint {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public ResponseEntity<List<AssessmentDOARRecalculation>> recalculateDOAR(UUID sessionID) {
+        var jobs = doarRecalculationService.createOrResumeJobs(sessionID);
+        doarRecalculationAsyncService.recalculate(jobs.stream().map(AssessmentDOARRecalculationEntity::getAssessmentDOARRecalculationID).toList());
+        return ResponseEntity.accepted().body(jobs.stream().map(AssessmentDOARRecalculationMapper.mapper::toStructure).toList());
+    }
+
+    @Override
+    public List<AssessmentDOARRecalculation> getDOARRecalculations(UUID sessionID) {
+        return doarRecalculationService.getJobs(sessionID).stream().map(AssessmentDOARRecalculationMapper.mapper::toStructure).toList();
+    }
+
 }
@@ -4,8 +4,6 @@ import ca.bc.gov.educ.assessment.api.endpoint.v1.AssessmentStudentEndpoint;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentListItemMapper;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentMapper;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentShowItemMapper;
-import ca.bc.gov.educ.assessment.api.messaging.jetstream.Publisher;
-import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.service.v1.AssessmentStudentSearchService;
 import ca.bc.gov.educ.assessment.api.service.v1.AssessmentStudentService;
@@ -35,17 +33,15 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
   private final AssessmentStudentService studentService;
   private final AssessmentStudentValidator validator;
   private final AssessmentStudentSearchService searchService;
-  private final Publisher publisher;
 
   private static final AssessmentStudentMapper mapper = AssessmentStudentMapper.mapper;
   private static final AssessmentStudentListItemMapper listItemMapper = AssessmentStudentListItemMapper.mapper;
 
     @Autowired
-  public AssessmentStudentController(AssessmentStudentService assessmentStudentService, AssessmentStudentValidator validator, AssessmentStudentSearchService searchService, Publisher publisher) {
+  public AssessmentStudentController(AssessmentStudentService assessmentStudentService, AssessmentStudentValidator validator, AssessmentStudentSearchService searchService) {
     this.studentService = assessmentStudentService;
     this.validator = validator;
     this.searchService = searchService;
-    this.publisher = publisher;
   }
 
   @Override
@@ -64,11 +60,7 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
   public AssessmentStudentListItem updateStudent(AssessmentStudent assessmentStudent, UUID assessmentStudentID, boolean allowRuleOverride, String source) {
     ValidationUtil.validatePayload(() -> validator.validatePayload(assessmentStudent, false));
     RequestUtil.setAuditColumnsForUpdate(assessmentStudent);
-    var pair = studentService.updateStudent(mapper.toModel(assessmentStudent), allowRuleOverride, source);
-    if(pair.getRight() != null) {
-      publisher.dispatchChoreographyEvent(pair.getRight());  
-    }
-    return pair.getLeft();
+    return studentService.updateStudent(mapper.toModel(assessmentStudent), allowRuleOverride, source);
   }
 
   @Override
@@ -77,11 +69,7 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
     ValidationUtil.validatePayload(() -> validator.validatePayload(assessmentStudent, true));
     RequestUtil.setAuditColumnsForCreate(assessmentStudent);
     AssessmentStudentEntity assessmentStudentEntity = mapper.toModel(assessmentStudent);
-    var pair = studentService.createStudent(assessmentStudentEntity, allowRuleOverride, source);
-    if(pair.getRight() != null) {
-      publisher.dispatchChoreographyEvent(pair.getRight());
-    }
-    return pair.getLeft();
+    return studentService.createStudent(assessmentStudentEntity, allowRuleOverride, source);
   }
 
   @Override
@@ -96,13 +84,51 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
             );
     return this.searchService
             .findAll(specs, pageNumber, pageSize, sorts)
-            .thenApplyAsync(assessmentStudentEntities -> assessmentStudentEntities.map(listItemMapper::toStructure));
+            .thenApply(assessmentStudentEntities -> assessmentStudentEntities.map(listItemMapper::toStructure));
+  }
+
+  @Override
+  public CompletableFuture<AssessmentStudentKeysetPage> findAllByKeyset(Integer pageSize, String continuationToken, boolean includeCount, String searchCriteriaListJson) {
+    Specification<AssessmentStudentEntity> specs = searchService
+            .setSpecificationAndSortCriteria(
+                    null,
+                    searchCriteriaListJson,
+                    JsonUtil.mapper,
+                    new ArrayList<>()
+            );
+    var page = this.searchService.findAllAfter(specs, searchService.getAfterAssessmentStudentID(continuationToken), searchService.getKeysetPageSize(pageSize));
+    var totalElements = includeCount ? countAlongside(page, specs) : CompletableFuture.<Long>completedFuture(null);
+    return page
+            .thenCombine(totalElements, (students, total) -> AssessmentStudentKeysetPage.builder()
+                    .content(students.map(listItemMapper::toStructure).getContent())
+                    .continuationToken(searchService.getContinuationToken(students))
+                    .totalElements(total)
+                    .build());
+  }
+
+  /**
+   * The count is only submitted once the page query has been accepted, and is given up if the page fails or the
+   * count itself is turned away, so a rejected request does not leave a query running on the search executor.
+   */
+  private CompletableFuture<Long> countAlongside(CompletableFuture<?> page, Specification<AssessmentStudentEntity> specs) {
+    CompletableFuture<Long> count;
+    try {
+      count = this.searchService.count(specs);
+    } catch (RuntimeException e) {
+      page.cancel(true);
+      throw e;
+    }
+    page.whenComplete((students, e) -> {
+      if (e != null) {
+        count.cancel(true);
+      }
+    });
+    return count;
   }
 
   @Override
   public ResponseEntity<Void> deleteStudents(List<UUID> assessmentStudentIDs, boolean allowRuleOverride) {
-    List<AssessmentEventEntity> events = studentService.deleteStudents(assessmentStudentIDs, allowRuleOverride);
-    events.forEach(publisher::dispatchChoreographyEvent);
+    studentService.deleteStudents(assessmentStudentIDs, allowRuleOverride);
     return ResponseEntity.noContent().build();
   }
 
@@ -111,11 +137,7 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
     log.debug("Transfer student assessments request received: sourceStudentID={}, targetStudentID={}, count={}, updateUser={}",
         assessmentStudentTransfer.getSourceStudentID(), assessmentStudentTransfer.getTargetStudentID(), assessmentStudentTransfer.getStudentAssessmentIDsToMove().size(), assessmentStudentTransfer.getUpdateUser());
     
-    var pair = studentService.transferStudentAssessments(assessmentStudentTransfer);
-    if(pair.getRight() != null) {
-      pair.getRight().forEach(publisher::dispatchChoreographyEvent);
-    }
-    return pair.getLeft();
+    return studentService.transferStudentAssessments(assessmentStudentTransfer);
   }
 
   @Override
@@ -123,10 +145,6 @@ public class AssessmentStudentController implements AssessmentStudentEndpoint {
     log.debug("Merge student assessments request received: sourceStudentID={}, targetStudentID={}, count={}, updateUser={}",
         assessmentStudentMerge.getSourceStudentID(), assessmentStudentMerge.getTargetStudentID(), assessmentStudentMerge.getStudentAssessmentIDsToMove().size(), assessmentStudentMerge.getUpdateUser());
 
-    var pair = studentService.mergeStudentAssessments(assessmentStudentMerge);
-    if(pair.getRight() != null) {
-      publisher.dispatchChoreographyEvent(pair.getRight());
-    }
-    return pair.getLeft();
+    return studentService.mergeStudentAssessments(assessmentStudentMerge);
   }
 }
@@ -56,7 +56,7 @@ public class AssessmentStudentHistoryController implements AssessmentStudentHist
             );
     return this.searchService
             .findAll(specs, pageNumber, pageSize, sorts)
-            .thenApplyAsync(assessmentStudentEntities -> assessmentStudentEntities.map(listItemMapper::toStructure));
+            .thenApply(assessmentStudentEntities -> assessmentStudentEntities.map(listItemMapper::toStructure));
   }
 
 }
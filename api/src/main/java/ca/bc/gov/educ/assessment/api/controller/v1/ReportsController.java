@@ -14,8 +14,6 @@ import ca.bc.gov.educ.assessment.api.struct.v1.reports.SimpleHeadcountResultsTab
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
@@ -118,8 +116,105 @@ public class ReportsController implements ReportsEndpoint {
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> getDownloadableRandomZip(UUID sessionID) {
-        return schoolStudentsByAssessmentReportService.generateReportForRandomSetOfSchoolsInSession(sessionID);
+    public void streamDownloadableReport(UUID sessionID, String type, String updateUser, HttpServletResponse response) throws IOException {
+        Optional<AssessmentReportTypeCode> code = AssessmentReportTypeCode.findByValue(type);
+
+        if(code.isEmpty()){
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        switch (code.get()) {
+            case ALL_SESSION_REGISTRATIONS:
+                sessionService.recordTransferRegistrationsUser(sessionID, updateUser, AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS);
+                csvReportService.generateSessionRegistrationsReportStream(sessionID, response);
+                break;
+            case NME_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.NME10.getCode(), response);
+                break;
+            case NMF_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.NMF10.getCode(), response);
+                break;
+            case LTE10_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.LTE10.getCode(), response);
+                break;
+            case LTE12_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.LTE12.getCode(), response);
+                break;
+            case LTP10_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.LTP10.getCode(), response);
+                break;
+            case LTP12_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.LTP12.getCode(), response);
+                break;
+            case LTF12_KEY_SUMMARY:
+                csvReportService.generateKeyReportStream(sessionID, AssessmentTypeCodes.LTF12.getCode(), response);
+                break;
+            case NME_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.NME10.getCode(), response);
+                break;
+            case NMF_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.NMF10.getCode(), response);
+                break;
+            case LTE10_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.LTE10.getCode(), response);
+                break;
+            case LTE12_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.LTE12.getCode(), response);
+                break;
+            case LTP10_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.LTP10.getCode(), response);
+                break;
+            case LTP12_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.LTP12.getCode(), response);
+                break;
+            case LTF12_ITEM_ANALYSIS:
+                csvReportService.generateDataForItemAnalysisStream(sessionID, AssessmentTypeCodes.LTF12.getCode(), response);
+                break;
+            case DOAR_PROVINCIAL_SUMMARY:
+                doarProvincialReportService.streamDOARProvincialReport(sessionID, response);
+                break;
+            case YUKON_SUMMARY_CSV:
+                csvReportService.generateYukonReportStream(sessionID, response);
+                break;
+            case YUKON_STUDENT_DETAIL_CSV:
+                csvReportService.generateYukonStudentDetailsReportStream(sessionID, response);
+                break;
+            default:
+                throw new InvalidPayloadException(getReportNotStreamableError());
+        }
+    }
+
+    @Override
+    public void getDownloadableRandomZip(UUID sessionID, HttpServletResponse response) throws IOException {
+        schoolStudentsByAssessmentReportService.streamReportForRandomSetOfSchoolsInSession(sessionID, response);
+    }
+
+    @Override
+    public void streamReportZipForDistrict(UUID sessionID, UUID districtID, String type, HttpServletResponse response) throws IOException {
+        Optional<AssessmentReportTypeCode> code = AssessmentReportTypeCode.findByValue(type);
+
+        if (code.isEmpty()) {
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        if (code.get() != AssessmentReportTypeCode.DOAR_SUMMARY) {
+            throw new InvalidPayloadException(getReportNotZippableError());
+        }
+        doarSummaryReportService.streamDOARSummaryReportsForDistrict(sessionID, districtID, response);
+    }
+
+    @Override
+    public void streamStudentReportZipForSchool(UUID sessionID, UUID schoolID, String type, HttpServletResponse response) throws IOException {
+        Optional<AssessmentStudentReportTypeCode> code = AssessmentStudentReportTypeCode.findByValue(type);
+
+        if(code.isEmpty()){
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        isrReportService.streamIndividualStudentReportsForSchool(sessionID, schoolID, response);
     }
 
     @Override
@@ -167,6 +262,21 @@ public class ReportsController implements ReportsEndpoint {
         }
     }
 
+    @Override
+    public void streamDownloadableReportForSchool(UUID sessionID, UUID schoolID, String type, HttpServletResponse response) throws IOException {
+        Optional<AssessmentReportTypeCode> code = AssessmentReportTypeCode.findByValue(type);
+
+        if (code.isEmpty()) {
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        if (code.get() != AssessmentReportTypeCode.DOAR_SUMMARY) {
+            throw new InvalidPayloadException(getReportNotStreamableError());
+        }
+        doarSummaryReportService.streamDOARSummaryReport(sessionID, schoolID, response);
+    }
+
     @Override
     public SimpleHeadcountResultsTable getSummaryReports(UUID sessionID, String type) {
         Optional<AssessmentReportTypeCode> code = AssessmentReportTypeCode.findByValue(type);
@@ -206,6 +316,30 @@ public class ReportsController implements ReportsEndpoint {
         return isrReportService.generateIndividualStudentReportByPEN(pen);
     }
 
+    @Override
+    public void streamStudentReport(UUID studentID, String type, HttpServletResponse response) throws IOException {
+        Optional<AssessmentStudentReportTypeCode> code = AssessmentStudentReportTypeCode.findByValue(type);
+
+        if(code.isEmpty()){
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        isrReportService.streamIndividualStudentReport(studentID, response);
+    }
+
+    @Override
+    public void streamStudentReport(String pen, String type, HttpServletResponse response) throws IOException {
+        Optional<AssessmentStudentReportTypeCode> code = AssessmentStudentReportTypeCode.findByValue(type);
+
+        if(code.isEmpty()){
+            ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid report type code.").status(BAD_REQUEST).build();
+            throw new InvalidPayloadException(error);
+        }
+
+        isrReportService.streamIndividualStudentReportByPEN(pen, response);
+    }
+
     @Override
     public void getAssessmentStudentSearchReport(String searchCriteriaListJson, HttpServletResponse response) throws IOException {
         csvReportService.generateAssessmentStudentSearchReportStream(searchCriteriaListJson, response);
@@ -292,4 +426,12 @@ public class ReportsController implements ReportsEndpoint {
         return doarSummaryReportService.getDistrictSchoolIDsWithResults(sessionID, districtID);
     }
 
+    private ApiError getReportNotZippableError() {
+        return ApiError.builder().timestamp(LocalDateTime.now()).message("Report type cannot be zipped for a district.").status(BAD_REQUEST).build();
+    }
+
+    private ApiError getReportNotStreamableError() {
+        return ApiError.builder().timestamp(LocalDateTime.now()).message("Report type cannot be streamed, use the download endpoint instead.").status(BAD_REQUEST).build();
+    }
+
 }
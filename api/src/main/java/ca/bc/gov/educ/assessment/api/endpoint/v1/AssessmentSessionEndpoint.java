@@ -2,6 +2,7 @@ package ca.bc.gov.educ.assessment.api.endpoint.v1;
 
 import ca.bc.gov.educ.assessment.api.constants.v1.URL;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentApproval;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentDOARRecalculation;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentSession;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -49,4 +50,14 @@ public interface AssessmentSessionEndpoint {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "404", description = "NOT FOUND."), @ApiResponse(responseCode = "409", description = "CONFLICT - Session approval saga is already in progress."), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
     ResponseEntity<Void> writeMyEDFileGen(@PathVariable UUID sessionID);
 
+    @PreAuthorize("hasAuthority('SCOPE_WRITE_ASSESSMENT_SESSIONS')")
+    @PostMapping("/{sessionID}/doar-recalculation")
+    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "ACCEPTED"), @ApiResponse(responseCode = "404", description = "NOT FOUND."), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
+    ResponseEntity<List<AssessmentDOARRecalculation>> recalculateDOAR(@PathVariable UUID sessionID);
+
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_SESSIONS')")
+    @GetMapping("/{sessionID}/doar-recalculation")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "404", description = "NOT FOUND.")})
+    List<AssessmentDOARRecalculation> getDOARRecalculations(@PathVariable UUID sessionID);
+
 }
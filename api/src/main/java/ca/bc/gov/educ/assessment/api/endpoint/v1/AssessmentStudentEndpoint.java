@@ -57,6 +57,15 @@ public interface AssessmentStudentEndpoint {
                                                        @RequestParam(name = "sort", defaultValue = "") String sortCriteriaJson,
                                                        @RequestParam(name = "searchCriteriaList", required = false) String searchCriteriaListJson);
 
+    @GetMapping(URL.KEYSET_PAGINATED)
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_STUDENT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST"), @ApiResponse(responseCode = "500", description = "INTERNAL SERVER ERROR.")})
+    CompletableFuture<AssessmentStudentKeysetPage> findAllByKeyset(@RequestParam(name = "pageSize", defaultValue = "10") Integer pageSize,
+                                                                   @RequestParam(name = "continuationToken", required = false) String continuationToken,
+                                                                   @RequestParam(name = "includeCount", defaultValue = "false") boolean includeCount,
+                                                                   @RequestParam(name = "searchCriteriaList", required = false) String searchCriteriaListJson);
+
     @PostMapping("/delete-students")
     @PreAuthorize("hasAuthority('SCOPE_WRITE_ASSESSMENT_STUDENT')")
     @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "NO CONTENT"), @ApiResponse(responseCode = "409", description = "CONFLICT."), @ApiResponse(responseCode = "404", description = "NOT FOUND")})
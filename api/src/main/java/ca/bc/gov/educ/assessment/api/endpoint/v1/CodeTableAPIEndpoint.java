@@ -6,22 +6,22 @@ import ca.bc.gov.educ.assessment.api.struct.v1.ProvincialSpecialCaseCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.util.List;
-
 public interface CodeTableAPIEndpoint {
 
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_SESSIONS')")
-    @GetMapping(URL.ASSESSMENT_TYPE_CODE_URL)
+    @GetMapping(value = URL.ASSESSMENT_TYPE_CODE_URL, produces = MediaType.APPLICATION_JSON_VALUE)
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK")})
     @Schema(name = "AssessmentTypeCode", implementation = AssessmentTypeCode.class)
-    List<AssessmentTypeCode> getAssessTypeCodes();
+    ResponseEntity<byte[]> getAssessTypeCodes();
 
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_SESSIONS')")
-    @GetMapping(URL.PROVINCIAL_SPECIALCASE_CODE_URL)
+    @GetMapping(value = URL.PROVINCIAL_SPECIALCASE_CODE_URL, produces = MediaType.APPLICATION_JSON_VALUE)
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK")})
-    @Schema(name = "AssessmentTypeCode", implementation = AssessmentTypeCode.class)
-    List<ProvincialSpecialCaseCode> getProvincialSpecialCaseCodes();
+    @Schema(name = "ProvincialSpecialCaseCode", implementation = ProvincialSpecialCaseCode.class)
+    ResponseEntity<byte[]> getProvincialSpecialCaseCodes();
 }
@@ -6,8 +6,6 @@ import ca.bc.gov.educ.assessment.api.struct.v1.reports.SimpleHeadcountResultsTab
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,11 +26,29 @@ public interface ReportsEndpoint {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
     DownloadableReportResponse getDownloadableReport(@PathVariable UUID sessionID, @PathVariable(name = "type") String type,  @PathVariable(name = "updateUser") String updateUser);
 
+    @GetMapping("/{sessionID}/{type}/stream/{updateUser}")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional()
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamDownloadableReport(@PathVariable UUID sessionID, @PathVariable(name = "type") String type, @PathVariable(name = "updateUser") String updateUser, HttpServletResponse response) throws IOException;
+
     @GetMapping("/{sessionID}/randomSessionSchoolsZip")
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
     @Transactional()
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
-    ResponseEntity<InputStreamResource> getDownloadableRandomZip(@PathVariable UUID sessionID);
+    void getDownloadableRandomZip(@PathVariable UUID sessionID, HttpServletResponse response) throws IOException;
+
+    @GetMapping("/{sessionID}/district/{districtID}/{type}/zip")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamReportZipForDistrict(@PathVariable UUID sessionID, @PathVariable UUID districtID, @PathVariable(name = "type") String type, HttpServletResponse response) throws IOException;
+
+    @GetMapping("/{sessionID}/school/{schoolID}/student/{type}/zip")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamStudentReportZipForSchool(@PathVariable UUID sessionID, @PathVariable UUID schoolID, @PathVariable(name = "type") String type, HttpServletResponse response) throws IOException;
 
     @GetMapping("/{sessionID}/school/{schoolID}/{type}/download")
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
@@ -40,6 +56,12 @@ public interface ReportsEndpoint {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
     DownloadableReportResponse getDownloadableReportForSchool(@PathVariable UUID sessionID, @PathVariable UUID schoolID, @PathVariable(name = "type") String type);
 
+    @GetMapping("/{sessionID}/school/{schoolID}/{type}/stream")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamDownloadableReportForSchool(@PathVariable UUID sessionID, @PathVariable UUID schoolID, @PathVariable(name = "type") String type, HttpServletResponse response) throws IOException;
+
     @GetMapping("/{sessionID}/{type}")
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
     @Transactional(readOnly = true)
@@ -52,12 +74,24 @@ public interface ReportsEndpoint {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
     DownloadableReportResponse getStudentReport(@PathVariable UUID studentID, @PathVariable String type);
 
+    @GetMapping("/student/{studentID}/{type}/stream")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamStudentReport(@PathVariable UUID studentID, @PathVariable String type, HttpServletResponse response) throws IOException;
+
     @GetMapping("/student-pen/{pen}/{type}/download")
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
     @Transactional(readOnly = true)
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
     DownloadableReportResponse getStudentReport(@PathVariable String pen, @PathVariable String type);
 
+    @GetMapping("/student-pen/{pen}/{type}/stream")
+    @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_REPORT')")
+    @Transactional(readOnly = true)
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+    void streamStudentReport(@PathVariable String pen, @PathVariable String type, HttpServletResponse response) throws IOException;
+
     @GetMapping("/assessment-students/search/download")
     @PreAuthorize("hasAuthority('SCOPE_READ_ASSESSMENT_STUDENT')")
     @Transactional(readOnly = true)
@@ -82,6 +82,15 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     return buildResponseEntity(apiError);
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  protected ResponseEntity<Object> handleServiceUnavailable(
+          ServiceUnavailableException ex) {
+    ApiError apiError = new ApiError(SERVICE_UNAVAILABLE);
+    apiError.setMessage(ex.getMessage());
+    log.warn("{} ", apiError.getMessage());
+    return buildResponseEntity(apiError);
+  }
+
   @ExceptionHandler(EntityExistsException.class)
   protected ResponseEntity<Object> handleEntityExists(
           EntityExistsException ex) {
@@ -0,0 +1,17 @@
+package ca.bc.gov.educ.assessment.api.exception;
+
+/**
+ * Thrown when a request is turned away because the work it needs is already at capacity, mapped to a 503.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+  /**
+   * The constant serialVersionUID.
+   */
+  private static final long serialVersionUID = -3172460826154722914L;
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+
+}
@@ -1,6 +1,9 @@
 package ca.bc.gov.educ.assessment.api.filter;
 
+import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
+import ca.bc.gov.educ.assessment.api.struct.v1.ValueType;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.chrono.ChronoLocalDate;
@@ -110,6 +113,27 @@ public abstract class BaseFilterSpecs<R> {
     return getSpecification(fieldName, filterValue, filterOperation, converters.getFunction(UUID.class), uuidFilterSpecifications);
   }
 
+  /**
+   * Resolves everything about a criterion except its value: the attribute path, the converter for the value type and
+   * the specification for the operation. The returned function only converts a value and builds the specification.
+   *
+   * @param fieldName       the field name
+   * @param filterOperation the filter operation
+   * @param valueType       the value type
+   * @return the function from a filter value to its specification
+   */
+  public Function<String, Specification<R>> getSpecificationFactory(String fieldName, FilterOperation filterOperation, ValueType valueType) {
+    return switch (valueType) {
+      case STRING -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(String.class), stringFilterSpecifications);
+      case DATE_TIME -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(ChronoLocalDateTime.class), dateTimeFilterSpecifications);
+      case LONG -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(Long.class), longFilterSpecifications);
+      case INTEGER -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(Integer.class), integerFilterSpecifications);
+      case DATE -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(ChronoLocalDate.class), dateFilterSpecifications);
+      case UUID -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(UUID.class), uuidFilterSpecifications);
+      case BOOLEAN -> getSpecificationFactory(fieldName, filterOperation, converters.getFunction(Boolean.class), booleanFilterSpecifications);
+    };
+  }
+
   private <T extends Comparable<T>> Specification<R> getSpecification(String fieldName,
                                                                       String filterValue,
                                                                       FilterOperation filterOperation,
@@ -118,4 +142,16 @@ public abstract class BaseFilterSpecs<R> {
     FilterCriteria<T> criteria = new FilterCriteria<>(fieldName, filterValue, filterOperation, converter);
     return specifications.getSpecification(criteria.getOperation()).apply(criteria);
   }
+
+  private <T extends Comparable<T>> Function<String, Specification<R>> getSpecificationFactory(String fieldName,
+                                                                                              FilterOperation filterOperation,
+                                                                                              Function<String, T> converter,
+                                                                                              FilterSpecifications<R, T> specifications) {
+    var specification = specifications.getSpecification(filterOperation);
+    if (specification == null) {
+      throw new InvalidParameterException(filterOperation.toString());
+    }
+    var fieldPath = StringUtils.split(fieldName, '.');
+    return filterValue -> specification.apply(new FilterCriteria<>(fieldName, fieldPath, filterValue, filterOperation, converter));
+  }
 }
@@ -26,6 +26,11 @@ public class FilterCriteria<T extends Comparable<T>> {
    */
   private final String fieldName;
 
+  /**
+   * Table column name split into its dot separated attribute names
+   */
+  private final String[] fieldPath;
+
   /**
    * Holds the Function to convertString to <T>
    */
@@ -60,8 +65,22 @@ public class FilterCriteria<T extends Comparable<T>> {
    * @param converterFunction the converter function
    */
   public FilterCriteria(@NonNull String fieldName, String fieldValue, @NonNull FilterOperation filterOperation, Function<String, T> converterFunction) {
+    this(fieldName, StringUtils.split(fieldName, '.'), fieldValue, filterOperation, converterFunction);
+  }
+
+  /**
+   * Instantiates a new Filter criteria for a field name that has already been split.
+   *
+   * @param fieldName         the field name
+   * @param fieldPath         the field name split into its attribute names
+   * @param fieldValue        the field value
+   * @param filterOperation   the filter operation
+   * @param converterFunction the converter function
+   */
+  public FilterCriteria(@NonNull String fieldName, @NonNull String[] fieldPath, String fieldValue, @NonNull FilterOperation filterOperation, Function<String, T> converterFunction) {
 
     this.fieldName = fieldName;
+    this.fieldPath = fieldPath;
     this.converterFunction = converterFunction;
 
     String[] operationValues;
@@ -165,6 +184,15 @@ public class FilterCriteria<T extends Comparable<T>> {
     return fieldName;
   }
 
+  /**
+   * Gets field path.
+   *
+   * @return the field name split into its attribute names
+   */
+  public String[] getFieldPath() {
+    return fieldPath;
+  }
+
   /**
    * Gets converter function.
    *
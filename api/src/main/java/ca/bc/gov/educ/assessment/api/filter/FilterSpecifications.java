@@ -2,7 +2,9 @@ package ca.bc.gov.educ.assessment.api.filter;
 
 import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -29,15 +31,15 @@ public class FilterSpecifications<E, T extends Comparable<T>> {
 
         // Equal
         map.put(FilterOperation.EQUAL, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
                 if(splits.length == 2) {
-                    return criteriaBuilder.equal(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+                    return criteriaBuilder.equal(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
                 } else {
                     if(filterCriteria.getConvertedSingleValue() == null) {
                         return criteriaBuilder.isNull(root.get(splits[0]).get(splits[1]).get(splits[2]));
                     }
-                    return criteriaBuilder.equal(root.join(splits[0]).get(splits[1]).get(splits[2]), filterCriteria.getConvertedSingleValue());
+                    return criteriaBuilder.equal(join(root, splits[0]).get(splits[1]).get(splits[2]), filterCriteria.getConvertedSingleValue());
                 }
 
             } else if(filterCriteria.getConvertedSingleValue() == null) {
@@ -57,20 +59,20 @@ public class FilterSpecifications<E, T extends Comparable<T>> {
         });
 
         map.put(FilterOperation.NOT_EQUAL, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
 
                 if(splits.length == 2) {
                     if(filterCriteria.getConvertedSingleValue() == null) {
-                        return criteriaBuilder.isNotNull(root.join(splits[0]).get(splits[1]));
+                        return criteriaBuilder.isNotNull(join(root, splits[0]).get(splits[1]));
                     }else {
-                        return criteriaBuilder.notEqual(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+                        return criteriaBuilder.notEqual(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
                     }
                 } else {
                     if(filterCriteria.getConvertedSingleValue() == null) {
                         return criteriaBuilder.isNotNull(root.get(splits[0]).get(splits[1]).get(splits[2]));
                     }else {
-                        return criteriaBuilder.notEqual(root.join(splits[0]).get(splits[1]).get(splits[2]), filterCriteria.getConvertedSingleValue());
+                        return criteriaBuilder.notEqual(join(root, splits[0]).get(splits[1]).get(splits[2]), filterCriteria.getConvertedSingleValue());
                     }
                 }
             } else if(filterCriteria.getConvertedSingleValue() == null) {
@@ -80,61 +82,61 @@ public class FilterSpecifications<E, T extends Comparable<T>> {
         });
 
         map.put(FilterOperation.GREATER_THAN, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
-                return criteriaBuilder.greaterThan(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
+                return criteriaBuilder.greaterThan(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
             }
             return criteriaBuilder.greaterThan(root.get(filterCriteria.getFieldName()), filterCriteria.getConvertedSingleValue());
         });
 
         map.put(FilterOperation.GREATER_THAN_OR_EQUAL_TO, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
-                return criteriaBuilder.greaterThanOrEqualTo(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
+                return criteriaBuilder.greaterThanOrEqualTo(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
             }
             return criteriaBuilder.greaterThanOrEqualTo(
                     root.get(filterCriteria.getFieldName()), filterCriteria.getConvertedSingleValue());
         });
 
         map.put(FilterOperation.LESS_THAN, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
-                return criteriaBuilder.lessThan(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
+                return criteriaBuilder.lessThan(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
             }
             return criteriaBuilder.lessThan(root.get(filterCriteria.getFieldName()), filterCriteria.getConvertedSingleValue());
         });
 
         map.put(FilterOperation.LESS_THAN_OR_EQUAL_TO, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
-                return criteriaBuilder.lessThanOrEqualTo(root.join(splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
+                return criteriaBuilder.lessThanOrEqualTo(join(root, splits[0]).get(splits[1]), filterCriteria.getConvertedSingleValue());
             }
            return criteriaBuilder.lessThanOrEqualTo(root.get(filterCriteria.getFieldName()), filterCriteria.getConvertedSingleValue());
         });
 
         map.put(FilterOperation.IN, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
             criteriaQuery.distinct(true);
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
                 if (splits.length ==3) {
-                    return root.join(splits[0]).join(splits[1]).get(splits[2]).in(filterCriteria.getConvertedValues());
+                    return join(root, splits[0]).join(splits[1]).get(splits[2]).in(filterCriteria.getConvertedValues());
                 }
-                return root.join(splits[0]).get(splits[1]).in(filterCriteria.getConvertedValues());
+                return join(root, splits[0]).get(splits[1]).in(filterCriteria.getConvertedValues());
             }
             return root.get(filterCriteria.getFieldName()).in(filterCriteria.getConvertedValues());
         });
 
         map.put(FilterOperation.IN_NOT_DISTINCT, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
-                return root.join(splits[0]).get(splits[1]).in(filterCriteria.getConvertedValues());
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
+                return join(root, splits[0]).get(splits[1]).in(filterCriteria.getConvertedValues());
             }
             return root.get(filterCriteria.getFieldName()).in(filterCriteria.getConvertedValues());
         });
 
         map.put(FilterOperation.NOT_IN, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
                 return criteriaBuilder.or(criteriaBuilder.not(root.join(splits[0], JoinType.LEFT).get(splits[1]).in(filterCriteria.getConvertedValues())), criteriaBuilder.isEmpty(root.get(splits[0])));
             }
             return criteriaBuilder.or(criteriaBuilder.not(root.get(filterCriteria.getFieldName()).in(filterCriteria.getConvertedValues())), criteriaBuilder.isNull(root.get(filterCriteria.getFieldName())));
@@ -142,9 +144,9 @@ public class FilterSpecifications<E, T extends Comparable<T>> {
 
         map.put(FilterOperation.BETWEEN,
                 filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
-                    if (filterCriteria.getFieldName().contains(".")) {
-                        String[] splits = filterCriteria.getFieldName().split("\\.");
-                        return criteriaBuilder.between(root.join(splits[0]).get(splits[1]), filterCriteria.getMinValue(),
+                    if (filterCriteria.getFieldPath().length > 1) {
+                        String[] splits = filterCriteria.getFieldPath();
+                        return criteriaBuilder.between(join(root, splits[0]).get(splits[1]), filterCriteria.getMinValue(),
                                 filterCriteria.getMaxValue());
                     } else {
                         return criteriaBuilder.between(
@@ -162,11 +164,24 @@ public class FilterSpecifications<E, T extends Comparable<T>> {
 
         map.put(FilterOperation.IN_LEFT_JOIN, filterCriteria -> (root, criteriaQuery, criteriaBuilder) -> {
             criteriaQuery.distinct(true);
-            if (filterCriteria.getFieldName().contains(".")) {
-                String[] splits = filterCriteria.getFieldName().split("\\.");
+            if (filterCriteria.getFieldPath().length > 1) {
+                String[] splits = filterCriteria.getFieldPath();
                 return criteriaBuilder.or(root.join(splits[0], JoinType.LEFT).get(splits[1]).in(filterCriteria.getConvertedValues()));
             }
             return root.get(filterCriteria.getFieldName()).in(filterCriteria.getConvertedValues());
         });
     }
+
+    /**
+     * Inner join to a single valued attribute, reusing the one the query or an earlier criterion already made so that
+     * criteria on the same association share a join.
+     */
+    private static <X> Join<X, ?> join(Root<X> root, String attributeName) {
+        for (Join<X, ?> join : root.getJoins()) {
+            if (join.getJoinType() == JoinType.INNER && !join.getAttribute().isCollection() && join.getAttribute().getName().equals(attributeName)) {
+                return join;
+            }
+        }
+        return root.join(attributeName);
+    }
 }
@@ -0,0 +1,17 @@
+package ca.bc.gov.educ.assessment.api.mappers.v1;
+
+import ca.bc.gov.educ.assessment.api.mappers.LocalDateTimeMapper;
+import ca.bc.gov.educ.assessment.api.mappers.UUIDMapper;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentDOARRecalculationEntity;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentDOARRecalculation;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = {UUIDMapper.class, LocalDateTimeMapper.class})
+public interface AssessmentDOARRecalculationMapper {
+
+    AssessmentDOARRecalculationMapper mapper = Mappers.getMapper(AssessmentDOARRecalculationMapper.class);
+
+    AssessmentDOARRecalculation toStructure(AssessmentDOARRecalculationEntity entity);
+
+}
@@ -8,6 +8,7 @@ import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentHistoryEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentHistorySearchEntity;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentHistoryListItem;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentListItem;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import org.mapstruct.DecoratedWith;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -29,6 +30,8 @@ public interface AssessmentStudentListItemMapper {
     @Mapping(target = "givenName", source = "givenName")
     AssessmentStudentListItem toStructure(AssessmentStudentEntity entity);
 
+    AssessmentStudentListItem toStructure(AssessmentStudentSearchResult searchResult);
+
     @Mapping(target = "assessmentID", source = "assessmentEntity.assessmentID")
     @Mapping(target = "sessionID", source = "assessmentEntity.assessmentSessionEntity.sessionID")
     @Mapping(target = "assessmentTypeCode", source = "assessmentEntity.assessmentTypeCode")
@@ -4,6 +4,7 @@ import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentHistorySearchEntity;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentHistoryListItem;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentListItem;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,6 +22,13 @@ public abstract class AssessmentStudentListItemMapperDecorator implements Assess
         return assessmentStudentListItem;
     }
 
+    @Override
+    public AssessmentStudentListItem toStructure(AssessmentStudentSearchResult searchResult) {
+        final var assessmentStudentListItem = this.delegate.toStructure(searchResult);
+        AssessmentStudentMapperUtils.setWroteFlag(searchResult, assessmentStudentListItem);
+        return assessmentStudentListItem;
+    }
+
     @Override
     public AssessmentStudentHistoryListItem toStructure(AssessmentStudentHistorySearchEntity entity) {
         final var assessmentStudentListItem = this.delegate.toStructure(entity);
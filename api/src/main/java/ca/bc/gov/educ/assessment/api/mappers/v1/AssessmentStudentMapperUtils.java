@@ -5,6 +5,7 @@ import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentHistorySearchEntity;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudent;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentHistory;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentShowItem;
 import org.apache.commons.lang3.StringUtils;
 
@@ -27,6 +28,21 @@ public class AssessmentStudentMapperUtils {
         }
     }
 
+    public static void setWroteFlag(AssessmentStudentSearchResult searchResult, AssessmentStudent assessmentStudent) {
+        boolean hasProficiencyScore = searchResult.getProficiencyScore() != null;
+        boolean hasSpecialCaseCode = StringUtils.isNotBlank(searchResult.getProvincialSpecialCaseCode()) &&
+            (searchResult.getProvincialSpecialCaseCode().equals(ProvincialSpecialCaseCodes.NOTCOMPLETED.getCode())
+                || searchResult.getProvincialSpecialCaseCode().equals(ProvincialSpecialCaseCodes.DISQUALIFIED.getCode()));
+
+        assessmentStudent.setWroteFlag(hasProficiencyScore || hasSpecialCaseCode);
+        assessmentStudent.setDidNotAttemptFlag(false);
+        if(!hasProficiencyScore && StringUtils.isBlank(searchResult.getProvincialSpecialCaseCode())) {
+            if(searchResult.getCompletionDate() != null && LocalDateTime.now().isAfter(searchResult.getCompletionDate())) {
+                assessmentStudent.setDidNotAttemptFlag(true);
+            }
+        }
+    }
+
     public static void setWroteFlag(AssessmentStudentHistorySearchEntity entity, AssessmentStudentHistory assessmentStudent) {
         boolean hasProficiencyScore = entity.getProficiencyScore() != null;
         boolean hasSpecialCaseCode = StringUtils.isNotBlank(entity.getProvincialSpecialCaseCode()) &&
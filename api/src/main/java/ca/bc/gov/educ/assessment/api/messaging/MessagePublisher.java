@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The type Message publisher.
@@ -17,6 +19,7 @@ public class MessagePublisher {
 
 
   private final Connection connection;
+  private final AtomicLong requestLatencyNanos = new AtomicLong();
 
   @Autowired
   public MessagePublisher(final Connection con) {
@@ -34,6 +37,22 @@ public class MessagePublisher {
   }
 
   public CompletableFuture<Message> requestMessage(final String subject, final byte[] message) {
-    return this.connection.request(subject, message);
+    final long start = System.nanoTime();
+    return this.connection.request(subject, message)
+        .whenComplete((response, ex) -> this.recordRequestLatency(System.nanoTime() - start));
+  }
+
+  /**
+   * Moving average of the round trip of recent request-reply calls, weighted towards the latest ones. The average is
+   * kept in nanoseconds, so replies that differ by less than the weighting from the average still move it.
+   *
+   * @return the average latency in milliseconds
+   */
+  public long getRequestLatencyMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(this.requestLatencyNanos.get());
+  }
+
+  private void recordRequestLatency(final long latencyNanos) {
+    this.requestLatencyNanos.updateAndGet(average -> average + (latencyNanos - average) / 8);
   }
 }
@@ -0,0 +1,95 @@
+package ca.bc.gov.educ.assessment.api.messaging.jetstream;
+
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.service.v1.ChoreographyEventRelayService;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static ca.bc.gov.educ.assessment.api.constants.EventStatus.DB_COMMITTED;
+
+/**
+ * Wakes the outbox relay when a transaction that wrote a choreography event commits, so the event is published
+ * straight away instead of on the next scheduler run. Wake ups that arrive while a relay run is pending are folded
+ * into that run, and one run keeps going while it finds full batches.
+ */
+@Component
+@Slf4j
+public class ChoreographyEventRelay {
+
+  private final ChoreographyEventRelayService choreographyEventRelayService;
+  private final Publisher publisher;
+  private final int batchSize;
+  private final Duration ackTimeout;
+  private final AtomicBoolean relayRequested = new AtomicBoolean();
+  private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().withNameFormat("choreography-relay-%d").get());
+
+  public ChoreographyEventRelay(ChoreographyEventRelayService choreographyEventRelayService, Publisher publisher, ApplicationProperties applicationProperties) {
+    this.choreographyEventRelayService = choreographyEventRelayService;
+    this.publisher = publisher;
+    this.batchSize = applicationProperties.getChoreographyRelayBatchSize();
+    this.ackTimeout = Duration.ofMillis(applicationProperties.getChoreographyRelayAckTimeoutMs());
+  }
+
+  /**
+   * Called after commit for every event saved through the repository.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventSaved(AssessmentEventEntity event) {
+    if (DB_COMMITTED.toString().equals(event.getEventStatus()) && !ChoreographyEventRelayService.INCOMING_EVENT_TYPES.contains(event.getEventType())) {
+      requestRelay();
+    }
+  }
+
+  public void requestRelay() {
+    if (relayRequested.compareAndSet(false, true)) {
+      relayExecutor.execute(this::relay);
+    }
+  }
+
+  private void relay() {
+    relayRequested.set(false);
+    try {
+      int published;
+      do {
+        published = publishPendingEvents(LocalDateTime.now());
+      } while (published >= batchSize);
+    } catch (Exception e) {
+      log.error("Exception while relaying choreography events, they will be published by the scheduler", e);
+    }
+  }
+
+  /**
+   * Claims a batch of unpublished events created before the given time, publishes it outside of any transaction and
+   * marks the events JetStream acknowledged as published. An event that was not acknowledged keeps its claim until it
+   * runs out and is then picked up again.
+   *
+   * @return the number of events published
+   */
+  public int publishPendingEvents(LocalDateTime createdBefore) {
+    var events = choreographyEventRelayService.claimPendingEvents(createdBefore);
+    if (events.isEmpty()) {
+      return 0;
+    }
+    var published = publisher.publishChoreographyEvents(events, ackTimeout);
+    if (!published.isEmpty()) {
+      choreographyEventRelayService.markEventsPublished(published);
+    }
+    log.debug("Relayed {} of {} pending choreography events", published.size(), events.size());
+    return published.size();
+  }
+
+  @PreDestroy
+  public void close() {
+    relayExecutor.shutdownNow();
+  }
+}
@@ -8,6 +8,8 @@ import ca.bc.gov.educ.assessment.api.util.JsonUtil;
 import io.nats.client.Connection;
 import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
 import io.nats.client.api.StreamConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -15,6 +17,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static ca.bc.gov.educ.assessment.api.constants.TopicsEnum.STUDENT_ASSESSMENT_EVENTS_TOPIC;
 
@@ -62,27 +70,51 @@ public class Publisher {
 
 
     /**
-     * Dispatch choreography event.
+     * Publishes the events without waiting between them and then waits for the acknowledgements. Each message carries
+     * its event ID as the JetStream message ID, so an event published again within the stream's duplicate window is
+     * dropped by the server rather than delivered twice.
      *
-     * @param event the event
+     * @param events     the events
+     * @param ackTimeout how long to wait for all the acknowledgements
+     * @return the IDs of the events the stream acknowledged
      */
-    public void dispatchChoreographyEvent(final AssessmentEventEntity event) {
-        log.info("Dispatching choreography event {}", event);
-        if (event != null && event.getEventId() != null) {
-            val choreographedEvent = new ChoreographedEvent();
-            choreographedEvent.setEventType(EventType.valueOf(event.getEventType().toString()));
-            choreographedEvent.setEventOutcome(EventOutcome.valueOf(event.getEventOutcome().toString()));
-            choreographedEvent.setEventPayload(event.getEventPayload());
-            choreographedEvent.setEventID(event.getEventId().toString());
-            choreographedEvent.setCreateUser(event.getCreateUser());
-            choreographedEvent.setUpdateUser(event.getUpdateUser());
+    public List<UUID> publishChoreographyEvents(final List<AssessmentEventEntity> events, final Duration ackTimeout) {
+        final Map<UUID, CompletableFuture<PublishAck>> pendingAcks = new LinkedHashMap<>();
+        for (val event : events) {
             try {
-                log.info("Broadcasting event :: {}", choreographedEvent);
-                val pub = this.jetStream.publishAsync(STUDENT_ASSESSMENT_EVENTS_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(choreographedEvent));
-                pub.thenAcceptAsync(result -> log.info("Event ID :: {} Published to JetStream :: {}", event.getSagaId(), result.getSeqno()));
+                val publishOptions = PublishOptions.builder().messageId(event.getEventId().toString()).build();
+                pendingAcks.put(event.getEventId(), this.jetStream.publishAsync(STUDENT_ASSESSMENT_EVENTS_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(toChoreographedEvent(event)), publishOptions));
             } catch (IOException e) {
                 log.error("exception while broadcasting message to JetStream", e);
             }
         }
+
+        final List<UUID> published = new ArrayList<>();
+        final long deadline = System.nanoTime() + ackTimeout.toNanos();
+        for (val pendingAck : pendingAcks.entrySet()) {
+            try {
+                val ack = pendingAck.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                log.debug("Event ID :: {} Published to JetStream :: {}", pendingAck.getKey(), ack.getSeqno());
+                published.add(pendingAck.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Event ID :: {} was not acknowledged by JetStream", pendingAck.getKey(), e);
+            }
+        }
+        log.info("Published {} of {} choreography events to JetStream", published.size(), events.size());
+        return published;
+    }
+
+    private static ChoreographedEvent toChoreographedEvent(final AssessmentEventEntity event) {
+        val choreographedEvent = new ChoreographedEvent();
+        choreographedEvent.setEventType(EventType.valueOf(event.getEventType()));
+        choreographedEvent.setEventOutcome(EventOutcome.valueOf(event.getEventOutcome()));
+        choreographedEvent.setEventPayload(event.getEventPayload());
+        choreographedEvent.setEventID(event.getEventId().toString());
+        choreographedEvent.setCreateUser(event.getCreateUser());
+        choreographedEvent.setUpdateUser(event.getUpdateUser());
+        return choreographedEvent;
     }
 }
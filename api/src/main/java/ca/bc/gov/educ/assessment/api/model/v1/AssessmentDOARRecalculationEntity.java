@@ -0,0 +1,63 @@
+package ca.bc.gov.educ.assessment.api.model.v1;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.PastOrPresent;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicUpdate
+@Entity
+@Builder
+@Table(name = "ASSESSMENT_DOAR_RECALCULATION")
+public class AssessmentDOARRecalculationEntity {
+
+    @Id
+    @UuidGenerator
+    @Column(name = "ASSESSMENT_DOAR_RECALCULATION_ID", unique = true, updatable = false, columnDefinition = "BINARY(16)")
+    private UUID assessmentDOARRecalculationID;
+
+    @Column(name = "ASSESSMENT_ID", nullable = false, updatable = false)
+    private UUID assessmentID;
+
+    @Column(name = "STATUS_CODE", nullable = false, length = 20)
+    private String statusCode;
+
+    @Column(name = "TOTAL_STUDENTS", nullable = false)
+    private Integer totalStudents;
+
+    @Column(name = "PROCESSED_STUDENTS", nullable = false)
+    private Integer processedStudents;
+
+    /**
+     * Students whose form is no longer part of the assessment, for whom no DOAR row is written.
+     */
+    @Column(name = "SKIPPED_STUDENTS", nullable = false)
+    private Integer skippedStudents;
+
+    /**
+     * The last student of the last completed chunk, the job carries on from the next student after it.
+     */
+    @Column(name = "LAST_ASSESSMENT_STUDENT_ID")
+    private UUID lastAssessmentStudentID;
+
+    @Column(name = "CREATE_USER", updatable = false, length = 100)
+    private String createUser;
+
+    @PastOrPresent
+    @Column(name = "CREATE_DATE", updatable = false)
+    private LocalDateTime createDate;
+
+    @Column(name = "UPDATE_USER", nullable = false, length = 100)
+    private String updateUser;
+
+    @PastOrPresent
+    @Column(name = "UPDATE_DATE", nullable = false)
+    private LocalDateTime updateDate;
+}
@@ -12,8 +12,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UuidGenerator;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @AllArgsConstructor
@@ -56,4 +59,18 @@ public class AssessmentEventEntity {
   @Column(name = "REPLY_CHANNEL")
   private String replyChannel;
 
+  /**
+   * Set while an outbox relay is publishing the event; other relays leave it alone until then.
+   */
+  @Column(name = "CLAIMED_UNTIL")
+  private LocalDateTime claimedUntil;
+
+  /**
+   * Published by the repository when the event is saved, so the outbox relay can publish it once the transaction
+   * commits.
+   */
+  @DomainEvents
+  Collection<Object> domainEvents() {
+    return List.of(this);
+  }
 }
@@ -71,6 +71,9 @@ public class StagedStudentResultEntity {
   @Column(name = "MARKING_SESSION", length = 6)
   private String markingSession;
 
+  @Column(name = "LOAD_ID")
+  private UUID loadID;
+
   @Column(name = "CREATE_USER", updatable = false , length = 100)
   private String createUser;
 
@@ -15,6 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
 import static ca.bc.gov.educ.assessment.api.constants.EventOutcome.*;
 import static ca.bc.gov.educ.assessment.api.constants.EventType.*;
 import static ca.bc.gov.educ.assessment.api.constants.SagaStatusEnum.IN_PROGRESS;
@@ -37,11 +40,11 @@ public class StudentResultProcessingOrchestrator extends BaseOrchestrator<Studen
     this.stepBuilder()
             .begin(FIND_STUDENT_IN_GRAD_OR_ADOPT, this::findStudentInGradOrAdoptRecord)
             .step(FIND_STUDENT_IN_GRAD_OR_ADOPT, FIND_STUDENT_IN_GRAD_OR_ADOPT_COMPLETED, CREATE_STUDENT_RESULT, this::createStudentResultRecord)
-            .step(CREATE_STUDENT_RESULT, STUDENT_RESULT_CREATED, CALCULATE_STAGED_STUDENT_DOAR, this::createAndPopulateDOARCalculations)
-            .end(CALCULATE_STAGED_STUDENT_DOAR, STAGED_STUDENT_DOAR_CALCULATED);
+            .localStep(CREATE_STUDENT_RESULT, STUDENT_RESULT_CREATED, CALCULATE_STAGED_STUDENT_DOAR, this::createAndPopulateDOARCalculations)
+            .localEnd(CALCULATE_STAGED_STUDENT_DOAR, STAGED_STUDENT_DOAR_CALCULATED);
   }
 
-  public void findStudentInGradOrAdoptRecord(final Event event, final AssessmentSagaEntity saga, final StudentResultSagaData studentResultSagaData) {
+  public void findStudentInGradOrAdoptRecord(final Event event, final AssessmentSagaEntity saga, final StudentResultSagaData studentResultSagaData) throws InterruptedException, TimeoutException, IOException {
     final AssessmentSagaEventStatesEntity eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
     saga.setSagaState(FIND_STUDENT_IN_GRAD_OR_ADOPT.toString());
     saga.setStatus(IN_PROGRESS.toString());
@@ -54,11 +57,10 @@ public class StudentResultProcessingOrchestrator extends BaseOrchestrator<Studen
 
     eventBuilder.eventOutcome(FIND_STUDENT_IN_GRAD_OR_ADOPT_COMPLETED);
     val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    this.postToNextStep(saga, nextEvent);
   }
 
-  public void createStudentResultRecord(final Event event, final AssessmentSagaEntity saga, final StudentResultSagaData studentResultSagaData) {
+  public void createStudentResultRecord(final Event event, final AssessmentSagaEntity saga, final StudentResultSagaData studentResultSagaData) throws InterruptedException, TimeoutException, IOException {
     final AssessmentSagaEventStatesEntity eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
     saga.setSagaState(CREATE_STUDENT_RESULT.toString());
     saga.setStatus(IN_PROGRESS.toString());
@@ -71,11 +73,10 @@ public class StudentResultProcessingOrchestrator extends BaseOrchestrator<Studen
 
     eventBuilder.eventOutcome(STUDENT_RESULT_CREATED);
     val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    this.postToNextStep(saga, nextEvent);
   }
 
-  protected void createAndPopulateDOARCalculations(Event event, AssessmentSagaEntity saga, StudentResultSagaData studentResultSagaData) {
+  protected void createAndPopulateDOARCalculations(Event event, AssessmentSagaEntity saga, StudentResultSagaData studentResultSagaData) throws InterruptedException, TimeoutException, IOException {
     final AssessmentSagaEventStatesEntity eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
     saga.setSagaState(CALCULATE_STAGED_STUDENT_DOAR.toString());
     saga.setStatus(IN_PROGRESS.toString());
@@ -88,8 +89,7 @@ public class StudentResultProcessingOrchestrator extends BaseOrchestrator<Studen
 
     eventBuilder.eventOutcome(STAGED_STUDENT_DOAR_CALCULATED);
     val nextEvent = eventBuilder.build();
-    this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
-    log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    this.postToNextStep(saga, nextEvent);
   }
 
 }
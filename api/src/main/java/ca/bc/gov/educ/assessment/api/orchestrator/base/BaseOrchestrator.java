@@ -154,6 +154,22 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     return this;
   }
 
+  /**
+   * Register a step that only does work inside this service, see {@link #postToNextStep}.
+   *
+   * @param initEvent     the init event
+   * @param outcome       the outcome
+   * @param nextEvent     the next event
+   * @param stepToExecute the step to execute
+   * @return the base orchestrator
+   */
+  protected BaseOrchestrator<T> registerLocalStepToExecute(final EventType initEvent, final EventOutcome outcome, final EventType nextEvent, final SagaStep<T> stepToExecute) {
+    this.registerStepToExecute(initEvent, outcome, (T sagaData) -> true, nextEvent, stepToExecute);
+    final List<SagaEventState<T>> states = this.nextStepsToExecute.get(initEvent);
+    states.get(states.size() - 1).setLocal(true);
+    return this;
+  }
+
   /**
    * Step base orchestrator.
    *
@@ -181,6 +197,20 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     return this.registerStepToExecute(currentEvent, outcome, nextStepPredicate, nextEvent, stepToExecute);
   }
 
+  /**
+   * Step base orchestrator for a step that only does work inside this service. When the previous step completes
+   * through {@link #postToNextStep}, this step runs in the same thread instead of going through the saga topic.
+   *
+   * @param currentEvent  the event that has occurred.
+   * @param outcome       outcome of the event.
+   * @param nextEvent     next event that will occur.
+   * @param stepToExecute which method to execute for the next event. it is a lambda function.
+   * @return {@link BaseOrchestrator}
+   */
+  public BaseOrchestrator<T> localStep(final EventType currentEvent, final EventOutcome outcome, final EventType nextEvent, final SagaStep<T> stepToExecute) {
+    return this.registerLocalStepToExecute(currentEvent, outcome, nextEvent, stepToExecute);
+  }
+
   /**
    * Beginning step base orchestrator.
    *
@@ -214,6 +244,17 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     this.registerStepToExecute(currentEvent, outcome, (T sagaData) -> true, MARK_SAGA_COMPLETE, this::markSagaComplete);
   }
 
+  /**
+   * End step base orchestrator with complete status, marking the saga complete in the thread that completed the
+   * previous step.
+   *
+   * @param currentEvent the event that has occurred.
+   * @param outcome      outcome of the event.
+   */
+  public void localEnd(final EventType currentEvent, final EventOutcome outcome) {
+    this.registerLocalStepToExecute(currentEvent, outcome, MARK_SAGA_COMPLETE, this::markSagaComplete);
+  }
+
   /**
    * End step with method to execute with complete status.
    *
@@ -362,6 +403,30 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     }
   }
 
+  /**
+   * Hands the outcome of a step to the next step. A local next step is run straight away in this thread; every step
+   * records its own event state when it starts, so the saga can still be replayed from the last completed step.
+   * Any other next step is reached through the saga topic as before.
+   *
+   * @param saga      the model object.
+   * @param nextEvent the outcome of the step that just completed.
+   * @throws InterruptedException if thread is interrupted.
+   * @throws TimeoutException     if connection to messaging system times out.
+   * @throws IOException          if there is connectivity problem
+   */
+  protected void postToNextStep(final AssessmentSagaEntity saga, final Event nextEvent) throws InterruptedException, TimeoutException, IOException {
+    // read the payload again, as the NATS path would, so the next step never sees changes that were not persisted
+    final T sagaData = JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload());
+    final var sagaEventState = this.findNextSagaEventState(nextEvent.getEventType(), nextEvent.getEventOutcome(), sagaData);
+    if (sagaEventState.isPresent() && sagaEventState.get().isLocal()) {
+      log.debug("Executing next event :: {} in process for saga ID :: {}", sagaEventState.get().getNextEventType(), saga.getSagaId());
+      this.process(nextEvent, saga, sagaData, sagaEventState.get());
+    } else {
+      this.postMessageToTopic(this.getTopicToSubscribe(), nextEvent);
+      log.debug("message sent to {} for {} Event. :: {}", this.getTopicToSubscribe(), nextEvent, saga.getSagaId());
+    }
+  }
+
   /**
    * it finds the last event that was processed successfully for this saga.
    *
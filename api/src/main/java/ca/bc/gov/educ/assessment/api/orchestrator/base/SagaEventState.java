@@ -35,4 +35,8 @@ public class SagaEventState<T> {
    * The Step to execute.
    */
   SagaStep<T> stepToExecute;
+  /**
+   * Whether the step only does work inside this service and can run in the thread that completed the previous step.
+   */
+  boolean local;
 }
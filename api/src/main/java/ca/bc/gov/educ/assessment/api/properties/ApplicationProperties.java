@@ -81,4 +81,108 @@ public class ApplicationProperties {
 
   @Value("${url.api.sdc}")
   private String sdcApiURL;
+
+  /**
+   * Number of result file rows validated and staged per transaction when a results file is streamed.
+   */
+  @Value("${results.file.ingestion.chunk.size}")
+  private Integer resultsFileIngestionChunkSize;
+
+  /**
+   * Number of loaded students whose PEN, merge and GRAD lookups are sent together before their sagas are started.
+   */
+  @Value("${student.identity.resolution.batch.size}")
+  private Integer studentIdentityResolutionBatchSize;
+
+  /**
+   * Bounds and tuning of the limit on in flight result sagas, which is adjusted on every scheduler run.
+   */
+  @Value("${saga.admission.limit.initial}")
+  private Integer sagaAdmissionInitialLimit;
+  @Value("${saga.admission.limit.min}")
+  private Integer sagaAdmissionMinLimit;
+  @Value("${saga.admission.limit.max}")
+  private Integer sagaAdmissionMaxLimit;
+  @Value("${saga.admission.limit.increase.step}")
+  private Integer sagaAdmissionIncreaseStep;
+  @Value("${saga.admission.nats.latency.threshold.ms}")
+  private Long sagaAdmissionNatsLatencyThresholdMs;
+
+  /**
+   * Number of students recalculated and saved per transaction by a DOAR recalculation job, and the number of
+   * threads the calculations of a chunk are spread over.
+   */
+  @Value("${doar.recalculation.chunk.size}")
+  private Integer doarRecalculationChunkSize;
+  @Value("${doar.recalculation.parallelism}")
+  private Integer doarRecalculationParallelism;
+
+  /**
+   * Number of schools whose XAM files are generated at the same time when the session's XAM zip is built.
+   */
+  @Value("${xam.generation.parallelism}")
+  private Integer xamGenerationParallelism;
+
+  /**
+   * Number of PDFs filled at the same time when a bulk report zip is built, and the number of pages of each print kept
+   * in memory before the rest are swapped to disk.
+   */
+  @Value("${bulk.report.parallelism}")
+  private Integer bulkReportParallelism;
+  @Value("${bulk.report.virtualizer.max.pages}")
+  private Integer bulkReportVirtualizerMaxPages;
+
+  /**
+   * Number of PEN batches fetched from the SDC API at the same time, and how often a failed page request is tried
+   * before the lookup fails.
+   */
+  @Value("${sdc.fetch.parallelism}")
+  private Integer sdcFetchParallelism;
+  @Value("${sdc.fetch.max.attempts}")
+  private Integer sdcFetchMaxAttempts;
+  @Value("${sdc.fetch.retry.backoff.ms}")
+  private Long sdcFetchRetryBackoffMs;
+
+  /**
+   * Number of search queries run at the same time, never more than half the database pool, and how many more may wait
+   * before a search is turned away.
+   */
+  @Value("${search.query.parallelism}")
+  private Integer searchQueryParallelism;
+  @Value("${search.query.queue.size}")
+  private Integer searchQueryQueueSize;
+
+  /**
+   * Most registrations written in one transaction, how long the first one waits for others to join its batch, and how
+   * many may be waiting before a registration is processed on its own again.
+   */
+  @Value("${registration.batch.size}")
+  private Integer registrationBatchSize;
+  @Value("${registration.batch.wait.ms}")
+  private Long registrationBatchWaitMs;
+  @Value("${registration.batch.queue.size}")
+  private Integer registrationBatchQueueSize;
+
+  /**
+   * Longest time a reference data cache entry is served before it is read again.
+   */
+  @Value("${reference.cache.ttl.seconds}")
+  private Long referenceCacheTtlSeconds;
+
+  /**
+   * Most choreography events the outbox relay claims per run, how long it waits for JetStream to acknowledge them,
+   * and how long other relays leave claimed events alone.
+   */
+  @Value("${choreography.relay.batch.size}")
+  private Integer choreographyRelayBatchSize;
+  @Value("${choreography.relay.ack.timeout.ms}")
+  private Long choreographyRelayAckTimeoutMs;
+  @Value("${choreography.relay.claim.timeout.ms}")
+  private Long choreographyRelayClaimTimeoutMs;
+
+  /**
+   * Most compiled form answer keys kept for scoring results.
+   */
+  @Value("${answer.key.cache.max.forms}")
+  private Integer answerKeyCacheMaxForms;
 }
@@ -8,16 +8,16 @@ import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.District;
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.IndependentAuthority;
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.jasperreports.engine.*;
-import net.sf.jasperreports.engine.query.JsonQueryExecuterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.*;
 import java.text.NumberFormat;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -26,27 +26,22 @@ import java.util.*;
 public abstract class BaseReportGenerationService {
 
   private final RestUtils restUtils;
+  private final JasperReportRegistry jasperReportRegistry;
 
   DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
   protected static final String FALSE = "false";
+  private static final int PDF_BUFFER_SIZE = 8192;
   protected static final NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
 
-  protected ObjectWriter objectWriter = new ObjectMapper().writer().withDefaultPrettyPrinter();
-
-  protected BaseReportGenerationService(RestUtils restUtils) {
+  protected BaseReportGenerationService(RestUtils restUtils, JasperReportRegistry jasperReportRegistry) {
     this.restUtils = restUtils;
+    this.jasperReportRegistry = jasperReportRegistry;
   }
 
-  protected DownloadableReportResponse generateJasperReport(String reportJSON, JasperReport jasperReport, String schoolReportTypeCode){
+  protected DownloadableReportResponse generateJasperReport(Object reportNode, String reportName, String schoolReportTypeCode){
     try{
-      var params = getJasperParams();
-      InputStream targetStream = new ByteArrayInputStream(reportJSON.getBytes());
-      String tempDir = System.getProperty("java.io.tmpdir") + "/jasper-reports/";
-      params.put("SUBREPORT_DIR", tempDir);
-      params.put(JsonQueryExecuterFactory.JSON_INPUT_STREAM, targetStream);
-
-      JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, params);
+      JasperPrint jasperPrint = fillJasperReport(reportNode, reportName);
       var downloadableReport = new DownloadableReportResponse();
       downloadableReport.setReportType(schoolReportTypeCode);
       downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(JasperExportManager.exportReportToPdf(jasperPrint)));
@@ -57,6 +52,48 @@ public abstract class BaseReportGenerationService {
     }
   }
 
+  /**
+   * Writes the PDF straight to the response instead of Base64 encoding it into a {@link DownloadableReportResponse}.
+   * The report is filled before anything is written, so a report that cannot be built still gets an error response.
+   */
+  protected void streamJasperReport(Object reportNode, String reportName, String filename, HttpServletResponse response) throws IOException {
+    try{
+      JasperPrint jasperPrint = fillJasperReport(reportNode, reportName);
+      response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+      response.setBufferSize(PDF_BUFFER_SIZE);
+      try (OutputStream outputStream = new BufferedOutputStream(response.getOutputStream(), PDF_BUFFER_SIZE)) {
+        JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
+      }
+    } catch (JRException e) {
+      log.error("Exception occurred while writing PDF report :: " + e.getMessage());
+      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report :: " + e.getMessage());
+    }
+  }
+
+  protected String getPdfFilename(String reportTypeCode) {
+    return reportTypeCode + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".pdf";
+  }
+
+  private JasperPrint fillJasperReport(Object reportNode, String reportName) throws JRException {
+    return fillJasperReport(reportNode, reportName, null);
+  }
+
+  /**
+   * @param virtualizer pages beyond the virtualizer's limit are swapped out of the heap while the report is filled,
+   *                    or null to keep the whole print in memory
+   */
+  protected JasperPrint fillJasperReport(Object reportNode, String reportName, JRVirtualizer virtualizer) throws JRException {
+    var jasperReport = jasperReportRegistry.getReport(reportName);
+    var params = getJasperParams();
+    if (virtualizer != null) {
+      params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+    }
+    params.put("SUBREPORT_DIR", JasperReportRegistry.SUBREPORT_DIR);
+    var selectExpression = jasperReport.getQuery() != null ? jasperReport.getQuery().getText().trim() : null;
+    return JasperFillManager.getInstance(jasperReportRegistry.getJasperReportsContext()).fill(jasperReport, params, ReportNodeDataSource.of(reportNode, selectExpression));
+  }
+
   protected District validateAndReturnDistrict(SchoolTombstone schoolTombstone){
     var district = restUtils.getDistrictByDistrictID(schoolTombstone.getDistrictId());
     if(district.isEmpty()){
@@ -90,9 +127,6 @@ public abstract class BaseReportGenerationService {
 
   protected Map<String, Object> getJasperParams(){
     Map<String, Object> params = new HashMap<>();
-    params.put(JsonQueryExecuterFactory.JSON_DATE_PATTERN, "yyyy-MM-dd");
-    params.put(JsonQueryExecuterFactory.JSON_NUMBER_PATTERN, "#,##0.##");
-    params.put(JsonQueryExecuterFactory.JSON_LOCALE, Locale.ENGLISH);
     params.put(JRParameter.REPORT_LOCALE, Locale.US);
     return params;
   }
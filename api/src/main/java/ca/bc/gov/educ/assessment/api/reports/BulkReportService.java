@@ -0,0 +1,154 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.rest.RestUtils;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Builds zips of one PDF per school, student, etc. and streams them to the response. Report nodes are created on the
+ * calling thread, which owns the persistence context, and only the Jasper fill and PDF export run on the bulk report
+ * executor. Entries are written in order as they complete and only a few PDFs per thread are held at a time. An item
+ * whose report cannot be built is logged and left out of the zip, since the response has already been committed.
+ */
+@Service
+@Slf4j
+public class BulkReportService extends BaseReportGenerationService {
+
+  private static final String ZIP_CONTENT_TYPE = "application/zip";
+  private static final int ZIP_BUFFER_SIZE = 8192;
+  private static final int SWAP_BLOCK_SIZE = 4096;
+  private static final int SWAP_MIN_GROW_COUNT = 100;
+
+  private final ApplicationProperties applicationProperties;
+  private final ExecutorService bulkReportExecutor;
+
+  public BulkReportService(RestUtils restUtils, JasperReportRegistry jasperReportRegistry, ApplicationProperties applicationProperties) {
+    super(restUtils, jasperReportRegistry);
+    this.applicationProperties = applicationProperties;
+    this.bulkReportExecutor = new EnhancedQueueExecutor.Builder()
+        .setThreadFactory(new ThreadFactoryBuilder().withNameFormat("bulk-report-executor-%d").get())
+        .setCorePoolSize(applicationProperties.getBulkReportParallelism()).setMaximumPoolSize(applicationProperties.getBulkReportParallelism())
+        .setKeepAliveTime(Duration.ofSeconds(60)).build();
+  }
+
+  @PreDestroy
+  public void close() {
+    this.bulkReportExecutor.shutdown();
+  }
+
+  /**
+   * @param items       one zip entry is written per item
+   * @param filename    the name of the item's entry in the zip
+   * @param reportNode  creates the item's report node, called on the request thread
+   * @param reportName  the {@link JasperReportRegistry} template every entry is filled from
+   */
+  public <T> void streamReportZip(String zipFilename, List<T> items, Function<T, String> filename, Function<T, Object> reportNode, String reportName, HttpServletResponse response) throws IOException {
+    int maxPending = applicationProperties.getBulkReportParallelism() * 2;
+    Deque<PendingReport> pending = new ArrayDeque<>();
+    response.setContentType(ZIP_CONTENT_TYPE);
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipFilename + "\"");
+    response.setBufferSize(ZIP_BUFFER_SIZE);
+    try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(response.getOutputStream(), ZIP_BUFFER_SIZE))) {
+      Iterator<T> toSubmit = items.iterator();
+      while (toSubmit.hasNext() || !pending.isEmpty()) {
+        while (toSubmit.hasNext() && pending.size() < maxPending) {
+          T item = toSubmit.next();
+          try {
+            Object node = reportNode.apply(item);
+            pending.add(new PendingReport(filename.apply(item), bulkReportExecutor.submit(() -> exportReportToPdf(node, reportName))));
+          } catch (RuntimeException e) {
+            log.error("Skipping entry in report zip {}, its report could not be created :: {}", zipFilename, e.getMessage(), e);
+          }
+        }
+        PendingReport report = pending.poll();
+        if (report == null) {
+          continue;
+        }
+        byte[] pdf = awaitPdf(report);
+        if (pdf == null) {
+          continue;
+        }
+        zos.putNextEntry(new ZipEntry(report.filename));
+        zos.write(pdf);
+        zos.closeEntry();
+        log.debug("Added {} to report zip {}", report.filename, zipFilename);
+      }
+      zos.finish();
+    } finally {
+      pending.forEach(report -> report.pdf.cancel(true));
+    }
+  }
+
+  public String getZipFilename(String reportTypeCode, String qualifier) {
+    return reportTypeCode + "-" + qualifier + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".zip";
+  }
+
+  /**
+   * Pages beyond the configured limit are swapped to a temp file while the report is filled and exported, so one
+   * large print does not take the heap the other threads are filling into.
+   */
+  private byte[] exportReportToPdf(Object reportNode, String reportName) throws JRException {
+    var swapFile = new JRSwapFile(System.getProperty("java.io.tmpdir"), SWAP_BLOCK_SIZE, SWAP_MIN_GROW_COUNT);
+    var virtualizer = new JRSwapFileVirtualizer(applicationProperties.getBulkReportVirtualizerMaxPages(), swapFile, true);
+    try {
+      var jasperPrint = fillJasperReport(reportNode, reportName, virtualizer);
+      virtualizer.setReadOnly(true);
+      return JasperExportManager.exportReportToPdf(jasperPrint);
+    } finally {
+      virtualizer.cleanup();
+    }
+  }
+
+  /**
+   * @return the report's PDF, or null if it could not be written. The response has already started by now, so a
+   * failed entry is left out of the zip rather than failing the whole download.
+   */
+  private byte[] awaitPdf(PendingReport report) {
+    try {
+      return report.pdf.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StudentAssessmentAPIRuntimeException("Interrupted while writing PDF reports");
+    } catch (ExecutionException e) {
+      log.error("Skipping {} in report zip, exception occurred while writing PDF report :: {}", report.filename, e.getCause().getMessage(), e.getCause());
+      return null;
+    }
+  }
+
+  private static final class PendingReport {
+    private final String filename;
+    private final Future<byte[]> pdf;
+
+    private PendingReport(String filename, Future<byte[]> pdf) {
+      this.filename = filename;
+      this.pdf = pdf;
+    }
+  }
+}
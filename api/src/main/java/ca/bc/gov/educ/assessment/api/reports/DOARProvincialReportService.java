@@ -4,25 +4,18 @@ import ca.bc.gov.educ.assessment.api.constants.v1.AssessmentTypeCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.StudentStatusCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentReportTypeCode;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
-import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportResponse;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.doar.*;
-import ca.bc.gov.educ.assessment.api.util.TextNormalizer;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperReport;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -45,7 +38,6 @@ public class DOARProvincialReportService extends BaseReportGenerationService {
   private final AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
   private final StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository;
   private final RestUtils restUtils;
-  private JasperReport doarSummaryReport;
   private static final String NME10= "NME10";
   private static final String NMF10= "NMF10";
   private static final String LTE10= "LTE10";
@@ -55,8 +47,8 @@ public class DOARProvincialReportService extends BaseReportGenerationService {
   private static final String LTF12= "LTF12";
   private static final String PROVINCE = "Province";
 
-  public DOARProvincialReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, StagedAssessmentStudentLightRepository stagedAssessmentStudentLightRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository, RestUtils restUtils) {
-    super(restUtils);
+  public DOARProvincialReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, StagedAssessmentStudentLightRepository stagedAssessmentStudentLightRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository, RestUtils restUtils, JasperReportRegistry jasperReportRegistry) {
+    super(restUtils, jasperReportRegistry);
     this.assessmentSessionRepository = assessmentSessionRepository;
     this.assessmentStudentLightRepository = assessmentStudentLightRepository;
     this.stagedAssessmentStudentLightRepository = stagedAssessmentStudentLightRepository;
@@ -65,24 +57,6 @@ public class DOARProvincialReportService extends BaseReportGenerationService {
     this.restUtils = restUtils;
   }
 
-  @PostConstruct
-  public void init() {
-    ApplicationProperties.bgTask.execute(this::initialize);
-  }
-
-  private void initialize() {
-    this.compileJasperReports();
-  }
-
-  private void compileJasperReports(){
-    try {
-      InputStream inputHeadcount = getClass().getResourceAsStream("/reports/doarProvincialSummary.jrxml");
-      doarSummaryReport = JasperCompileManager.compileReport(inputHeadcount);
-    } catch (JRException e) {
-      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
-    }
-  }
-
   public boolean isDOARProvincialSummaryAvailable(UUID assessmentSessionID) {
     var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
     if (session.getCompletionDate() == null) {
@@ -92,27 +66,27 @@ public class DOARProvincialReportService extends BaseReportGenerationService {
   }
 
   public DownloadableReportResponse generateDOARProvincialReport(UUID assessmentSessionID){
-    try {
-      DOARSummaryNode doarSummaryNode = new DOARSummaryNode();
-      doarSummaryNode.setReports(new ArrayList<>());
-      var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
-
-      if(session.getCompletionDate() == null) {
-        var students = stagedAssessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, List.of(StudentStatusCodes.ACTIVE.getCode(), StudentStatusCodes.MERGED.getCode()), "X");
-        setStudentLevelsForStaging(students, doarSummaryNode, session);
-      } else {
-        var students = assessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, StudentStatusCodes.ACTIVE.getCode(), "X");
-        setStudentLevels(students, doarSummaryNode, session);
-      }
-
-      var normalized = TextNormalizer.normalizeObject(doarSummaryNode);
-      var payload = objectWriter.writeValueAsString(normalized);
-      return generateJasperReport(payload, doarSummaryReport, AssessmentReportTypeCode.DOAR_SUMMARY.getCode());
-    }
-    catch (JsonProcessingException e) {
-      log.error("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
+    return generateJasperReport(createDOARProvincialReportNode(assessmentSessionID), JasperReportRegistry.DOAR_PROVINCIAL_SUMMARY, AssessmentReportTypeCode.DOAR_SUMMARY.getCode());
+  }
+
+  public void streamDOARProvincialReport(UUID assessmentSessionID, HttpServletResponse response) throws IOException {
+    streamJasperReport(createDOARProvincialReportNode(assessmentSessionID), JasperReportRegistry.DOAR_PROVINCIAL_SUMMARY, getPdfFilename(AssessmentReportTypeCode.DOAR_PROVINCIAL_SUMMARY.getCode()), response);
+  }
+
+  private DOARSummaryNode createDOARProvincialReportNode(UUID assessmentSessionID){
+    DOARSummaryNode doarSummaryNode = new DOARSummaryNode();
+    doarSummaryNode.setReports(new ArrayList<>());
+    var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
+
+    if(session.getCompletionDate() == null) {
+      var students = stagedAssessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, List.of(StudentStatusCodes.ACTIVE.getCode(), StudentStatusCodes.MERGED.getCode()), "X");
+      setStudentLevelsForStaging(students, doarSummaryNode, session);
+    } else {
+      var students = assessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, StudentStatusCodes.ACTIVE.getCode(), "X");
+      setStudentLevels(students, doarSummaryNode, session);
     }
+
+    return doarSummaryNode;
   }
 
   private void setStudentLevelsForStaging(List<StagedAssessmentStudentLightEntity> students, DOARSummaryNode doarSummaryNode, AssessmentSessionEntity session) {
@@ -910,10 +884,7 @@ public class DOARProvincialReportService extends BaseReportGenerationService {
   }
 
   private List<SchoolTombstone> getSchoolsInProvince() {
-    var schools = restUtils.getAllSchoolTombstones();
-      return schools.stream().filter(school -> school.getSchoolCategoryCode().equalsIgnoreCase(PUBLIC.getCode())
-              || school.getSchoolCategoryCode().equalsIgnoreCase(YUKON.getCode()) ||  school.getSchoolCategoryCode().equalsIgnoreCase(INDEPEND.getCode())
-              ||  school.getSchoolCategoryCode().equalsIgnoreCase(INDP_FNS.getCode()) || school.getSchoolCategoryCode().equalsIgnoreCase(OFFSHORE.getCode())).toList();
+    return restUtils.getSchoolsBySchoolCategoryCodes(PROVINCIAL);
   }
 
   private String getReportTitle(String assessmentTypeCode) {
@@ -6,29 +6,23 @@ import ca.bc.gov.educ.assessment.api.constants.v1.StudentStatusCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentReportTypeCode;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.exception.PreconditionRequiredException;
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentDOARCalculationEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentLightEntity;
-import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentDOARCalculationRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentLightRepository;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
+import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.District;
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportResponse;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.doar.*;
-import ca.bc.gov.educ.assessment.api.util.TextNormalizer;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperReport;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -49,7 +43,7 @@ public class DOARSummaryReportService extends BaseReportGenerationService {
   private final AssessmentStudentLightRepository assessmentStudentLightRepository;
   private final AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
   private final RestUtils restUtils;
-  private JasperReport doarSummaryReport;
+  private final BulkReportService bulkReportService;
   private static final String INDEPENDENT= "Independent";
   private static final String DISTRICT= "District";
   private static final String SCHOOL= "School";
@@ -63,30 +57,13 @@ public class DOARSummaryReportService extends BaseReportGenerationService {
   private static final String LTP12= "LTP12";
   private static final String LTF12= "LTF12";
 
-  public DOARSummaryReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, RestUtils restUtils) {
-    super(restUtils);
+  public DOARSummaryReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, RestUtils restUtils, JasperReportRegistry jasperReportRegistry, BulkReportService bulkReportService) {
+    super(restUtils, jasperReportRegistry);
     this.assessmentSessionRepository = assessmentSessionRepository;
     this.assessmentStudentLightRepository = assessmentStudentLightRepository;
     this.assessmentStudentDOARCalculationRepository = assessmentStudentDOARCalculationRepository;
     this.restUtils = restUtils;
-  }
-
-  @PostConstruct
-  public void init() {
-    ApplicationProperties.bgTask.execute(this::initialize);
-  }
-
-  private void initialize() {
-    this.compileJasperReports();
-  }
-
-  private void compileJasperReports(){
-    try {
-      InputStream inputHeadcount = getClass().getResourceAsStream("/reports/doarSummary.jrxml");
-      doarSummaryReport = JasperCompileManager.compileReport(inputHeadcount);
-    } catch (JRException e) {
-      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
-    }
+    this.bulkReportService = bulkReportService;
   }
 
   public boolean isDOARSummaryAvailable(UUID sessionID, UUID schoolID) {
@@ -94,10 +71,8 @@ public class DOARSummaryReportService extends BaseReportGenerationService {
   }
 
   public List<UUID> getDistrictSchoolIDsWithResults(UUID sessionID, UUID districtID) {
-    var schoolTombstones = restUtils.getAllSchoolTombstones();
-    List<UUID> districtSchoolIDs = schoolTombstones.stream()
+    List<UUID> districtSchoolIDs = restUtils.getSchoolsByDistrictID(districtID.toString()).stream()
             .filter(school -> StringUtils.isNotBlank(school.getSchoolId()))
-            .filter(school -> districtID.toString().equalsIgnoreCase(school.getDistrictId()))
             .filter(school -> StringUtils.isBlank(school.getIndependentAuthorityId()))
             .filter(school -> !INDEPENDENTS_AND_OFFSHORE.contains(school.getSchoolCategoryCode()))
             .map(school -> UUID.fromString(school.getSchoolId()))
@@ -109,51 +84,76 @@ public class DOARSummaryReportService extends BaseReportGenerationService {
   }
 
   public DownloadableReportResponse generateDOARSummaryReport(UUID assessmentSessionID, UUID schoolID){
-    try {
-      var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
-      var students = assessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, StudentStatusCodes.ACTIVE.getCode(), "X");
-      var school = validateAndReturnSchool(schoolID);
-
-      boolean schoolHasAnyResult = students.stream().anyMatch(student -> Objects.equals(student.getSchoolAtWriteSchoolID(), schoolID));
-      if(!schoolHasAnyResult){
-        throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
-      }
-      boolean isIndependent = school.getIndependentAuthorityId() != null;
-      DOARSummaryNode doarSummaryNode = new DOARSummaryNode();
-      doarSummaryNode.setReports(new ArrayList<>());
-
-      var studentsByAssessment = organizeStudentsInEachAssessment(students);
-      studentsByAssessment.entrySet().stream()
-        .sorted(Comparator.comparingInt(e -> AssessmentTypeCodes.sortOrderFor(e.getKey())))
-        .forEach(entry -> {
-          var studentList = entry.getValue();
-          var assessmentType = entry.getKey();
-          boolean schoolHasResult = studentList.stream().anyMatch(student -> Objects.equals(student.getSchoolAtWriteSchoolID(), UUID.fromString(school.getSchoolId())));
-          if(!studentList.isEmpty() && schoolHasResult) {
-            DOARSummaryPage doarSummaryPage = new DOARSummaryPage();
-            setReportTombstoneValues(session, doarSummaryPage, assessmentType, school);
-            doarSummaryPage.setProficiencySection(new ArrayList<>());
-            doarSummaryPage.setTaskScore(new ArrayList<>());
-            doarSummaryPage.setComprehendScore(new ArrayList<>());
-            doarSummaryPage.setCommunicateScore(new ArrayList<>());
-            doarSummaryPage.setCommunicateOralScore(new ArrayList<>());
-            doarSummaryPage.setNumeracyScore(new ArrayList<>());
-            doarSummaryPage.setCognitiveLevelScore(new ArrayList<>());
-
-            setProficiencyLevels(studentList, isIndependent, school, doarSummaryPage, assessmentType);
-            setAssessmentRawScores(studentList, isIndependent, school, doarSummaryPage, assessmentType);
-
-            doarSummaryNode.getReports().add(doarSummaryPage);
-          }
-      });
-      var normalized = TextNormalizer.normalizeObject(doarSummaryNode);
-      var payload = objectWriter.writeValueAsString(normalized);
-      return generateJasperReport(payload, doarSummaryReport, AssessmentReportTypeCode.DOAR_SUMMARY.getCode());
+    return generateJasperReport(createDOARSummaryReportNode(assessmentSessionID, schoolID), JasperReportRegistry.DOAR_SUMMARY, AssessmentReportTypeCode.DOAR_SUMMARY.getCode());
+  }
+
+  public void streamDOARSummaryReport(UUID assessmentSessionID, UUID schoolID, HttpServletResponse response) throws IOException {
+    streamJasperReport(createDOARSummaryReportNode(assessmentSessionID, schoolID), JasperReportRegistry.DOAR_SUMMARY, getPdfFilename(AssessmentReportTypeCode.DOAR_SUMMARY.getCode()), response);
+  }
+
+  /**
+   * Zips the DOAR summary of every school in the district with results in the session. The session's students are
+   * read once and shared by all the schools' summaries.
+   */
+  public void streamDOARSummaryReportsForDistrict(UUID assessmentSessionID, UUID districtID, HttpServletResponse response) throws IOException {
+    var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
+    var district = restUtils.getDistrictByDistrictID(districtID.toString()).orElseThrow(() -> new EntityNotFoundException(District.class, "districtID", districtID.toString()));
+    var schoolIDs = getDistrictSchoolIDsWithResults(assessmentSessionID, districtID);
+    if(schoolIDs.isEmpty()){
+      throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
     }
-    catch (JsonProcessingException e) {
-      log.error("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
+    var students = findStudentsWithResults(assessmentSessionID);
+    bulkReportService.streamReportZip(bulkReportService.getZipFilename(AssessmentReportTypeCode.DOAR_SUMMARY.getCode(), district.getDistrictNumber()), schoolIDs,
+        schoolID -> AssessmentReportTypeCode.DOAR_SUMMARY.getCode() + " - " + validateAndReturnSchool(schoolID).getMincode() + ".pdf",
+        schoolID -> createDOARSummaryReportNode(session, students, schoolID),
+        JasperReportRegistry.DOAR_SUMMARY, response);
+  }
+
+  private DOARSummaryNode createDOARSummaryReportNode(UUID assessmentSessionID, UUID schoolID){
+    var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
+    return createDOARSummaryReportNode(session, findStudentsWithResults(assessmentSessionID), schoolID);
+  }
+
+  private List<AssessmentStudentLightEntity> findStudentsWithResults(UUID assessmentSessionID) {
+    return assessmentStudentLightRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeAndProficiencyScoreIsNotNullOrProvincialSpecialCaseCode(assessmentSessionID, StudentStatusCodes.ACTIVE.getCode(), "X");
+  }
+
+  private DOARSummaryNode createDOARSummaryReportNode(AssessmentSessionEntity session, List<AssessmentStudentLightEntity> students, UUID schoolID){
+    var school = validateAndReturnSchool(schoolID);
+
+    boolean schoolHasAnyResult = students.stream().anyMatch(student -> Objects.equals(student.getSchoolAtWriteSchoolID(), schoolID));
+    if(!schoolHasAnyResult){
+      throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
     }
+    boolean isIndependent = school.getIndependentAuthorityId() != null;
+    DOARSummaryNode doarSummaryNode = new DOARSummaryNode();
+    doarSummaryNode.setReports(new ArrayList<>());
+
+    var studentsByAssessment = organizeStudentsInEachAssessment(students);
+    studentsByAssessment.entrySet().stream()
+      .sorted(Comparator.comparingInt(e -> AssessmentTypeCodes.sortOrderFor(e.getKey())))
+      .forEach(entry -> {
+        var studentList = entry.getValue();
+        var assessmentType = entry.getKey();
+        boolean schoolHasResult = studentList.stream().anyMatch(student -> Objects.equals(student.getSchoolAtWriteSchoolID(), UUID.fromString(school.getSchoolId())));
+        if(!studentList.isEmpty() && schoolHasResult) {
+          DOARSummaryPage doarSummaryPage = new DOARSummaryPage();
+          setReportTombstoneValues(session, doarSummaryPage, assessmentType, school);
+          doarSummaryPage.setProficiencySection(new ArrayList<>());
+          doarSummaryPage.setTaskScore(new ArrayList<>());
+          doarSummaryPage.setComprehendScore(new ArrayList<>());
+          doarSummaryPage.setCommunicateScore(new ArrayList<>());
+          doarSummaryPage.setCommunicateOralScore(new ArrayList<>());
+          doarSummaryPage.setNumeracyScore(new ArrayList<>());
+          doarSummaryPage.setCognitiveLevelScore(new ArrayList<>());
+
+          setProficiencyLevels(studentList, isIndependent, school, doarSummaryPage, assessmentType);
+          setAssessmentRawScores(studentList, isIndependent, school, doarSummaryPage, assessmentType);
+
+          doarSummaryNode.getReports().add(doarSummaryPage);
+        }
+    });
+    return doarSummaryNode;
   }
   
   private HashMap<String, List<AssessmentStudentLightEntity>> organizeStudentsInEachAssessment(List<AssessmentStudentLightEntity> students) {
@@ -793,17 +793,12 @@ public class DOARSummaryReportService extends BaseReportGenerationService {
   }
 
   private List<SchoolTombstone> getSchoolsByLevel(String level, String districtOrAuthorityID) {
-    var schools = restUtils.getAllSchoolTombstones();
     return switch (level) {
-      case DISTRICT -> schools.stream().filter(school -> school.getDistrictId().equals(districtOrAuthorityID) && StringUtils.isBlank(school.getIndependentAuthorityId())
+      case DISTRICT -> restUtils.getSchoolsByDistrictID(districtOrAuthorityID).stream().filter(school -> StringUtils.isBlank(school.getIndependentAuthorityId())
               && (school.getSchoolCategoryCode().equalsIgnoreCase(PUBLIC) || school.getSchoolCategoryCode().equalsIgnoreCase(YUKON.getCode()))).toList();
-      case INDEPENDENT -> schools.stream().filter(school -> StringUtils.isNotBlank(school.getIndependentAuthorityId()) && (school.getSchoolCategoryCode().equalsIgnoreCase(INDEPEND.getCode())
-              ||  school.getSchoolCategoryCode().equalsIgnoreCase(INDP_FNS.getCode()))).toList();
-      case PUBLIC -> schools.stream().filter(school -> school.getSchoolCategoryCode().equalsIgnoreCase(PUBLIC)
-              || school.getSchoolCategoryCode().equalsIgnoreCase(YUKON.getCode())).toList();
-      case "Province" -> schools.stream().filter(school -> school.getSchoolCategoryCode().equalsIgnoreCase(PUBLIC)
-              || school.getSchoolCategoryCode().equalsIgnoreCase(YUKON.getCode()) ||  school.getSchoolCategoryCode().equalsIgnoreCase(INDEPEND.getCode())
-              ||  school.getSchoolCategoryCode().equalsIgnoreCase(INDP_FNS.getCode()) || school.getSchoolCategoryCode().equalsIgnoreCase(OFFSHORE.getCode())).toList();
+      case INDEPENDENT -> restUtils.getSchoolsBySchoolCategoryCodes(INDEPENDENTS).stream().filter(school -> StringUtils.isNotBlank(school.getIndependentAuthorityId())).toList();
+      case PUBLIC -> restUtils.getSchoolsBySchoolCategoryCodes(PUBLIC_AND_YUKON);
+      case "Province" -> restUtils.getSchoolsBySchoolCategoryCodes(PROVINCIAL);
 
       default -> Collections.emptyList();
     };
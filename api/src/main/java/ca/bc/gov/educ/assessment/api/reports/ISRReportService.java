@@ -6,10 +6,8 @@ import ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentStudentRepor
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.exception.InvalidPayloadException;
 import ca.bc.gov.educ.assessment.api.exception.PreconditionRequiredException;
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.exception.errors.ApiError;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
-import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
 import ca.bc.gov.educ.assessment.api.service.v1.CodeTableService;
@@ -18,20 +16,13 @@ import ca.bc.gov.educ.assessment.api.struct.external.studentapi.v1.Student;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportResponse;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.isr.*;
 import ca.bc.gov.educ.assessment.api.util.PenUtil;
-import ca.bc.gov.educ.assessment.api.util.TextNormalizer;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.nimbusds.jose.util.Pair;
-import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperReport;
-import net.sf.jasperreports.engine.util.JRSaver;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.io.InputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -56,78 +47,32 @@ public class ISRReportService extends BaseReportGenerationService {
   private final AssessmentStudentComponentRepository assessmentStudentComponentRepository;
   private final RestUtils restUtils;
   private final CodeTableService codeTableService;
-  private JasperReport isrReport;
+  private final BulkReportService bulkReportService;
 
-  public ISRReportService(AssessmentQuestionRepository assessmentQuestionRepository, AssessmentStudentAnswerRepository assessmentStudentAnswerRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentComponentRepository assessmentStudentComponentRepository, RestUtils restUtils, CodeTableService codeTableService) {
-    super(restUtils);
+  public ISRReportService(AssessmentQuestionRepository assessmentQuestionRepository, AssessmentStudentAnswerRepository assessmentStudentAnswerRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentComponentRepository assessmentStudentComponentRepository, RestUtils restUtils, CodeTableService codeTableService, JasperReportRegistry jasperReportRegistry, BulkReportService bulkReportService) {
+    super(restUtils, jasperReportRegistry);
     this.assessmentQuestionRepository = assessmentQuestionRepository;
     this.assessmentStudentAnswerRepository = assessmentStudentAnswerRepository;
     this.assessmentStudentRepository = assessmentStudentRepository;
     this.assessmentStudentComponentRepository = assessmentStudentComponentRepository;
     this.restUtils = restUtils;
     this.codeTableService = codeTableService;
+    this.bulkReportService = bulkReportService;
   }
 
-  @PostConstruct
-  public void init() {
-    ApplicationProperties.bgTask.execute(this::initialize);
-  }
-
-  private void initialize() {
-    this.compileJasperReports();
+  public boolean isStudentReportAvailable(UUID studentID) {
+    return assessmentStudentRepository.existsWrittenAssessmentsByStudentID(studentID);
   }
 
-  private void compileJasperReports(){
-    try {
-      String compiledReportsPath = System.getProperty("java.io.tmpdir") + "/jasper-reports/";
-      File compiledDir = new File(compiledReportsPath);
-      if (!compiledDir.exists()) {
-        compiledDir.mkdirs();
-      }
-
-      InputStream subReport1 = getClass().getResourceAsStream("/reports/lte10summary.jrxml");
-      JasperReport compiled1 = JasperCompileManager.compileReport(subReport1);
-      JRSaver.saveObject(compiled1, compiledReportsPath + "lte10summary.jasper");
-      
-      InputStream subReport2 = getClass().getResourceAsStream("/reports/lte12summary.jrxml");
-      JasperReport compiled2 = JasperCompileManager.compileReport(subReport2);
-      JRSaver.saveObject(compiled2, compiledReportsPath + "lte12summary.jasper");
-      
-      InputStream subReport3 = getClass().getResourceAsStream("/reports/ltp10summary.jrxml");
-      JasperReport compiled3 = JasperCompileManager.compileReport(subReport3);
-      JRSaver.saveObject(compiled3, compiledReportsPath + "ltp10summary.jasper");
-      
-      InputStream subReport4 = getClass().getResourceAsStream("/reports/ltp12summary.jrxml");
-      JasperReport compiled4 = JasperCompileManager.compileReport(subReport4);
-      JRSaver.saveObject(compiled4, compiledReportsPath + "ltp12summary.jasper");
-      
-      InputStream subReport5 = getClass().getResourceAsStream("/reports/ltf12summary.jrxml");
-      JasperReport compiled5 = JasperCompileManager.compileReport(subReport5);
-      JRSaver.saveObject(compiled5, compiledReportsPath + "ltf12summary.jasper");
-      
-      InputStream subReport6 = getClass().getResourceAsStream("/reports/nme10summary.jrxml");
-      JasperReport compiled6 = JasperCompileManager.compileReport(subReport6);
-      JRSaver.saveObject(compiled6, compiledReportsPath + "nme10summary.jasper");
-      
-      InputStream subReport7 = getClass().getResourceAsStream("/reports/nmf10summary.jrxml");
-      JasperReport compiled7 = JasperCompileManager.compileReport(subReport7);
-      JRSaver.saveObject(compiled7, compiledReportsPath + "nmf10summary.jasper");
-
-      InputStream report = getClass().getResourceAsStream("/reports/isrMain.jrxml");
-      isrReport = JasperCompileManager.compileReport(report);
-    } catch (JRException e) {
-      log.error("JRException: ", e);
-      log.error("JRException: ", e.getMessage());
-      e.printStackTrace();
-      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
-    }
+  public DownloadableReportResponse generateIndividualStudentReportByPEN(String pen){
+    return generateIndividualStudentReport(getStudentIDByPEN(pen));
   }
 
-  public boolean isStudentReportAvailable(UUID studentID) {
-    return assessmentStudentRepository.existsWrittenAssessmentsByStudentID(studentID);
+  public void streamIndividualStudentReportByPEN(String pen, HttpServletResponse response) throws IOException {
+    streamIndividualStudentReport(getStudentIDByPEN(pen), response);
   }
 
-  public DownloadableReportResponse generateIndividualStudentReportByPEN(String pen){
+  private UUID getStudentIDByPEN(String pen){
     if(!PenUtil.validCheckDigit(pen)){
       ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid PEN").status(BAD_REQUEST).build();
       throw new InvalidPayloadException(error);
@@ -137,88 +82,104 @@ public class ISRReportService extends BaseReportGenerationService {
       ApiError error = ApiError.builder().timestamp(LocalDateTime.now()).message("Payload contains invalid PEN").status(BAD_REQUEST).build();
       throw new InvalidPayloadException(error);
     }
-    return generateIndividualStudentReport(UUID.fromString(student.get().getStudentID()));
+    return UUID.fromString(student.get().getStudentID());
   }
 
   public DownloadableReportResponse generateIndividualStudentReport(UUID studentID){
-    try {
-      var studentAssessments = assessmentStudentRepository.findAllWrittenAssessmentsForStudent(studentID);
-      if(studentAssessments.isEmpty()){
-        log.warn("No assessments were found for student with ID :: " + studentID);
-        throw new PreconditionRequiredException(Student.class, "No assessments were found for student with ID :: ", studentID.toString());
-      }
-      var gradStudentRecord = restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), studentID).orElseThrow(() -> new EntityNotFoundException(GradStudentRecord.class, "studentID", studentID.toString()));
-      var students = restUtils.getStudents(UUID.randomUUID(), Set.of(studentID.toString()));
-      if(students.isEmpty()){
-        log.error("Student could not be found while writing PDF report :: " + studentID);
-        throw new EntityNotFoundException(Student.class, "Student could not be found while writing PDF report :: ", studentID.toString());
-      }
-      
-      var student = students.get(0);
-      
-      ISRRootNode isrRootNode = new ISRRootNode();
-      ISRReportNode reportNode = new ISRReportNode();
-      setReportTombstoneValues(UUID.fromString(gradStudentRecord.getSchoolOfRecordId()), reportNode, student.getPen(), student.getLegalLastName() + ", " + student.getLegalFirstName());
-      isrRootNode.setReport(reportNode);
-      reportNode.setAssessments(new ArrayList<>());
-      reportNode.setAssessmentDetails(new ArrayList<>());
-      var assessmentTypes = codeTableService.getAllAssessmentTypeCodesAsMap();
-
-      studentAssessments.forEach((assessmentStudent) -> {
-        ISRAssessmentSummary assessmentSummary = new ISRAssessmentSummary();
-        assessmentSummary.setSession(assessmentStudent.getAssessmentEntity().getAssessmentSessionEntity().getCourseYear() + "/" + assessmentStudent.getAssessmentEntity().getAssessmentSessionEntity().getCourseMonth());
-        assessmentSummary.setScore(getProficiencyScore(assessmentStudent.getProficiencyScore(), getReportLanguage(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode())));
-        assessmentSummary.setSpecialCase(StringUtils.isNotBlank(assessmentStudent.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(assessmentStudent.getProvincialSpecialCaseCode()).get().getDescription() : "");
-        assessmentSummary.setAssessment(assessmentTypes.get(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()));
-        assessmentSummary.setAssessmentCode(getAssessmentCodeValue(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()));
-        reportNode.getAssessments().add(assessmentSummary);
-
-        if(assessmentStudent.getProficiencyScore() != null) {
-          var questions = assessmentQuestionRepository.findByAssessmentComponentEntity_AssessmentFormEntity_AssessmentFormID(assessmentStudent.getAssessmentFormID());
-          var studentAnswers = assessmentStudentAnswerRepository.findAllByAssessmentStudentComponentEntity_AssessmentStudentEntity_AssessmentStudentID_AndAssessmentQuestionIDIsNotNull(assessmentStudent.getAssessmentStudentID());
-          log.debug("Main questions size is: " + questions.size());
-          log.debug("Main question IDs are: " + questions.stream().map(AssessmentQuestionEntity::getAssessmentQuestionID).toList());
-          log.debug("About to populate assessment type {} with ID {}", assessmentStudent.getAssessmentEntity().getAssessmentTypeCode(), assessmentStudent.getAssessmentEntity().getAssessmentID());
-          
-          switch (assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()) {
-            case "LTE10":
-              reportNode.getAssessmentDetails().add(populateLTE10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
-              break;
-            case "LTE12":
-              reportNode.getAssessmentDetails().add(populateLTE12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
-              break;
-            case "LTF12":
-              assessmentSummary.setScore(getLTFProficiencyScore(assessmentStudent.getProficiencyScore()));
-              reportNode.getAssessmentDetails().add(populateLTF12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
-              break;
-            case "LTP10":
-              reportNode.getAssessmentDetails().add(populateLTP10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
-              break;
-            case "LTP12":
-              reportNode.getAssessmentDetails().add(populateLTP12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
-              break;
-            case "NME":
-            case "NME10":
-              reportNode.getAssessmentDetails().add(populateNME10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent));
-              break;
-            case "NMF":
-            case "NMF10":
-              assessmentSummary.setScore(getLTFProficiencyScore(assessmentStudent.getProficiencyScore()));
-              reportNode.getAssessmentDetails().add(populateNMF10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent));
-              break;
-          }
-        }
-      });
-
-      var normalized = TextNormalizer.normalizeObject(isrRootNode);
-      var payload = objectWriter.writeValueAsString(normalized);
-      log.info("Payload for ISR is: " + payload);
-      
-      return generateJasperReport(payload, isrReport, AssessmentStudentReportTypeCode.ISR.getCode());
-    } catch (JsonProcessingException e) {
-      log.error("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
+    return generateJasperReport(createIndividualStudentReportNode(studentID), JasperReportRegistry.ISR_MAIN, AssessmentStudentReportTypeCode.ISR.getCode());
+  }
+
+  public void streamIndividualStudentReport(UUID studentID, HttpServletResponse response) throws IOException {
+    streamJasperReport(createIndividualStudentReportNode(studentID), JasperReportRegistry.ISR_MAIN, getPdfFilename(AssessmentStudentReportTypeCode.ISR.getCode()), response);
+  }
+
+  /**
+   * Zips the ISR of every student who wrote an assessment at the school in the session.
+   */
+  public void streamIndividualStudentReportsForSchool(UUID assessmentSessionID, UUID schoolID, HttpServletResponse response) throws IOException {
+    var school = validateAndReturnSchool(schoolID);
+    Map<UUID, String> studentPENs = new LinkedHashMap<>();
+    assessmentStudentRepository.findAllWrittenAssessmentsBySessionIDAndSchoolID(assessmentSessionID, schoolID)
+        .forEach(student -> studentPENs.putIfAbsent(student.getStudentID(), student.getPen()));
+    if(studentPENs.isEmpty()){
+      throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", assessmentSessionID.toString());
+    }
+    bulkReportService.streamReportZip(bulkReportService.getZipFilename(AssessmentStudentReportTypeCode.ISR.getCode(), school.getMincode()), new ArrayList<>(studentPENs.keySet()),
+        studentID -> AssessmentStudentReportTypeCode.ISR.getCode() + " - " + studentPENs.get(studentID) + ".pdf",
+        this::createIndividualStudentReportNode,
+        JasperReportRegistry.ISR_MAIN, response);
+  }
+
+  private ISRRootNode createIndividualStudentReportNode(UUID studentID){
+    var studentAssessments = assessmentStudentRepository.findAllWrittenAssessmentsForStudent(studentID);
+    if(studentAssessments.isEmpty()){
+      log.warn("No assessments were found for student with ID :: " + studentID);
+      throw new PreconditionRequiredException(Student.class, "No assessments were found for student with ID :: ", studentID.toString());
+    }
+    var gradStudentRecord = restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), studentID).orElseThrow(() -> new EntityNotFoundException(GradStudentRecord.class, "studentID", studentID.toString()));
+    var students = restUtils.getStudents(UUID.randomUUID(), Set.of(studentID.toString()));
+    if(students.isEmpty()){
+      log.error("Student could not be found while writing PDF report :: " + studentID);
+      throw new EntityNotFoundException(Student.class, "Student could not be found while writing PDF report :: ", studentID.toString());
     }
+    
+    var student = students.get(0);
+    
+    ISRRootNode isrRootNode = new ISRRootNode();
+    ISRReportNode reportNode = new ISRReportNode();
+    setReportTombstoneValues(UUID.fromString(gradStudentRecord.getSchoolOfRecordId()), reportNode, student.getPen(), student.getLegalLastName() + ", " + student.getLegalFirstName());
+    isrRootNode.setReport(reportNode);
+    reportNode.setAssessments(new ArrayList<>());
+    reportNode.setAssessmentDetails(new ArrayList<>());
+    var assessmentTypes = codeTableService.getAllAssessmentTypeCodesAsMap();
+
+    studentAssessments.forEach((assessmentStudent) -> {
+      ISRAssessmentSummary assessmentSummary = new ISRAssessmentSummary();
+      assessmentSummary.setSession(assessmentStudent.getAssessmentEntity().getAssessmentSessionEntity().getCourseYear() + "/" + assessmentStudent.getAssessmentEntity().getAssessmentSessionEntity().getCourseMonth());
+      assessmentSummary.setScore(getProficiencyScore(assessmentStudent.getProficiencyScore(), getReportLanguage(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode())));
+      assessmentSummary.setSpecialCase(StringUtils.isNotBlank(assessmentStudent.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(assessmentStudent.getProvincialSpecialCaseCode()).get().getDescription() : "");
+      assessmentSummary.setAssessment(assessmentTypes.get(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()));
+      assessmentSummary.setAssessmentCode(getAssessmentCodeValue(assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()));
+      reportNode.getAssessments().add(assessmentSummary);
+
+      if(assessmentStudent.getProficiencyScore() != null) {
+        var questions = assessmentQuestionRepository.findByAssessmentComponentEntity_AssessmentFormEntity_AssessmentFormID(assessmentStudent.getAssessmentFormID());
+        var studentAnswers = assessmentStudentAnswerRepository.findAllByAssessmentStudentComponentEntity_AssessmentStudentEntity_AssessmentStudentID_AndAssessmentQuestionIDIsNotNull(assessmentStudent.getAssessmentStudentID());
+        log.debug("Main questions size is: " + questions.size());
+        log.debug("Main question IDs are: " + questions.stream().map(AssessmentQuestionEntity::getAssessmentQuestionID).toList());
+        log.debug("About to populate assessment type {} with ID {}", assessmentStudent.getAssessmentEntity().getAssessmentTypeCode(), assessmentStudent.getAssessmentEntity().getAssessmentID());
+        
+        switch (assessmentStudent.getAssessmentEntity().getAssessmentTypeCode()) {
+          case "LTE10":
+            reportNode.getAssessmentDetails().add(populateLTE10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
+            break;
+          case "LTE12":
+            reportNode.getAssessmentDetails().add(populateLTE12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
+            break;
+          case "LTF12":
+            assessmentSummary.setScore(getLTFProficiencyScore(assessmentStudent.getProficiencyScore()));
+            reportNode.getAssessmentDetails().add(populateLTF12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
+            break;
+          case "LTP10":
+            reportNode.getAssessmentDetails().add(populateLTP10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
+            break;
+          case "LTP12":
+            reportNode.getAssessmentDetails().add(populateLTP12Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent.getAssessmentStudentID()));
+            break;
+          case "NME":
+          case "NME10":
+            reportNode.getAssessmentDetails().add(populateNME10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent));
+            break;
+          case "NMF":
+          case "NMF10":
+            assessmentSummary.setScore(getLTFProficiencyScore(assessmentStudent.getProficiencyScore()));
+            reportNode.getAssessmentDetails().add(populateNMF10Assessment(assessmentSummary, questions, studentAnswers, assessmentStudent));
+            break;
+        }
+      }
+    });
+
+    return isrRootNode;
   }
   
   private LanguageCode getReportLanguage(String assessmentTypeCode){
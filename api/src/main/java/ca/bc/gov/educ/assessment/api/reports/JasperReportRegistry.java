@@ -0,0 +1,130 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.DefaultJasperReportsContext;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.JasperReportsContext;
+import net.sf.jasperreports.engine.SimpleJasperReportsContext;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.repo.ReportResource;
+import net.sf.jasperreports.repo.RepositoryService;
+import net.sf.jasperreports.repo.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds every report template in src/main/resources/reports, compiled once per pod and shared by the report services.
+ * A template that is already on the classpath as a compiled .jasper file is loaded instead of being compiled.
+ * The registry is also the Jasper repository of {@link #getJasperReportsContext()}, so a sub-report expression such as
+ * $P{SUBREPORT_DIR} + "lte10summary.jasper" resolves to the compiled report in memory instead of a file in java.io.tmpdir.
+ */
+@Component
+@Slf4j
+public class JasperReportRegistry implements RepositoryService {
+
+  public static final String SUBREPORT_DIR = "/reports/";
+  public static final String DOAR_PROVINCIAL_SUMMARY = "doarProvincialSummary";
+  public static final String DOAR_SUMMARY = "doarSummary";
+  public static final String ISR_MAIN = "isrMain";
+  public static final String SCHOOL_STUDENTS_BY_ASSESSMENT = "schoolStudentsByAssessment";
+  public static final String SCHOOL_STUDENTS_IN_SESSION = "schoolStudentsInSession";
+  private static final List<String> TEMPLATES = List.of(DOAR_PROVINCIAL_SUMMARY, DOAR_SUMMARY, ISR_MAIN, SCHOOL_STUDENTS_BY_ASSESSMENT, SCHOOL_STUDENTS_IN_SESSION,
+      "lte10summary", "lte12summary", "ltf12summary", "ltp10summary", "ltp12summary", "nme10summary", "nmf10summary");
+  private static final String COMPILED_REPORT_EXTENSION = ".jasper";
+
+  @Getter
+  private final JasperReportsContext jasperReportsContext;
+  private Map<String, CompletableFuture<JasperReport>> reports;
+  private ExecutorService compileExecutor;
+
+  public JasperReportRegistry() {
+    var context = new SimpleJasperReportsContext(DefaultJasperReportsContext.getInstance());
+    context.setExtensions(RepositoryService.class, List.of(this));
+    this.jasperReportsContext = context;
+  }
+
+  /**
+   * Templates are compiled in parallel off the startup thread; {@link #getReport(String)} waits for the one it needs.
+   * The compile threads are only kept until every template is compiled.
+   */
+  @PostConstruct
+  public void init() {
+    this.compileExecutor = Executors.newFixedThreadPool(Math.min(TEMPLATES.size(), Runtime.getRuntime().availableProcessors()), new ThreadFactoryBuilder().withNameFormat("jasper-compile-%d").get());
+    this.reports = TEMPLATES.stream().collect(Collectors.toUnmodifiableMap(Function.identity(), name -> CompletableFuture.supplyAsync(() -> loadReport(name), compileExecutor)));
+    CompletableFuture.allOf(reports.values().toArray(new CompletableFuture[0])).whenComplete((compiled, e) -> compileExecutor.shutdown());
+  }
+
+  public JasperReport getReport(String name) {
+    var report = reports.get(name);
+    if (report == null) {
+      throw new StudentAssessmentAPIRuntimeException("Jasper report is not registered :: " + name);
+    }
+    try {
+      return report.join();
+    } catch (CompletionException e) {
+      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getCause().getMessage());
+    }
+  }
+
+  @Override
+  public Resource getResource(String uri) {
+    return getResource(uri, ReportResource.class);
+  }
+
+  @Override
+  public void saveResource(String uri, Resource resource) {
+    throw new StudentAssessmentAPIRuntimeException("Jasper reports are read only :: " + uri);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <K extends Resource> K getResource(String uri, Class<K> resourceType) {
+    if (uri == null || !resourceType.isAssignableFrom(ReportResource.class) || !uri.endsWith(COMPILED_REPORT_EXTENSION)) {
+      return null;
+    }
+    var name = uri.substring(uri.lastIndexOf('/') + 1, uri.length() - COMPILED_REPORT_EXTENSION.length());
+    if (!reports.containsKey(name)) {
+      return null;
+    }
+    var resource = new ReportResource();
+    resource.setReport(getReport(name));
+    return (K) resource;
+  }
+
+  private JasperReport loadReport(String name) {
+    try (InputStream compiled = getClass().getResourceAsStream(SUBREPORT_DIR + name + COMPILED_REPORT_EXTENSION)) {
+      if (compiled != null) {
+        return (JasperReport) JRLoader.loadObject(compiled);
+      }
+      try (InputStream template = getClass().getResourceAsStream(SUBREPORT_DIR + name + ".jrxml")) {
+        log.debug("Compiling Jasper report {}", name);
+        return JasperCompileManager.getInstance(jasperReportsContext).compile(template);
+      }
+    } catch (JRException | IOException e) {
+      log.error("Compiling Jasper report {} has failed", name, e);
+      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    compileExecutor.shutdownNow();
+  }
+}
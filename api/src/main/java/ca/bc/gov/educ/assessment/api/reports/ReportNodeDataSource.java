@@ -0,0 +1,49 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.data.JsonDataSource;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Feeds a report straight from its node tree. The templates read their sub datasets through
+ * {@link JsonDataSource#subDataSource(String)}, so the tree is converted to a {@link JsonNode} in memory rather than
+ * written out as JSON text and parsed back again. Strings are NFC normalized while the tree is built, which keeps
+ * Indigenous language combining diacritics attached to their base characters.
+ */
+public class ReportNodeDataSource extends JsonDataSource {
+
+  private static final ObjectMapper REPORT_NODE_MAPPER = new ObjectMapper().registerModule(new SimpleModule().addSerializer(String.class, new NormalizingStringSerializer()));
+
+  private ReportNodeDataSource(JsonNode rootNode, String selectExpression) throws JRException {
+    super(rootNode, selectExpression);
+  }
+
+  public static ReportNodeDataSource of(Object reportNode, String selectExpression) throws JRException {
+    var dataSource = new ReportNodeDataSource(REPORT_NODE_MAPPER.valueToTree(reportNode), selectExpression);
+    dataSource.setDatePattern("yyyy-MM-dd");
+    dataSource.setNumberPattern("#,##0.##");
+    dataSource.setLocale(Locale.ENGLISH);
+    return dataSource;
+  }
+
+  private static class NormalizingStringSerializer extends StdScalarSerializer<String> {
+
+    private NormalizingStringSerializer() {
+      super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeString(Normalizer.normalize(value, Normalizer.Form.NFC));
+    }
+  }
+}
@@ -6,12 +6,10 @@ import ca.bc.gov.educ.assessment.api.constants.v1.SchoolReportingRequirementCode
 import ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentReportTypeCode;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.exception.PreconditionRequiredException;
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.StagedAssessmentStudentEntity;
-import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
@@ -24,27 +22,14 @@ import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.byAssessment.Scho
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.byAssessment.SchoolStudentReportNode;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.byAssessment.SchoolStudentRootNode;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentGradAssessmentNode;
-import ca.bc.gov.educ.assessment.api.util.TextNormalizer;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperReport;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 /**
  * Service class for generating School Students by Assessment Report
@@ -57,37 +42,20 @@ public class SchoolStudentsByAssessmentReportService extends BaseReportGeneratio
   private final AssessmentStudentRepository assessmentStudentRepository;
   private final RestUtils restUtils;
   private final CodeTableService codeTableService;
-  private JasperReport schoolStudentByAssessmentReport;
   private final StagedAssessmentStudentRepository stagedAssessmentStudentRepository;
+  private final BulkReportService bulkReportService;
 
-  public SchoolStudentsByAssessmentReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentRepository assessmentStudentRepository, RestUtils restUtils, CodeTableService codeTableService, StagedAssessmentStudentRepository stagedAssessmentStudentRepository) {
-    super(restUtils);
+  public SchoolStudentsByAssessmentReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentRepository assessmentStudentRepository, RestUtils restUtils, CodeTableService codeTableService, StagedAssessmentStudentRepository stagedAssessmentStudentRepository, JasperReportRegistry jasperReportRegistry, BulkReportService bulkReportService) {
+    super(restUtils, jasperReportRegistry);
     this.assessmentSessionRepository = assessmentSessionRepository;
     this.assessmentStudentRepository = assessmentStudentRepository;
     this.restUtils = restUtils;
     this.codeTableService = codeTableService;
     this.stagedAssessmentStudentRepository = stagedAssessmentStudentRepository;
+    this.bulkReportService = bulkReportService;
   }
 
-  @PostConstruct
-  public void init() {
-    ApplicationProperties.bgTask.execute(this::initialize);
-  }
-
-  private void initialize() {
-    this.compileJasperReports();
-  }
-
-  private void compileJasperReports(){
-    try {
-      InputStream inputHeadcount = getClass().getResourceAsStream("/reports/schoolStudentsByAssessment.jrxml");
-      schoolStudentByAssessmentReport = JasperCompileManager.compileReport(inputHeadcount);
-    } catch (JRException e) {
-      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
-    }
-  }
-
-  public ResponseEntity<InputStreamResource> generateReportForRandomSetOfSchoolsInSession(UUID assessmentSessionID){
+  public void streamReportForRandomSetOfSchoolsInSession(UUID assessmentSessionID, HttpServletResponse response) throws IOException {
     var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
 
     List<UUID> schoolsInSession;
@@ -101,30 +69,10 @@ public class SchoolStudentsByAssessmentReportService extends BaseReportGeneratio
     var schools = getRandomUUIDs(schoolsInSession, 20);
     log.info("Schools found to process: {} ", schools);
 
-    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-
-      for (UUID school : schools) {
-        DownloadableReportResponse report = generateSchoolStudentsByAssessmentReport(assessmentSessionID, school);
-        var schoolDetail = restUtils.getSchoolBySchoolID(school.toString());
-
-        ZipEntry zipEntry = new ZipEntry("SchoolStudentsInSession - " + schoolDetail.get().getMincode() + ".pdf");
-        zos.putNextEntry(zipEntry);
-        zos.write(Base64.getDecoder().decode(report.getDocumentData().getBytes()));
-        zos.closeEntry();
-      }
-      zos.finish();
-    } catch (IOException e) {
-      throw new StudentAssessmentAPIRuntimeException(e);
-    }
-
-    ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-    InputStreamResource resource = new InputStreamResource(bais);
-
-    return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reports.zip\"")
-            .header(HttpHeaders.CONTENT_TYPE, "application/zip")
-            .body(resource);
+    bulkReportService.streamReportZip("reports.zip", schools,
+        schoolID -> "SchoolStudentsInSession - " + validateAndReturnSchool(schoolID).getMincode() + ".pdf",
+        schoolID -> createSchoolStudentsByAssessmentReportNode(session, schoolID),
+        JasperReportRegistry.SCHOOL_STUDENTS_BY_ASSESSMENT, response);
   }
 
   public static List<UUID> getRandomUUIDs(List<UUID> uuids, int count) {
@@ -138,33 +86,25 @@ public class SchoolStudentsByAssessmentReportService extends BaseReportGeneratio
   }
 
   public DownloadableReportResponse generateSchoolStudentsByAssessmentReport(UUID assessmentSessionID, UUID schoolID){
-    try {
-      var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
-      
-      if(sessionIsApproved(session)) {
-        var students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(assessmentSessionID, schoolID, List.of("ACTIVE"));
+    var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
+    return generateJasperReport(createSchoolStudentsByAssessmentReportNode(session, schoolID), JasperReportRegistry.SCHOOL_STUDENTS_BY_ASSESSMENT, AssessmentReportTypeCode.SCHOOL_STUDENTS_BY_ASSESSMENT.getCode());
+  }
 
-        if(students.isEmpty()) {
-          throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
-        }
-        var schoolStudentRootNode = populateStudentForApproval(session, schoolID, students);
-        var normalized = TextNormalizer.normalizeObject(schoolStudentRootNode);
-        var payload = objectWriter.writeValueAsString(normalized);
-        return generateJasperReport(payload, schoolStudentByAssessmentReport, AssessmentReportTypeCode.SCHOOL_STUDENTS_BY_ASSESSMENT.getCode());
-      }else{
-        var students = stagedAssessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(assessmentSessionID, schoolID, List.of("ACTIVE", "MERGED"));
+  private SchoolStudentRootNode createSchoolStudentsByAssessmentReportNode(AssessmentSessionEntity session, UUID schoolID){
+    if(sessionIsApproved(session)) {
+      var students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(session.getSessionID(), schoolID, List.of("ACTIVE"));
+
+      if(students.isEmpty()) {
+        throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
+      }
+      return populateStudentForApproval(session, schoolID, students);
+    }else{
+      var students = stagedAssessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(session.getSessionID(), schoolID, List.of("ACTIVE", "MERGED"));
 
-        if(students.isEmpty()) {
-          throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
-        }
-        var schoolStudentRootNode = populateStudentForStaged(session, schoolID, students);
-        var normalized = TextNormalizer.normalizeObject(schoolStudentRootNode);
-        var payload = objectWriter.writeValueAsString(normalized);
-        return generateJasperReport(payload, schoolStudentByAssessmentReport, AssessmentReportTypeCode.SCHOOL_STUDENTS_BY_ASSESSMENT.getCode());
+      if(students.isEmpty()) {
+        throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
       }
-    } catch (JsonProcessingException e) {
-      log.error("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
+      return populateStudentForStaged(session, schoolID, students);
     }
   }
 
@@ -5,9 +5,7 @@ import ca.bc.gov.educ.assessment.api.constants.v1.SchoolReportingRequirementCode
 import ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentReportTypeCode;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.exception.PreconditionRequiredException;
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
-import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
@@ -18,17 +16,10 @@ import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolS
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentNode;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentReportNode;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentRootNode;
-import ca.bc.gov.educ.assessment.api.util.TextNormalizer;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperReport;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -43,84 +34,58 @@ public class SchoolStudentsInSessionReportService extends BaseReportGenerationSe
   private final AssessmentStudentRepository assessmentStudentRepository;
   private final RestUtils restUtils;
   private final CodeTableService codeTableService;
-  private JasperReport schoolStudentInSessionReport;
 
-  public SchoolStudentsInSessionReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentRepository assessmentStudentRepository, RestUtils restUtils, CodeTableService codeTableService) {
-    super(restUtils);
+  public SchoolStudentsInSessionReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentRepository assessmentStudentRepository, RestUtils restUtils, CodeTableService codeTableService, JasperReportRegistry jasperReportRegistry) {
+    super(restUtils, jasperReportRegistry);
     this.assessmentSessionRepository = assessmentSessionRepository;
     this.assessmentStudentRepository = assessmentStudentRepository;
     this.restUtils = restUtils;
     this.codeTableService = codeTableService;
   }
 
-  @PostConstruct
-  public void init() {
-    ApplicationProperties.bgTask.execute(this::initialize);
-  }
-
-  private void initialize() {
-    this.compileJasperReports();
-  }
+  public DownloadableReportResponse generateSchoolStudentsInSessionReport(UUID assessmentSessionID, UUID schoolID){
+    var assessmentTypes = codeTableService.getAllAssessmentTypeCodesAsMap();
+    var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
+    var students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(assessmentSessionID, schoolID, List.of("ACTIVE"));
 
-  private void compileJasperReports(){
-    try {
-      InputStream inputHeadcount = getClass().getResourceAsStream("/reports/schoolStudentsInSession.jrxml");
-      schoolStudentInSessionReport = JasperCompileManager.compileReport(inputHeadcount);
-    } catch (JRException e) {
-      throw new StudentAssessmentAPIRuntimeException("Compiling Jasper reports has failed :: " + e.getMessage());
+    if(students.isEmpty()) {
+      throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
     }
-  }
 
-  public DownloadableReportResponse generateSchoolStudentsInSessionReport(UUID assessmentSessionID, UUID schoolID){
-    try {
-      var assessmentTypes = codeTableService.getAllAssessmentTypeCodesAsMap();
-      var session = assessmentSessionRepository.findById(assessmentSessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, "sessionID", assessmentSessionID.toString()));
-      var students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(assessmentSessionID, schoolID, List.of("ACTIVE"));
-
-      if(students.isEmpty()) {
-        throw new PreconditionRequiredException(AssessmentSessionEntity.class, "Results not available in this session:: ", session.getSessionID().toString());
+    SchoolStudentRootNode schoolStudentRootNode = new SchoolStudentRootNode();
+    SchoolStudentReportNode schoolStudentReportNode = new SchoolStudentReportNode();
+    schoolStudentReportNode.setStudents(new ArrayList<>());
+    schoolStudentRootNode.setReport(schoolStudentReportNode);
+    setReportTombstoneValues(schoolID, session, schoolStudentReportNode);
+
+    var studentList = new HashMap<UUID, SchoolStudentNode>();
+
+    students.forEach(student -> {
+      if (!studentList.containsKey(student.getStudentID())) {
+        var studentNode = new SchoolStudentNode();
+        studentNode.setPen(student.getPen());
+        studentNode.setLocalID(student.getLocalID());
+        studentNode.setName(student.getSurname() + ", " + student.getGivenName());
+        SchoolStudentGradAssessmentNode studentGradAssessmentNode = new SchoolStudentGradAssessmentNode();
+        studentGradAssessmentNode.setName(assessmentTypes.get(student.getAssessmentEntity().getAssessmentTypeCode()));
+        studentGradAssessmentNode.setProficiencyScore(student.getProficiencyScore() != null ? student.getProficiencyScore().toString() : null);
+        studentGradAssessmentNode.setSpecialCase(student.getProficiencyScore() == null && StringUtils.isNotBlank(student.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(student.getProvincialSpecialCaseCode()).get().getDescription() : null);
+        studentNode.setGradAssessments(new ArrayList<>());
+        studentNode.getGradAssessments().add(studentGradAssessmentNode);
+        studentList.put(student.getStudentID(), studentNode);
+      }else{
+        var loadedStudent = studentList.get(student.getStudentID());
+        SchoolStudentGradAssessmentNode studentGradAssessmentNode = new SchoolStudentGradAssessmentNode();
+        studentGradAssessmentNode.setName(assessmentTypes.get(student.getAssessmentEntity().getAssessmentTypeCode()));
+        studentGradAssessmentNode.setProficiencyScore(student.getProficiencyScore() != null ? student.getProficiencyScore().toString() : null);
+        studentGradAssessmentNode.setSpecialCase(student.getProficiencyScore() == null && StringUtils.isNotBlank(student.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(student.getProvincialSpecialCaseCode()).get().getDescription() : null);
+        loadedStudent.getGradAssessments().add(studentGradAssessmentNode);
       }
+    });
 
-      SchoolStudentRootNode schoolStudentRootNode = new SchoolStudentRootNode();
-      SchoolStudentReportNode schoolStudentReportNode = new SchoolStudentReportNode();
-      schoolStudentReportNode.setStudents(new ArrayList<>());
-      schoolStudentRootNode.setReport(schoolStudentReportNode);
-      setReportTombstoneValues(schoolID, session, schoolStudentReportNode);
-
-      var studentList = new HashMap<UUID, SchoolStudentNode>();
-
-      students.forEach(student -> {
-        if (!studentList.containsKey(student.getStudentID())) {
-          var studentNode = new SchoolStudentNode();
-          studentNode.setPen(student.getPen());
-          studentNode.setLocalID(student.getLocalID());
-          studentNode.setName(student.getSurname() + ", " + student.getGivenName());
-          SchoolStudentGradAssessmentNode studentGradAssessmentNode = new SchoolStudentGradAssessmentNode();
-          studentGradAssessmentNode.setName(assessmentTypes.get(student.getAssessmentEntity().getAssessmentTypeCode()));
-          studentGradAssessmentNode.setProficiencyScore(student.getProficiencyScore() != null ? student.getProficiencyScore().toString() : null);
-          studentGradAssessmentNode.setSpecialCase(student.getProficiencyScore() == null && StringUtils.isNotBlank(student.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(student.getProvincialSpecialCaseCode()).get().getDescription() : null);
-          studentNode.setGradAssessments(new ArrayList<>());
-          studentNode.getGradAssessments().add(studentGradAssessmentNode);
-          studentList.put(student.getStudentID(), studentNode);
-        }else{
-          var loadedStudent = studentList.get(student.getStudentID());
-          SchoolStudentGradAssessmentNode studentGradAssessmentNode = new SchoolStudentGradAssessmentNode();
-          studentGradAssessmentNode.setName(assessmentTypes.get(student.getAssessmentEntity().getAssessmentTypeCode()));
-          studentGradAssessmentNode.setProficiencyScore(student.getProficiencyScore() != null ? student.getProficiencyScore().toString() : null);
-          studentGradAssessmentNode.setSpecialCase(student.getProficiencyScore() == null && StringUtils.isNotBlank(student.getProvincialSpecialCaseCode()) ? ProvincialSpecialCaseCodes.findByValue(student.getProvincialSpecialCaseCode()).get().getDescription() : null);
-          loadedStudent.getGradAssessments().add(studentGradAssessmentNode);
-        }
-      });
-
-      schoolStudentReportNode.setStudents(studentList.values().stream().sorted(Comparator.comparing(SchoolStudentNode::getName)).toList());
-
-      var normalized = TextNormalizer.normalizeObject(schoolStudentRootNode);
-      var payload = objectWriter.writeValueAsString(normalized);
-      return generateJasperReport(payload, schoolStudentInSessionReport, AssessmentReportTypeCode.SCHOOL_STUDENTS_IN_SESSION.getCode());
-    } catch (JsonProcessingException e) {
-      log.error("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-      throw new StudentAssessmentAPIRuntimeException("Exception occurred while writing PDF report for ell programs :: " + e.getMessage());
-    }
+    schoolStudentReportNode.setStudents(studentList.values().stream().sorted(Comparator.comparing(SchoolStudentNode::getName)).toList());
+
+    return generateJasperReport(schoolStudentRootNode, JasperReportRegistry.SCHOOL_STUDENTS_IN_SESSION, AssessmentReportTypeCode.SCHOOL_STUDENTS_IN_SESSION.getCode());
   }
 
   protected SchoolTombstone setReportTombstoneValues(UUID schoolID, AssessmentSessionEntity assessmentSession, SchoolStudentReportNode reportNode){
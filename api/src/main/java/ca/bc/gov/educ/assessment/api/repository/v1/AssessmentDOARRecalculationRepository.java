@@ -0,0 +1,27 @@
+package ca.bc.gov.educ.assessment.api.repository.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentDOARRecalculationEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AssessmentDOARRecalculationRepository extends JpaRepository<AssessmentDOARRecalculationEntity, UUID> {
+
+    List<AssessmentDOARRecalculationEntity> findAllByAssessmentIDInOrderByCreateDateDesc(List<UUID> assessmentIDs);
+
+    Optional<AssessmentDOARRecalculationEntity> findFirstByAssessmentIDAndStatusCodeInOrderByCreateDateDesc(UUID assessmentID, List<String> statusCodes);
+
+    /**
+     * Locks the job row, so that a job started twice never has two runners working on the same chunk.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM AssessmentDOARRecalculationEntity r WHERE r.assessmentDOARRecalculationID = :assessmentDOARRecalculationID")
+    Optional<AssessmentDOARRecalculationEntity> findByIdForUpdate(UUID assessmentDOARRecalculationID);
+}
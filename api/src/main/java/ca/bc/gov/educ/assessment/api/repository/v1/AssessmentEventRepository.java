@@ -3,10 +3,12 @@ package ca.bc.gov.educ.assessment.api.repository.v1;
 
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,11 +23,24 @@ public interface AssessmentEventRepository extends JpaRepository<AssessmentEvent
 
   Optional<AssessmentEventEntity> findByEventId(UUID eventId);
 
+  /**
+   * Locks the rows it returns and skips rows another transaction has locked or another relay has claimed, so relays
+   * running at the same time each take different events.
+   */
   @Query(value = "select event.* from ASSESSMENT_EVENT event where event.EVENT_STATUS = :eventStatus " +
           "AND event.CREATE_DATE < :createDate " +
           "AND event.EVENT_TYPE not in :eventTypes " +
+          "AND (event.CLAIMED_UNTIL is null OR event.CLAIMED_UNTIL < :claimedBefore) " +
           "ORDER BY event.CREATE_DATE asc " +
-          "FETCH FIRST :limit ROWS ONLY", nativeQuery=true)
-  List<AssessmentEventEntity> findAllByEventStatusAndCreateDateBeforeAndEventTypeNotInOrderByCreateDate(String eventStatus, LocalDateTime createDate, int limit, List<String> eventTypes);
+          "FETCH FIRST :limit ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery=true)
+  List<AssessmentEventEntity> findAndLockUnclaimedByEventStatusAndCreateDateBeforeAndEventTypeNotInOrderByCreateDate(String eventStatus, LocalDateTime createDate, LocalDateTime claimedBefore, int limit, List<String> eventTypes);
+
+  @Modifying
+  @Query("update AssessmentEventEntity event set event.claimedUntil = :claimedUntil where event.eventId in :eventIds")
+  int updateClaimedUntil(Collection<UUID> eventIds, LocalDateTime claimedUntil);
+
+  @Modifying
+  @Query("update AssessmentEventEntity event set event.eventStatus = :eventStatus, event.updateDate = :updateDate where event.eventId in :eventIds")
+  int updateEventStatus(Collection<UUID> eventIds, String eventStatus, LocalDateTime updateDate);
 
 }
@@ -1,7 +1,10 @@
 package ca.bc.gov.educ.assessment.api.repository.v1;
 
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -15,4 +18,11 @@ public interface AssessmentRepository extends JpaRepository<AssessmentEntity, UU
     List<AssessmentEntity> findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCodeIn(UUID assessmentSessionEntitySessionID, Collection<String> assessmentTypeCodes);
 
     Optional<AssessmentEntity> findByAssessmentSessionEntity_SessionIDAndAssessmentTypeCode(UUID sessionID, String assessmentTypeCode);
+
+    /**
+     * Locks the assessment row, so that results loads and recalculations for one assessment are started one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AssessmentEntity a WHERE a.assessmentID = :assessmentID")
+    Optional<AssessmentEntity> findByIdForUpdate(UUID assessmentID);
 }
@@ -1,12 +1,15 @@
 package ca.bc.gov.educ.assessment.api.repository.v1;
 
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
+import ca.bc.gov.educ.assessment.api.struct.v1.StudentAttemptCount;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.AssessmentRegistrationTotalsBySchoolResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.AssessmentCompletionSummaryResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.AssessmentStudentLocalIdResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.NumberOfAttemptsStudent;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.RegistrationSummaryResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.YukonAssessmentCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -14,6 +17,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -165,6 +169,15 @@ public interface AssessmentStudentRepository extends JpaRepository<AssessmentStu
     or stud.provincialSpecialCaseCode is not null)""")
     List<AssessmentStudentEntity> findAllWrittenAssessmentsForStudent(UUID studentID);
 
+    @Query(value="""
+    select stud from AssessmentStudentEntity as stud
+    where stud.assessmentEntity.assessmentSessionEntity.sessionID = :sessionID
+    and stud.schoolAtWriteSchoolID = :schoolID
+    and ((stud.proficiencyScore is not null and stud.proficiencyScore != 0)
+    or stud.provincialSpecialCaseCode is not null)
+    order by stud.pen""")
+    List<AssessmentStudentEntity> findAllWrittenAssessmentsBySessionIDAndSchoolID(UUID sessionID, UUID schoolID);
+
     @Query(value="""
     select count(stud) > 0 from AssessmentStudentEntity as stud
     where stud.studentID = :studentID
@@ -180,6 +193,24 @@ public interface AssessmentStudentRepository extends JpaRepository<AssessmentStu
     or stud.provincialSpecialCaseCode in ('X','Q'))""")
     int findNumberOfAttemptsForStudent(UUID studentID, List<String> assessmentCodes);
 
+    @Query(value="""
+    select stud.studentID as studentID, stud.assessmentEntity.assessmentTypeCode as assessmentTypeCode, count(*) as numberOfAttempts
+    from AssessmentStudentEntity as stud
+    where stud.studentID in (:studentIDs)
+    and (stud.proficiencyScore is not null
+    or stud.provincialSpecialCaseCode in ('X','Q'))
+    group by stud.studentID, stud.assessmentEntity.assessmentTypeCode""")
+    List<StudentAttemptCount> findNumberOfAttemptsForStudents(Collection<UUID> studentIDs);
+
+    @Query("""
+        SELECT s FROM AssessmentStudentEntity s
+        JOIN FETCH s.assessmentEntity a
+        JOIN FETCH a.assessmentSessionEntity
+        WHERE a.assessmentID in (:assessmentIDs)
+        AND s.studentID in (:studentIDs)
+        """)
+    List<AssessmentStudentEntity> findByAssessmentIDsInAndStudentIDsIn(Collection<UUID> assessmentIDs, Collection<UUID> studentIDs);
+
     @Query(value = """
         select stud.pen as pen,
         max(case when stud.assessmentEntity.assessmentTypeCode = 'LTE10' then 1 else 0 end) as lte10Completed,
@@ -356,6 +387,28 @@ public interface AssessmentStudentRepository extends JpaRepository<AssessmentStu
         LIMIT 1""")
     Optional<AssessmentStudentEntity> findByAssessmentIdAndAssessmentFormIdOrderByCreateDateDesc(UUID assessmentID, List<UUID> formIDs);
 
+    @Query("""
+        SELECT count(s) FROM AssessmentStudentEntity s
+        WHERE s.assessmentEntity.assessmentID = :assessmentID
+        AND s.assessmentFormID IS NOT NULL
+        AND s.studentStatusCode = 'ACTIVE'""")
+    long countDOARStudentsByAssessmentID(UUID assessmentID);
+
+    /**
+     * Keyset page of the students that have a DOAR calculation, in ID order, starting after the given student.
+     */
+    @Query("""
+        SELECT s.assessmentStudentID FROM AssessmentStudentEntity s
+        WHERE s.assessmentEntity.assessmentID = :assessmentID
+        AND s.assessmentFormID IS NOT NULL
+        AND s.studentStatusCode = 'ACTIVE'
+        AND s.assessmentStudentID > :afterAssessmentStudentID
+        ORDER BY s.assessmentStudentID""")
+    List<UUID> findDOARStudentIDsByAssessmentIDAfter(UUID assessmentID, UUID afterAssessmentStudentID, Limit limit);
+
+    @EntityGraph(attributePaths = {"assessmentStudentComponentEntities", "assessmentStudentComponentEntities.assessmentStudentAnswerEntities"})
+    List<AssessmentStudentEntity> findAllByAssessmentStudentIDIn(List<UUID> assessmentStudentIDs);
+
     /**
      * @return Stream of AssessmentStudentEntity
      */
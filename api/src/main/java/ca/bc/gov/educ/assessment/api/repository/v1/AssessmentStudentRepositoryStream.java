@@ -1,15 +1,35 @@
 package ca.bc.gov.educ.assessment.api.repository.v1;
 
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface AssessmentStudentRepositoryStream {
     /**
      * @param spec The specification to filter results (can be null for all results)
-     * @return Stream of AssessmentStudentEntity
+     * @return Stream of search rows, read in one statement without loading any entities
      */
-    Stream<AssessmentStudentEntity> streamAll(Specification<AssessmentStudentEntity> spec);
-}
+    Stream<AssessmentStudentSearchResult> streamAllSearchResults(Specification<AssessmentStudentEntity> spec);
+
+    /**
+     * @param spec     The specification to filter results (can be null for all results)
+     * @param pageable The page and sort; the count only runs when the page alone cannot tell the total
+     * @return Page of search rows
+     */
+    Page<AssessmentStudentSearchResult> findAllSearchResults(Specification<AssessmentStudentEntity> spec, Pageable pageable);
 
+    /**
+     * @param spec  The specification to filter results (can be null for all results)
+     * @param sort  The sort
+     * @param limit The maximum number of rows
+     * @return List of search rows
+     */
+    List<AssessmentStudentSearchResult> findAllSearchResults(Specification<AssessmentStudentEntity> spec, Sort sort, Limit limit);
+}
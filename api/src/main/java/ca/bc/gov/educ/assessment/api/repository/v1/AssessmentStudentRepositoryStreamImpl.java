@@ -1,45 +1,129 @@
 package ca.bc.gov.educ.assessment.api.repository.v1;
 
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
 public class AssessmentStudentRepositoryStreamImpl implements AssessmentStudentRepositoryStream {
 
+    private static final int STREAM_FETCH_SIZE = 5000;
+
     @PersistenceContext
     private EntityManager entityManager;
 
-    /**
-     * @param spec The specification to filter results (can be null for all results)
-     * @return Stream of AssessmentStudentEntity
-     */
     @Override
     @Transactional(readOnly = true)
-    public Stream<AssessmentStudentEntity> streamAll(Specification<AssessmentStudentEntity> spec) {
+    public Stream<AssessmentStudentSearchResult> streamAllSearchResults(Specification<AssessmentStudentEntity> spec) {
+        TypedQuery<AssessmentStudentSearchResult> query = createSearchResultQuery(spec, Sort.unsorted());
+        query.setHint("org.hibernate.fetchSize", STREAM_FETCH_SIZE);
+        return query.getResultStream();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AssessmentStudentSearchResult> findAllSearchResults(Specification<AssessmentStudentEntity> spec, Pageable pageable) {
+        TypedQuery<AssessmentStudentSearchResult> query = createSearchResultQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssessmentStudentSearchResult> findAllSearchResults(Specification<AssessmentStudentEntity> spec, Sort sort, Limit limit) {
+        TypedQuery<AssessmentStudentSearchResult> query = createSearchResultQuery(spec, sort);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Selects the search row columns of the student, its assessment and its session in one statement. The joins are
+     * plain inner joins rather than fetch joins, since nothing is loaded as an entity.
+     */
+    private TypedQuery<AssessmentStudentSearchResult> createSearchResultQuery(Specification<AssessmentStudentEntity> spec, Sort sort) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<AssessmentStudentEntity> cq = cb.createQuery(AssessmentStudentEntity.class);
+        CriteriaQuery<AssessmentStudentSearchResult> cq = cb.createQuery(AssessmentStudentSearchResult.class);
         Root<AssessmentStudentEntity> root = cq.from(AssessmentStudentEntity.class);
+        Join<AssessmentStudentEntity, AssessmentEntity> assessment = root.join("assessmentEntity");
+        Join<AssessmentEntity, AssessmentSessionEntity> session = assessment.join("assessmentSessionEntity");
+
+        cq.select(cb.construct(AssessmentStudentSearchResult.class,
+                root.get("assessmentStudentID"),
+                assessment.get("assessmentID"),
+                assessment.get("assessmentTypeCode"),
+                session.get("sessionID"),
+                session.get("courseYear"),
+                session.get("courseMonth"),
+                session.get("completionDate"),
+                root.get("assessmentFormID"),
+                root.get("schoolAtWriteSchoolID"),
+                root.get("assessmentCenterSchoolID"),
+                root.get("schoolOfRecordSchoolID"),
+                root.get("studentID"),
+                root.get("studentStatusCode"),
+                root.get("givenName"),
+                root.get("surname"),
+                root.get("pen"),
+                root.get("localID"),
+                root.get("gradeAtRegistration"),
+                root.get("localAssessmentID"),
+                root.get("proficiencyScore"),
+                root.get("provincialSpecialCaseCode"),
+                root.get("numberOfAttempts"),
+                root.get("adaptedAssessmentCode"),
+                root.get("irtScore"),
+                root.get("markingSession"),
+                root.get("downloadDate"),
+                root.get("createUser"),
+                root.get("createDate"),
+                root.get("updateUser"),
+                root.get("updateDate")));
 
         if (spec != null) {
             cq.where(spec.toPredicate(root, cq, cb));
         }
+        if (sort.isSorted()) {
+            cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(cq);
+    }
 
-        TypedQuery<AssessmentStudentEntity> query = entityManager.createQuery(cq);
+    private long count(Specification<AssessmentStudentEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<AssessmentStudentEntity> root = cq.from(AssessmentStudentEntity.class);
 
-        query.setHint("org.hibernate.fetchSize", 5000);
-        query.setHint("org.hibernate.readOnly", true);
+        if (spec != null) {
+            cq.where(spec.toPredicate(root, cq, cb));
+        }
+        cq.select(cq.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        cq.distinct(false);
 
-        return query.getResultStream();
+        return entityManager.createQuery(cq).getSingleResult();
     }
 }
-
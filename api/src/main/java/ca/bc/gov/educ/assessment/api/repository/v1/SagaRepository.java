@@ -41,4 +41,8 @@ public interface SagaRepository extends JpaRepository<AssessmentSagaEntity, UUID
 
   @Query(value = "SELECT s.SAGA_ID FROM ASSESSMENT_SAGA s WHERE s.STATUS in :cleanupStatus LIMIT :batchSize", nativeQuery = true)
   List<UUID> findByStatusIn(List<String> cleanupStatus, int batchSize);
+
+  long countByStatusIn(List<String> statuses);
+
+  long countByStatusAndUpdateDateAfter(String status, LocalDateTime updateDate);
 }
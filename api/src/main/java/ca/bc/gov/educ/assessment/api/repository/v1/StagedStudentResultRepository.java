@@ -9,12 +9,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface StagedStudentResultRepository extends JpaRepository<StagedStudentResultEntity, UUID>, JpaSpecificationExecutor<StagedStudentResultEntity> {
+public interface StagedStudentResultRepository extends JpaRepository<StagedStudentResultEntity, UUID>, JpaSpecificationExecutor<StagedStudentResultEntity>, StagedStudentResultRepositoryBulk {
 
     @Query(value="""
     SELECT stud.assessmentEntity.assessmentID as assessmentID, stud.pen as pen
@@ -26,6 +27,8 @@ public interface StagedStudentResultRepository extends JpaRepository<StagedStude
     LIMIT :numberOfStudentsToProcess""")
     List<IStudentResultLoad> findTopLoadedStudentForProcessing(String numberOfStudentsToProcess);
 
+    long countByStagedStudentResultStatus(String stagedStudentResultStatus);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM StagedStudentResultEntity WHERE stagedStudentResultStatus = 'COMPLETED'")
@@ -49,4 +52,24 @@ public interface StagedStudentResultRepository extends JpaRepository<StagedStude
 
     List<StagedStudentResultEntity> findByAssessmentEntity_assessmentIDAndPen(UUID assessmentID, String pen);
 
+    @Modifying
+    @Query(value = "DELETE FROM STAGED_STUDENT_RESULT_UPLOAD WHERE LOAD_ID = :loadID", nativeQuery = true)
+    void deleteAllByLoadID(UUID loadID);
+
+    /**
+     * Removes the rows of loads that stopped without completing or being abandoned, such as when the pod running them
+     * went down.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM STAGED_STUDENT_RESULT_UPLOAD WHERE ASSESSMENT_ID = :assessmentID AND STAGED_STUDENT_RESULT_STATUS = :status AND CREATE_DATE < :createdBefore", nativeQuery = true)
+    void deleteAllByAssessmentIDAndStatusAndCreateDateBefore(UUID assessmentID, String status, LocalDateTime createdBefore);
+
+    @Modifying
+    @Query(value = """
+        UPDATE STAGED_STUDENT_RESULT_UPLOAD
+        SET STAGED_STUDENT_RESULT_STATUS = :newStatus, UPDATE_DATE = CURRENT_TIMESTAMP
+        WHERE LOAD_ID = :loadID
+        AND STAGED_STUDENT_RESULT_STATUS = :currentStatus""", nativeQuery = true)
+    int updateStatusByLoadID(UUID loadID, String currentStatus, String newStatus);
+
 }
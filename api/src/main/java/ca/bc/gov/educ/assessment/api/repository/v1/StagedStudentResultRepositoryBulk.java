@@ -0,0 +1,16 @@
+package ca.bc.gov.educ.assessment.api.repository.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.StagedStudentResultEntity;
+
+import java.util.List;
+
+public interface StagedStudentResultRepositoryBulk {
+    /**
+     * Writes the rows straight to STAGED_STUDENT_RESULT_UPLOAD without going through the persistence context.
+     * The rows are not managed afterwards, so they must not be modified and saved again in the same transaction.
+     *
+     * @param stagedStudentResults The rows to insert; rows without an ID are given one
+     * @return The number of rows inserted
+     */
+    long bulkInsert(List<StagedStudentResultEntity> stagedStudentResults);
+}
@@ -0,0 +1,121 @@
+package ca.bc.gov.educ.assessment.api.repository.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.StagedStudentResultEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+public class StagedStudentResultRepositoryBulkImpl implements StagedStudentResultRepositoryBulk {
+
+    private static final String COLUMNS = """
+        STAGED_STUDENT_RESULT_ID, ASSESSMENT_ID, ASSESSMENT_FORM_ID, PEN, MINCODE, STAGED_STUDENT_RESULT_STATUS, COMPONENT_TYPE,
+        OE_MARKS, MC_MARKS, CHOICE_PATH, PROVINCIAL_SPECIAL_CASE_CODE, PROFICIENCY_SCORE, IRT_SCORE, ADAPTED_ASSESSMENT_CODE,
+        MARKING_SESSION, LOAD_ID, CREATE_USER, CREATE_DATE, UPDATE_USER, UPDATE_DATE""";
+    private static final String COPY_SQL = "COPY STAGED_STUDENT_RESULT_UPLOAD (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_SQL = "INSERT INTO STAGED_STUDENT_RESULT_UPLOAD (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StagedStudentResultRepositoryBulkImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Uses COPY when the connection is a PostgreSQL one, which loads a chunk in a single round trip, and falls back
+     * to a JDBC batch otherwise. Both run on the connection of the current transaction.
+     */
+    @Override
+    public long bulkInsert(List<StagedStudentResultEntity> stagedStudentResults) {
+        if (stagedStudentResults.isEmpty()) {
+            return 0;
+        }
+        stagedStudentResults.stream().filter(result -> result.getStagedStudentResultID() == null).forEach(result -> result.setStagedStudentResultID(UUID.randomUUID()));
+        Long inserted = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return copyIn(connection.unwrap(PGConnection.class), stagedStudentResults);
+            }
+            return batchInsert(connection, stagedStudentResults);
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    private long copyIn(PGConnection connection, List<StagedStudentResultEntity> stagedStudentResults) throws SQLException {
+        var csv = new StringBuilder(stagedStudentResults.size() * 512);
+        for (var result : stagedStudentResults) {
+            Object[] values = getColumnValues(result);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                // an unquoted empty field is NULL in csv format, a quoted one is an empty string
+                if (values[i] != null) {
+                    csv.append('"').append(values[i].toString().replace("\"", "\"\"")).append('"');
+                }
+            }
+            csv.append('\n');
+        }
+        try {
+            return connection.getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long batchInsert(Connection connection, List<StagedStudentResultEntity> stagedStudentResults) throws SQLException {
+        log.debug("Connection is not a PostgreSQL connection, staging {} result rows with a JDBC batch", stagedStudentResults.size());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (var result : stagedStudentResults) {
+                Object[] values = getColumnValues(result);
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null) {
+                        statement.setNull(i + 1, Types.NULL);
+                    } else {
+                        statement.setObject(i + 1, values[i]);
+                    }
+                }
+                statement.addBatch();
+            }
+            return statement.executeBatch().length;
+        }
+    }
+
+    private Object[] getColumnValues(StagedStudentResultEntity result) {
+        return new Object[] {
+                result.getStagedStudentResultID(),
+                result.getAssessmentEntity().getAssessmentID(),
+                result.getAssessmentFormID(),
+                result.getPen(),
+                result.getMincode(),
+                result.getStagedStudentResultStatus(),
+                result.getComponentType(),
+                result.getOeMarks(),
+                result.getMcMarks(),
+                result.getChoicePath(),
+                result.getProvincialSpecialCaseCode(),
+                result.getProficiencyScore(),
+                result.getIrtScore(),
+                result.getAdaptedAssessmentCode(),
+                result.getMarkingSession(),
+                result.getLoadID(),
+                result.getCreateUser(),
+                result.getCreateDate() == null ? null : Timestamp.valueOf(result.getCreateDate()),
+                result.getUpdateUser(),
+                result.getUpdateDate() == null ? null : Timestamp.valueOf(result.getUpdateDate())
+        };
+    }
+}
@@ -6,10 +6,14 @@ import ca.bc.gov.educ.assessment.api.struct.external.coms.v1.Bucket;
 import ca.bc.gov.educ.assessment.api.struct.external.coms.v1.ObjectMetadata;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -149,6 +153,26 @@ public class ComsRestUtils {
      * @return the uploaded object metadata
      */
     public ObjectMetadata uploadObject(byte[] content, String path) {
+        return uploadObject(content, content.length, path);
+    }
+
+    /**
+     * Upload a file to COMS, streaming the body from disk rather than reading it into memory first.
+     *
+     * @param file the file to upload
+     * @param path the path/key in the bucket (e.g., "xam-files-202606/xam-files-202606.zip")
+     * @return the uploaded object metadata
+     */
+    public ObjectMetadata uploadObject(Path file, String path) {
+        try {
+            return uploadObject(new FileSystemResource(file), Files.size(file), path);
+        } catch (IOException e) {
+            log.error("Failed to read file for COMS upload - Path: {}", path, e);
+            throw new StudentAssessmentAPIRuntimeException("Failed to upload file to COMS: " + e.getMessage());
+        }
+    }
+
+    private ObjectMetadata uploadObject(Object content, long contentLength, String path) {
         try {
             String bucketName = applicationProperties.getS3BucketName();
 
@@ -181,13 +205,13 @@ public class ComsRestUtils {
             }
 
             log.info("Uploading object to COMS - Bucket: {} (ID: {}), Filename: {}, Size: {} bytes",
-                    bucketName, targetBucketId, filename, content.length);
+                    bucketName, targetBucketId, filename, contentLength);
 
             // Content-Disposition should only contain the filename, not the full path
             String contentDisposition = String.format("attachment; filename=\"%s\"", filename);
 
             log.info("COMS Upload - URL: {}/object?bucketId={}, Content-Disposition: {}, Content-Length: {}",
-                    applicationProperties.getComsEndpointUrl(), targetBucketId, contentDisposition, content.length);
+                    applicationProperties.getComsEndpointUrl(), targetBucketId, contentDisposition, contentLength);
 
             try {
                 ObjectMetadata response = comsWebClient.put()
@@ -196,7 +220,7 @@ public class ComsRestUtils {
                                 .queryParam("bucketId", targetBucketId)
                                 .build())
                         .header("Content-Disposition", contentDisposition)
-                        .header("Content-Length", String.valueOf(content.length))
+                        .header("Content-Length", String.valueOf(contentLength))
                         .contentType(MediaType.APPLICATION_OCTET_STREAM)
                         .bodyValue(content)
                         .retrieve()
@@ -230,7 +254,7 @@ public class ComsRestUtils {
                     // Use PUT /object/{objectId} to update the existing object
                     ObjectMetadata response = comsWebClient.put()
                             .uri(OBJECT_PATH + "/" + existingObjectId)
-                            .header("Content-Length", String.valueOf(content.length))
+                            .header("Content-Length", String.valueOf(contentLength))
                             .contentType(MediaType.APPLICATION_OCTET_STREAM)
                             .bodyValue(content)
                             .retrieve()
@@ -0,0 +1,114 @@
+package ca.bc.gov.educ.assessment.api.rest;
+
+import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.District;
+import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.IndependentAuthority;
+import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable copy of the Institute API schools, districts and authorities together with every index over them.
+ * A snapshot is built completely before {@link RestUtils} publishes it, so a reader never sees a refresh half done.
+ */
+final class InstituteSnapshot {
+
+  static final InstituteSnapshot EMPTY = new InstituteSnapshot(List.of(), List.of(), List.of());
+
+  @Getter
+  private final List<SchoolTombstone> schools;
+  private final Map<String, SchoolTombstone> schoolsByID;
+  private final Map<String, SchoolTombstone> schoolsByMincode;
+  private final Map<String, List<SchoolTombstone>> schoolsByDistrictID;
+  private final Map<String, List<SchoolTombstone>> schoolsByCategoryCode;
+  private final Map<String, List<UUID>> schoolIDsByAuthorityID;
+  @Getter
+  private final List<District> districts;
+  private final Map<String, District> districtsByID;
+  private final Map<String, List<District>> districtsByRegionCode;
+  private final Map<String, IndependentAuthority> authoritiesByID;
+
+  private InstituteSnapshot(List<SchoolTombstone> schools, List<District> districts, List<IndependentAuthority> authorities) {
+    this.schools = List.copyOf(schools);
+    this.schoolsByID = index(schools, SchoolTombstone::getSchoolId);
+    this.schoolsByMincode = index(schools, SchoolTombstone::getMincode);
+    this.schoolsByDistrictID = group(schools, SchoolTombstone::getDistrictId, Function.identity());
+    this.schoolsByCategoryCode = group(schools, school -> StringUtils.upperCase(school.getSchoolCategoryCode()), Function.identity());
+    this.schoolIDsByAuthorityID = group(schools, SchoolTombstone::getIndependentAuthorityId, school -> UUID.fromString(school.getSchoolId()));
+    this.districts = List.copyOf(districts);
+    this.districtsByID = index(districts, District::getDistrictId);
+    this.districtsByRegionCode = group(districts, district -> StringUtils.upperCase(district.getDistrictRegionCode()), Function.identity());
+    this.authoritiesByID = index(authorities, IndependentAuthority::getIndependentAuthorityId);
+  }
+
+  static InstituteSnapshot of(List<SchoolTombstone> schools, List<District> districts, List<IndependentAuthority> authorities) {
+    return new InstituteSnapshot(schools, districts, authorities);
+  }
+
+  boolean isEmpty() {
+    return schools.isEmpty() && districts.isEmpty() && authoritiesByID.isEmpty();
+  }
+
+  int getAuthorityCount() {
+    return authoritiesByID.size();
+  }
+
+  Optional<SchoolTombstone> getSchoolByID(String schoolID) {
+    return Optional.ofNullable(schoolsByID.get(schoolID));
+  }
+
+  Optional<SchoolTombstone> getSchoolByMincode(String mincode) {
+    return Optional.ofNullable(schoolsByMincode.get(mincode));
+  }
+
+  List<SchoolTombstone> getSchoolsByDistrictID(String districtID) {
+    return schoolsByDistrictID.getOrDefault(districtID, List.of());
+  }
+
+  /**
+   * Category codes are matched ignoring case, as the report filters that used to scan every school did.
+   */
+  List<SchoolTombstone> getSchoolsByCategoryCode(String schoolCategoryCode) {
+    return schoolsByCategoryCode.getOrDefault(StringUtils.upperCase(schoolCategoryCode), List.of());
+  }
+
+  Optional<List<UUID>> getSchoolIDsByAuthorityID(String authorityID) {
+    return Optional.ofNullable(schoolIDsByAuthorityID.get(authorityID));
+  }
+
+  Optional<District> getDistrictByID(String districtID) {
+    return Optional.ofNullable(districtsByID.get(districtID));
+  }
+
+  List<District> getDistrictsByRegionCode(String districtRegionCode) {
+    return districtsByRegionCode.getOrDefault(StringUtils.upperCase(districtRegionCode), List.of());
+  }
+
+  Optional<IndependentAuthority> getAuthorityByID(String authorityID) {
+    return Optional.ofNullable(authoritiesByID.get(authorityID));
+  }
+
+  /**
+   * Entries without a key are left out and the last entry wins on a duplicate key, as with the maps this replaces.
+   */
+  private static <T> Map<String, T> index(List<T> values, Function<T, String> key) {
+    Map<String, T> index = new HashMap<>();
+    for (T value : values) {
+      if (StringUtils.isNotBlank(key.apply(value))) {
+        index.put(key.apply(value), value);
+      }
+    }
+    return Map.copyOf(index);
+  }
+
+  private static <T, V> Map<String, List<V>> group(List<T> values, Function<T, String> key, Function<T, V> value) {
+    return values.stream()
+            .filter(entry -> StringUtils.isNotBlank(key.apply(entry)))
+            .collect(Collectors.collectingAndThen(
+                    Collectors.groupingBy(key, Collectors.mapping(value, Collectors.toUnmodifiableList())),
+                    Map::copyOf));
+  }
+}
@@ -22,32 +22,49 @@ import ca.bc.gov.educ.assessment.api.struct.v1.CHESEmail;
 import ca.bc.gov.educ.assessment.api.struct.v1.StudentMerge;
 import ca.bc.gov.educ.assessment.api.util.JsonUtil;
 import ca.bc.gov.educ.assessment.api.util.SearchCriteriaBuilder;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nats.client.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -61,10 +78,6 @@ public class RestUtils {
   private static final String CONTENT_TYPE = "Content-Type";
   private static final String EXCEPTION = "exception";
   public static final String NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID = "No response received within timeout for correlation ID ";
-  private final Map<String, IndependentAuthority> authorityMap = new ConcurrentHashMap<>();
-  private final Map<String, SchoolTombstone> schoolMap = new ConcurrentHashMap<>();
-  private final Map<String, SchoolTombstone> schoolMincodeMap = new ConcurrentHashMap<>();
-  private final Map<String, District> districtMap = new ConcurrentHashMap<>();
   private final Map<String, FacilityTypeCode> facilityTypeCodesMap = new ConcurrentHashMap<>();
   private final Map<String, SchoolCategoryCode> schoolCategoryCodesMap = new ConcurrentHashMap<>();
   public static final String PAGE_SIZE = "pageSize";
@@ -76,27 +89,65 @@ public class RestUtils {
   private final ObjectMapper objectMapper = new ObjectMapper();
   private final ReadWriteLock facilityTypesLock = new ReentrantReadWriteLock();
   private final ReadWriteLock schoolCategoriesLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock authorityLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock schoolLock = new ReentrantReadWriteLock();
-  private final ReadWriteLock districtLock = new ReentrantReadWriteLock();
+  private final Object instituteSnapshotLock = new Object();
   private static final String PAGE_NUMBER_QUERY_PARAM = "?pageNumber=";
   private static final String PAGE_SIZE_QUERY_PARAM = "&pageSize=";
   private static final String SEARCH_CRITERIA_QUERY_PARAM = "&searchCriteriaList=";
   private static final String SORT_QUERY_PARAM = "&sort=";
+  private static final String YUKON_REGION_CODE = "YUKON";
+  private static final int SDC_PENS_PER_BATCH = 1500;
+  private static final int SDC_PAGE_SIZE = 1500;
   @Getter
   private final ApplicationProperties props;
 
   @Value("${initialization.background.enabled}")
   private Boolean isBackgroundInitializationEnabled;
 
-  private final Map<String, List<UUID>> independentAuthorityToSchoolIDMap = new ConcurrentHashMap<>();
+  private volatile InstituteSnapshot instituteSnapshot = InstituteSnapshot.EMPTY;
+
+  private final EnhancedQueueExecutor sdcFetchExecutor;
+  private final RetryTemplate sdcFetchRetryTemplate;
+  private final Timer sdcFetchBatchTimer;
 
   @Autowired
-  public RestUtils(WebClient webClient, @Qualifier("chesWebClient")WebClient chesWebClient, final ApplicationProperties props, final MessagePublisher messagePublisher) {
+  public RestUtils(WebClient webClient, @Qualifier("chesWebClient")WebClient chesWebClient, final ApplicationProperties props, final MessagePublisher messagePublisher, final MeterRegistry meterRegistry) {
     this.webClient = webClient;
     this.chesWebClient = chesWebClient;
     this.props = props;
     this.messagePublisher = messagePublisher;
+    this.sdcFetchExecutor = new EnhancedQueueExecutor.Builder()
+            .setThreadFactory(new ThreadFactoryBuilder().withNameFormat("sdc-fetch-executor-%d").get())
+            .setCorePoolSize(props.getSdcFetchParallelism()).setMaximumPoolSize(props.getSdcFetchParallelism())
+            .setKeepAliveTime(Duration.ofSeconds(60)).build();
+    val sdcFetchErrors = Counter.builder("assessment.sdc.fetch.errors")
+            .description("SDC API page requests that failed, including those that were retried")
+            .register(meterRegistry);
+    this.sdcFetchRetryTemplate = RetryTemplate.builder()
+            .maxAttempts(props.getSdcFetchMaxAttempts())
+            .exponentialBackoff(props.getSdcFetchRetryBackoffMs(), 2, props.getSdcFetchRetryBackoffMs() * 10)
+            .retryOn(RestUtils::isTransientSdcFetchError)
+            .withListener(new RetryListener() {
+              @Override
+              public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                log.warn("SDC API request failed on attempt {} :: {}", context.getRetryCount(), throwable.getMessage());
+                sdcFetchErrors.increment();
+              }
+            })
+            .build();
+    this.sdcFetchBatchTimer = Timer.builder("assessment.sdc.fetch.batch")
+            .description("Time taken to fetch every page of a batch of PENs from the SDC API")
+            .register(meterRegistry);
+    Gauge.builder("assessment.sdc.fetch.active", this.sdcFetchExecutor, EnhancedQueueExecutor::getActiveCount)
+            .description("SDC API batches being fetched")
+            .register(meterRegistry);
+    Gauge.builder("assessment.sdc.fetch.queue.size", this.sdcFetchExecutor, EnhancedQueueExecutor::getQueueSize)
+            .description("SDC API batches waiting for a thread")
+            .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void close() {
+    this.sdcFetchExecutor.shutdown();
   }
 
   @PostConstruct
@@ -109,10 +160,7 @@ public class RestUtils {
   private void initialize() {
     this.populateSchoolCategoryCodesMap();
     this.populateFacilityTypeCodesMap();
-    this.populateSchoolMap();
-    this.populateSchoolMincodeMap();
-    this.populateDistrictMap();
-    this.populateAuthorityMap();
+    this.populateInstituteSnapshot();
   }
 
   @Scheduled(cron = "${schedule.jobs.load.school.cron}")
@@ -120,19 +168,21 @@ public class RestUtils {
     this.init();
   }
 
-  public void populateAuthorityMap() {
-    val writeLock = this.authorityLock.writeLock();
-    try {
-      writeLock.lock();
-      for (val authority : this.getAuthorities()) {
-        this.authorityMap.put(authority.getIndependentAuthorityId(), authority);
+  /**
+   * Fetches the schools, districts and authorities and builds every index over them before the new snapshot replaces
+   * the live one, so lookups never wait on a refresh or see a partly loaded one. If any call fails the previous
+   * snapshot is kept.
+   */
+  public void populateInstituteSnapshot() {
+    synchronized (this.instituteSnapshotLock) {
+      try {
+        this.instituteSnapshot = InstituteSnapshot.of(this.getSchools(), this.getDistricts(), this.getAuthorities());
+      } catch (Exception ex) {
+        log.error("Unable to load institute snapshot ", ex);
       }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache authorities ", ex);
-    } finally {
-      writeLock.unlock();
     }
-    log.info("Loaded  {} authorities to memory", this.authorityMap.values().size());
+    val snapshot = this.instituteSnapshot;
+    log.info("Loaded  {} schools, {} districts and {} authorities to memory", snapshot.getSchools().size(), snapshot.getDistricts().size(), snapshot.getAuthorityCount());
   }
 
   public void populateSchoolCategoryCodesMap() {
@@ -165,42 +215,6 @@ public class RestUtils {
     log.info("Loaded  {} facility types to memory", this.facilityTypeCodesMap.values().size());
   }
 
-  public void populateSchoolMap() {
-    val writeLock = this.schoolLock.writeLock();
-    try {
-      writeLock.lock();
-      for (val school : this.getSchools()) {
-        this.schoolMap.put(school.getSchoolId(), school);
-        if (StringUtils.isNotBlank(school.getIndependentAuthorityId())) {
-          this.independentAuthorityToSchoolIDMap.computeIfAbsent(school.getIndependentAuthorityId(), k -> new ArrayList<>()).add(UUID.fromString(school.getSchoolId()));
-        }
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache school ", ex);
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} schools to memory", this.schoolMap.values().size());
-  }
-
-  public void populateSchoolMincodeMap() {
-    val writeLock = this.schoolLock.writeLock();
-    try {
-      writeLock.lock();
-      for (val school : this.getSchools()) {
-        this.schoolMincodeMap.put(school.getMincode(), school);
-        if (StringUtils.isNotBlank(school.getIndependentAuthorityId())) {
-          this.independentAuthorityToSchoolIDMap.computeIfAbsent(school.getIndependentAuthorityId(), k -> new ArrayList<>()).add(UUID.fromString(school.getSchoolId()));
-        }
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache school mincodes ", ex);
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} school mincodes to memory", this.schoolMincodeMap.values().size());
-  }
-
   public List<SchoolTombstone> getSchools() {
     log.info("Calling Institute api to load schools to memory");
     return this.webClient.get()
@@ -255,21 +269,6 @@ public class RestUtils {
             .blockFirst();
   }
 
-  public void populateDistrictMap() {
-    val writeLock = this.districtLock.writeLock();
-    try {
-      writeLock.lock();
-      for (val district : this.getDistricts()) {
-        this.districtMap.put(district.getDistrictId(), district);
-      }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache district ", ex);
-    } finally {
-      writeLock.unlock();
-    }
-    log.info("Loaded  {} districts to memory", this.districtMap.values().size());
-  }
-
   public List<District> getDistricts() {
     log.info("Calling Institute api to load districts to memory");
     return this.webClient.get()
@@ -298,53 +297,53 @@ public class RestUtils {
   }
 
   public Optional<SchoolTombstone> getSchoolBySchoolID(final String schoolID) {
-    if (this.schoolMap.isEmpty()) {
-      log.info("School map is empty reloading schools");
-      this.populateSchoolMap();
-    }
-    return Optional.ofNullable(this.schoolMap.get(schoolID));
+    return this.getInstituteSnapshot().getSchoolByID(schoolID);
   }
 
   public Optional<IndependentAuthority> getAuthorityByAuthorityID(final String authorityID) {
-    if (this.authorityMap.isEmpty()) {
-      log.info("Authority map is empty reloading authorities");
-      this.populateAuthorityMap();
-    }
-    return Optional.ofNullable(this.authorityMap.get(authorityID));
+    return this.getInstituteSnapshot().getAuthorityByID(authorityID);
   }
 
   public Optional<SchoolTombstone> getSchoolByMincode(final String mincode) {
-    if (this.schoolMincodeMap.isEmpty()) {
-      log.info("School mincode map is empty reloading schools");
-      this.populateSchoolMincodeMap();
-    }
-    return Optional.ofNullable(this.schoolMincodeMap.get(mincode));
+    return this.getInstituteSnapshot().getSchoolByMincode(mincode);
   }
 
   public List<SchoolTombstone> getAllSchoolTombstones() {
-    if (this.schoolMincodeMap.isEmpty()) {
-      log.info("School mincode map is empty reloading schools");
-      this.populateSchoolMincodeMap();
-    }
-    return new ArrayList<>(this.schoolMap.values());
+    return this.getInstituteSnapshot().getSchools();
   }
 
   public Optional<District> getDistrictByDistrictID(final String districtID) {
-    if (this.districtMap.isEmpty()) {
-      log.info("District map is empty reloading schools");
-      this.populateDistrictMap();
-    }
-    return Optional.ofNullable(this.districtMap.get(districtID));
+    return this.getInstituteSnapshot().getDistrictByID(districtID);
   }
 
-
   public Optional<District> getYukonDistrict() {
-    if (this.districtMap.isEmpty()) {
-      log.info("District map is empty reloading schools");
-      this.populateDistrictMap();
+    return this.getInstituteSnapshot().getDistrictsByRegionCode(YUKON_REGION_CODE).stream().findFirst();
+  }
+
+  public List<SchoolTombstone> getSchoolsByDistrictID(final String districtID) {
+    return this.getInstituteSnapshot().getSchoolsByDistrictID(districtID);
+  }
+
+  public List<SchoolTombstone> getSchoolsBySchoolCategoryCodes(final Set<String> schoolCategoryCodes) {
+    val snapshot = this.getInstituteSnapshot();
+    return schoolCategoryCodes.stream().map(snapshot::getSchoolsByCategoryCode).flatMap(List::stream).toList();
+  }
+
+  /**
+   * Loads the institute snapshot on first use when background initialization is off or has not finished yet.
+   */
+  private InstituteSnapshot getInstituteSnapshot() {
+    val snapshot = this.instituteSnapshot;
+    if (!snapshot.isEmpty()) {
+      return snapshot;
+    }
+    synchronized (this.instituteSnapshotLock) {
+      if (this.instituteSnapshot.isEmpty()) {
+        log.info("Institute snapshot is empty reloading schools, districts and authorities");
+        this.populateInstituteSnapshot();
+      }
+      return this.instituteSnapshot;
     }
-    
-    return this.districtMap.values().stream().filter(dist -> dist.getDistrictRegionCode().equalsIgnoreCase("YUKON")).findFirst();
   }
 
   public PaginatedResponse<ReportGradStudentData> getGradStudentReportPage(final String searchCriteriaListJson, final int pageNumber, final int pageSize) {
@@ -391,11 +390,7 @@ public class RestUtils {
   }
 
   public Optional<List<UUID>> getSchoolIDsByIndependentAuthorityID(final String independentAuthorityID) {
-    if (this.independentAuthorityToSchoolIDMap.isEmpty()) {
-      log.info("The map is empty reloading school");
-      this.populateSchoolMap();
-    }
-    return Optional.ofNullable(this.independentAuthorityToSchoolIDMap.get(independentAuthorityID));
+    return this.getInstituteSnapshot().getSchoolIDsByAuthorityID(independentAuthorityID);
   }
   
   public List<StudentMerge> getMergedStudentsForDateRange(UUID correlationID, String createDateStart, String createDateEnd) {
@@ -422,25 +417,10 @@ public class RestUtils {
   @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public Optional<Student> getStudentByPEN(UUID correlationID, String assignedPEN) {
     try {
-      final TypeReference<Event> refEvent = new TypeReference<>() {};
-      final TypeReference<Student> refPenMatchResult = new TypeReference<>() {
-      };
       Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_STUDENT).eventPayload(assignedPEN).build();
       val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.STUDENT_API_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
       if (responseMessage != null) {
-        byte[] data = responseMessage.getData();
-        if (data == null || data.length == 0) {
-          log.debug("Empty response data for getStudentByPEN; treating as student not found for PEN: {}", assignedPEN);
-          return Optional.empty();
-        }
-        Event responseEvent = objectMapper.readValue(responseMessage.getData(), refEvent);
-
-        if (EventOutcome.STUDENT_NOT_FOUND.equals(responseEvent.getEventOutcome())) {
-          log.info("Student not found for PEN: {}", assignedPEN);
-          return Optional.empty();
-        }
-
-        return Optional.ofNullable(objectMapper.readValue(responseMessage.getData(), refPenMatchResult));
+        return readStudentResponse(responseMessage.getData(), assignedPEN);
       } else {
         throw new StudentAssessmentAPIRuntimeException(NATS_TIMEOUT + correlationID);
       }
@@ -452,6 +432,107 @@ public class RestUtils {
     }
   }
 
+  /**
+   * Looks up many students by PEN at once. All requests are sent before any reply is awaited, so the batch costs about
+   * one round trip rather than one per PEN. A PEN that was not found maps to an empty optional; a PEN whose request
+   * failed or timed out is left out of the result so the caller can fall back to {@link #getStudentByPEN}.
+   */
+  public Map<String, Optional<Student>> getStudentsByPENs(UUID correlationID, Set<String> assignedPENs) {
+    Map<String, CompletableFuture<Message>> requests = new LinkedHashMap<>();
+    for (var assignedPEN : assignedPENs) {
+      Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_STUDENT).eventPayload(assignedPEN).build();
+      requests.put(assignedPEN, requestMessage(TopicsEnum.STUDENT_API_TOPIC, event));
+    }
+    Map<String, Optional<Student>> studentsByPEN = new HashMap<>();
+    for (var request : requests.entrySet()) {
+      try {
+        val responseMessage = request.getValue().get();
+        if (responseMessage != null) {
+          studentsByPEN.put(request.getKey(), readStudentResponse(responseMessage.getData(), request.getKey()));
+        } else {
+          log.warn("No response for GET STUDENT for PEN {} in batch with correlationID :: {}", request.getKey(), correlationID);
+        }
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new StudentAssessmentAPIRuntimeException(NATS_TIMEOUT + correlationID);
+      } catch (final Exception ex) {
+        log.warn("Error occurred calling GET STUDENT for PEN {} in batch :: {}", request.getKey(), ex.getMessage());
+      }
+    }
+    return studentsByPEN;
+  }
+
+  /**
+   * Looks up the GRAD records of many students at once, in the same way as {@link #getStudentsByPENs}. A student
+   * without a GRAD record maps to an empty optional; a student whose request failed is left out of the result.
+   */
+  public Map<UUID, Optional<GradStudentRecord>> getGradStudentRecordsByStudentIDs(UUID correlationID, Set<UUID> studentIDs) {
+    Map<UUID, CompletableFuture<Message>> requests = new LinkedHashMap<>();
+    for (var studentID : studentIDs) {
+      Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_RECORD).eventPayload(studentID.toString()).build();
+      requests.put(studentID, requestMessage(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_TOPIC, event));
+    }
+    Map<UUID, Optional<GradStudentRecord>> gradStudentRecordsByStudentID = new HashMap<>();
+    for (var request : requests.entrySet()) {
+      try {
+        val responseMessage = request.getValue().get();
+        if (responseMessage != null) {
+          gradStudentRecordsByStudentID.put(request.getKey(), readGradStudentRecordResponse(responseMessage.getData(), correlationID, request.getKey()));
+        } else {
+          log.warn("No response for GET GRAD STUDENT RECORD for student ID {} in batch with correlationID :: {}", request.getKey(), correlationID);
+        }
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new StudentAssessmentAPIRuntimeException(NATS_TIMEOUT + correlationID);
+      } catch (final Exception ex) {
+        log.warn("Error occurred calling GET GRAD STUDENT RECORD for student ID {} in batch :: {}", request.getKey(), ex.getMessage());
+      }
+    }
+    return gradStudentRecordsByStudentID;
+  }
+
+  private CompletableFuture<Message> requestMessage(TopicsEnum topic, Object event) {
+    try {
+      return this.messagePublisher.requestMessage(topic.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS);
+    } catch (final Exception ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private Optional<Student> readStudentResponse(byte[] data, String assignedPEN) throws IOException {
+    if (data == null || data.length == 0) {
+      log.debug("Empty response data for getStudentByPEN; treating as student not found for PEN: {}", assignedPEN);
+      return Optional.empty();
+    }
+    Event responseEvent = objectMapper.readValue(data, new TypeReference<Event>() {});
+
+    if (EventOutcome.STUDENT_NOT_FOUND.equals(responseEvent.getEventOutcome())) {
+      log.info("Student not found for PEN: {}", assignedPEN);
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(objectMapper.readValue(data, new TypeReference<Student>() {}));
+  }
+
+  private Optional<GradStudentRecord> readGradStudentRecordResponse(byte[] data, UUID correlationID, UUID studentID) throws IOException {
+    String responseData = new String(data, StandardCharsets.UTF_8);
+
+    Map<String, Object> response = objectMapper.readValue(responseData, new TypeReference<>() {});
+
+    log.debug("getGradStudentRecordByStudentID response{}", response.toString());
+
+    if ("not found".equals(response.get(EXCEPTION))) {
+      log.debug("Grad student was not found while fetching GradStudentRecord for Student ID {}", studentID);
+      return Optional.empty();
+    } else if ("error".equals(response.get(EXCEPTION))) {
+      log.error("An exception error occurred while fetching GradStudentRecord for Student ID {}", studentID);
+      throw new StudentAssessmentAPIRuntimeException("Error occurred while processing the request for correlation ID " + correlationID);
+    }
+
+    log.debug("Success fetching GradStudentRecord for Student ID {}", studentID);
+    return Optional.of(objectMapper.readValue(responseData, new TypeReference<GradStudentRecord>() {}));
+  }
+
   public void sendEmail(final String fromEmail, final List<String> toEmail, final String body, final String subject) {
     this.sendEmail(this.getChesEmail(fromEmail, toEmail, body, subject));
   }
@@ -525,27 +606,10 @@ public class RestUtils {
   @Retryable(retryFor = {Exception.class}, noRetryFor = {SagaRuntimeException.class, EntityNotFoundException.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
   public Optional<GradStudentRecord> getGradStudentRecordByStudentID(UUID correlationID, UUID studentID) {
     try {
-      final TypeReference<GradStudentRecord> refGradStudentRecordResult = new TypeReference<>() {
-      };
       Object event = Event.builder().sagaId(correlationID).eventType(EventType.GET_GRAD_STUDENT_RECORD).eventPayload(studentID.toString()).build();
       val responseMessage = this.messagePublisher.requestMessage(TopicsEnum.GRAD_STUDENT_API_FETCH_GRAD_STUDENT_TOPIC.toString(), JsonUtil.getJsonBytesFromObject(event)).completeOnTimeout(null, 120, TimeUnit.SECONDS).get();
       if (responseMessage != null) {
-        String responseData = new String(responseMessage.getData(), StandardCharsets.UTF_8);
-
-        Map<String, Object> response = objectMapper.readValue(responseData, new TypeReference<>() {});
-
-        log.debug("getGradStudentRecordByStudentID response{}", response.toString());
-
-        if ("not found".equals(response.get(EXCEPTION))) {
-          log.debug("Grad student was not found while fetching GradStudentRecord for Student ID {}", studentID);
-          return Optional.empty();
-        } else if ("error".equals(response.get(EXCEPTION))) {
-          log.error("An exception error occurred while fetching GradStudentRecord for Student ID {}", studentID);
-          throw new StudentAssessmentAPIRuntimeException("Error occurred while processing the request for correlation ID " + correlationID);
-        }
-
-        log.debug("Success fetching GradStudentRecord for Student ID {}", studentID);
-        return Optional.of(objectMapper.readValue(responseData, refGradStudentRecordResult));
+        return readGradStudentRecordResponse(responseMessage.getData(), correlationID, studentID);
       } else {
         throw new StudentAssessmentAPIRuntimeException(NO_RESPONSE_RECEIVED_WITHIN_TIMEOUT_FOR_CORRELATION_ID + correlationID);
       }
@@ -686,38 +750,52 @@ public class RestUtils {
         }
     }
 
-    public List<SdcSchoolCollectionStudent> get1701DataForStudents(String collectionID, List<String> assignedStudentIds) {
-        int maxPensPerBatch = 1500;
-        int pageSize = 1500;
-
-        ExecutorService executor = Executors.newFixedThreadPool(8); // Adjust thread pool size as needed
-        List<CompletableFuture<List<SdcSchoolCollectionStudent>>> futures = new ArrayList<>();
-
-        for (int i = 0; i < assignedStudentIds.size(); i += maxPensPerBatch) {
-            int start = i;
-            int end = Math.min(i + maxPensPerBatch, assignedStudentIds.size());
-            List<String> assigendStudentIdsSubList = new ArrayList<>(assignedStudentIds.subList(start, end));
-
-            CompletableFuture<List<SdcSchoolCollectionStudent>> future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    List<Map<String, Object>> searchCriteriaList = SearchCriteriaBuilder.getSDCStudentsByCollectionIdAndAssignedPENs(collectionID, assigendStudentIdsSubList);
-                    return fetchStudentsForBatch(pageSize, searchCriteriaList);
-                } catch (Exception e) {
-                    log.error("Batch fetch failed", e);
-                    return Collections.emptyList();
+    /**
+     * Looks up the 1701 records of the given PENs in a collection, {@value #SDC_PENS_PER_BATCH} PENs per request. Batches
+     * run on the shared SDC fetch executor with no more than two per thread in flight, and each batch's students are
+     * handed to the consumer on the calling thread, in batch order, as soon as the batch is complete. A page that still
+     * fails after the configured attempts fails the whole lookup rather than leaving its students out.
+     */
+    public void stream1701DataForStudents(String collectionID, List<String> assignedPENs, Consumer<List<SdcSchoolCollectionStudent>> batchConsumer) {
+        int maxPending = this.props.getSdcFetchParallelism() * 2;
+        Deque<Future<List<SdcSchoolCollectionStudent>>> pending = new ArrayDeque<>();
+        try {
+            int next = 0;
+            while (next < assignedPENs.size() || !pending.isEmpty()) {
+                while (next < assignedPENs.size() && pending.size() < maxPending) {
+                    List<String> batch = List.copyOf(assignedPENs.subList(next, Math.min(next + SDC_PENS_PER_BATCH, assignedPENs.size())));
+                    pending.add(this.sdcFetchExecutor.submit(() -> this.sdcFetchBatchTimer.recordCallable(() ->
+                            fetchStudentsForBatch(SDC_PAGE_SIZE, SearchCriteriaBuilder.getSDCStudentsByCollectionIdAndAssignedPENs(collectionID, batch)))));
+                    next += batch.size();
                 }
-            }, executor);
-
-            futures.add(future);
+                batchConsumer.accept(awaitBatch(pending.poll(), collectionID));
+            }
+        } finally {
+            pending.forEach(batch -> batch.cancel(true));
         }
+    }
 
-        List<SdcSchoolCollectionStudent> allStudents = futures.stream()
-                .map(CompletableFuture::join)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+    /**
+     * Only connection failures and 5xx responses are worth retrying; a 4xx will fail the same way every time.
+     */
+    private static boolean isTransientSdcFetchError(Throwable throwable) {
+        return throwable instanceof WebClientRequestException
+                || (throwable instanceof WebClientResponseException responseException && responseException.getStatusCode().is5xxServerError());
+    }
 
-        executor.shutdown();
-        return allStudents;
+    private List<SdcSchoolCollectionStudent> awaitBatch(Future<List<SdcSchoolCollectionStudent>> batch, String collectionID) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentAssessmentAPIRuntimeException("Interrupted while fetching 1701 data for collection " + collectionID);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            log.error("Error fetching 1701 data for collection {} :: {}", collectionID, e.getCause().getMessage());
+            throw new StudentAssessmentAPIRuntimeException("Error fetching 1701 data for collection " + collectionID + " :: " + e.getCause().getMessage());
+        }
     }
 
     private List<SdcSchoolCollectionStudent> fetchStudentsForBatch(int pageSize, List<Map<String, Object>> searchCriteriaList) throws JsonProcessingException {
@@ -729,35 +807,39 @@ public class RestUtils {
         boolean hasNextPage = true;
 
         while (hasNextPage) {
-            try {
-                String fullUrl = this.props.getSdcApiURL()
-                        + "/sdcSchoolCollectionStudent/paginated-shallow"
-                        + PAGE_NUMBER_QUERY_PARAM + pageNumber
-                        + PAGE_SIZE_QUERY_PARAM + pageSize
-                        + SORT_QUERY_PARAM // optional: add sort json or keep empty
-                        + SEARCH_CRITERIA_QUERY_PARAM + encodedSearchJson;
-
-                PaginatedResponse<SdcSchoolCollectionStudent> response = webClient.get()
-                        .uri(fullUrl)
-                        .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                        .retrieve()
-                        .bodyToMono(new ParameterizedTypeReference<PaginatedResponse<SdcSchoolCollectionStudent>>() {
-                        })
-                        .block();
-
-                if (response != null && response.getContent() != null) {
-                    students.addAll(response.getContent());
-                    hasNextPage = response.getNumber() < response.getTotalPages() - 1;
-                    pageNumber++;
-                } else {
-                    hasNextPage = false;
-                }
-            } catch (Exception ex) {
-                log.error("Error fetching 1701 data for page {} of batch starting at PEN {}", pageNumber, ex);
-                break;
+            String fullUrl = this.props.getSdcApiURL()
+                    + "/sdcSchoolCollectionStudent/paginated-shallow"
+                    + PAGE_NUMBER_QUERY_PARAM + pageNumber
+                    + PAGE_SIZE_QUERY_PARAM + pageSize
+                    + SORT_QUERY_PARAM // optional: add sort json or keep empty
+                    + SEARCH_CRITERIA_QUERY_PARAM + encodedSearchJson;
+
+            PaginatedResponse<SdcSchoolCollectionStudent> response = fetchStudentPage(fullUrl, pageNumber);
+
+            if (response != null && response.getContent() != null) {
+                students.addAll(response.getContent());
+                hasNextPage = response.getNumber() < response.getTotalPages() - 1;
+                pageNumber++;
+            } else {
+                hasNextPage = false;
             }
         }
 
         return students;
     }
+
+    private PaginatedResponse<SdcSchoolCollectionStudent> fetchStudentPage(String fullUrl, int pageNumber) {
+        try {
+            return this.sdcFetchRetryTemplate.execute(context -> webClient.get()
+                    .uri(fullUrl)
+                    .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<PaginatedResponse<SdcSchoolCollectionStudent>>() {
+                    })
+                    .block());
+        } catch (Exception ex) {
+            log.error("Error fetching 1701 data for page {} after {} attempts", pageNumber, this.props.getSdcFetchMaxAttempts(), ex);
+            throw new StudentAssessmentAPIRuntimeException("Error fetching 1701 data for page " + pageNumber + " :: " + ex.getMessage());
+        }
+    }
 }
@@ -1,9 +1,10 @@
 package ca.bc.gov.educ.assessment.api.schedulers;
 
 import ca.bc.gov.educ.assessment.api.choreographer.ChoreographEventHandler;
-import ca.bc.gov.educ.assessment.api.constants.EventType;
-import ca.bc.gov.educ.assessment.api.messaging.jetstream.Publisher;
+import ca.bc.gov.educ.assessment.api.messaging.jetstream.ChoreographyEventRelay;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
+import ca.bc.gov.educ.assessment.api.service.v1.ChoreographyEventRelayService;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.LockAssert;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
@@ -11,27 +12,29 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 
 import static ca.bc.gov.educ.assessment.api.constants.EventStatus.DB_COMMITTED;
 
 /**
  * This class is responsible to check the STUDENT_EVENT table periodically and publish messages to JET STREAM, if some them are not yet published
- * this is a very edge case scenario which will occur.
+ * this is a very edge case scenario which will occur. Events are normally published by the {@link ChoreographyEventRelay}
+ * as soon as they are committed; this only picks up the ones it missed.
  */
 @Component
 @Slf4j
 public class JetStreamEventScheduler {
 
   private final AssessmentEventRepository assessmentEventRepository;
-  private final Publisher publisher;
+  private final ChoreographyEventRelay choreographyEventRelay;
   private final ChoreographEventHandler choreographEventHandler;
+  private final ApplicationProperties applicationProperties;
 
 
-  public JetStreamEventScheduler(AssessmentEventRepository assessmentEventRepository, Publisher publisher, ChoreographEventHandler choreographEventHandler) {
+  public JetStreamEventScheduler(AssessmentEventRepository assessmentEventRepository, ChoreographyEventRelay choreographyEventRelay, ChoreographEventHandler choreographEventHandler, ApplicationProperties applicationProperties) {
       this.assessmentEventRepository = assessmentEventRepository;
-      this.publisher = publisher;
+      this.choreographyEventRelay = choreographyEventRelay;
       this.choreographEventHandler = choreographEventHandler;
+      this.applicationProperties = applicationProperties;
   }
 
   /**
@@ -42,8 +45,7 @@ public class JetStreamEventScheduler {
   public void findAndPublishStudentEventsToJetStream() {
     LockAssert.assertLocked();
     log.debug("Firing scheduler for jet stream events");
-    var incomingEvents = Arrays.asList(EventType.UPDATE_SCHOOL_OF_RECORD.toString(), EventType.CREATE_MERGE.toString(), EventType.DELETE_MERGE.toString());
-    var results = assessmentEventRepository.findByEventStatusAndEventTypeIn(DB_COMMITTED.toString(), incomingEvents);
+    var results = assessmentEventRepository.findByEventStatusAndEventTypeIn(DB_COMMITTED.toString(), ChoreographyEventRelayService.INCOMING_EVENT_TYPES);
 
     if (!results.isEmpty()) {
       log.info("Found {} choreographed events which needs to be processed.", results.size());
@@ -56,19 +58,9 @@ public class JetStreamEventScheduler {
         });
       }
 
-    final var outgoingEvents = this.assessmentEventRepository.findAllByEventStatusAndCreateDateBeforeAndEventTypeNotInOrderByCreateDate(DB_COMMITTED.toString(), LocalDateTime.now().minusMinutes(1), 500, incomingEvents);
-    log.debug("Found {} jet stream events to process", outgoingEvents.size());
-    if (!outgoingEvents.isEmpty()) {
-      outgoingEvents.forEach(el -> {
-        if (el.getUpdateDate().isBefore(LocalDateTime.now().minusMinutes(1))) {
-          try {
-            publisher.dispatchChoreographyEvent(el);
-          } catch (final Exception ex) {
-            log.error("Exception while trying to publish message", ex);
-          }
-        }
-      });
-    }
-
+    int published;
+    do {
+      published = this.choreographyEventRelay.publishPendingEvents(LocalDateTime.now().minusMinutes(1));
+    } while (published >= this.applicationProperties.getChoreographyRelayBatchSize());
   }
 }
@@ -0,0 +1,147 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.constants.v1.ComponentSubTypeCodes;
+import ca.bc.gov.educ.assessment.api.constants.v1.ComponentTypeCodes;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentChoiceEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentComponentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentFormEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentQuestionEntity;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Read only copy of the answer key of one assessment form, indexed so that the marks of a result file can be matched
+ * to questions and choices by position instead of by scanning the form. It holds only IDs and values copied from the
+ * form, never its entities, so it is safe to share between threads and transactions once compiled.
+ */
+public final class AssessmentFormAnswerKey {
+
+    @Getter
+    private final UUID assessmentFormID;
+    private final Map<String, ComponentKey> componentsByType;
+
+    private AssessmentFormAnswerKey(UUID assessmentFormID, Map<String, ComponentKey> componentsByType) {
+        this.assessmentFormID = assessmentFormID;
+        this.componentsByType = componentsByType;
+    }
+
+    public static AssessmentFormAnswerKey compile(AssessmentFormEntity formEntity) {
+        Map<String, ComponentKey> componentsByType = new HashMap<>();
+        for (var component : formEntity.getAssessmentComponentEntities()) {
+            componentsByType.putIfAbsent(componentTypeKey(component.getComponentTypeCode(), component.getComponentSubTypeCode()), new ComponentKey(component));
+        }
+        return new AssessmentFormAnswerKey(formEntity.getAssessmentFormID(), Map.copyOf(componentsByType));
+    }
+
+    public Optional<ComponentKey> findComponent(ComponentTypeCodes componentType, ComponentSubTypeCodes componentSubType) {
+        return Optional.ofNullable(componentsByType.get(componentTypeKey(componentType.getCode(), componentSubType.getCode())));
+    }
+
+    private static String componentTypeKey(String componentTypeCode, String componentSubTypeCode) {
+        return componentTypeCode + "|" + componentSubTypeCode;
+    }
+
+    public static final class ComponentKey {
+        @Getter
+        private final UUID assessmentComponentID;
+        private final QuestionKey[][] questionsByItemNumber;
+        private final List<QuestionKey>[] questionsByQuestionNumber;
+        private final UUID[] choiceIDsByItemNumber;
+        private final Map<UUID, QuestionKey> questionsByID;
+
+        @SuppressWarnings("unchecked")
+        private ComponentKey(AssessmentComponentEntity component) {
+            this.assessmentComponentID = component.getAssessmentComponentID();
+
+            var questions = component.getAssessmentQuestionEntities().stream()
+                    .filter(q -> q.getQuestionNumber() != null && q.getItemNumber() != null && q.getQuestionNumber() >= 0 && q.getItemNumber() >= 0)
+                    .map(QuestionKey::new)
+                    .sorted(Comparator.comparingInt(QuestionKey::getItemNumber).thenComparingInt(QuestionKey::getQuestionNumber))
+                    .toList();
+
+            int maxItemNumber = questions.stream().mapToInt(QuestionKey::getItemNumber).max().orElse(-1);
+            int maxQuestionNumber = questions.stream().mapToInt(QuestionKey::getQuestionNumber).max().orElse(-1);
+            List<List<QuestionKey>> byItemNumber = new ArrayList<>(Collections.nCopies(maxItemNumber + 1, null));
+            List<List<QuestionKey>> byQuestionNumber = new ArrayList<>(Collections.nCopies(maxQuestionNumber + 1, null));
+            Map<UUID, QuestionKey> byID = new HashMap<>();
+            for (var question : questions) {
+                addTo(byItemNumber, question.getItemNumber(), question);
+                addTo(byQuestionNumber, question.getQuestionNumber(), question);
+                byID.put(question.getAssessmentQuestionID(), question);
+            }
+            this.questionsByItemNumber = byItemNumber.stream().map(list -> list == null ? null : list.toArray(QuestionKey[]::new)).toArray(QuestionKey[][]::new);
+            this.questionsByQuestionNumber = byQuestionNumber.stream().map(list -> list == null ? List.of() : List.copyOf(list)).toArray(List[]::new);
+            this.questionsByID = Map.copyOf(byID);
+
+            int maxChoiceItemNumber = component.getAssessmentChoiceEntities().stream()
+                    .map(AssessmentChoiceEntity::getItemNumber).filter(Objects::nonNull).mapToInt(Integer::intValue).max().orElse(-1);
+            this.choiceIDsByItemNumber = new UUID[Math.max(maxChoiceItemNumber + 1, 0)];
+            for (var choice : component.getAssessmentChoiceEntities()) {
+                if (choice.getItemNumber() != null && choice.getItemNumber() >= 0) {
+                    choiceIDsByItemNumber[choice.getItemNumber()] = choice.getAssessmentChoiceID();
+                }
+            }
+        }
+
+        private static void addTo(List<List<QuestionKey>> index, int position, QuestionKey question) {
+            if (index.get(position) == null) {
+                index.set(position, new ArrayList<>(1));
+            }
+            index.get(position).add(question);
+        }
+
+        /**
+         * @return The question with the given question and item number, or null if the key has none
+         */
+        public QuestionKey findQuestion(int questionNumber, int itemNumber) {
+            if (itemNumber < 0 || itemNumber >= questionsByItemNumber.length || questionsByItemNumber[itemNumber] == null) {
+                return null;
+            }
+            for (var question : questionsByItemNumber[itemNumber]) {
+                if (question.getQuestionNumber() == questionNumber) {
+                    return question;
+                }
+            }
+            return null;
+        }
+
+        public List<QuestionKey> getQuestionsForQuestionNumber(int questionNumber) {
+            if (questionNumber < 0 || questionNumber >= questionsByQuestionNumber.length) {
+                return List.of();
+            }
+            return questionsByQuestionNumber[questionNumber];
+        }
+
+        /**
+         * @return The ID of the choice with the given item number, or null if the key has none
+         */
+        public UUID findChoiceID(int itemNumber) {
+            if (itemNumber < 0 || itemNumber >= choiceIDsByItemNumber.length) {
+                return null;
+            }
+            return choiceIDsByItemNumber[itemNumber];
+        }
+
+        public QuestionKey findQuestionByID(UUID assessmentQuestionID) {
+            return questionsByID.get(assessmentQuestionID);
+        }
+    }
+
+    @Getter
+    public static final class QuestionKey {
+        private final UUID assessmentQuestionID;
+        private final int questionNumber;
+        private final int itemNumber;
+        private final boolean partOfChoice;
+        private final Integer scaleFactor;
+
+        private QuestionKey(AssessmentQuestionEntity question) {
+            this.assessmentQuestionID = question.getAssessmentQuestionID();
+            this.questionNumber = question.getQuestionNumber();
+            this.itemNumber = question.getItemNumber();
+            this.partOfChoice = question.getAssessmentChoiceEntity() != null;
+            this.scaleFactor = question.getScaleFactor();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentFormEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The compiled answer keys of the forms results were most recently scored against, at most answer.key.cache.max.forms
+ * of them. Forms are replaced rather than edited when a key file is loaded, so a key stays valid for the lifetime of
+ * its form ID; the keys of forms that are replaced or deleted are evicted.
+ */
+@Component
+@Slf4j
+public class AssessmentFormAnswerKeyCache {
+
+  private final Map<UUID, AssessmentFormAnswerKey> answerKeysByFormID;
+
+  public AssessmentFormAnswerKeyCache(ApplicationProperties applicationProperties) {
+    int maxForms = applicationProperties.getAnswerKeyCacheMaxForms();
+    this.answerKeysByFormID = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, AssessmentFormAnswerKey> eldest) {
+        return size() > maxForms;
+      }
+    };
+  }
+
+  /**
+   * The key is compiled outside the lock, as compiling it may load the form's components.
+   */
+  public AssessmentFormAnswerKey get(AssessmentFormEntity formEntity) {
+    AssessmentFormAnswerKey answerKey;
+    synchronized (answerKeysByFormID) {
+      answerKey = answerKeysByFormID.get(formEntity.getAssessmentFormID());
+    }
+    if (answerKey == null) {
+      answerKey = AssessmentFormAnswerKey.compile(formEntity);
+      synchronized (answerKeysByFormID) {
+        answerKeysByFormID.put(formEntity.getAssessmentFormID(), answerKey);
+      }
+    }
+    return answerKey;
+  }
+
+  /**
+   * Evicts the keys straight away and again once the surrounding transaction has ended, so a key compiled from a form
+   * that was being replaced is not kept.
+   */
+  public void evict(Collection<UUID> formIDs) {
+    var evictedFormIDs = List.copyOf(formIDs);
+    remove(evictedFormIDs);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          remove(evictedFormIDs);
+        }
+      });
+    }
+  }
+
+  private void remove(Collection<UUID> formIDs) {
+    synchronized (answerKeysByFormID) {
+      formIDs.forEach(answerKeysByFormID::remove);
+    }
+    log.debug("Evicted the answer keys of forms {}", formIDs);
+  }
+}
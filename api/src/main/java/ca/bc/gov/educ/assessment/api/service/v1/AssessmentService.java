@@ -2,6 +2,7 @@ package ca.bc.gov.educ.assessment.api.service.v1;
 
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentFormEntity;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
 import ca.bc.gov.educ.assessment.api.util.TransformUtil;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.UUID;
 public class AssessmentService {
 
     private final AssessmentRepository assessmentRepository;
+    private final AssessmentFormAnswerKeyCache assessmentFormAnswerKeyCache;
 
     public AssessmentEntity getAssessment(UUID assessmentID){
         Optional<AssessmentEntity> assessmentOptionalEntity = assessmentRepository.findById(assessmentID);
@@ -47,6 +49,7 @@ public class AssessmentService {
     public void deleteAssessment(UUID assessmentID) {
         Optional<AssessmentEntity> assessmentOptionalEntity = assessmentRepository.findById(assessmentID);
         AssessmentEntity assessmentEntity = assessmentOptionalEntity.orElseThrow(() -> new EntityNotFoundException(AssessmentEntity.class, "assessmentID", assessmentID.toString()));
+        assessmentFormAnswerKeyCache.evict(assessmentEntity.getAssessmentForms().stream().map(AssessmentFormEntity::getAssessmentFormID).toList());
         assessmentRepository.delete(assessmentEntity);
     }
 
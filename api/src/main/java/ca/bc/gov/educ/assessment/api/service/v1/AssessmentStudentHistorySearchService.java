@@ -39,11 +39,12 @@ public class AssessmentStudentHistorySearchService extends BaseSearchService {
   @Getter
   private final AssessmentStudentHistoryFilterSpecs studentFilterSpecs;
   private final AssessmentStudentHistorySearchRepository repository;
+  private final SearchQueryExecutor searchQueryExecutor;
 
   @Transactional(propagation = Propagation.SUPPORTS)
   public CompletableFuture<Page<AssessmentStudentHistorySearchEntity>> findAll(Specification<AssessmentStudentHistorySearchEntity> specs, final Integer pageNumber, final Integer pageSize, final List<Sort.Order> sorts) {
     log.trace("In find all query: {}", specs);
-    return CompletableFuture.supplyAsync(() -> {
+    return this.searchQueryExecutor.supplyAsync(() -> {
       Pageable paging = PageRequest.of(pageNumber, pageSize, Sort.by(sorts));
       try {
         log.trace("Running paginated query: {}", specs);
@@ -64,11 +65,7 @@ public class AssessmentStudentHistorySearchService extends BaseSearchService {
       if (StringUtils.isNotBlank(searchCriteriaListJson)) {
         List<Search> searches = objectMapper.readValue(searchCriteriaListJson, new TypeReference<>() {
         });
-        int i = 0;
-        for (var search : searches) {
-          studentSpecs = getSpecifications(studentSpecs, i, search, this.getStudentFilterSpecs(), AssessmentStudentHistorySearchEntity.class);
-          i++;
-        }
+        studentSpecs = getSpecifications(searches, this.getStudentFilterSpecs(), AssessmentStudentHistorySearchEntity.class);
       }
     } catch (JsonProcessingException e) {
       throw new StudentAssessmentAPIRuntimeException(e.getMessage());
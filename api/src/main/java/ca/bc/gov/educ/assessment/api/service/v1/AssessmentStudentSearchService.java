@@ -1,9 +1,11 @@
 package ca.bc.gov.educ.assessment.api.service.v1;
 
+import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import ca.bc.gov.educ.assessment.api.filter.AssessmentStudentFilterSpecs;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import ca.bc.gov.educ.assessment.api.struct.v1.Search;
 import ca.bc.gov.educ.assessment.api.util.RequestUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,16 +15,22 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -31,18 +39,23 @@ import java.util.concurrent.CompletionException;
 @RequiredArgsConstructor
 public class AssessmentStudentSearchService extends BaseSearchService {
 
+  private static final String KEYSET_KEY = "assessmentStudentID";
+  private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.ASC, KEYSET_KEY);
+  private static final int MAX_KEYSET_PAGE_SIZE = 1000;
+
   @Getter
   private final AssessmentStudentFilterSpecs studentFilterSpecs;
   private final AssessmentStudentRepository repository;
+  private final SearchQueryExecutor searchQueryExecutor;
 
   @Transactional(propagation = Propagation.SUPPORTS)
-  public CompletableFuture<Page<AssessmentStudentEntity>> findAll(Specification<AssessmentStudentEntity> specs, final Integer pageNumber, final Integer pageSize, final List<Sort.Order> sorts) {
+  public CompletableFuture<Page<AssessmentStudentSearchResult>> findAll(Specification<AssessmentStudentEntity> specs, final Integer pageNumber, final Integer pageSize, final List<Sort.Order> sorts) {
     log.trace("In find all query: {}", specs);
-    return CompletableFuture.supplyAsync(() -> {
+    return this.searchQueryExecutor.supplyAsync(() -> {
       Pageable paging = PageRequest.of(pageNumber, pageSize, Sort.by(sorts));
       try {
         log.trace("Running paginated query: {}", specs);
-        var results = this.repository.findAll(specs, paging);
+        var results = this.repository.findAllSearchResults(specs, paging);
         log.trace("Paginated query returned with results: {}", results);
         return results;
       } catch (final Throwable ex) {
@@ -52,6 +65,65 @@ public class AssessmentStudentSearchService extends BaseSearchService {
     });
   }
 
+  /**
+   * Keyset page of the students matching the specs, in ID order, starting after the given student. The query seeks on
+   * the primary key and reads one row past the page to tell whether there is a next page, so it neither skips an
+   * offset nor counts the matches, and a deep page costs the same as the first.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public CompletableFuture<Slice<AssessmentStudentSearchResult>> findAllAfter(Specification<AssessmentStudentEntity> specs, final UUID afterAssessmentStudentID, final Integer pageSize) {
+    log.trace("In find all after query: {}", specs);
+    return this.searchQueryExecutor.supplyAsync(() -> {
+      Specification<AssessmentStudentEntity> keysetSpecs = Specification.where(specs);
+      if (afterAssessmentStudentID != null) {
+        keysetSpecs = keysetSpecs.and((root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get(KEYSET_KEY), afterAssessmentStudentID));
+      }
+      try {
+        log.trace("Running keyset query: {}", keysetSpecs);
+        var results = this.repository.findAllSearchResults(keysetSpecs, KEYSET_SORT, Limit.of(pageSize + 1));
+        boolean hasNext = results.size() > pageSize;
+        return new SliceImpl<>(hasNext ? results.subList(0, pageSize) : results, PageRequest.of(0, pageSize, KEYSET_SORT), hasNext);
+      } catch (final Throwable ex) {
+        log.error("Failure querying for keyset students: {}", ex.getMessage());
+        throw new CompletionException(ex);
+      }
+    });
+  }
+
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public CompletableFuture<Long> count(Specification<AssessmentStudentEntity> specs) {
+    return this.searchQueryExecutor.supplyAsync(() -> this.repository.count(specs));
+  }
+
+  public String getContinuationToken(Slice<AssessmentStudentSearchResult> students) {
+    if (!students.hasNext()) {
+      return null;
+    }
+    var last = students.getContent().get(students.getNumberOfElements() - 1);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(last.getAssessmentStudentID().toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A keyset page is read in one query, so larger requests are capped; the rest is read with the continuation token.
+   */
+  public int getKeysetPageSize(Integer pageSize) {
+    if (pageSize == null || pageSize < 1) {
+      throw new InvalidParameterException("pageSize");
+    }
+    return Math.min(pageSize, MAX_KEYSET_PAGE_SIZE);
+  }
+
+  public UUID getAfterAssessmentStudentID(String continuationToken) {
+    if (StringUtils.isBlank(continuationToken)) {
+      return null;
+    }
+    try {
+      return UUID.fromString(new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidParameterException("continuationToken");
+    }
+  }
+
   public Specification<AssessmentStudentEntity> setSpecificationAndSortCriteria(String sortCriteriaJson, String searchCriteriaListJson, ObjectMapper objectMapper, List<Sort.Order> sorts) {
     Specification<AssessmentStudentEntity> studentSpecs = null;
     try {
@@ -59,11 +131,7 @@ public class AssessmentStudentSearchService extends BaseSearchService {
       if (StringUtils.isNotBlank(searchCriteriaListJson)) {
         List<Search> searches = objectMapper.readValue(searchCriteriaListJson, new TypeReference<>() {
         });
-        int i = 0;
-        for (var search : searches) {
-          studentSpecs = getSpecifications(studentSpecs, i, search, this.getStudentFilterSpecs(), AssessmentStudentEntity.class);
-          i++;
-        }
+        studentSpecs = getSpecifications(searches, this.getStudentFilterSpecs(), AssessmentStudentEntity.class);
       }
     } catch (JsonProcessingException e) {
       throw new StudentAssessmentAPIRuntimeException(e.getMessage());
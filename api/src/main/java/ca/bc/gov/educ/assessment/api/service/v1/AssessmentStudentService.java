@@ -109,7 +109,7 @@ public class AssessmentStudentService {
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Pair<AssessmentStudentListItem, AssessmentEventEntity> updateStudent(AssessmentStudentEntity assessmentStudentEntity, boolean allowRuleOverride, String source) {
+    public AssessmentStudentListItem updateStudent(AssessmentStudentEntity assessmentStudentEntity, boolean allowRuleOverride, String source) {
         AssessmentStudentEntity currentAssessmentStudentEntity = assessmentStudentRepository.findById(assessmentStudentEntity.getAssessmentStudentID()).orElseThrow(() ->
                 new EntityNotFoundException(AssessmentStudentEntity.class, "AssessmentStudent", assessmentStudentEntity.getAssessmentStudentID().toString())
         );
@@ -124,13 +124,11 @@ public class AssessmentStudentService {
 
         var student = processStudent(assessmentStudentEntity, currentAssessmentStudentEntity, false, allowRuleOverride, source);
 
-        AssessmentEventEntity event = null;
         if(student.getAssessmentStudentValidationIssues() == null || student.getAssessmentStudentValidationIssues().isEmpty()) {
-            event = generateStudentUpdatedEvent(student.getStudentID());
-            assessmentEventRepository.save(event);
+            assessmentEventRepository.save(generateStudentUpdatedEvent(student.getStudentID()));
         }
 
-        return Pair.of(student, event);
+        return student;
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
@@ -140,8 +138,15 @@ public class AssessmentStudentService {
         return savedEntity;
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<AssessmentStudentEntity> saveAssessmentStudentsWithHistoryInCurrentTransaction(List<AssessmentStudentEntity> assessmentStudentEntities) {
+        List<AssessmentStudentEntity> savedEntities = assessmentStudentRepository.saveAll(assessmentStudentEntities);
+        assessmentStudentHistoryRepository.saveAll(savedEntities.stream().map(entity -> this.assessmentStudentHistoryService.createAssessmentStudentHistoryEntity(entity, entity.getUpdateUser())).toList());
+        return savedEntities;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Pair<AssessmentStudentListItem, AssessmentEventEntity> createStudent(AssessmentStudentEntity assessmentStudentEntity, boolean allowRuleOverride, String source) {
+    public AssessmentStudentListItem createStudent(AssessmentStudentEntity assessmentStudentEntity, boolean allowRuleOverride, String source) {
         AssessmentEntity currentAssessmentEntity = assessmentRepository.findById(assessmentStudentEntity.getAssessmentEntity().getAssessmentID()).orElseThrow(() ->
                 new EntityNotFoundException(AssessmentEntity.class, ASSESSMENT, assessmentStudentEntity.getAssessmentEntity().getAssessmentID().toString())
         );
@@ -149,13 +154,11 @@ public class AssessmentStudentService {
         assessmentStudentEntity.setStudentStatusCode(StudentStatusCodes.ACTIVE.getCode());
         var student = processStudent(assessmentStudentEntity, null, true, allowRuleOverride, source);
 
-        AssessmentEventEntity event = null;
         if(student.getAssessmentStudentValidationIssues() != null) {
-            event = generateStudentUpdatedEvent(student.getStudentID());
-            assessmentEventRepository.save(event);
+            assessmentEventRepository.save(generateStudentUpdatedEvent(student.getStudentID()));
         }
 
-        return Pair.of(student, event);
+        return student;
     }
 
     private AssessmentStudentListItem processStudent(AssessmentStudentEntity assessmentStudentEntity, AssessmentStudentEntity currentAssessmentStudentEntity, boolean newAssessmentStudentRegistration, boolean allowRuleOverride, String source) {
@@ -245,18 +248,15 @@ public class AssessmentStudentService {
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public List<AssessmentEventEntity> deleteStudents(List<UUID> assessmentStudentIDs, boolean allowRuleOverride) {
-        ArrayList<AssessmentEventEntity> events = new ArrayList<>();
+    public void deleteStudents(List<UUID> assessmentStudentIDs, boolean allowRuleOverride) {
         for (UUID assessmentStudentID : assessmentStudentIDs) {
             try {
                 AssessmentStudentEntity deletedStudent = performDeleteStudent(assessmentStudentID, allowRuleOverride);
-                AssessmentEventEntity event = assessmentEventRepository.save(generateStudentUpdatedEvent(deletedStudent.getStudentID().toString()));
-                events.add(event);
+                assessmentEventRepository.save(generateStudentUpdatedEvent(deletedStudent.getStudentID().toString()));
             } catch (EntityNotFoundException | InvalidPayloadException e) {
                 throw new InvalidPayloadException(ApiError.builder().timestamp(LocalDateTime.now()).message(e.getMessage()).status(CONFLICT).build());
             }
         }
-        return events;
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -269,6 +269,19 @@ public class AssessmentStudentService {
         Optional<AssessmentStudentEntity> entityOptional = assessmentStudentRepository.findById(assessmentStudentID);
         AssessmentStudentEntity entity = entityOptional.orElseThrow(() -> new EntityNotFoundException(AssessmentStudentEntity.class, ASSESSMENT_STUDENT_ID, assessmentStudentID.toString()));
 
+        Optional<String> deleteConflict = getDeleteConflict(entity, allowRuleOverride);
+        if (deleteConflict.isPresent()) {
+            throw new InvalidPayloadException(ApiError.builder().timestamp(LocalDateTime.now()).message(deleteConflict.get()).status(CONFLICT).build());
+        }
+
+        deleteStudentWithHistory(entity);
+        return entity;
+    }
+
+    /**
+     * The reason the registration may not be deleted, if there is one.
+     */
+    public Optional<String> getDeleteConflict(AssessmentStudentEntity entity, boolean allowRuleOverride) {
         LocalDateTime sessionEnd = entity.getAssessmentEntity().getAssessmentSessionEntity().getActiveUntilDate();
         boolean sessionEnded = !allowRuleOverride && sessionEnd.isBefore(LocalDateTime.now());
         boolean hasProvincialSpecialCaseCode = !allowRuleOverride && entity.getProvincialSpecialCaseCode() != null;
@@ -276,12 +289,22 @@ public class AssessmentStudentService {
         boolean hasResult = hasProficiencyScore || hasProvincialSpecialCaseCode;
 
         if (sessionEnded || hasResult) {
-            throw new InvalidPayloadException(ApiError.builder().timestamp(LocalDateTime.now()).message("Cannot delete student. Reason: %s %s %s".formatted(sessionEnded ? "Session has ended. " : "", hasProficiencyScore ? "Student has a proficiency score." : "", hasProvincialSpecialCaseCode ? "Student has a special case code." : "").trim()).status(CONFLICT).build());
+            return Optional.of("Cannot delete student. Reason: %s %s %s".formatted(sessionEnded ? "Session has ended. " : "", hasProficiencyScore ? "Student has a proficiency score." : "", hasProvincialSpecialCaseCode ? "Student has a special case code." : "").trim());
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Deletes the registration without checking {@link #getDeleteConflict}, which the caller has already done.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteStudentWithHistoryInCurrentTransaction(AssessmentStudentEntity entity) {
+        deleteStudentWithHistory(entity);
+    }
 
-        assessmentStudentHistoryRepository.deleteAllByAssessmentIDAndAssessmentStudentID(entity.getAssessmentEntity().getAssessmentID(), assessmentStudentID);
+    private void deleteStudentWithHistory(AssessmentStudentEntity entity) {
+        assessmentStudentHistoryRepository.deleteAllByAssessmentIDAndAssessmentStudentID(entity.getAssessmentEntity().getAssessmentID(), entity.getAssessmentStudentID());
         assessmentStudentRepository.delete(entity);
-        return entity;
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
@@ -422,7 +445,7 @@ public class AssessmentStudentService {
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Pair<List<AssessmentStudentValidationIssue>,  List<AssessmentEventEntity>> transferStudentAssessments(AssessmentStudentMoveRequest assessmentStudentTransfer) {
+    public List<AssessmentStudentValidationIssue> transferStudentAssessments(AssessmentStudentMoveRequest assessmentStudentTransfer) {
 
         String sourceStudentID = String.valueOf(assessmentStudentTransfer.getSourceStudentID());
         String targetStudentID = String.valueOf(assessmentStudentTransfer.getTargetStudentID());
@@ -453,7 +476,6 @@ public class AssessmentStudentService {
 
         List<AssessmentStudentEntity> validatedEntities = validationResult.getLeft();
         List<AssessmentStudentValidationIssue> allValidationIssues = validationResult.getRight();
-        List<AssessmentEventEntity> events = new ArrayList<>();
 
         if (allValidationIssues.isEmpty()) {
             for (AssessmentStudentEntity assessmentStudentEntity : validatedEntities) {
@@ -464,12 +486,10 @@ public class AssessmentStudentService {
                 assessmentStudentEntity.setUpdateDate(LocalDateTime.now());
                 saveAssessmentStudentWithHistory(assessmentStudentEntity);
             }
-            events.add(generateStudentUpdatedEvent(sourceStudentID));
-            events.add(generateStudentUpdatedEvent(targetStudentID));
-            assessmentEventRepository.saveAll(events);
+            assessmentEventRepository.saveAll(List.of(generateStudentUpdatedEvent(sourceStudentID), generateStudentUpdatedEvent(targetStudentID)));
         }
         
-        return Pair.of(allValidationIssues, events);
+        return allValidationIssues;
     }
 
     private Pair<List<AssessmentStudentEntity>, List<AssessmentStudentValidationIssue>> validateAssessments(Student sourceStudentApiStudent, Student targetStudentApiStudent, List<UUID> assessmentStudentIDs) {
@@ -543,7 +563,7 @@ public class AssessmentStudentService {
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Pair<List<AssessmentStudentListItem>, AssessmentEventEntity> mergeStudentAssessments(AssessmentStudentMoveRequest assessmentStudentMerge) {
+    public List<AssessmentStudentListItem> mergeStudentAssessments(AssessmentStudentMoveRequest assessmentStudentMerge) {
         List<AssessmentStudentListItem> response = new ArrayList<>();
         var targetStudentID = assessmentStudentMerge.getTargetStudentID();
         var sourceStudentID = assessmentStudentMerge.getSourceStudentID();
@@ -580,12 +600,10 @@ public class AssessmentStudentService {
             response.add(processStudent(assessment, currentAssessmentStudentEntity, false, true, "GRAD"));
         });
 
-        AssessmentEventEntity event = null;
         if(!response.stream().filter(assessment -> assessment.getAssessmentStudentValidationIssues() == null).toList().isEmpty()) {
-            event = generateStudentUpdatedEvent(targetStudentID.toString());
-            assessmentEventRepository.save(event);
+            assessmentEventRepository.save(generateStudentUpdatedEvent(targetStudentID.toString()));
         }
-        return Pair.of(response, event);
+        return response;
     }
 
     private Set<String> validateMergeConflicts(
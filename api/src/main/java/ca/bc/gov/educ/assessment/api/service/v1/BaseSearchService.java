@@ -3,87 +3,155 @@ package ca.bc.gov.educ.assessment.api.service.v1;
 
 import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.assessment.api.filter.BaseFilterSpecs;
-import ca.bc.gov.educ.assessment.api.filter.FilterOperation;
 import ca.bc.gov.educ.assessment.api.struct.v1.Condition;
 import ca.bc.gov.educ.assessment.api.struct.v1.Search;
 import ca.bc.gov.educ.assessment.api.struct.v1.SearchCriteria;
-import ca.bc.gov.educ.assessment.api.struct.v1.ValueType;
-import ca.bc.gov.educ.assessment.api.util.TransformUtil;
+import ca.bc.gov.educ.assessment.api.util.FieldMetadata;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Service
 @Slf4j
 public class BaseSearchService {
-  public <T> Specification<T> getSpecifications(Specification<T> specs, int i, Search search, BaseFilterSpecs<T> filterSpecs, Class<T> entityClass) {
-    if (i == 0) {
-      specs = getEntitySpecification(search.getSearchCriteriaList(), filterSpecs, entityClass);
-    } else {
-      if (search.getCondition() == Condition.AND) {
-        specs = specs.and(getEntitySpecification(search.getSearchCriteriaList(), filterSpecs, entityClass));
+
+  /**
+   * Search shapes are chosen by the caller, so only this many plans are kept; any further shape is compiled per request.
+   */
+  private static final int MAX_SEARCH_PLANS = 1000;
+
+  private final Map<String, SearchPlan<?>> searchPlans = new ConcurrentHashMap<>();
+
+  /**
+   * Builds the specification for the searches. The searches are reduced to their shape, the keys, operations, value
+   * types and conditions without the values, and the shape is compiled once into a plan with the field paths checked
+   * and the converters and specifications resolved. A search of a known shape only binds its values to the plan.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Specification<T> getSpecifications(List<Search> searches, BaseFilterSpecs<T> filterSpecs, Class<T> entityClass) {
+    var shape = getShape(searches, entityClass);
+    var plan = (SearchPlan<T>) searchPlans.get(shape);
+    if (plan == null) {
+      plan = compile(searches, filterSpecs, entityClass);
+      if (searchPlans.size() < MAX_SEARCH_PLANS) {
+        searchPlans.putIfAbsent(shape, plan);
       } else {
-        specs = specs.or(getEntitySpecification(search.getSearchCriteriaList(), filterSpecs, entityClass));
+        log.debug("Search plan cache is full, not caching search shape :: {}", shape);
+      }
+    }
+    return plan.bind(searches);
+  }
+
+  private static String getShape(List<Search> searches, Class<?> entityClass) {
+    var shape = new StringBuilder(entityClass.getName());
+    for (Search search : searches) {
+      shape.append('|').append(search.getCondition()).append('[');
+      for (SearchCriteria criteria : getCriteriaList(search)) {
+        shape.append(criteria.getCondition()).append(' ')
+            .append(criteria.getKey()).append(' ')
+            .append(criteria.getOperation()).append(' ')
+            .append(criteria.getValueType()).append(';');
       }
+      shape.append(']');
     }
-    return specs;
+    return shape.toString();
   }
 
-  private <T> Specification<T> getEntitySpecification(List<SearchCriteria> criteriaList, BaseFilterSpecs<T> filterSpecs, Class<T> entityClass) {
-    Specification<T> specs = null;
-    if (!criteriaList.isEmpty()) {
-      int i = 0;
-      for (SearchCriteria criteria : criteriaList) {
-        if (criteria.getKey() != null && criteria.getOperation() != null && criteria.getValueType() != null) {
-          var criteriaValue = criteria.getValue();
-          if(StringUtils.isNotBlank(criteria.getValue()) && TransformUtil.isUppercaseField(entityClass, criteria.getKey())) {
-            criteriaValue = criteriaValue.toUpperCase();
-          }
-          Specification<T> typeSpecification = getTypeSpecification(criteria.getKey(), criteria.getOperation(), criteriaValue, criteria.getValueType(), filterSpecs);
-          specs = getSpecificationPerGroup(specs, i, criteria, typeSpecification);
-          i++;
-        } else {
+  private static <T> SearchPlan<T> compile(List<Search> searches, BaseFilterSpecs<T> filterSpecs, Class<T> entityClass) {
+    var fieldMetadata = FieldMetadata.of(entityClass);
+    List<List<CriterionPlan<T>>> groups = new ArrayList<>();
+    for (Search search : searches) {
+      List<CriterionPlan<T>> group = new ArrayList<>();
+      for (SearchCriteria criteria : getCriteriaList(search)) {
+        if (criteria.getKey() == null || criteria.getOperation() == null || criteria.getValueType() == null) {
           throw new InvalidParameterException("Search Criteria can not contain null values for key, value and operation type");
         }
+        validateKey(criteria.getKey(), fieldMetadata);
+        group.add(new CriterionPlan<>(fieldMetadata.isUppercaseField(criteria.getKey()),
+            filterSpecs.getSpecificationFactory(criteria.getKey(), criteria.getOperation(), criteria.getValueType())));
+      }
+      groups.add(group);
+    }
+    return new SearchPlan<>(groups);
+  }
+
+  private static List<SearchCriteria> getCriteriaList(Search search) {
+    if (search.getSearchCriteriaList() == null) {
+      throw new InvalidParameterException("searchCriteriaList");
+    }
+    return search.getSearchCriteriaList();
+  }
+
+  /**
+   * Rejects a key that is not a field path of the entity before any query is built. A key of two comma separated paths
+   * compares one column with another.
+   */
+  private static void validateKey(String key, FieldMetadata fieldMetadata) {
+    if (StringUtils.isBlank(key)) {
+      throw new InvalidParameterException(key);
+    }
+    for (String path : StringUtils.split(key, ',')) {
+      if (!fieldMetadata.hasPath(path)) {
+        throw new InvalidParameterException(key);
       }
     }
-    return specs;
   }
 
-  private <T> Specification<T> getSpecificationPerGroup(Specification<T> entitySpecification, int i, SearchCriteria criteria, Specification<T> typeSpecification) {
+  private static <T> Specification<T> combine(Specification<T> specs, int i, Condition condition, Specification<T> next) {
     if (i == 0) {
-      entitySpecification = Specification.where(typeSpecification);
-    } else {
-      if (criteria.getCondition() == Condition.AND) {
-        entitySpecification = entitySpecification.and(typeSpecification);
-      } else {
-        entitySpecification = entitySpecification.or(typeSpecification);
+      return Specification.where(next);
+    }
+    return condition == Condition.AND ? specs.and(next) : specs.or(next);
+  }
+
+  private static final class SearchPlan<T> {
+    private final List<List<CriterionPlan<T>>> groups;
+
+    private SearchPlan(List<List<CriterionPlan<T>>> groups) {
+      this.groups = groups;
+    }
+
+    private Specification<T> bind(List<Search> searches) {
+      Specification<T> specs = null;
+      for (int i = 0; i < searches.size(); i++) {
+        var search = searches.get(i);
+        var groupSpecs = bind(groups.get(i), search.getSearchCriteriaList());
+        specs = i == 0 ? groupSpecs : combine(specs, i, search.getCondition(), groupSpecs);
       }
+      return specs;
+    }
+
+    private Specification<T> bind(List<CriterionPlan<T>> group, List<SearchCriteria> criteriaList) {
+      Specification<T> specs = null;
+      for (int i = 0; i < group.size(); i++) {
+        var criteria = criteriaList.get(i);
+        specs = combine(specs, i, criteria.getCondition(), group.get(i).bind(criteria.getValue()));
+      }
+      return specs;
     }
-    return entitySpecification;
   }
 
-  private <T> Specification<T> getTypeSpecification(String key, FilterOperation filterOperation, String value, ValueType valueType, BaseFilterSpecs<T> filterSpecs) {
-    Specification<T> entitySpecification = null;
-    switch (valueType) {
-      case STRING ->
-              entitySpecification = filterSpecs.getStringTypeSpecification(key, value, filterOperation);
-      case DATE_TIME ->
-              entitySpecification = filterSpecs.getDateTimeTypeSpecification(key, value, filterOperation);
-      case LONG ->
-              entitySpecification = filterSpecs.getLongTypeSpecification(key, value, filterOperation);
-      case INTEGER ->
-              entitySpecification = filterSpecs.getIntegerTypeSpecification(key, value, filterOperation);
-      case DATE ->
-              entitySpecification = filterSpecs.getDateTypeSpecification(key, value, filterOperation);
-      case UUID ->
-              entitySpecification = filterSpecs.getUUIDTypeSpecification(key, value, filterOperation);
-      case BOOLEAN ->
-              entitySpecification = filterSpecs.getBooleanTypeSpecification(key, value, filterOperation);
+  private static final class CriterionPlan<T> {
+    private final boolean uppercase;
+    private final Function<String, Specification<T>> specificationFactory;
+
+    private CriterionPlan(boolean uppercase, Function<String, Specification<T>> specificationFactory) {
+      this.uppercase = uppercase;
+      this.specificationFactory = specificationFactory;
+    }
+
+    private Specification<T> bind(String value) {
+      if (uppercase && StringUtils.isNotBlank(value)) {
+        value = value.toUpperCase();
+      }
+      return specificationFactory.apply(value);
     }
-    return entitySpecification;
   }
 }
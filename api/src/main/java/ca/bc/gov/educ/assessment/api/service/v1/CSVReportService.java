@@ -20,8 +20,8 @@ import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportRespons
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.NumberOfAttemptsStudent;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.SimpleHeadcountResultsTable;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.YukonAssessmentCount;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
@@ -61,7 +61,6 @@ public class CSVReportService {
     // CSV Constants
     private static final int CSV_BUFFER_SIZE = 1024;
     private static final int CSV_FLUSH_INTERVAL = 100;
-    private static final int ENTITY_MANAGER_MEM_CLEAR = 10000;
     private static final String SCHOOL_ID = "schoolID";
     private static final String SESSION_ID = "sessionID";
     private static final String STUDENTS_KEY = "students";
@@ -82,52 +81,43 @@ public class CSVReportService {
     private final DOARReportService doarReportService;
     private final AssessmentStudentSearchService assessmentStudentSearchService;
     private final AssessmentCompletionCurrentStudentsService assessmentCompletionCurrentStudentsService;
-    private final EntityManager entityManager;
 
     public boolean isSessionReportAvailable(UUID sessionID) {
         return assessmentStudentLightRepository.existsActiveStudentsBySessionID(sessionID);
     }
 
     public DownloadableReportResponse generateSessionRegistrationsReport(UUID sessionID) {
+        return toDownloadableReport(AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode(), sessionRegistrationsReport(sessionID));
+    }
+
+    public void generateSessionRegistrationsReportStream(UUID sessionID, jakarta.servlet.http.HttpServletResponse response) throws IOException {
+        streamCsvReport(response, getCsvFilename(AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode()), sessionRegistrationsReport(sessionID));
+    }
+
+    private CsvReportWriter sessionRegistrationsReport(UUID sessionID) {
         var session = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
         List<AssessmentStudentEntity> results = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndStudentStatusCodeIn(sessionID, activeStatus);
         List<String> headers = Arrays.stream(AllStudentRegistrationsHeader.values()).map(AllStudentRegistrationsHeader::getCode).toList();
-        CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
-                .build();
-        try {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat)) {
-
-                csvPrinter.printRecord(List.of("Registered Students                                            Date: " + LocalDate.now()));
-                csvPrinter.printRecord(List.of("Assessment Centres for Session " + session.getCourseYear() + "/" + session.getCourseMonth()));
-                csvPrinter.printRecord(List.of("-----------------------------------------------------------------------------------------------"));
+        return csvPrinter -> {
+            csvPrinter.printRecord(List.of("Registered Students                                            Date: " + LocalDate.now()));
+            csvPrinter.printRecord(List.of("Assessment Centres for Session " + session.getCourseYear() + "/" + session.getCourseMonth()));
+            csvPrinter.printRecord(List.of("-----------------------------------------------------------------------------------------------"));
 
-                csvPrinter.printRecord(headers);
+            csvPrinter.printRecord(headers);
 
-                for (AssessmentStudentEntity result : results) {
-                    if (StringUtils.isBlank(result.getProvincialSpecialCaseCode()) || !result.getProvincialSpecialCaseCode().equals(ProvincialSpecialCaseCodes.EXEMPT.getCode())) {
-                        var school = restUtils.getSchoolBySchoolID(result.getSchoolOfRecordSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, SCHOOL_ID, result.getSchoolOfRecordSchoolID().toString()));
+            for (AssessmentStudentEntity result : results) {
+                if (StringUtils.isBlank(result.getProvincialSpecialCaseCode()) || !result.getProvincialSpecialCaseCode().equals(ProvincialSpecialCaseCodes.EXEMPT.getCode())) {
+                    var school = restUtils.getSchoolBySchoolID(result.getSchoolOfRecordSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, SCHOOL_ID, result.getSchoolOfRecordSchoolID().toString()));
 
-                        Optional<SchoolTombstone> assessmentCenter = Optional.empty();
-                        if (result.getAssessmentCenterSchoolID() != null) {
-                            assessmentCenter = restUtils.getSchoolBySchoolID(result.getAssessmentCenterSchoolID().toString());
-                        }
-                        List<String> csvRowData = prepareRegistrationDataForCsv(result, school, assessmentCenter);
-                        csvPrinter.printRecord(csvRowData);
+                    Optional<SchoolTombstone> assessmentCenter = Optional.empty();
+                    if (result.getAssessmentCenterSchoolID() != null) {
+                        assessmentCenter = restUtils.getSchoolBySchoolID(result.getAssessmentCenterSchoolID().toString());
                     }
+                    List<String> csvRowData = prepareRegistrationDataForCsv(result, school, assessmentCenter);
+                    csvPrinter.printRecord(csvRowData);
                 }
-                csvPrinter.flush();
             }
-
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType(AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode());
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
-
-            return downloadableReport;
-        } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException(e);
-        }
+        };
     }
 
     public DownloadableReportResponse generateNumberOfAttemptsReport(UUID sessionID) {
@@ -526,6 +516,14 @@ public class CSVReportService {
     }
 
     public DownloadableReportResponse generateKeyReport(UUID sessionID, String assessmentTypeCode) {
+        return toDownloadableReport(assessmentTypeCode + "-key-summary", keyReport(sessionID, assessmentTypeCode));
+    }
+
+    public void generateKeyReportStream(UUID sessionID, String assessmentTypeCode, jakarta.servlet.http.HttpServletResponse response) throws IOException {
+        streamCsvReport(response, getCsvFilename(assessmentTypeCode + "-key-summary"), keyReport(sessionID, assessmentTypeCode));
+    }
+
+    private CsvReportWriter keyReport(UUID sessionID, String assessmentTypeCode) {
         var session = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
         AssessmentEntity assessmentEntity = session.getAssessments().stream().filter(entity -> entity.getAssessmentTypeCode().equalsIgnoreCase(assessmentTypeCode)).findFirst().orElseThrow(() -> new EntityNotFoundException(AssessmentEntity.class, "assessmentTypeCode", assessmentTypeCode));
 
@@ -537,121 +535,104 @@ public class CSVReportService {
                 .flatMap(assessmentComponentEntity -> assessmentComponentEntity.getAssessmentQuestionEntities().stream()).toList();
 
         List<String> headers = Arrays.stream(KeySummaryHeader.values()).map(KeySummaryHeader::getCode).toList();
-        CSVFormat csvFormat = CSVFormat.DEFAULT.builder().build();
-        try {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat)) {
-
-                csvPrinter.printRecord(headers);
-
-                var keySummaryRowsList = new ArrayList<KeySummaryReportResult>();
-                questions.forEach(question -> {
-                    keySummaryRowsList.add(getKeySummaryReportResult(question));
-                });
+        return csvPrinter -> {
+            csvPrinter.printRecord(headers);
 
-                choices.forEach(choice -> {
-                    keySummaryRowsList.add(getKeySummaryReportResult(choice, questions));
-                });
+            var keySummaryRowsList = new ArrayList<KeySummaryReportResult>();
+            questions.forEach(question -> {
+                keySummaryRowsList.add(getKeySummaryReportResult(question));
+            });
+
+            choices.forEach(choice -> {
+                keySummaryRowsList.add(getKeySummaryReportResult(choice, questions));
+            });
+
+            var sortedList = keySummaryRowsList.stream()
+                    .sorted(Comparator.comparing((KeySummaryReportResult r) -> StringUtils.isNotBlank(r.getFormCode()) ? r.getFormCode() : "")
+                            .thenComparing(r -> StringUtils.isNotBlank(r.getComponentType()) ? r.getComponentType() : "")
+                            .thenComparingInt(r -> r.getItemNumber() == null ? Integer.MIN_VALUE : r.getItemNumber())
+                            .thenComparingInt(r -> {
+                                String questionNumber = r.getQuestionNumber();
+                                if (StringUtils.isBlank(questionNumber)) {
+                                    return Integer.MIN_VALUE;
+                                }
+                                try {
+                                    return Integer.parseInt(questionNumber);
+                                } catch (NumberFormatException e) {
+                                    return Integer.MIN_VALUE;
+                                }
+                            }))
+                    .toList();
 
-                var sortedList = keySummaryRowsList.stream()
-                        .sorted(Comparator.comparing((KeySummaryReportResult r) -> StringUtils.isNotBlank(r.getFormCode()) ? r.getFormCode() : "")
-                                .thenComparing(r -> StringUtils.isNotBlank(r.getComponentType()) ? r.getComponentType() : "")
-                                .thenComparingInt(r -> r.getItemNumber() == null ? Integer.MIN_VALUE : r.getItemNumber())
-                                .thenComparingInt(r -> {
-                                    String questionNumber = r.getQuestionNumber();
-                                    if (StringUtils.isBlank(questionNumber)) {
-                                        return Integer.MIN_VALUE;
-                                    }
-                                    try {
-                                        return Integer.parseInt(questionNumber);
-                                    } catch (NumberFormatException e) {
-                                        return Integer.MIN_VALUE;
-                                    }
-                                }))
-                        .toList();
-
-                var sessionString = session.getCourseYear() + "/" + session.getCourseMonth();
-                for (KeySummaryReportResult result : sortedList) {
-                    List<String> csvRowData = prepareKeySummaryForCsv(result, assessmentTypeCode, sessionString);
-                    csvPrinter.printRecord(csvRowData);
-                }
-                csvPrinter.flush();
+            var sessionString = session.getCourseYear() + "/" + session.getCourseMonth();
+            for (KeySummaryReportResult result : sortedList) {
+                List<String> csvRowData = prepareKeySummaryForCsv(result, assessmentTypeCode, sessionString);
+                csvPrinter.printRecord(csvRowData);
             }
+        };
+    }
 
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType(assessmentTypeCode + "-key-summary");
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
+    public DownloadableReportResponse generateDataForItemAnalysis(UUID sessionID, String assessmentTypeCode) {
+        return toDownloadableReport(assessmentTypeCode + "-data-item-analysis", dataForItemAnalysisReport(sessionID, assessmentTypeCode));
+    }
 
-            return downloadableReport;
-        } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException(e);
-        }
+    public void generateDataForItemAnalysisStream(UUID sessionID, String assessmentTypeCode, jakarta.servlet.http.HttpServletResponse response) throws IOException {
+        streamCsvReport(response, getCsvFilename(assessmentTypeCode + "-data-item-analysis"), dataForItemAnalysisReport(sessionID, assessmentTypeCode));
     }
 
-    public DownloadableReportResponse generateDataForItemAnalysis(UUID sessionID, String assessmentTypeCode) {
+    private CsvReportWriter dataForItemAnalysisReport(UUID sessionID, String assessmentTypeCode) {
         AssessmentSessionEntity assessmentSession = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
 
         List<AssessmentStudentLightEntity> students = assessmentStudentLightRepository.findByAssessmentTypeCodeAndSessionIDAndProficiencyScoreNotNullOrProvincialSpecialCaseNotNull(assessmentTypeCode, sessionID);
         List<String> assignedStudentIds = students.stream().map(AssessmentStudentLightEntity::getPen).toList();
 
         List<String> headers = Arrays.stream(DataItemAnalysisHeader.values()).map(DataItemAnalysisHeader::getCode).toList();
-        CSVFormat csvFormat = CSVFormat.DEFAULT.builder().build();
 
+        PaginatedResponse<Collection> lastFourCollections;
         try {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat)) {
-
-                csvPrinter.printRecord(headers);
+            lastFourCollections = restUtils.getLastFourCollections(assessmentSession);
+        } catch (JsonProcessingException e) {
+            throw new StudentAssessmentAPIRuntimeException(e);
+        }
+        var sdcData = findAppropriateSDCData(lastFourCollections, assignedStudentIds, assessmentSession.getCourseMonth());
 
-                var lastFourCollections = restUtils.getLastFourCollections(assessmentSession);
-                var sdcData = findAppropriateSDCData(lastFourCollections, assignedStudentIds, assessmentSession.getCourseMonth());
+        Object studentsObj = sdcData.get(STUDENTS_KEY);
+        Object snapshotDateMapObj = sdcData.get(STUDENT_TO_COLLECTION_SNAPSHOT_DATE_MAP_KEY);
+        var usedCollectionType = (String) sdcData.get(COLLECTION_TYPE_KEY);
 
-                Object studentsObj = sdcData.get(STUDENTS_KEY);
-                Object snapshotDateMapObj = sdcData.get(STUDENT_TO_COLLECTION_SNAPSHOT_DATE_MAP_KEY);
-                var usedCollectionType = (String) sdcData.get(COLLECTION_TYPE_KEY);
+        if (!(studentsObj instanceof List<?> studentsList) ||
+                !(snapshotDateMapObj instanceof Map<?, ?> snapshotDateMap)) {
+            throw new StudentAssessmentAPIRuntimeException("Invalid SDC data structure received");
+        }
 
-                if (!(studentsObj instanceof List<?> studentsList) ||
-                        !(snapshotDateMapObj instanceof Map<?, ?> snapshotDateMap)) {
-                    throw new StudentAssessmentAPIRuntimeException("Invalid SDC data structure received");
-                }
+        List<SdcSchoolCollectionStudent> sdcStudents = studentsList.stream()
+                .filter(SdcSchoolCollectionStudent.class::isInstance)
+                .map(SdcSchoolCollectionStudent.class::cast)
+                .toList();
 
-                List<SdcSchoolCollectionStudent> sdcStudents = studentsList.stream()
-                        .filter(SdcSchoolCollectionStudent.class::isInstance)
-                        .map(SdcSchoolCollectionStudent.class::cast)
-                        .toList();
+        Map<String, String> studentToCollectionSnapshotDateMap = snapshotDateMap.entrySet().stream()
+                .filter(entry -> entry.getKey() instanceof String && entry.getValue() instanceof String)
+                .collect(Collectors.toMap(
+                        entry -> (String) entry.getKey(),
+                        entry -> (String) entry.getValue()
+                ));
 
-                Map<String, String> studentToCollectionSnapshotDateMap = snapshotDateMap.entrySet().stream()
-                        .filter(entry -> entry.getKey() instanceof String && entry.getValue() instanceof String)
-                        .collect(Collectors.toMap(
-                                entry -> (String) entry.getKey(),
-                                entry -> (String) entry.getValue()
-                        ));
+        Map<String, SdcSchoolCollectionStudent> studentMap = sdcStudents.stream().collect(Collectors.toMap(SdcSchoolCollectionStudent::getAssignedPen, Function.identity()));
 
-                Map<String, SdcSchoolCollectionStudent> studentMap = sdcStudents.stream().collect(Collectors.toMap(SdcSchoolCollectionStudent::getAssignedPen, Function.identity()));
+        log.info("Generating item analysis report for session {}/{} using {} collection with {} students", assessmentSession.getCourseYear(), assessmentSession.getCourseMonth(), usedCollectionType, sdcStudents.size());
 
-                log.info("Generating item analysis report for session {}/{} using {} collection with {} students", assessmentSession.getCourseYear(), assessmentSession.getCourseMonth(), usedCollectionType, sdcStudents.size());
+        var sessionString = assessmentSession.getCourseYear() + "/" + assessmentSession.getCourseMonth();
+        return csvPrinter -> {
+            csvPrinter.printRecord(headers);
 
-                var sessionString = assessmentSession.getCourseYear() + "/" + assessmentSession.getCourseMonth();
-                for (AssessmentStudentLightEntity student : students) {
-                    SdcSchoolCollectionStudent sdcStudent = studentMap.get(student.getPen());
-                    String collectionSnapshotDate = studentToCollectionSnapshotDateMap.get(student.getPen());
+            for (AssessmentStudentLightEntity student : students) {
+                SdcSchoolCollectionStudent sdcStudent = studentMap.get(student.getPen());
+                String collectionSnapshotDate = studentToCollectionSnapshotDateMap.get(student.getPen());
 
-                    List<String> csvRowData = prepareStudentForItemAnalysis(student, sdcStudent, sessionString, collectionSnapshotDate);
-                    csvPrinter.printRecord(csvRowData);
-                }
-                csvPrinter.flush();
+                List<String> csvRowData = prepareStudentForItemAnalysis(student, sdcStudent, sessionString, collectionSnapshotDate);
+                csvPrinter.printRecord(csvRowData);
             }
-
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType(assessmentTypeCode + "-data-item-analysis");
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
-
-            return downloadableReport;
-        } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException(e);
-        }
+        };
     }
 
     private List<String> getDOARHeaders(String assessmentTypeCode) {
@@ -972,7 +953,8 @@ public class CSVReportService {
     /**
      * Finds the appropriate SDC collection and students based on the session month and fallback logic.
      * Blends data from multiple collections, prioritizing September data but using fallback collections
-     * to fill in missing students. Stops fetching once all students have SDC data.
+     * to fill in missing students. Each fallback collection is only asked for the students still missing, and
+     * fetching stops once all students have SDC data.
      *
      * @param lastFourCollections The available collections
      * @param assignedStudentIds The assigned student IDs to search for
@@ -993,25 +975,26 @@ public class CSVReportService {
                     .findFirst();
 
             if (collection.isPresent()) {
-                log.info("Checking {} collection (ID: {}, Snapshot Date: {}) for SDC students", collectionType, collection.get().getCollectionID(), collection.get().getSnapshotDate());
-                var sdcStudents = restUtils.get1701DataForStudents(collection.get().getCollectionID(), assignedStudentIds);
+                List<String> missingStudentIds = assignedStudentIds.stream().filter(pen -> !blendedStudentMap.containsKey(pen)).toList();
+                log.info("Checking {} collection (ID: {}, Snapshot Date: {}) for {} SDC students", collectionType, collection.get().getCollectionID(), collection.get().getSnapshotDate(), missingStudentIds.size());
+                int studentCountBefore = blendedStudentMap.size();
+                restUtils.stream1701DataForStudents(collection.get().getCollectionID(), missingStudentIds, sdcStudents -> {
+                    for (SdcSchoolCollectionStudent student : sdcStudents) {
+                        if (blendedStudentMap.putIfAbsent(student.getAssignedPen(), student) == null) {
+                            studentToCollectionSnapshotDateMap.put(student.getAssignedPen(), collection.get().getSnapshotDate());
+                        }
+                    }
+                });
 
-                if (!sdcStudents.isEmpty()) {
+                if (blendedStudentMap.size() > studentCountBefore) {
                     if (primaryCollection == null) {
                         primaryCollection = collection.get();
                     }
 
                     collectionsUsed.add(collectionType);
 
-                    for (SdcSchoolCollectionStudent student : sdcStudents) {
-                        if (!blendedStudentMap.containsKey(student.getAssignedPen())) {
-                            blendedStudentMap.put(student.getAssignedPen(), student);
-                            studentToCollectionSnapshotDateMap.put(student.getAssignedPen(), collection.get().getSnapshotDate());
-                        }
-                    }
-
                     log.info("Added {} students from {} collection (total unique students now: {})",
-                            sdcStudents.size(), collectionType, blendedStudentMap.size());
+                            blendedStudentMap.size() - studentCountBefore, collectionType, blendedStudentMap.size());
 
                     if (blendedStudentMap.size() >= assignedStudentIds.size()) {
                         log.info("Found SDC data for all {} students after checking {} collection(s). Stopping search early.",
@@ -1107,7 +1090,47 @@ public class CSVReportService {
         );
     }
 
-    private void streamAssessmentStudentCsvReport(String searchCriteriaListJson, jakarta.servlet.http.HttpServletResponse response, List<String> headers, String filenamePrefix, Function<AssessmentStudentEntity, List<String>> rowMapper) throws IOException {
+    private DownloadableReportResponse toDownloadableReport(String reportType, CsvReportWriter reportWriter) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
+                 CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().build())) {
+                reportWriter.write(csvPrinter);
+                csvPrinter.flush();
+            }
+
+            var downloadableReport = new DownloadableReportResponse();
+            downloadableReport.setReportType(reportType);
+            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
+
+            return downloadableReport;
+        } catch (IOException e) {
+            throw new StudentAssessmentAPIRuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the report straight to the response. The writer only fills a buffer of {@link #CSV_BUFFER_SIZE}, which the
+     * container sends as a chunk whenever it is full, so the whole file is never held in memory.
+     */
+    private void streamCsvReport(jakarta.servlet.http.HttpServletResponse response, String filename, CsvReportWriter reportWriter) throws IOException {
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+        response.setBufferSize(CSV_BUFFER_SIZE);
+
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+             CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().build())) {
+            reportWriter.write(csvPrinter);
+            csvPrinter.flush();
+        }
+    }
+
+    private String getCsvFilename(String reportType) {
+        return reportType + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".csv";
+    }
+
+    private void streamAssessmentStudentCsvReport(String searchCriteriaListJson, jakarta.servlet.http.HttpServletResponse response, List<String> headers, String filenamePrefix, Function<AssessmentStudentSearchResult, List<String>> rowMapper) throws IOException {
         List<Sort.Order> sorts = new ArrayList<>();
         ObjectMapper objectMapper = new ObjectMapper();
         Specification<AssessmentStudentEntity> specs = assessmentStudentSearchService.setSpecificationAndSortCriteria("", searchCriteriaListJson, objectMapper, sorts);
@@ -1121,7 +1144,7 @@ public class CSVReportService {
 
         try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
              CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat);
-             Stream<AssessmentStudentEntity> studentStream = assessmentStudentRepository.streamAll(specs)) {
+             Stream<AssessmentStudentSearchResult> studentStream = assessmentStudentRepository.streamAllSearchResults(specs)) {
 
             csvPrinter.printRecord(headers);
             csvPrinter.flush();
@@ -1141,10 +1164,6 @@ public class CSVReportService {
                                 if (count % CSV_FLUSH_INTERVAL == 0) {
                                     csvPrinter.flush();
                                 }
-
-                                if (count % ENTITY_MANAGER_MEM_CLEAR == 0) {
-                                    entityManager.clear();
-                                }
                             } catch (IOException e) {
                                 log.debug("Client disconnected during {} report at record {}. Stopping stream.", filenamePrefix, rowCount.get());
                                 clientDisconnected.set(true);
@@ -1217,7 +1236,7 @@ public class CSVReportService {
         }
     }
 
-    private List<String> prepareAssessmentStudentSearchDataForCsv(AssessmentStudentEntity student) {
+    private List<String> prepareAssessmentStudentSearchDataForCsv(AssessmentStudentSearchResult student) {
         Optional<SchoolTombstone> schoolOfRecord = student.getSchoolOfRecordSchoolID() != null
                 ? restUtils.getSchoolBySchoolID(student.getSchoolOfRecordSchoolID().toString())
                 : Optional.empty();
@@ -1226,15 +1245,8 @@ public class CSVReportService {
                 ? restUtils.getSchoolBySchoolID(student.getSchoolAtWriteSchoolID().toString())
                 : Optional.empty();
 
-        String assessmentCode = student.getAssessmentEntity() != null
-                ? student.getAssessmentEntity().getAssessmentTypeCode()
-                : "";
-
-        String assessmentSession = "";
-        if (student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null) {
-            AssessmentSessionEntity session = student.getAssessmentEntity().getAssessmentSessionEntity();
-            assessmentSession = session.getCourseYear() + "/" + session.getCourseMonth();
-        }
+        String assessmentCode = StringUtils.defaultString(student.getAssessmentTypeCode());
+        String assessmentSession = student.getCourseYear() + "/" + student.getCourseMonth();
 
         String specialCase = "";
         if (StringUtils.isNotBlank(student.getProvincialSpecialCaseCode())) {
@@ -1258,7 +1270,7 @@ public class CSVReportService {
         ));
     }
 
-    private List<String> prepareAssessmentRegistrationSearchDataForCsv(AssessmentStudentEntity student) {
+    private List<String> prepareAssessmentRegistrationSearchDataForCsv(AssessmentStudentSearchResult student) {
         Optional<SchoolTombstone> schoolOfRecord = student.getSchoolOfRecordSchoolID() != null
                 ? restUtils.getSchoolBySchoolID(student.getSchoolOfRecordSchoolID().toString())
                 : Optional.empty();
@@ -1267,15 +1279,8 @@ public class CSVReportService {
                 ? restUtils.getSchoolBySchoolID(student.getAssessmentCenterSchoolID().toString())
                 : Optional.empty();
 
-        String assessmentCode = student.getAssessmentEntity() != null
-                ? student.getAssessmentEntity().getAssessmentTypeCode()
-                : "";
-
-        String assessmentSession = "";
-        if (student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null) {
-            AssessmentSessionEntity session = student.getAssessmentEntity().getAssessmentSessionEntity();
-            assessmentSession = session.getCourseYear() + "/" + session.getCourseMonth();
-        }
+        String assessmentCode = StringUtils.defaultString(student.getAssessmentTypeCode());
+        String assessmentSession = student.getCourseYear() + "/" + student.getCourseMonth();
 
         return new ArrayList<>(Arrays.asList(
                 assessmentSession,
@@ -1290,25 +1295,23 @@ public class CSVReportService {
     }
     public boolean isYukonSummaryReportAvailable(UUID sessionID) {
         var district = restUtils.getYukonDistrict().orElseThrow(() -> new EntityNotFoundException(District.class, DISTRICT_ID_FIELD, YUKON_DISTRICT_ID));
-        List<UUID> schoolsInDistrict = restUtils.getSchools()
-                .stream()
-                .filter(school -> Objects.equals(school.getDistrictId(), district.getDistrictId()))
-                .map(SchoolTombstone::getSchoolId)
-                .map(UUID::fromString)
-                .toList();
+        List<UUID> schoolsInDistrict = getSchoolIDsInDistrict(district);
         var results = assessmentStudentRepository.findYukonAssessmentCounts(schoolsInDistrict, List.of(sessionID));
         return !results.isEmpty();
     }
 
     public boolean isYukonStudentDetailReportAvailable(UUID sessionID) {
         var district = restUtils.getYukonDistrict().orElseThrow(() -> new EntityNotFoundException(District.class, DISTRICT_ID_FIELD, YUKON_DISTRICT_ID));
-        List<UUID> schoolsInDistrict = restUtils.getSchools()
+        List<UUID> schoolsInDistrict = getSchoolIDsInDistrict(district);
+        return assessmentStudentRepository.existsByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDInAndStudentStatusCodeIn(sessionID, schoolsInDistrict, activeStatus);
+    }
+
+    private List<UUID> getSchoolIDsInDistrict(District district) {
+        return restUtils.getSchoolsByDistrictID(district.getDistrictId())
                 .stream()
-                .filter(school -> Objects.equals(school.getDistrictId(), district.getDistrictId()))
                 .map(SchoolTombstone::getSchoolId)
                 .map(UUID::fromString)
                 .toList();
-        return assessmentStudentRepository.existsByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDInAndStudentStatusCodeIn(sessionID, schoolsInDistrict, activeStatus);
     }
 
     public boolean isItemAnalysisDataAvailable(UUID sessionID, String assessmentTypeCode) {
@@ -1346,43 +1349,31 @@ public class CSVReportService {
     }
 
     public DownloadableReportResponse generateYukonReport(UUID sessionID) {
+        return toDownloadableReport("yukon-summary-report", yukonReport(sessionID));
+    }
+
+    public void generateYukonReportStream(UUID sessionID, jakarta.servlet.http.HttpServletResponse response) throws IOException {
+        streamCsvReport(response, getCsvFilename("yukon-summary-report"), yukonReport(sessionID));
+    }
+
+    private CsvReportWriter yukonReport(UUID sessionID) {
         var district = restUtils.getYukonDistrict().orElseThrow(() -> new EntityNotFoundException(District.class, DISTRICT_ID_FIELD, YUKON_DISTRICT_ID));
         var session = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
 
-        List<UUID> schoolsInDistrict = restUtils.getSchools()
-                .stream()
-                .filter(school -> Objects.equals(school.getDistrictId(), district.getDistrictId()))
-                .map(SchoolTombstone::getSchoolId)
-                .map(UUID::fromString)
-                .toList();
+        List<UUID> schoolsInDistrict = getSchoolIDsInDistrict(district);
 
         var results = assessmentStudentRepository.findYukonAssessmentCounts(schoolsInDistrict, List.of(session.getSessionID()));
 
         List<String> headers = Arrays.stream(YukonSummaryReportHeader.values()).map(YukonSummaryReportHeader::getCode).toList();
-        CSVFormat csvFormat = CSVFormat.DEFAULT.builder().build();
-        try {
-            java.io.ByteArrayOutputStream byteArrayOutputStream = new java.io.ByteArrayOutputStream();
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat)) {
-
-                csvPrinter.printRecord(headers);
-                for (YukonAssessmentCount assessmentCount : results) {
-                    var school = restUtils.getSchoolBySchoolID(assessmentCount.getSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolAtWriteSchoolID", assessmentCount.getSchoolID().toString()));
+        return csvPrinter -> {
+            csvPrinter.printRecord(headers);
+            for (YukonAssessmentCount assessmentCount : results) {
+                var school = restUtils.getSchoolBySchoolID(assessmentCount.getSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolAtWriteSchoolID", assessmentCount.getSchoolID().toString()));
 
-                    List<String> csvRowData = prepareDataForYukonCsv(school, assessmentCount, session.getCourseYear() + session.getCourseMonth());
-                    csvPrinter.printRecord(csvRowData);
-                }
-                csvPrinter.flush();
+                List<String> csvRowData = prepareDataForYukonCsv(school, assessmentCount, session.getCourseYear() + session.getCourseMonth());
+                csvPrinter.printRecord(csvRowData);
             }
-
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType("yukon-summary-report");
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
-
-            return downloadableReport;
-        } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException(e);
-        }
+        };
     }
 
     private List<String> prepareDataForYukonCsv(SchoolTombstone school, YukonAssessmentCount yukonAssessmentCount, String session) {
@@ -1408,40 +1399,28 @@ public class CSVReportService {
     }
 
     public DownloadableReportResponse generateYukonStudentDetailsReport(UUID sessionID) {
+        return toDownloadableReport("yukon-student-report", yukonStudentDetailsReport(sessionID));
+    }
+
+    public void generateYukonStudentDetailsReportStream(UUID sessionID, jakarta.servlet.http.HttpServletResponse response) throws IOException {
+        streamCsvReport(response, getCsvFilename("yukon-student-report"), yukonStudentDetailsReport(sessionID));
+    }
+
+    private CsvReportWriter yukonStudentDetailsReport(UUID sessionID) {
         var district = restUtils.getYukonDistrict().orElseThrow(() -> new EntityNotFoundException(District.class, DISTRICT_ID_FIELD, YUKON_DISTRICT_ID));
 
-        List<UUID> schoolsInDistrict = restUtils.getSchools()
-                .stream()
-                .filter(school -> Objects.equals(school.getDistrictId(), district.getDistrictId()))
-                .map(SchoolTombstone::getSchoolId)
-                .map(UUID::fromString)
-                .toList();
+        List<UUID> schoolsInDistrict = getSchoolIDsInDistrict(district);
 
         List<AssessmentStudentEntity> results = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDInAndStudentStatusCodeIn(sessionID, schoolsInDistrict, activeStatus);
-        CSVFormat csvFormat = CSVFormat.DEFAULT.builder().build();
-        try {
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat)) {
+        return csvPrinter -> {
+            csvPrinter.printRecord(Arrays.stream(YukonStudentResultsHeader.values()).map(YukonStudentResultsHeader::getCode).toList());
 
-                csvPrinter.printRecord(Arrays.stream(YukonStudentResultsHeader.values()).map(YukonStudentResultsHeader::getCode).toList());
-
-                for (AssessmentStudentEntity result : results) {
-                    var school = restUtils.getSchoolBySchoolID(result.getSchoolAtWriteSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolAtWriteSchoolID", result.getSchoolAtWriteSchoolID().toString()));
-                    List<String> csvRowData = prepareYukonStudentResultDataForCsv(result, school);
-                    csvPrinter.printRecord(csvRowData);
-                }
-                csvPrinter.flush();
+            for (AssessmentStudentEntity result : results) {
+                var school = restUtils.getSchoolBySchoolID(result.getSchoolAtWriteSchoolID().toString()).orElseThrow(() -> new EntityNotFoundException(SchoolTombstone.class, "schoolAtWriteSchoolID", result.getSchoolAtWriteSchoolID().toString()));
+                List<String> csvRowData = prepareYukonStudentResultDataForCsv(result, school);
+                csvPrinter.printRecord(csvRowData);
             }
-
-            var downloadableReport = new DownloadableReportResponse();
-            downloadableReport.setReportType("yukon-student-report");
-            downloadableReport.setDocumentData(Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray()));
-
-            return downloadableReport;
-        } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException(e);
-        }
+        };
     }
 
     private List<String> prepareYukonStudentResultDataForCsv(AssessmentStudentEntity student, SchoolTombstone school) {
@@ -1454,4 +1433,13 @@ public class CSVReportService {
                 student.getProvincialSpecialCaseCode()
         ));
     }
+
+    /**
+     * Prints the rows of a report. The records a report is built from are loaded before its writer is returned, so a
+     * missing session is reported before any of the file has been sent.
+     */
+    @FunctionalInterface
+    private interface CsvReportWriter {
+        void write(CSVPrinter csvPrinter) throws IOException;
+    }
 }
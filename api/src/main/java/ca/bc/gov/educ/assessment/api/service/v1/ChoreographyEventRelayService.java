@@ -0,0 +1,59 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.constants.EventType;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static ca.bc.gov.educ.assessment.api.constants.EventStatus.DB_COMMITTED;
+import static ca.bc.gov.educ.assessment.api.constants.EventStatus.MESSAGE_PUBLISHED;
+
+/**
+ * Claims and marks the choreography events written to ASSESSMENT_EVENT, which is the outbox, for the relay that
+ * publishes them to JetStream. Each step is a short transaction of its own, so no connection or row lock is held
+ * while the relay waits for acknowledgements.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChoreographyEventRelayService {
+
+  /**
+   * Events received from other APIs and stored for processing here, which are never published.
+   */
+  public static final List<String> INCOMING_EVENT_TYPES = List.of(EventType.UPDATE_SCHOOL_OF_RECORD.toString(), EventType.CREATE_MERGE.toString(), EventType.DELETE_MERGE.toString());
+
+  private final AssessmentEventRepository assessmentEventRepository;
+  private final ApplicationProperties applicationProperties;
+
+  /**
+   * Claims the oldest unpublished events created before the given time that no other relay holds a claim on. The
+   * claim lasts choreography.relay.claim.timeout.ms, so the events of a relay that stops before marking them are
+   * claimed again once it has run out.
+   */
+  @Transactional
+  public List<AssessmentEventEntity> claimPendingEvents(LocalDateTime createdBefore) {
+    var now = LocalDateTime.now();
+    var events = assessmentEventRepository.findAndLockUnclaimedByEventStatusAndCreateDateBeforeAndEventTypeNotInOrderByCreateDate(DB_COMMITTED.toString(), createdBefore, now, applicationProperties.getChoreographyRelayBatchSize(), INCOMING_EVENT_TYPES);
+    if (!events.isEmpty()) {
+      assessmentEventRepository.updateClaimedUntil(events.stream().map(AssessmentEventEntity::getEventId).toList(), now.plus(Duration.ofMillis(applicationProperties.getChoreographyRelayClaimTimeoutMs())));
+    }
+    return events;
+  }
+
+  /**
+   * Marks the events JetStream acknowledged as published with a single update.
+   */
+  @Transactional
+  public void markEventsPublished(Collection<UUID> eventIds) {
+    assessmentEventRepository.updateEventStatus(eventIds, MESSAGE_PUBLISHED.toString(), LocalDateTime.now());
+  }
+}
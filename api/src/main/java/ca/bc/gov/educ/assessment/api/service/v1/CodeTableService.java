@@ -1,22 +1,24 @@
 package ca.bc.gov.educ.assessment.api.service.v1;
 
+import ca.bc.gov.educ.assessment.api.mappers.v1.CodeTableMapper;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
 import lombok.AllArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static javax.management.timer.Timer.ONE_DAY;
+import static ca.bc.gov.educ.assessment.api.service.v1.ReferenceDataCache.*;
 
 @Service
 @AllArgsConstructor
 public class CodeTableService {
 
+    private static final CodeTableMapper mapper = CodeTableMapper.mapper;
+    private final ReferenceDataCache referenceDataCache;
     private final AssessmentSessionRepository assessmentSessionRepository;
     private final AssessmentTypeCodeRepository assessmentTypeCodeRepository;
     private final ProvincialSpecialCaseCodeRepository provincialSpecialCaseCodeRepository;
@@ -27,55 +29,53 @@ public class CodeTableService {
     private final ContextCodeRepository contextCodeRepository;
     private final TaskCodeRepository taskCodeRepository;
 
-    @Cacheable("assessmentTypeCodes")
     public List<AssessmentTypeCodeEntity> getAllAssessmentTypeCodes() {
-        return assessmentTypeCodeRepository.findAllByOrderByDisplayOrderAscAssessmentTypeCodeAsc();
+        return referenceDataCache.get(ASSESSMENT_TYPE_CODES, assessmentTypeCodeRepository::findAllByOrderByDisplayOrderAscAssessmentTypeCodeAsc);
+    }
+
+    public byte[] getAllAssessmentTypeCodesJson() {
+        return referenceDataCache.getJson(ASSESSMENT_TYPE_CODES_JSON, () -> getAllAssessmentTypeCodes().stream().map(mapper::toStructure).toList());
     }
 
     public Map<String, String> getAllAssessmentTypeCodesAsMap() {
-        var allCodes = getAllAssessmentTypeCodes();
-        return allCodes.stream().collect(Collectors.toMap(AssessmentTypeCodeEntity::getAssessmentTypeCode, AssessmentTypeCodeEntity::getDescription));
+        return referenceDataCache.get(ASSESSMENT_TYPE_CODE_DESCRIPTIONS, () -> Collections.unmodifiableMap(getAllAssessmentTypeCodes().stream()
+                .collect(Collectors.toMap(AssessmentTypeCodeEntity::getAssessmentTypeCode, AssessmentTypeCodeEntity::getDescription))));
     }
 
-    @Scheduled(fixedRate = ONE_DAY, initialDelayString = "${timing.initialDelay}")
-    @Cacheable("assessmentSessions")
     public List<AssessmentSessionEntity> getAllAssessmentSessionCodes() {
-        return assessmentSessionRepository.findAll();
+        return referenceDataCache.get(ASSESSMENT_SESSIONS, assessmentSessionRepository::findAll);
     }
 
-    @Cacheable("adaptedAssessmentIndicatorCodes")
     public List<AdaptedAssessmentIndicatorCodeEntity> getAdaptedAssessmentIndicatorCodes() {
-        return adaptedAssessmentIndicatorCodeRepository.findAll();
+        return referenceDataCache.get(ADAPTED_ASSESSMENT_INDICATOR_CODES, adaptedAssessmentIndicatorCodeRepository::findAll);
     }
 
-    @Cacheable("provincialSpecialCaseCodes")
     public List<ProvincialSpecialCaseCodeEntity> getAllProvincialSpecialCaseCodes() {
-        return provincialSpecialCaseCodeRepository.findAll();
+        return referenceDataCache.get(PROVINCIAL_SPECIAL_CASE_CODES, provincialSpecialCaseCodeRepository::findAll);
+    }
+
+    public byte[] getAllProvincialSpecialCaseCodesJson() {
+        return referenceDataCache.getJson(PROVINCIAL_SPECIAL_CASE_CODES_JSON, () -> getAllProvincialSpecialCaseCodes().stream().map(mapper::toStructure).toList());
     }
 
-    @Cacheable("claimCodes")
     public List<ClaimCodeEntity> getAllClaimCodes() {
-        return claimCodeRepository.findAll();
+        return referenceDataCache.get(CLAIM_CODES, claimCodeRepository::findAll);
     }
 
-    @Cacheable("cognitiveLevelCodes")
     public List<CognitiveLevelCodeEntity> getAllCognitiveLevelCodes() {
-        return cognitiveLevelCodeRepository.findAll();
+        return referenceDataCache.get(COGNITIVE_LEVEL_CODES, cognitiveLevelCodeRepository::findAll);
     }
 
-    @Cacheable("conceptCodes")
     public List<ConceptCodeEntity> getAllConceptCodes() {
-        return conceptsCodeRepository.findAll();
+        return referenceDataCache.get(CONCEPT_CODES, conceptsCodeRepository::findAll);
     }
 
-    @Cacheable("contextCodes")
     public List<ContextCodeEntity> getAllContextCodes() {
-        return contextCodeRepository.findAll();
+        return referenceDataCache.get(CONTEXT_CODES, contextCodeRepository::findAll);
     }
 
-    @Cacheable("taskCodes")
     public List<TaskCodeEntity> getAllTaskCodes() {
-        return taskCodeRepository.findAll();
+        return referenceDataCache.get(TASK_CODES, taskCodeRepository::findAll);
     }
 
 }
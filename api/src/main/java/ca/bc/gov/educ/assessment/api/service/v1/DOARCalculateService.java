@@ -1,32 +1,86 @@
 package ca.bc.gov.educ.assessment.api.service.v1;
 
 
+import ca.bc.gov.educ.assessment.api.constants.v1.reports.DOARColumnLookup;
+import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 @Service
 @Slf4j
-@NoArgsConstructor
 public class DOARCalculateService {
 
-    public BigDecimal calculateTotal(AssessmentStudentEntity student, List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode) {
+    private static final String OPEN_ENDED = "OPEN_ENDED";
+    private static final String MUL_CHOICE = "MUL_CHOICE";
+    private static final BigDecimal NOT_MARKED_SCORE = new BigDecimal(9999);
+    private static final BigDecimal DIVISOR = new BigDecimal(100);
+    private final EnumMap<DOARColumnLookup, DOARColumn> map = new EnumMap<>(DOARColumnLookup.class);
+
+    public DOARCalculateService() {
+        map.put(DOARColumnLookup.ENTRY1, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, OPEN_ENDED);
+            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
+            return calculateTotal(studentAnswers, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode);
+        });
+        map.put(DOARColumnLookup.ENTRY2, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, studentAnswers, MUL_CHOICE, includeChoiceCalc);
+            return calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, studentAnswers);
+        });
+        map.put(DOARColumnLookup.ENTRY3, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, studentAnswers, OPEN_ENDED, false);
+            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, studentAnswers, MUL_CHOICE, includeChoiceCalc);
+            return calculateTotal(studentAnswers, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode);
+        });
+        map.put(DOARColumnLookup.ENTRY4, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, studentAnswers, OPEN_ENDED, false);
+            return calculateOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers);
+        });
+        map.put(DOARColumnLookup.ENTRY5, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
+            return calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, studentAnswers);
+        });
+        map.put(DOARColumnLookup.ENTRY6, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getConceptsCodeQuestionsForSelectedForm(selectedAssessmentForm, code, studentAnswers, OPEN_ENDED, false);
+            return calculateOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers);
+        });
+        map.put(DOARColumnLookup.ENTRY7, (selectedAssessmentForm, studentAnswers, code, includeChoiceCalc) -> {
+            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getQuestionsWithAssessmentSectionForSelectedForm(selectedAssessmentForm, code, studentAnswers, MUL_CHOICE, includeChoiceCalc);
+            return calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, studentAnswers);
+        });
+    }
+
+    /**
+     * Calculates one DOAR column for a student. Used for both the approved and the staged results, the student's
+     * answers having been read once into {@link DOARStudentAnswers} beforehand.
+     */
+    public BigDecimal calculateColumn(String componentType, String code, AssessmentFormEntity selectedAssessmentForm, DOARStudentAnswers studentAnswers, String assessmentTypeCode, boolean includeChoiceCalc) {
+        var lookup = map.get(DOARColumnLookup.getDOARColumn(componentType, code, assessmentTypeCode));
+        if (lookup != null) {
+            return lookup.calculate(selectedAssessmentForm, studentAnswers, code, includeChoiceCalc);
+        } else {
+            throw new InvalidParameterException("Column type does not exist for this report");
+        }
+    }
+
+    public BigDecimal calculateTotal(DOARStudentAnswers studentAnswers, List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode) {
         //possible total
         BigDecimal possibleMcTotal = getPossibleMCTotal(selectedMcAssessmentQuestionsByTypeCode);
 
-        BigDecimal possibleOeTotal = getPossibleOETotal(selectedOeAssessmentQuestionsByTypeCode, student); // check per question
+        BigDecimal possibleOeTotal = getPossibleOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers); // check per question
 
         //student Total
-        BigDecimal studentMcTotal = getStudentMCTotal(selectedMcAssessmentQuestionsByTypeCode, student);
-        BigDecimal studentOeTotal = getStudentOETotal(selectedOeAssessmentQuestionsByTypeCode, student);
+        BigDecimal studentMcTotal = getStudentMCTotal(selectedMcAssessmentQuestionsByTypeCode, studentAnswers);
+        BigDecimal studentOeTotal = getStudentOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers);
 
         var studentTotal = studentMcTotal.add(studentOeTotal);
         var possibleTotal = possibleMcTotal.add(possibleOeTotal);
@@ -38,36 +92,21 @@ public class DOARCalculateService {
         return BigDecimal.ZERO;
     }
 
-    private boolean checkIfStudentAnsweredOEQues(AssessmentStudentEntity student, List<AssessmentQuestionEntity> questions) {
-
-        //question ids by typecode
-        var listOfQuesIDs = questions.stream().map(AssessmentQuestionEntity::getAssessmentQuestionID).toList();
-
-        //assessment choice Ids of questions by typecode
-        var listOfQuesChoiceIDs =  questions.stream().map(AssessmentQuestionEntity::getAssessmentChoiceEntity)
-                .filter(Objects::nonNull).map(AssessmentChoiceEntity::getAssessmentChoiceID).toList();
-
-        //questionIds of questions student chose(includes answered and un-answered)
-        var listOfQuesAnswered = student.getAssessmentStudentComponentEntities().stream()
-                .map(AssessmentStudentComponentEntity::getAssessmentStudentChoiceEntities).flatMap(Collection::stream)
-                .map(AssessmentStudentChoiceEntity::getAssessmentStudentChoiceQuestionSetEntities).flatMap(Collection::stream)
-                .map(AssessmentStudentChoiceQuestionSetEntity::getAssessmentQuestionID).toList();
-
-        //assessment choice Ids of student answers
-        var listOfStudentChoices = student.getAssessmentStudentComponentEntities().stream()
-                .map(AssessmentStudentComponentEntity::getAssessmentStudentChoiceEntities).flatMap(Collection::stream)
-                .map(AssessmentStudentChoiceEntity::getAssessmentChoiceEntity).filter(Objects::nonNull).map(AssessmentChoiceEntity::getAssessmentChoiceID).toList();
-
-        var hasAnsweredOeQues =  listOfQuesAnswered.stream().anyMatch(listOfQuesIDs::contains);
-        var hasAnsweredADifferentChoice =  listOfStudentChoices.stream().anyMatch(listOfQuesChoiceIDs::contains);
+    private boolean checkIfStudentAnsweredOEQues(DOARStudentAnswers studentAnswers, List<AssessmentQuestionEntity> questions) {
+        //student chose one of these questions (includes answered and un-answered)
+        var hasAnsweredOeQues = questions.stream().map(AssessmentQuestionEntity::getAssessmentQuestionID).anyMatch(studentAnswers::hasChosenQuestion);
         if(hasAnsweredOeQues) {
             return true;
-        } else return !hasAnsweredADifferentChoice;
+        }
+        //student chose a different choice than the one holding these questions
+        var hasAnsweredADifferentChoice = questions.stream().map(AssessmentQuestionEntity::getAssessmentChoiceEntity)
+                .filter(Objects::nonNull).map(AssessmentChoiceEntity::getAssessmentChoiceID).anyMatch(studentAnswers::hasChosenChoice);
+        return !hasAnsweredADifferentChoice;
     }
 
-    public BigDecimal calculateMCTotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode, AssessmentStudentEntity student) {
+    public BigDecimal calculateMCTotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode, DOARStudentAnswers studentAnswers) {
         BigDecimal possibleMcTotal = getPossibleMCTotal(selectedMcAssessmentQuestionsByTypeCode);
-        BigDecimal studentMcTotal = getStudentMCTotal(selectedMcAssessmentQuestionsByTypeCode, student);
+        BigDecimal studentMcTotal = getStudentMCTotal(selectedMcAssessmentQuestionsByTypeCode, studentAnswers);
 
         if(possibleMcTotal.compareTo(BigDecimal.ZERO) != 0) {
             return  studentMcTotal.divide(possibleMcTotal, 4, RoundingMode.DOWN).multiply(BigDecimal.valueOf(100));
@@ -76,9 +115,9 @@ public class DOARCalculateService {
         return BigDecimal.ZERO;
     }
 
-    public BigDecimal calculateOETotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode, AssessmentStudentEntity student) {
-        BigDecimal possibleOeTotal = getPossibleOETotal(selectedMcAssessmentQuestionsByTypeCode, student);
-        BigDecimal studentOeTotal = getStudentOETotal(selectedMcAssessmentQuestionsByTypeCode, student);
+    public BigDecimal calculateOETotal(List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, DOARStudentAnswers studentAnswers) {
+        BigDecimal possibleOeTotal = getPossibleOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers);
+        BigDecimal studentOeTotal = getStudentOETotal(selectedOeAssessmentQuestionsByTypeCode, studentAnswers);
 
         if(possibleOeTotal.compareTo(BigDecimal.ZERO) != 0) {
             return studentOeTotal.divide(possibleOeTotal, 4, RoundingMode.DOWN).multiply(BigDecimal.valueOf(100));
@@ -88,129 +127,165 @@ public class DOARCalculateService {
     }
 
     private BigDecimal getPossibleMCTotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode) {
-        BigDecimal divisor = new BigDecimal(100);
         if(selectedMcAssessmentQuestionsByTypeCode.isEmpty()) {
             return BigDecimal.ZERO;
         }
         var totalQuestionValue = selectedMcAssessmentQuestionsByTypeCode.stream()
                 .map(question -> question.getQuestionValue().multiply(BigDecimal.valueOf(question.getScaleFactor())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return totalQuestionValue.divide(divisor, 4, RoundingMode.DOWN);
+        return totalQuestionValue.divide(DIVISOR, 4, RoundingMode.DOWN);
     }
 
-    private BigDecimal getPossibleOETotal(List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, AssessmentStudentEntity student) {
+    private BigDecimal getPossibleOETotal(List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, DOARStudentAnswers studentAnswers) {
         if(selectedOeAssessmentQuestionsByTypeCode.isEmpty()) {
             return BigDecimal.ZERO;
         }
-        var oralQuestions = selectedOeAssessmentQuestionsByTypeCode.stream()
-                .filter(questionEntity -> questionEntity.getAssessmentComponentEntity().getComponentSubTypeCode().equalsIgnoreCase("ORAL"))
-                .toList();
-        var oralWrittenQuestions = selectedOeAssessmentQuestionsByTypeCode.stream()
-                .filter(questionEntity -> questionEntity.getAssessmentComponentEntity().getComponentSubTypeCode().equalsIgnoreCase("NONE"))
-                .toList();
+        var oralQuestions = getQuestionsForComponentSubType(selectedOeAssessmentQuestionsByTypeCode, "ORAL");
+        var oralWrittenQuestions = getQuestionsForComponentSubType(selectedOeAssessmentQuestionsByTypeCode, "NONE");
         Map<Integer, List<AssessmentQuestionEntity>> groupedOralQuestionsByMasterQuestionNumber = oralQuestions.stream().collect(Collectors.groupingBy(AssessmentQuestionEntity::getMasterQuestionNumber));
         Map<Integer, List<AssessmentQuestionEntity>> groupedOralWrittenQuestionsByMasterQuestionNumber = oralWrittenQuestions.stream().collect(Collectors.groupingBy(AssessmentQuestionEntity::getMasterQuestionNumber));
 
         BigDecimal possibleScore = BigDecimal.ZERO;
-        BigDecimal divisor = new BigDecimal(100);
         for(List<AssessmentQuestionEntity> questionEntities : Stream.concat(groupedOralQuestionsByMasterQuestionNumber.values().stream(), groupedOralWrittenQuestionsByMasterQuestionNumber.values().stream()).toList()) {
             var totalQuestionValue = questionEntities.getFirst().getQuestionValue();
             var totalScale = questionEntities.getFirst().getScaleFactor();
 
-            boolean includeOeTotalInCalc = checkIfStudentAnsweredOEQues(student, questionEntities);
+            boolean includeOeTotalInCalc = checkIfStudentAnsweredOEQues(studentAnswers, questionEntities);
             if(includeOeTotalInCalc) {
-                possibleScore = possibleScore.add(totalQuestionValue.multiply(BigDecimal.valueOf(totalScale)).divide(divisor, 4, RoundingMode.DOWN));
+                possibleScore = possibleScore.add(totalQuestionValue.multiply(BigDecimal.valueOf(totalScale)).divide(DIVISOR, 4, RoundingMode.DOWN));
             }
         }
         return possibleScore;
     }
 
-    private BigDecimal getStudentMCTotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode, AssessmentStudentEntity student) {
-        if(selectedMcAssessmentQuestionsByTypeCode.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        var assessmentComponentID = selectedMcAssessmentQuestionsByTypeCode.getFirst().getAssessmentComponentEntity().getAssessmentComponentID();
-        // get student MC answers
-        var studentMcAnswers = student.getAssessmentStudentComponentEntities().stream()
-                .filter(assessmentStudentComponentEntity -> Objects.equals(assessmentStudentComponentEntity.getAssessmentComponentID(), assessmentComponentID))
-                .map(AssessmentStudentComponentEntity::getAssessmentStudentAnswerEntities)
-                .flatMap(Collection::stream)
-                .toList();
-
+    private BigDecimal getStudentMCTotal(List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode, DOARStudentAnswers studentAnswers) {
         BigDecimal studentScore = BigDecimal.ZERO;
-        for(AssessmentQuestionEntity  questionEntities : selectedMcAssessmentQuestionsByTypeCode) {
-            BigDecimal scaledScore =  calculateSingleMarkerScore(questionEntities, studentMcAnswers);
-            studentScore = studentScore.add(scaledScore);
+        for(AssessmentQuestionEntity questionEntity : selectedMcAssessmentQuestionsByTypeCode) {
+            studentScore = studentScore.add(getSingleMarkerScore(questionEntity, studentAnswers));
         }
         return studentScore;
     }
 
-    private BigDecimal getStudentOETotal(List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, AssessmentStudentEntity student) {
+    private BigDecimal getStudentOETotal(List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode, DOARStudentAnswers studentAnswers) {
         if(selectedOeAssessmentQuestionsByTypeCode.isEmpty()) {
             return BigDecimal.ZERO;
         }
 
-        var oralQuestions = selectedOeAssessmentQuestionsByTypeCode.stream()
-                .filter(questionEntity -> questionEntity.getAssessmentComponentEntity().getComponentSubTypeCode().equalsIgnoreCase("ORAL"))
-                .toList();
-        var oralWrittenQuestions = selectedOeAssessmentQuestionsByTypeCode.stream()
-                .filter(questionEntity -> questionEntity.getAssessmentComponentEntity().getComponentSubTypeCode().equalsIgnoreCase("NONE"))
-                .toList();
-
-        var oralAssessmentComponentID = !oralQuestions.isEmpty() ? oralQuestions.getFirst().getAssessmentComponentEntity().getAssessmentComponentID() : null;
-        var oralWrittenAssessmentComponentID = !oralWrittenQuestions.isEmpty() ? oralWrittenQuestions.getFirst().getAssessmentComponentEntity().getAssessmentComponentID(): null;
-        // get student OE answers
-        var studentMcAnswers = student.getAssessmentStudentComponentEntities().stream()
-                .filter(assessmentStudentComponentEntity ->
-                        (oralAssessmentComponentID != null && Objects.equals(assessmentStudentComponentEntity.getAssessmentComponentID(), oralAssessmentComponentID))
-                                || (oralWrittenAssessmentComponentID !=null && Objects.equals(assessmentStudentComponentEntity.getAssessmentComponentID(), oralWrittenAssessmentComponentID)))
-                .map(AssessmentStudentComponentEntity::getAssessmentStudentAnswerEntities)
-                .flatMap(Collection::stream)
-                .toList();
-
+        var oralQuestions = getQuestionsForComponentSubType(selectedOeAssessmentQuestionsByTypeCode, "ORAL");
+        var oralWrittenQuestions = getQuestionsForComponentSubType(selectedOeAssessmentQuestionsByTypeCode, "NONE");
         Map<Integer, List<AssessmentQuestionEntity>> groupedOralQuestionsByQuestionNumber = oralQuestions.stream().collect(Collectors.groupingBy(AssessmentQuestionEntity::getQuestionNumber));
         Map<Integer, List<AssessmentQuestionEntity>> groupedOralWrittenQuestionsByQuestionNumber = oralWrittenQuestions.stream().collect(Collectors.groupingBy(AssessmentQuestionEntity::getQuestionNumber));
 
-        BigDecimal divisor = new BigDecimal(100);
         BigDecimal calcScore = BigDecimal.ZERO;
-
         for(List<AssessmentQuestionEntity> questionEntities : Stream.concat(groupedOralQuestionsByQuestionNumber.values().stream(), groupedOralWrittenQuestionsByQuestionNumber.values().stream()).toList()) {
             if(questionEntities.size() > 1) {
                 var scaleFactor = questionEntities.getFirst().getScaleFactor();
-                var studentAnswers = studentMcAnswers.stream()
-                        .filter(assessmentStudentAnswerEntity -> questionEntities.stream()
-                                .anyMatch(assessmentQuestionEntity -> Objects.equals(assessmentStudentAnswerEntity.getAssessmentQuestionID(), assessmentQuestionEntity.getAssessmentQuestionID())))
-                        .toList();
+                BigDecimal totalScore = BigDecimal.ZERO;
+                int numberOfScores = 0;
+                for(AssessmentQuestionEntity questionEntity : questionEntities) {
+                    for(BigDecimal score : studentAnswers.getScores(questionEntity.getAssessmentQuestionID())) {
+                        totalScore = totalScore.add(score.compareTo(NOT_MARKED_SCORE) == 0 ? BigDecimal.ZERO : score);
+                        numberOfScores++;
+                    }
+                }
 
-                if (!studentAnswers.isEmpty()) {
-                    var studentScore = studentAnswers.stream().map(AssessmentStudentAnswerEntity::getScore)
-                            .map(bigDecimal -> bigDecimal.compareTo(new BigDecimal(9999)) == 0 ? BigDecimal.ZERO : bigDecimal)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(studentAnswers.size()), 4, RoundingMode.DOWN);
+                if (numberOfScores > 0) {
+                    var studentScore = totalScore.divide(BigDecimal.valueOf(numberOfScores), 4, RoundingMode.DOWN);
                     BigDecimal scaledScore = studentScore.multiply(BigDecimal.valueOf(scaleFactor));
-                    calcScore = calcScore.add(scaledScore.divide(divisor, 4, RoundingMode.DOWN));
+                    calcScore = calcScore.add(scaledScore.divide(DIVISOR, 4, RoundingMode.DOWN));
                 }
             } else {
-                BigDecimal scaledScore = calculateSingleMarkerScore(questionEntities.getFirst(), studentMcAnswers);
-                calcScore = calcScore.add(scaledScore);
+                calcScore = calcScore.add(getSingleMarkerScore(questionEntities.getFirst(), studentAnswers));
             }
-
         }
         return calcScore;
     }
 
-    private BigDecimal calculateSingleMarkerScore(AssessmentQuestionEntity questionEntity, List<AssessmentStudentAnswerEntity> studentMcAnswers) {
-        BigDecimal divisor = new BigDecimal(100);
-        var scaleFactor = questionEntity.getScaleFactor();
-        var studentAnswer = studentMcAnswers.stream()
-                .filter(assessmentStudentAnswerEntity -> Objects.equals(assessmentStudentAnswerEntity.getAssessmentQuestionID(), questionEntity.getAssessmentQuestionID()))
-                .findFirst();
+    private List<AssessmentQuestionEntity> getQuestionsForComponentSubType(List<AssessmentQuestionEntity> questions, String componentSubTypeCode) {
+        return questions.stream()
+                .filter(questionEntity -> questionEntity.getAssessmentComponentEntity().getComponentSubTypeCode().equalsIgnoreCase(componentSubTypeCode))
+                .toList();
+    }
 
-        if (studentAnswer.isPresent()) {
-            var studentScore = studentAnswer.get().getScore();
-            BigDecimal scaledScore = studentScore.compareTo(new BigDecimal(9999)) == 0 ? BigDecimal.ZERO : studentScore.multiply(BigDecimal.valueOf(scaleFactor));
-            return scaledScore.divide(divisor, 4, RoundingMode.DOWN);
+    private BigDecimal getSingleMarkerScore(AssessmentQuestionEntity questionEntity, DOARStudentAnswers studentAnswers) {
+        return studentAnswers.getSingleMarkerScore(questionEntity, question -> {
+            var scores = studentAnswers.getScores(question.getAssessmentQuestionID());
+            if (!scores.isEmpty()) {
+                var studentScore = scores.getFirst();
+                BigDecimal scaledScore = studentScore.compareTo(NOT_MARKED_SCORE) == 0 ? BigDecimal.ZERO : studentScore.multiply(BigDecimal.valueOf(question.getScaleFactor()));
+                return scaledScore.divide(DIVISOR, 4, RoundingMode.DOWN);
+            }
+            return BigDecimal.ZERO;
+        });
+    }
+
+    private List<AssessmentQuestionEntity> getTaskCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, String componentTypeCode) {
+        var componentList = getComponentsForSelectedForm(selectedAssessmentForm, componentTypeCode);
+        if(!componentList.isEmpty()) {
+            return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
+                    .flatMap(Collection::stream)
+                    .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getTaskCode()) && assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(taskCode))
+                    .toList();
         }
-        return BigDecimal.ZERO;
+        return Collections.emptyList();
+    }
+
+    private List<AssessmentQuestionEntity> getClaimCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, DOARStudentAnswers studentAnswers, String componentTypeCode, boolean includeChoiceCalc) {
+        return getQuestionsForSelectedForm(selectedAssessmentForm, studentAnswers, componentTypeCode, includeChoiceCalc,
+                assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getClaimCode()) && assessmentQuestionEntity.getClaimCode().equalsIgnoreCase(code));
+    }
+
+    private List<AssessmentQuestionEntity> getConceptsCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, DOARStudentAnswers studentAnswers, String componentTypeCode, boolean includeChoiceCalc) {
+        return getQuestionsForSelectedForm(selectedAssessmentForm, studentAnswers, componentTypeCode, includeChoiceCalc,
+                assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getConceptCode()) && assessmentQuestionEntity.getConceptCode().equalsIgnoreCase(taskCode));
+    }
+
+    private List<AssessmentQuestionEntity> getCognitiveLevelCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, DOARStudentAnswers studentAnswers, String componentTypeCode, boolean includeChoiceCalc) {
+        return getQuestionsForSelectedForm(selectedAssessmentForm, studentAnswers, componentTypeCode, includeChoiceCalc,
+                assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getCognitiveLevelCode()) && assessmentQuestionEntity.getCognitiveLevelCode().equalsIgnoreCase(taskCode));
+    }
+
+    private List<AssessmentQuestionEntity> getQuestionsWithAssessmentSectionForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, DOARStudentAnswers studentAnswers, String componentTypeCode, boolean includeChoiceCalc) {
+        return getQuestionsForSelectedForm(selectedAssessmentForm, studentAnswers, componentTypeCode, includeChoiceCalc,
+                assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getAssessmentSection()) && assessmentQuestionEntity.getAssessmentSection().startsWith(code));
+    }
+
+    private List<AssessmentQuestionEntity> getQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, DOARStudentAnswers studentAnswers, String componentTypeCode, boolean includeChoiceCalc, Predicate<AssessmentQuestionEntity> filter) {
+        var componentList = getComponentsForSelectedForm(selectedAssessmentForm, componentTypeCode);
+        if(!componentList.isEmpty()) {
+            var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
+            var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(studentAnswers, assessmentComponentEntity)).orElse(null);
+
+            if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
+                return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
+                        .flatMap(Collection::stream)
+                        .filter(assessmentQuestionEntity -> filter.test(assessmentQuestionEntity) && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected))
+                        .toList();
+            }
+            return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
+                    .flatMap(Collection::stream)
+                    .filter(filter)
+                    .toList();
+        }
+        return Collections.emptyList();
+    }
+
+    private List<AssessmentComponentEntity> getComponentsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String componentTypeCode) {
+        return selectedAssessmentForm.getAssessmentComponentEntities().stream()
+                .filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
+                .toList();
+    }
+
+    private String getChoicePathNotSelected(DOARStudentAnswers studentAnswers, AssessmentComponentEntity component) {
+        var selectedChoice = studentAnswers.getChoicePath(component.getAssessmentComponentID()).orElse(null);
+        if(StringUtils.isNotBlank(selectedChoice) && selectedChoice.equalsIgnoreCase("I")) {
+            return "E";
+        }
+        return "I";
+    }
+
+    @FunctionalInterface
+    private interface DOARColumn {
+        BigDecimal calculate(AssessmentFormEntity selectedAssessmentForm, DOARStudentAnswers studentAnswers, String code, boolean includeChoiceCalc);
     }
 }
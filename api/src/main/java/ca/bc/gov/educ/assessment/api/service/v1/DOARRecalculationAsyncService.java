@@ -0,0 +1,35 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DOARRecalculationAsyncService {
+
+    private final DOARRecalculationService doarRecalculationService;
+
+    /**
+     * Runs the jobs one after the other, one chunk per transaction. A job that fails is marked as such and keeps the
+     * progress of its last saved chunk.
+     */
+    @Async("doarRecalculationTaskExecutor")
+    public void recalculate(List<UUID> assessmentDOARRecalculationIDs) {
+        for (var assessmentDOARRecalculationID : assessmentDOARRecalculationIDs) {
+            try {
+                while (doarRecalculationService.recalculateNextChunk(assessmentDOARRecalculationID)) {
+                    log.trace("Recalculated DOAR chunk for job {}", assessmentDOARRecalculationID);
+                }
+            } catch (Exception e) {
+                log.error("DOAR recalculation {} failed, it can be resumed from its last saved chunk", assessmentDOARRecalculationID, e);
+                doarRecalculationService.markFailed(assessmentDOARRecalculationID);
+            }
+        }
+    }
+}
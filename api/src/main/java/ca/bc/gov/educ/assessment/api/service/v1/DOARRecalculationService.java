@@ -0,0 +1,218 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.constants.v1.DOARRecalculationStatusCodes;
+import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.assessment.api.model.v1.*;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentDOARRecalculationRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentDOARCalculationRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Recalculates the DOAR rows of every student of an assessment, for example after an answer key has been corrected.
+ * Students are read in chunks in ID order and each chunk is saved in its own transaction, together with the job's
+ * progress, so that a stopped job carries on from the last saved chunk.
+ */
+@Service
+@Slf4j
+public class DOARRecalculationService {
+
+    private static final UUID BEFORE_FIRST_STUDENT = new UUID(0L, 0L);
+    private static final List<String> RESUMABLE_STATUS_CODES = List.of(DOARRecalculationStatusCodes.IN_PROGRESS.getCode(), DOARRecalculationStatusCodes.FAILED.getCode());
+    private static final String SESSION_ID = "sessionID";
+
+    private final AssessmentSessionRepository assessmentSessionRepository;
+    private final AssessmentRepository assessmentRepository;
+    private final AssessmentStudentRepository assessmentStudentRepository;
+    private final AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
+    private final AssessmentDOARRecalculationRepository assessmentDOARRecalculationRepository;
+    private final DOARReportService doarReportService;
+    private final ApplicationProperties applicationProperties;
+    private final ForkJoinPool calculationPool;
+
+    public DOARRecalculationService(AssessmentSessionRepository assessmentSessionRepository, AssessmentRepository assessmentRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, AssessmentDOARRecalculationRepository assessmentDOARRecalculationRepository, DOARReportService doarReportService, ApplicationProperties applicationProperties) {
+        this.assessmentSessionRepository = assessmentSessionRepository;
+        this.assessmentRepository = assessmentRepository;
+        this.assessmentStudentRepository = assessmentStudentRepository;
+        this.assessmentStudentDOARCalculationRepository = assessmentStudentDOARCalculationRepository;
+        this.assessmentDOARRecalculationRepository = assessmentDOARRecalculationRepository;
+        this.doarReportService = doarReportService;
+        this.applicationProperties = applicationProperties;
+        this.calculationPool = new ForkJoinPool(applicationProperties.getDoarRecalculationParallelism());
+    }
+
+    @PreDestroy
+    public void close() {
+        this.calculationPool.shutdown();
+    }
+
+    /**
+     * Starts a job for every assessment of the session. An assessment whose last job stopped before completing has
+     * that job resumed instead, so posting again is how a failed recalculation is restarted. Each assessment is locked
+     * before its jobs are looked up, in ID order, so requests that overlap resume the job the first one created rather
+     * than each creating their own.
+     */
+    @Transactional
+    public List<AssessmentDOARRecalculationEntity> createOrResumeJobs(UUID sessionID) {
+        var session = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
+        var assessmentIDs = session.getAssessments().stream()
+                .filter(assessment -> doarReportService.isDOARAssessmentType(assessment.getAssessmentTypeCode()))
+                .map(AssessmentEntity::getAssessmentID).sorted().toList();
+        List<AssessmentDOARRecalculationEntity> jobs = new ArrayList<>();
+        for (var assessmentID : assessmentIDs) {
+            var assessment = assessmentRepository.findByIdForUpdate(assessmentID).orElseThrow(() -> new EntityNotFoundException(AssessmentEntity.class, "assessmentID", assessmentID.toString()));
+            var job = assessmentDOARRecalculationRepository.findFirstByAssessmentIDAndStatusCodeInOrderByCreateDateDesc(assessment.getAssessmentID(), RESUMABLE_STATUS_CODES)
+                    .orElseGet(() -> AssessmentDOARRecalculationEntity.builder()
+                            .assessmentID(assessment.getAssessmentID())
+                            .totalStudents(Math.toIntExact(assessmentStudentRepository.countDOARStudentsByAssessmentID(assessment.getAssessmentID())))
+                            .processedStudents(0)
+                            .skippedStudents(0)
+                            .createUser(ApplicationProperties.STUDENT_ASSESSMENT_API)
+                            .createDate(LocalDateTime.now())
+                            .build());
+            job.setStatusCode(DOARRecalculationStatusCodes.IN_PROGRESS.getCode());
+            job.setUpdateUser(ApplicationProperties.STUDENT_ASSESSMENT_API);
+            job.setUpdateDate(LocalDateTime.now());
+            jobs.add(assessmentDOARRecalculationRepository.save(job));
+        }
+        return jobs;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AssessmentDOARRecalculationEntity> getJobs(UUID sessionID) {
+        var session = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class, SESSION_ID, sessionID.toString()));
+        var assessmentIDs = session.getAssessments().stream().map(AssessmentEntity::getAssessmentID).toList();
+        return assessmentDOARRecalculationRepository.findAllByAssessmentIDInOrderByCreateDateDesc(assessmentIDs);
+    }
+
+    /**
+     * Recalculates and saves the next chunk of students of the job.
+     *
+     * @return false once there are no students left and the job is completed
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean recalculateNextChunk(UUID assessmentDOARRecalculationID) {
+        var job = assessmentDOARRecalculationRepository.findByIdForUpdate(assessmentDOARRecalculationID).orElseThrow(() -> new EntityNotFoundException(AssessmentDOARRecalculationEntity.class, "assessmentDOARRecalculationID", assessmentDOARRecalculationID.toString()));
+        if (!DOARRecalculationStatusCodes.IN_PROGRESS.getCode().equals(job.getStatusCode())) {
+            return false;
+        }
+        var after = job.getLastAssessmentStudentID() != null ? job.getLastAssessmentStudentID() : BEFORE_FIRST_STUDENT;
+        var studentIDs = assessmentStudentRepository.findDOARStudentIDsByAssessmentIDAfter(job.getAssessmentID(), after, Limit.of(applicationProperties.getDoarRecalculationChunkSize()));
+        if (studentIDs.isEmpty()) {
+            job.setStatusCode(DOARRecalculationStatusCodes.COMPLETED.getCode());
+            updateJob(job);
+            log.info("DOAR recalculation {} for assessment {} completed :: {} students, {} skipped", job.getAssessmentDOARRecalculationID(), job.getAssessmentID(), job.getProcessedStudents(), job.getSkippedStudents());
+            return false;
+        }
+
+        var students = assessmentStudentRepository.findAllByAssessmentStudentIDIn(studentIDs);
+        var calculations = calculate(students);
+        var existingCalculationIDs = assessmentStudentDOARCalculationRepository.findAllByAssessmentIDAndAssessmentStudentIDIn(job.getAssessmentID(), studentIDs).stream()
+                .collect(Collectors.toMap(AssessmentStudentDOARCalculationEntity::getAssessmentStudentID, Function.identity(), (first, second) -> first));
+        for (var calculation : calculations) {
+            var existing = existingCalculationIDs.get(calculation.getAssessmentStudentID());
+            if (existing != null) {
+                calculation.setAssessmentStudentDOARCalculationID(existing.getAssessmentStudentDOARCalculationID());
+                calculation.setCreateUser(existing.getCreateUser());
+                calculation.setCreateDate(existing.getCreateDate());
+            } else {
+                calculation.setCreateUser(ApplicationProperties.STUDENT_ASSESSMENT_API);
+                calculation.setCreateDate(LocalDateTime.now());
+            }
+            calculation.setUpdateUser(ApplicationProperties.STUDENT_ASSESSMENT_API);
+            calculation.setUpdateDate(LocalDateTime.now());
+        }
+        assessmentStudentDOARCalculationRepository.saveAll(calculations);
+
+        job.setProcessedStudents(job.getProcessedStudents() + calculations.size());
+        job.setSkippedStudents(job.getSkippedStudents() + studentIDs.size() - calculations.size());
+        job.setLastAssessmentStudentID(studentIDs.get(studentIDs.size() - 1));
+        updateJob(job);
+        log.debug("DOAR recalculation {} for assessment {} :: {} and {} skipped of {} students", job.getAssessmentDOARRecalculationID(), job.getAssessmentID(), job.getProcessedStudents(), job.getSkippedStudents(), job.getTotalStudents());
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(UUID assessmentDOARRecalculationID) {
+        assessmentDOARRecalculationRepository.findById(assessmentDOARRecalculationID).ifPresent(job -> {
+            job.setStatusCode(DOARRecalculationStatusCodes.FAILED.getCode());
+            updateJob(job);
+        });
+    }
+
+    /**
+     * Everything the calculations read is loaded here, on the thread that owns the persistence context, so the pool
+     * only ever works on loaded entities.
+     */
+    private List<AssessmentStudentDOARCalculationEntity> calculate(List<AssessmentStudentEntity> students) {
+        Map<UUID, AssessmentFormEntity> formsByID = new HashMap<>();
+        for (var student : students) {
+            formsByID.computeIfAbsent(student.getAssessmentFormID(), formID -> student.getAssessmentEntity().getAssessmentForms().stream()
+                    .filter(form -> Objects.equals(form.getAssessmentFormID(), formID))
+                    .findFirst()
+                    .map(this::initialize)
+                    .orElse(null));
+        }
+        List<DOARCalculationInput> inputs = new ArrayList<>();
+        for (var student : students) {
+            var form = formsByID.get(student.getAssessmentFormID());
+            if (form != null && doarReportService.isDOARAssessmentType(student.getAssessmentEntity().getAssessmentTypeCode())) {
+                inputs.add(new DOARCalculationInput(student, DOARStudentAnswers.of(student), form));
+            }
+        }
+
+        try {
+            return calculationPool.submit(() -> inputs.parallelStream()
+                    .map(input -> doarReportService.prepareDOARSummaryEntity(input.student, input.studentAnswers, input.form, input.student.getAssessmentEntity().getAssessmentTypeCode()))
+                    .filter(Objects::nonNull)
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DOAR recalculation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("DOAR recalculation failed", e.getCause());
+        }
+    }
+
+    private AssessmentFormEntity initialize(AssessmentFormEntity form) {
+        for (var component : form.getAssessmentComponentEntities()) {
+            Hibernate.initialize(component.getAssessmentQuestionEntities());
+            Hibernate.initialize(component.getAssessmentChoiceEntities());
+        }
+        return form;
+    }
+
+    private void updateJob(AssessmentDOARRecalculationEntity job) {
+        job.setUpdateUser(ApplicationProperties.STUDENT_ASSESSMENT_API);
+        job.setUpdateDate(LocalDateTime.now());
+        assessmentDOARRecalculationRepository.save(job);
+    }
+
+    private static final class DOARCalculationInput {
+        private final AssessmentStudentEntity student;
+        private final DOARStudentAnswers studentAnswers;
+        private final AssessmentFormEntity form;
+
+        private DOARCalculationInput(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity form) {
+            this.student = student;
+            this.studentAnswers = studentAnswers;
+            this.form = form;
+        }
+    }
+}
@@ -4,7 +4,6 @@ package ca.bc.gov.educ.assessment.api.service.v1;
 import ca.bc.gov.educ.assessment.api.constants.v1.StudentStatusCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.reports.*;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
-import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.assessment.api.exception.PreconditionRequiredException;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
 import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
@@ -13,11 +12,8 @@ import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentDOARCalculat
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentLightRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
-import ca.bc.gov.educ.assessment.api.struct.v1.DOARCalculate;
 import ca.bc.gov.educ.assessment.api.struct.v1.TransferOnApprovalSagaData;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +32,6 @@ public class DOARReportService {
     private final AssessmentStudentLightRepository assessmentStudentLightRepository;
     private final AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
     private final DOARCalculateService doarCalculateService;
-    private EnumMap<DOARColumnLookup, DOARCalculate> map;
     private static final String SESSION_ID = "sessionID";
     private static final String OPEN_ENDED = "OPEN_ENDED";
     private static final String MUL_CHOICE = "MUL_CHOICE";
@@ -45,6 +40,7 @@ public class DOARReportService {
     private static final String LTP12 = "LTP12";
     private static final String LTP10 = "LTP10";
     private static final String LTF12= "LTF12";
+    private static final Set<String> DOAR_ASSESSMENT_TYPE_CODES = Set.of("NME10", "NMF10", "LTE10", "LTE12", LTP12, LTP10, LTF12);
 
     public DOARReportService(AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentLightRepository assessmentStudentLightRepository, AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository, DOARCalculateService doarCalculateService) {
         this.assessmentSessionRepository = assessmentSessionRepository;
@@ -52,7 +48,6 @@ public class DOARReportService {
         this.assessmentStudentLightRepository = assessmentStudentLightRepository;
         this.assessmentStudentDOARCalculationRepository = assessmentStudentDOARCalculationRepository;
         this.doarCalculateService = doarCalculateService;
-        init();
     }
 
     public boolean isDetailedDOARAvailable(UUID sessionID, UUID schoolID, String assessmentTypeCode) {
@@ -87,49 +82,8 @@ public class DOARReportService {
         return csvRecords;
     }
 
-    public String getStudentTotals(String componentType, String code, AssessmentFormEntity selectedAssessmentForm, AssessmentStudentEntity student, String assessmentTypeCode, boolean includeChoiceCalc) {
-        var lookup = map.get(DOARColumnLookup.getDOARColumn(componentType, code, assessmentTypeCode));
-        if (lookup != null) {
-            return map.get(DOARColumnLookup.getDOARColumn(componentType, code, assessmentTypeCode)).calculateTotal(selectedAssessmentForm, student, code, includeChoiceCalc);
-        } else {
-            throw new InvalidParameterException("Column type does not exist for this report");
-        }
-    }
-
-    @PostConstruct
-    public void init() {
-        map = new EnumMap<>(DOARColumnLookup.class);
-
-        map.put(DOARColumnLookup.ENTRY1, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, OPEN_ENDED);
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
-            return String.valueOf(doarCalculateService.calculateTotal(student, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode));
-        });
-        map.put(DOARColumnLookup.ENTRY2, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY3, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateTotal(student, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode));
-        });
-        map.put(DOARColumnLookup.ENTRY4, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            return String.valueOf(doarCalculateService.calculateOETotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY5, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY6, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getConceptsCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            return String.valueOf(doarCalculateService.calculateOETotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY7, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getQuestionsWithAssessmentSectionForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
+    public BigDecimal getStudentTotals(String componentType, String code, AssessmentFormEntity selectedAssessmentForm, DOARStudentAnswers studentAnswers, String assessmentTypeCode, boolean includeChoiceCalc) {
+        return doarCalculateService.calculateColumn(componentType, code, selectedAssessmentForm, studentAnswers, assessmentTypeCode, includeChoiceCalc);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -163,44 +117,59 @@ public class DOARReportService {
     }
 
     public AssessmentStudentDOARCalculationEntity prepareLTEDOARSummaryEntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm, String assessmentTypeCode) {
+        return prepareDOARSummaryEntity(student, DOARStudentAnswers.of(student), selectedAssessmentForm, assessmentTypeCode);
+    }
+
+    /**
+     * Whether a DOAR row can be built for the assessment type. Legacy types such as NME and NMF have no DOAR layout.
+     */
+    public boolean isDOARAssessmentType(String assessmentTypeCode) {
+        return assessmentTypeCode != null && DOAR_ASSESSMENT_TYPE_CODES.contains(assessmentTypeCode);
+    }
+
+    /**
+     * Builds the DOAR row from answers already read for the student. Only reads the student and the form, so it
+     * can be called for several students at once as long as their answers and the form are fully loaded.
+     */
+    public AssessmentStudentDOARCalculationEntity prepareDOARSummaryEntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm, String assessmentTypeCode) {
         return switch (assessmentTypeCode) {
-            case "NME10", "NMF10" -> prepareNMEDOAREntity(student, selectedAssessmentForm);
-            case "LTE10", "LTE12" -> prepareLTEDOAREntity(student, selectedAssessmentForm);
-            case LTP12 -> prepareLTP12DOAREntity(student, selectedAssessmentForm);
-            case LTP10 -> prepareLTP10DOAREntity(student, selectedAssessmentForm);
-            case LTF12 -> prepareLTF12DOAREntity(student, selectedAssessmentForm);
+            case "NME10", "NMF10" -> prepareNMEDOAREntity(student, studentAnswers, selectedAssessmentForm);
+            case "LTE10", "LTE12" -> prepareLTEDOAREntity(student, studentAnswers, selectedAssessmentForm);
+            case LTP12 -> prepareLTP12DOAREntity(student, studentAnswers, selectedAssessmentForm);
+            case LTP10 -> prepareLTP10DOAREntity(student, studentAnswers, selectedAssessmentForm);
+            case LTF12 -> prepareLTF12DOAREntity(student, studentAnswers, selectedAssessmentForm);
             default -> AssessmentStudentDOARCalculationEntity.builder().build();
         };
     }
 
-    private AssessmentStudentDOARCalculationEntity prepareLTEDOAREntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, "LTE", true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, "LTE", true);
+    private AssessmentStudentDOARCalculationEntity prepareLTEDOAREntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm) {
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, "LTE", true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, "LTE", true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, "LTE", true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, "LTE", true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, "LTE", true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, "LTE", true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, "LTE", true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, "LTE", true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, "LTE", true);
 
         return AssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
@@ -228,43 +197,43 @@ public class DOARReportService {
         ));
     }
 
-    private AssessmentStudentDOARCalculationEntity prepareLTP12DOAREntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTP12, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTP12, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTP12, false);
+    private AssessmentStudentDOARCalculationEntity prepareLTP12DOAREntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm) {
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTP12, false);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, LTP12, true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, LTP12, true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, LTP12, true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, LTP12, true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, LTP12, true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, LTP12, true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, LTP12, true);
 
-        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, student, LTP12, false);
-        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, student, LTP12, false);
-        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, student, LTP12, false);
+        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, studentAnswers, LTP12, false);
+        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, studentAnswers, LTP12, false);
+        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, studentAnswers, LTP12, false);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTP12, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTP12, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTP12, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTP12, true);
 
         return AssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .communicateOralPart1(new BigDecimal(communicateOralPart1))
-                .communicateOralPart2(new BigDecimal(communicateOralPart2))
-                .communicateOralPart3(new BigDecimal(communicateOralPart3))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .communicateOralPart1(communicateOralPart1)
+                .communicateOralPart2(communicateOralPart2)
+                .communicateOralPart3(communicateOralPart3)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
@@ -296,45 +265,45 @@ public class DOARReportService {
         ));
     }
 
-    private AssessmentStudentDOARCalculationEntity prepareLTP10DOAREntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTP10, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTP10, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTP10 , true);
+    private AssessmentStudentDOARCalculationEntity prepareLTP10DOAREntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm) {
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTP10 , true);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, LTP10, true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, LTP10, true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, LTP10, true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, LTP10, true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, LTP10, true);
-        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, student, LTP10, true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, student, LTP10, true);
-        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, student, LTP10, true);
-        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, student, LTP10, true);
+        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTP10, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTP10, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTP10, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTP10, true);
 
         return AssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .comprehendPartAShort(new BigDecimal(comprehendPartAShort))
-                .communicateOralPart1(new BigDecimal(communicateOralPart1))
-                .communicateOralPart2(new BigDecimal(communicateOralPart2))
-                .communicateOralPart3(new BigDecimal(communicateOralPart3))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .comprehendPartAShort(comprehendPartAShort)
+                .communicateOralPart1(communicateOralPart1)
+                .communicateOralPart2(communicateOralPart2)
+                .communicateOralPart3(communicateOralPart3)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
@@ -367,65 +336,58 @@ public class DOARReportService {
         ));
     }
 
-    private AssessmentStudentDOARCalculationEntity prepareLTF12DOAREntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTF12, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTF12, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTF12 , true);
+    private AssessmentStudentDOARCalculationEntity prepareLTF12DOAREntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm) {
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTF12 , true);
 
-        var comprehendPartATask = getStudentTotals(MUL_TASK_CHOICE, "A", selectedAssessmentForm, student, LTF12, false);
-        var comprehendPartBInfo = getStudentTotals(MUL_TASK_CHOICE, "I", selectedAssessmentForm, student, LTF12, false);
-        var comprehendPartBExp =  getStudentTotals(MUL_TASK_CHOICE, "E", selectedAssessmentForm, student, LTF12, false);
+        var comprehendPartATask = getStudentTotals(MUL_TASK_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTF12, false);
+        var comprehendPartBInfo = getStudentTotals(MUL_TASK_CHOICE, "I", selectedAssessmentForm, studentAnswers, LTF12, false);
+        var comprehendPartBExp =  getStudentTotals(MUL_TASK_CHOICE, "E", selectedAssessmentForm, studentAnswers, LTF12, false);
 
-        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, student, LTF12, true);
-        var dissertationBackground = getStudentTotals(OPEN_ENDED, "WRD", selectedAssessmentForm, student, LTF12, true);
-        var dissertationForm = getStudentTotals(OPEN_ENDED, "WRF", selectedAssessmentForm, student, LTF12, true);
+        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dissertationBackground = getStudentTotals(OPEN_ENDED, "WRD", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dissertationForm = getStudentTotals(OPEN_ENDED, "WRF", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var communicateOralPart1Background = getStudentTotals(OPEN_ENDED, "O1D", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart1Form = getStudentTotals(OPEN_ENDED, "O1F", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart1Expression = getStudentTotals(OPEN_ENDED, "O1E", selectedAssessmentForm, student, LTF12, true);
+        var communicateOralPart1Background = getStudentTotals(OPEN_ENDED, "O1D", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart1Form = getStudentTotals(OPEN_ENDED, "O1F", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart1Expression = getStudentTotals(OPEN_ENDED, "O1E", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var communicateOralPart2Background = getStudentTotals(OPEN_ENDED, "O2D", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart2Form = getStudentTotals(OPEN_ENDED, "O2F", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart2Expression = getStudentTotals(OPEN_ENDED, "O2E", selectedAssessmentForm, student, LTF12, true);
+        var communicateOralPart2Background = getStudentTotals(OPEN_ENDED, "O2D", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart2Form = getStudentTotals(OPEN_ENDED, "O2F", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart2Expression = getStudentTotals(OPEN_ENDED, "O2E", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTF12, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTF12, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTF12, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTF12, true);
 
         var component = selectedAssessmentForm.getAssessmentComponentEntities().stream()
                 .filter(assessmentComponentEntity ->
                         assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE))
                 .findFirst();
-        String selectedChoice = null;
-
-        if(component.isPresent()) {
-            var studentComponent = student.getAssessmentStudentComponentEntities().stream()
-                    .filter(assessmentComponentEntity -> Objects.equals(assessmentComponentEntity.getAssessmentComponentID(), component.get().getAssessmentComponentID()))
-                    .findFirst();
-            selectedChoice = studentComponent.map(AssessmentStudentComponentEntity::getChoicePath).orElse(null);
-        }
+        String selectedChoice = component.flatMap(assessmentComponentEntity -> studentAnswers.getChoicePath(assessmentComponentEntity.getAssessmentComponentID())).orElse(null);
 
         return AssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartATask(new BigDecimal(comprehendPartATask))
-                .comprehendPartBInfo(new BigDecimal(comprehendPartBInfo))
-                .comprehendPartBExp(new BigDecimal(comprehendPartBExp))
-                .comprehendPartAShort(new BigDecimal(comprehendPartAShort))
-                .dissertationBackground(new BigDecimal(dissertationBackground))
-                .dissertationForm(new BigDecimal(dissertationForm))
-                .communicateOralPart1Background(new BigDecimal(communicateOralPart1Background))
-                .communicateOralPart1Form(new BigDecimal(comprehendOralPart1Form))
-                .communicateOralPart1Expression(new BigDecimal(comprehendOralPart1Expression))
-                .communicateOralPart2Background(new BigDecimal(communicateOralPart2Background))
-                .communicateOralPart2Form(new BigDecimal(comprehendOralPart2Form))
-                .communicateOralPart2Expression(new BigDecimal(comprehendOralPart2Expression))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartATask(comprehendPartATask)
+                .comprehendPartBInfo(comprehendPartBInfo)
+                .comprehendPartBExp(comprehendPartBExp)
+                .comprehendPartAShort(comprehendPartAShort)
+                .dissertationBackground(dissertationBackground)
+                .dissertationForm(dissertationForm)
+                .communicateOralPart1Background(communicateOralPart1Background)
+                .communicateOralPart1Form(comprehendOralPart1Form)
+                .communicateOralPart1Expression(comprehendOralPart1Expression)
+                .communicateOralPart2Background(communicateOralPart2Background)
+                .communicateOralPart2Form(comprehendOralPart2Form)
+                .communicateOralPart2Expression(comprehendOralPart2Expression)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .selectedResponseChoicePath(selectedChoice)
                 .build();
     }
@@ -462,35 +424,35 @@ public class DOARReportService {
         ));
     }
 
-    private AssessmentStudentDOARCalculationEntity prepareNMEDOAREntity(AssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskPlan = getStudentTotals(BOTH, "P", selectedAssessmentForm, student, "NME", false);
-        var taskEstimate = getStudentTotals(BOTH, "R", selectedAssessmentForm, student, "NME", false);
-        var taskFair = getStudentTotals(BOTH, "F", selectedAssessmentForm, student, "NME", false);
-        var taskModel = getStudentTotals(BOTH, "M", selectedAssessmentForm, student, "NME", false);
+    private AssessmentStudentDOARCalculationEntity prepareNMEDOAREntity(AssessmentStudentEntity student, DOARStudentAnswers studentAnswers, AssessmentFormEntity selectedAssessmentForm) {
+        var taskPlan = getStudentTotals(BOTH, "P", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskEstimate = getStudentTotals(BOTH, "R", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskFair = getStudentTotals(BOTH, "F", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskModel = getStudentTotals(BOTH, "M", selectedAssessmentForm, studentAnswers, "NME", false);
 
-        var numeracyInterpret = getStudentTotals(MUL_CHOICE, "I", selectedAssessmentForm, student, "NME", false);
-        var numeracyApply = getStudentTotals(MUL_CHOICE, "P", selectedAssessmentForm, student, "NME", false);
-        var numeracySolve = getStudentTotals(MUL_CHOICE, "S", selectedAssessmentForm, student, "NME", false);
-        var numeracyAnalyze = getStudentTotals(MUL_CHOICE, "N", selectedAssessmentForm, student, "NME", false);
+        var numeracyInterpret = getStudentTotals(MUL_CHOICE, "I", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracyApply = getStudentTotals(MUL_CHOICE, "P", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracySolve = getStudentTotals(MUL_CHOICE, "S", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracyAnalyze = getStudentTotals(MUL_CHOICE, "N", selectedAssessmentForm, studentAnswers, "NME", false);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, "NME", false);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, "NME", false);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, "NME", false);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, "NME", false);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, "NME", false);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, "NME", false);
 
         return AssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskPlan(new BigDecimal(taskPlan))
-                .taskEstimate(new BigDecimal(taskEstimate))
-                .taskFair(new BigDecimal(taskFair))
-                .taskModel(new BigDecimal(taskModel))
-                .numeracyInterpret(new BigDecimal(numeracyInterpret))
-                .numeracyApply(new BigDecimal(numeracyApply))
-                .numeracySolve(new BigDecimal(numeracySolve))
-                .numeracyAnalyze(new BigDecimal(numeracyAnalyze))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskPlan(taskPlan)
+                .taskEstimate(taskEstimate)
+                .taskFair(taskFair)
+                .taskModel(taskModel)
+                .numeracyInterpret(numeracyInterpret)
+                .numeracyApply(numeracyApply)
+                .numeracySolve(numeracySolve)
+                .numeracyAnalyze(numeracyAnalyze)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
@@ -518,148 +480,4 @@ public class DOARReportService {
                 studentDOARCalc.getDok3().toString()
         ));
     }
-
-    private List<AssessmentQuestionEntity> getTaskCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, String componentTypeCode) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getTaskCode()) && assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private List<AssessmentQuestionEntity> getClaimCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, AssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getClaimCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getClaimCode().equalsIgnoreCase(code))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getClaimCode()) && assessmentQuestionEntity.getClaimCode().equalsIgnoreCase(code))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private boolean hasQuestions(List<AssessmentComponentEntity> componentList) {
-        return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities).findAny().isPresent();
-    }
-
-    private List<AssessmentQuestionEntity> getConceptsCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, AssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getConceptCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getConceptCode().equalsIgnoreCase(taskCode))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getConceptCode()) && assessmentQuestionEntity.getConceptCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private List<AssessmentQuestionEntity> getCognitiveLevelCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, AssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getCognitiveLevelCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getCognitiveLevelCode().equalsIgnoreCase(taskCode))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getCognitiveLevelCode()) && assessmentQuestionEntity.getCognitiveLevelCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private String getChoicePathNotSelected(AssessmentStudentEntity student, AssessmentComponentEntity component) {
-        var studentComponent = student.getAssessmentStudentComponentEntities().stream()
-                .filter(assessmentComponentEntity -> Objects.equals(assessmentComponentEntity.getAssessmentComponentID(), component.getAssessmentComponentID()))
-                .findFirst();
-        var selectedChoice = studentComponent.map(AssessmentStudentComponentEntity::getChoicePath).orElse(null);
-        if(StringUtils.isNotBlank(selectedChoice) && selectedChoice.equalsIgnoreCase("I")) {
-            return "E";
-        }
-        return "I";
-    }
-
-    private List<AssessmentQuestionEntity> getQuestionsWithAssessmentSectionForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, AssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getAssessmentSection())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getAssessmentSection().startsWith(code))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getAssessmentSection()) && assessmentQuestionEntity.getAssessmentSection().startsWith(code))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
 }
@@ -1,17 +1,12 @@
 package ca.bc.gov.educ.assessment.api.service.v1;
 
 
-import ca.bc.gov.educ.assessment.api.constants.v1.reports.DOARColumnLookup;
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
-import ca.bc.gov.educ.assessment.api.exception.InvalidParameterException;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
 import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
-import ca.bc.gov.educ.assessment.api.struct.DOARStagingCalculate;
 import ca.bc.gov.educ.assessment.api.struct.v1.StudentResultSagaData;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +22,7 @@ public class DOARStagingReportService {
 
     private final StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository;
     private final StagedAssessmentStudentRepository stagedAssessmentStudentRepository;
-    private final DOARStagingCalculateService doarCalculateService;
-    private EnumMap<DOARColumnLookup, DOARStagingCalculate> map;
+    private final DOARCalculateService doarCalculateService;
     private static final String OPEN_ENDED = "OPEN_ENDED";
     private static final String MUL_CHOICE = "MUL_CHOICE";
     private static final String MUL_TASK_CHOICE = "MUL_TASK_CHOICE";
@@ -37,56 +31,14 @@ public class DOARStagingReportService {
     private static final String LTP10 = "LTP10";
     private static final String LTF12= "LTF12";
 
-    public DOARStagingReportService(StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository, StagedAssessmentStudentRepository stagedAssessmentStudentRepository, DOARStagingCalculateService doarCalculateService) {
+    public DOARStagingReportService(StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository, StagedAssessmentStudentRepository stagedAssessmentStudentRepository, DOARCalculateService doarCalculateService) {
         this.stagedAssessmentStudentDOARCalculationRepository = stagedAssessmentStudentDOARCalculationRepository;
         this.stagedAssessmentStudentRepository = stagedAssessmentStudentRepository;
         this.doarCalculateService = doarCalculateService;
-        init();
     }
 
-    public String getStudentTotals(String componentType, String code, AssessmentFormEntity selectedAssessmentForm, StagedAssessmentStudentEntity student, String assessmentTypeCode, boolean includeChoiceCalc) {
-        var lookup = map.get(DOARColumnLookup.getDOARColumn(componentType, code, assessmentTypeCode));
-        if (lookup != null) {
-            return map.get(DOARColumnLookup.getDOARColumn(componentType, code, assessmentTypeCode)).calculateStagingTotal(selectedAssessmentForm, student, code, includeChoiceCalc);
-        } else {
-            throw new InvalidParameterException("Column type does not exist for this report");
-        }
-    }
-
-    @PostConstruct
-    public void init() {
-        map = new EnumMap<>(DOARColumnLookup.class);
-
-        map.put(DOARColumnLookup.ENTRY1, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, OPEN_ENDED);
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
-            return String.valueOf(doarCalculateService.calculateTotal(student, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode));
-        });
-        map.put(DOARColumnLookup.ENTRY2, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY3, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedOeAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getCognitiveLevelCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateTotal(student, selectedOeAssessmentQuestionsByTypeCode, selectedMcAssessmentQuestionsByTypeCode));
-        });
-        map.put(DOARColumnLookup.ENTRY4, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getClaimCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            return String.valueOf(doarCalculateService.calculateOETotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY5, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getTaskCodeQuestionsForSelectedForm(selectedAssessmentForm, code, MUL_CHOICE);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY6, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getConceptsCodeQuestionsForSelectedForm(selectedAssessmentForm, code, student, OPEN_ENDED, false);
-            return String.valueOf(doarCalculateService.calculateOETotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
-        map.put(DOARColumnLookup.ENTRY7, (selectedAssessmentForm, student, code, includeChoiceCalc) -> {
-            List<AssessmentQuestionEntity> selectedMcAssessmentQuestionsByTypeCode = getQuestionsWithAssessmentSectionForSelectedForm(selectedAssessmentForm, code, student, MUL_CHOICE, includeChoiceCalc);
-            return String.valueOf(doarCalculateService.calculateMCTotal(selectedMcAssessmentQuestionsByTypeCode, student));
-        });
+    public BigDecimal getStudentTotals(String componentType, String code, AssessmentFormEntity selectedAssessmentForm, DOARStudentAnswers studentAnswers, String assessmentTypeCode, boolean includeChoiceCalc) {
+        return doarCalculateService.calculateColumn(componentType, code, selectedAssessmentForm, studentAnswers, assessmentTypeCode, includeChoiceCalc);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -125,353 +77,207 @@ public class DOARStagingReportService {
     }
 
     private StagedAssessmentStudentDOARCalculationEntity prepareLTEDOAREntity(StagedAssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, "LTE", true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, "LTE", true);
+        var studentAnswers = DOARStudentAnswers.of(student);
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, "LTE", true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, "LTE", true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, "LTE", true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, "LTE", true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, "LTE", true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, "LTE", true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, "LTE", true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, "LTE", true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, "LTE", true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, "LTE", true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, "LTE", true);
 
         return StagedAssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
     private StagedAssessmentStudentDOARCalculationEntity prepareLTP12DOAREntity(StagedAssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTP12, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTP12, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTP12, false);
+        var studentAnswers = DOARStudentAnswers.of(student);
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTP12, false);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, LTP12, true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, LTP12, true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, LTP12, true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, LTP12, true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, LTP12, true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, LTP12, true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, LTP12, true);
 
-        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, student, LTP12, false);
-        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, student, LTP12, false);
-        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, student, LTP12, false);
+        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, studentAnswers, LTP12, false);
+        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, studentAnswers, LTP12, false);
+        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, studentAnswers, LTP12, false);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTP12, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTP12, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTP12, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTP12, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTP12, true);
 
         return StagedAssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .communicateOralPart1(new BigDecimal(communicateOralPart1))
-                .communicateOralPart2(new BigDecimal(communicateOralPart2))
-                .communicateOralPart3(new BigDecimal(communicateOralPart3))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .communicateOralPart1(communicateOralPart1)
+                .communicateOralPart2(communicateOralPart2)
+                .communicateOralPart3(communicateOralPart3)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
 
     private StagedAssessmentStudentDOARCalculationEntity prepareLTP10DOAREntity(StagedAssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTP10, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTP10, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTP10 , true);
+        var studentAnswers = DOARStudentAnswers.of(student);
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTP10 , true);
 
-        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, student, LTP10, true);
-        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, student, LTP10, true);
+        var comprehendPartA = getStudentTotals(MUL_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var comprehendPartB = getStudentTotals(MUL_CHOICE, "B", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, student, LTP10, true);
-        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, student, LTP10, true);
-        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, student, LTP10, true);
-        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, student, LTP10, true);
+        var commGO = getStudentTotals(OPEN_ENDED, "GO", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var commWRA = getStudentTotals(OPEN_ENDED, "WRA", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var commWRB = getStudentTotals(OPEN_ENDED, "WRB", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, student, LTP10, true);
-        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, student, LTP10, true);
-        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, student, LTP10, true);
+        var communicateOralPart1 = getStudentTotals(OPEN_ENDED, "O1", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var communicateOralPart2 = getStudentTotals(OPEN_ENDED, "O2", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var communicateOralPart3 = getStudentTotals(OPEN_ENDED, "O3", selectedAssessmentForm, studentAnswers, LTP10, true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTP10, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTP10, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTP10, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTP10, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTP10, true);
 
         return StagedAssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartA(new BigDecimal(comprehendPartA))
-                .comprehendPartB(new BigDecimal(comprehendPartB))
-                .communicateGraphicOrg(new BigDecimal(commGO))
-                .communicateUnderstanding(new BigDecimal(commWRA))
-                .communicatePersonalConn(new BigDecimal(commWRB))
-                .comprehendPartAShort(new BigDecimal(comprehendPartAShort))
-                .communicateOralPart1(new BigDecimal(communicateOralPart1))
-                .communicateOralPart2(new BigDecimal(communicateOralPart2))
-                .communicateOralPart3(new BigDecimal(communicateOralPart3))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartA(comprehendPartA)
+                .comprehendPartB(comprehendPartB)
+                .communicateGraphicOrg(commGO)
+                .communicateUnderstanding(commWRA)
+                .communicatePersonalConn(commWRB)
+                .comprehendPartAShort(comprehendPartAShort)
+                .communicateOralPart1(communicateOralPart1)
+                .communicateOralPart2(communicateOralPart2)
+                .communicateOralPart3(communicateOralPart3)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
     
     private StagedAssessmentStudentDOARCalculationEntity prepareLTF12DOAREntity(StagedAssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, student, LTF12, true);
-        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, student, LTF12, true);
-        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, student, LTF12 , true);
+        var studentAnswers = DOARStudentAnswers.of(student);
+        var taskComprehend = getStudentTotals(MUL_CHOICE, "C", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var taskCommunicate = getStudentTotals(OPEN_ENDED, "W", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var taskOral = getStudentTotals(OPEN_ENDED, "O", selectedAssessmentForm, studentAnswers, LTF12 , true);
 
-        var comprehendPartATask = getStudentTotals(MUL_TASK_CHOICE, "A", selectedAssessmentForm, student, LTF12, false);
-        var comprehendPartBInfo = getStudentTotals(MUL_TASK_CHOICE, "I", selectedAssessmentForm, student, LTF12, false);
-        var comprehendPartBExp =  getStudentTotals(MUL_TASK_CHOICE, "E", selectedAssessmentForm, student, LTF12, false);
+        var comprehendPartATask = getStudentTotals(MUL_TASK_CHOICE, "A", selectedAssessmentForm, studentAnswers, LTF12, false);
+        var comprehendPartBInfo = getStudentTotals(MUL_TASK_CHOICE, "I", selectedAssessmentForm, studentAnswers, LTF12, false);
+        var comprehendPartBExp =  getStudentTotals(MUL_TASK_CHOICE, "E", selectedAssessmentForm, studentAnswers, LTF12, false);
 
-        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, student, LTF12, true);
-        var dissertationBackground = getStudentTotals(OPEN_ENDED, "WRD", selectedAssessmentForm, student, LTF12, true);
-        var dissertationForm = getStudentTotals(OPEN_ENDED, "WRF", selectedAssessmentForm, student, LTF12, true);
+        var comprehendPartAShort = getStudentTotals(OPEN_ENDED, "WRS", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dissertationBackground = getStudentTotals(OPEN_ENDED, "WRD", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dissertationForm = getStudentTotals(OPEN_ENDED, "WRF", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var communicateOralPart1Background = getStudentTotals(OPEN_ENDED, "O1D", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart1Form = getStudentTotals(OPEN_ENDED, "O1F", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart1Expression = getStudentTotals(OPEN_ENDED, "O1E", selectedAssessmentForm, student, LTF12, true);
+        var communicateOralPart1Background = getStudentTotals(OPEN_ENDED, "O1D", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart1Form = getStudentTotals(OPEN_ENDED, "O1F", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart1Expression = getStudentTotals(OPEN_ENDED, "O1E", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var communicateOralPart2Background = getStudentTotals(OPEN_ENDED, "O2D", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart2Form = getStudentTotals(OPEN_ENDED, "O2F", selectedAssessmentForm, student, LTF12, true);
-        var comprehendOralPart2Expression = getStudentTotals(OPEN_ENDED, "O2E", selectedAssessmentForm, student, LTF12, true);
+        var communicateOralPart2Background = getStudentTotals(OPEN_ENDED, "O2D", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart2Form = getStudentTotals(OPEN_ENDED, "O2F", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var comprehendOralPart2Expression = getStudentTotals(OPEN_ENDED, "O2E", selectedAssessmentForm, studentAnswers, LTF12, true);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, LTF12, true);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, LTF12, true);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, LTF12, true);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, LTF12, true);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, LTF12, true);
 
         var component = selectedAssessmentForm.getAssessmentComponentEntities().stream()
                 .filter(assessmentComponentEntity ->
                         assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE))
                 .findFirst();
-        String selectedChoice = null;
-
-        if(component.isPresent()) {
-            var studentComponent = student.getStagedAssessmentStudentComponentEntities().stream()
-                    .filter(assessmentComponentEntity -> Objects.equals(assessmentComponentEntity.getAssessmentComponentID(), component.get().getAssessmentComponentID()))
-                    .findFirst();
-            selectedChoice = studentComponent.map(StagedAssessmentStudentComponentEntity::getChoicePath).orElse(null);
-        }
+        String selectedChoice = component.flatMap(assessmentComponentEntity -> studentAnswers.getChoicePath(assessmentComponentEntity.getAssessmentComponentID())).orElse(null);
         return StagedAssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskComprehend(new BigDecimal(taskComprehend))
-                .taskCommunicate(new BigDecimal(taskCommunicate))
-                .taskOral(new BigDecimal(taskOral))
-                .comprehendPartATask(new BigDecimal(comprehendPartATask))
-                .comprehendPartBInfo(new BigDecimal(comprehendPartBInfo))
-                .comprehendPartBExp(new BigDecimal(comprehendPartBExp))
-                .comprehendPartAShort(new BigDecimal(comprehendPartAShort))
-                .dissertationBackground(new BigDecimal(dissertationBackground))
-                .dissertationForm(new BigDecimal(dissertationForm))
-                .communicateOralPart1Background(new BigDecimal(communicateOralPart1Background))
-                .communicateOralPart1Form(new BigDecimal(comprehendOralPart1Form))
-                .communicateOralPart1Expression(new BigDecimal(comprehendOralPart1Expression))
-                .communicateOralPart2Background(new BigDecimal(communicateOralPart2Background))
-                .communicateOralPart2Form(new BigDecimal(comprehendOralPart2Form))
-                .communicateOralPart2Expression(new BigDecimal(comprehendOralPart2Expression))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskComprehend(taskComprehend)
+                .taskCommunicate(taskCommunicate)
+                .taskOral(taskOral)
+                .comprehendPartATask(comprehendPartATask)
+                .comprehendPartBInfo(comprehendPartBInfo)
+                .comprehendPartBExp(comprehendPartBExp)
+                .comprehendPartAShort(comprehendPartAShort)
+                .dissertationBackground(dissertationBackground)
+                .dissertationForm(dissertationForm)
+                .communicateOralPart1Background(communicateOralPart1Background)
+                .communicateOralPart1Form(comprehendOralPart1Form)
+                .communicateOralPart1Expression(comprehendOralPart1Expression)
+                .communicateOralPart2Background(communicateOralPart2Background)
+                .communicateOralPart2Form(comprehendOralPart2Form)
+                .communicateOralPart2Expression(comprehendOralPart2Expression)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .selectedResponseChoicePath(selectedChoice)
                 .build();
     }
 
     private StagedAssessmentStudentDOARCalculationEntity prepareNMEDOAREntity(StagedAssessmentStudentEntity student, AssessmentFormEntity selectedAssessmentForm) {
-        var taskPlan = getStudentTotals(BOTH, "P", selectedAssessmentForm, student, "NME", false);
-        var taskEstimate = getStudentTotals(BOTH, "R", selectedAssessmentForm, student, "NME", false);
-        var taskFair = getStudentTotals(BOTH, "F", selectedAssessmentForm, student, "NME", false);
-        var taskModel = getStudentTotals(BOTH, "M", selectedAssessmentForm, student, "NME", false);
+        var studentAnswers = DOARStudentAnswers.of(student);
+        var taskPlan = getStudentTotals(BOTH, "P", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskEstimate = getStudentTotals(BOTH, "R", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskFair = getStudentTotals(BOTH, "F", selectedAssessmentForm, studentAnswers, "NME", false);
+        var taskModel = getStudentTotals(BOTH, "M", selectedAssessmentForm, studentAnswers, "NME", false);
 
-        var numeracyInterpret = getStudentTotals(MUL_CHOICE, "I", selectedAssessmentForm, student, "NME", false);
-        var numeracyApply = getStudentTotals(MUL_CHOICE, "P", selectedAssessmentForm, student, "NME", false);
-        var numeracySolve = getStudentTotals(MUL_CHOICE, "S", selectedAssessmentForm, student, "NME", false);
-        var numeracyAnalyze = getStudentTotals(MUL_CHOICE, "N", selectedAssessmentForm, student, "NME", false);
+        var numeracyInterpret = getStudentTotals(MUL_CHOICE, "I", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracyApply = getStudentTotals(MUL_CHOICE, "P", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracySolve = getStudentTotals(MUL_CHOICE, "S", selectedAssessmentForm, studentAnswers, "NME", false);
+        var numeracyAnalyze = getStudentTotals(MUL_CHOICE, "N", selectedAssessmentForm, studentAnswers, "NME", false);
 
-        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, student, "NME", false);
-        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, student, "NME", false);
-        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, student, "NME", false);
+        var dok1 = getStudentTotals("BOTH", "7", selectedAssessmentForm, studentAnswers, "NME", false);
+        var dok2 = getStudentTotals("BOTH", "8", selectedAssessmentForm, studentAnswers, "NME", false);
+        var dok3 = getStudentTotals("BOTH", "9", selectedAssessmentForm, studentAnswers, "NME", false);
 
         return StagedAssessmentStudentDOARCalculationEntity.builder()
                 .assessmentStudentID(student.getAssessmentStudentID())
                 .assessmentID(student.getAssessmentEntity().getAssessmentID())
-                .taskPlan(new BigDecimal(taskPlan))
-                .taskEstimate(new BigDecimal(taskEstimate))
-                .taskFair(new BigDecimal(taskFair))
-                .taskModel(new BigDecimal(taskModel))
-                .numeracyInterpret(new BigDecimal(numeracyInterpret))
-                .numeracyApply(new BigDecimal(numeracyApply))
-                .numeracySolve(new BigDecimal(numeracySolve))
-                .numeracyAnalyze(new BigDecimal(numeracyAnalyze))
-                .dok1(new BigDecimal(dok1))
-                .dok2(new BigDecimal(dok2))
-                .dok3(new BigDecimal(dok3))
+                .taskPlan(taskPlan)
+                .taskEstimate(taskEstimate)
+                .taskFair(taskFair)
+                .taskModel(taskModel)
+                .numeracyInterpret(numeracyInterpret)
+                .numeracyApply(numeracyApply)
+                .numeracySolve(numeracySolve)
+                .numeracyAnalyze(numeracyAnalyze)
+                .dok1(dok1)
+                .dok2(dok2)
+                .dok3(dok3)
                 .build();
     }
-
-    private List<AssessmentQuestionEntity> getTaskCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, String componentTypeCode) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getTaskCode()) && assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private List<AssessmentQuestionEntity> getClaimCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, StagedAssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getClaimCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getClaimCode().equalsIgnoreCase(code))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getClaimCode()) && assessmentQuestionEntity.getClaimCode().equalsIgnoreCase(code))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private boolean hasQuestions(List<AssessmentComponentEntity> componentList) {
-        return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities).findAny().isPresent();
-    }
-
-    private List<AssessmentQuestionEntity> getConceptsCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, StagedAssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getConceptCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getConceptCode().equalsIgnoreCase(taskCode))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getConceptCode()) && assessmentQuestionEntity.getConceptCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private List<AssessmentQuestionEntity> getCognitiveLevelCodeQuestionsForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String taskCode, StagedAssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getCognitiveLevelCode())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getCognitiveLevelCode().equalsIgnoreCase(taskCode))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getCognitiveLevelCode()) && assessmentQuestionEntity.getCognitiveLevelCode().equalsIgnoreCase(taskCode))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
-
-    private String getChoicePathNotSelected(StagedAssessmentStudentEntity student, AssessmentComponentEntity component) {
-        var studentComponent = student.getStagedAssessmentStudentComponentEntities().stream()
-                .filter(assessmentComponentEntity -> Objects.equals(assessmentComponentEntity.getAssessmentComponentID(), component.getAssessmentComponentID()))
-                .findFirst();
-        var selectedChoice = studentComponent.map(StagedAssessmentStudentComponentEntity::getChoicePath).orElse(null);
-        if(StringUtils.isNotBlank(selectedChoice) && selectedChoice.equalsIgnoreCase("I")) {
-            return "E";
-        }
-        return "I";
-    }
-
-    private List<AssessmentQuestionEntity> getQuestionsWithAssessmentSectionForSelectedForm(AssessmentFormEntity selectedAssessmentForm, String code, StagedAssessmentStudentEntity student, String componentTypeCode, boolean includeChoiceCalc) {
-        if(!selectedAssessmentForm.getAssessmentComponentEntities().isEmpty()) {
-            var componentList = selectedAssessmentForm.getAssessmentComponentEntities().stream()
-                    .filter(assessmentComponentEntity ->
-                            assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(componentTypeCode))
-                    .toList();
-
-            if(!componentList.isEmpty() && hasQuestions(componentList)) {
-                var multiComponent = componentList.stream().filter(assessmentComponentEntity -> assessmentComponentEntity.getComponentTypeCode().equalsIgnoreCase(MUL_CHOICE)).findFirst();
-                var responseNotSelected = multiComponent.map(assessmentComponentEntity -> getChoicePathNotSelected(student, assessmentComponentEntity)).orElse(null);
-
-                if(includeChoiceCalc && StringUtils.isNotBlank(responseNotSelected)) {
-                    return multiComponent.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                            .flatMap(Collection::stream)
-                            .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getAssessmentSection())
-                                    && !assessmentQuestionEntity.getTaskCode().equalsIgnoreCase(responseNotSelected)
-                                    && assessmentQuestionEntity.getAssessmentSection().startsWith(code))
-                            .toList();
-                }
-                return componentList.stream().map(AssessmentComponentEntity::getAssessmentQuestionEntities)
-                        .flatMap(Collection::stream)
-                        .filter(assessmentQuestionEntity -> StringUtils.isNotBlank(assessmentQuestionEntity.getAssessmentSection()) && assessmentQuestionEntity.getAssessmentSection().startsWith(code))
-                        .toList();
-            }
-        }
-        return Collections.emptyList();
-    }
 }
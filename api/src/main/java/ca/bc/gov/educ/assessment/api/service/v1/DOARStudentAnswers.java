@@ -0,0 +1,95 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The answers, choices and choice paths of one student, read in a single walk over the student's components so that
+ * every DOAR column can look them up instead of streaming the components again. Scaled scores of single marker
+ * questions are kept once computed, as the same question is counted in several columns.
+ * Instances are built per student and are not meant to be shared between threads.
+ */
+public final class DOARStudentAnswers {
+
+    private final Map<UUID, List<BigDecimal>> scoresByQuestionID = new HashMap<>();
+    private final Set<UUID> chosenQuestionIDs = new HashSet<>();
+    private final Set<UUID> chosenChoiceIDs = new HashSet<>();
+    private final Map<UUID, String> choicePathsByComponentID = new HashMap<>();
+    private final Map<UUID, BigDecimal> singleMarkerScoresByQuestionID = new HashMap<>();
+
+    private DOARStudentAnswers() {
+    }
+
+    public static DOARStudentAnswers of(AssessmentStudentEntity student) {
+        var studentAnswers = new DOARStudentAnswers();
+        for (var component : student.getAssessmentStudentComponentEntities()) {
+            studentAnswers.addChoicePath(component.getAssessmentComponentID(), component.getChoicePath());
+            for (var answer : component.getAssessmentStudentAnswerEntities()) {
+                studentAnswers.addScore(answer.getAssessmentQuestionID(), answer.getScore());
+            }
+            for (var choice : component.getAssessmentStudentChoiceEntities()) {
+                studentAnswers.addChoice(choice.getAssessmentChoiceEntity(), choice.getAssessmentStudentChoiceQuestionSetEntities(), AssessmentStudentChoiceQuestionSetEntity::getAssessmentQuestionID);
+            }
+        }
+        return studentAnswers;
+    }
+
+    public static DOARStudentAnswers of(StagedAssessmentStudentEntity student) {
+        var studentAnswers = new DOARStudentAnswers();
+        for (var component : student.getStagedAssessmentStudentComponentEntities()) {
+            studentAnswers.addChoicePath(component.getAssessmentComponentID(), component.getChoicePath());
+            for (var answer : component.getStagedAssessmentStudentAnswerEntities()) {
+                studentAnswers.addScore(answer.getAssessmentQuestionID(), answer.getScore());
+            }
+            for (var choice : component.getStagedAssessmentStudentChoiceEntities()) {
+                studentAnswers.addChoice(choice.getAssessmentChoiceEntity(), choice.getStagedAssessmentStudentChoiceQuestionSetEntities(), StagedAssessmentStudentChoiceQuestionSetEntity::getAssessmentQuestionID);
+            }
+        }
+        return studentAnswers;
+    }
+
+    private void addChoicePath(UUID assessmentComponentID, String choicePath) {
+        if (!choicePathsByComponentID.containsKey(assessmentComponentID)) {
+            choicePathsByComponentID.put(assessmentComponentID, choicePath);
+        }
+    }
+
+    private void addScore(UUID assessmentQuestionID, BigDecimal score) {
+        scoresByQuestionID.computeIfAbsent(assessmentQuestionID, id -> new ArrayList<>(1)).add(score);
+    }
+
+    private <S> void addChoice(AssessmentChoiceEntity choice, Collection<S> questionSets, Function<S, UUID> questionID) {
+        if (choice != null) {
+            chosenChoiceIDs.add(choice.getAssessmentChoiceID());
+        }
+        for (var questionSet : questionSets) {
+            chosenQuestionIDs.add(questionID.apply(questionSet));
+        }
+    }
+
+    /**
+     * @return The scores the student has for the question, in the order they were read; empty if not answered
+     */
+    public List<BigDecimal> getScores(UUID assessmentQuestionID) {
+        return scoresByQuestionID.getOrDefault(assessmentQuestionID, List.of());
+    }
+
+    public boolean hasChosenQuestion(UUID assessmentQuestionID) {
+        return chosenQuestionIDs.contains(assessmentQuestionID);
+    }
+
+    public boolean hasChosenChoice(UUID assessmentChoiceID) {
+        return chosenChoiceIDs.contains(assessmentChoiceID);
+    }
+
+    public Optional<String> getChoicePath(UUID assessmentComponentID) {
+        return Optional.ofNullable(choicePathsByComponentID.get(assessmentComponentID));
+    }
+
+    BigDecimal getSingleMarkerScore(AssessmentQuestionEntity question, Function<AssessmentQuestionEntity, BigDecimal> calculation) {
+        return singleMarkerScoresByQuestionID.computeIfAbsent(question.getAssessmentQuestionID(), id -> calculation.apply(question));
+    }
+}
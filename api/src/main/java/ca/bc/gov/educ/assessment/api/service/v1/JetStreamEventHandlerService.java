@@ -57,7 +57,7 @@ public class JetStreamEventHandlerService {
     if (choreographedEvent != null && choreographedEvent.getEventID() != null) {
       var eventID = choreographedEvent.getEventID();
       var eventOptional = assessmentEventRepository.findById(UUID.fromString(eventID));
-      if (eventOptional.isPresent()) {
+      if (eventOptional.isPresent() && !MESSAGE_PUBLISHED.toString().equals(eventOptional.get().getEventStatus())) {
         var studentEvent = eventOptional.get();
         studentEvent.setEventStatus(MESSAGE_PUBLISHED.toString());
         assessmentEventRepository.save(studentEvent);
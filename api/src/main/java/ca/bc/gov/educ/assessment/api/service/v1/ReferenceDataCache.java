@@ -0,0 +1,173 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.util.JsonUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the sessions and code tables that are read far more often than they change. A JSON entry holds
+ * the reply already serialized, so a NATS reply or code table response is written out without a query or Jackson.
+ * <p>
+ * Every key has a version. {@link #invalidate(String...)} moves it on straight away and again once the surrounding
+ * transaction has ended, and an entry is only served while its version is current, so a value read while the data was
+ * being changed is never kept. Entries also expire after reference.cache.ttl.seconds, which bounds how long another
+ * pod's change goes unseen.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+  public static final String OPEN_ASSESSMENT_SESSIONS = "openAssessmentSessions";
+  public static final String ASSESSMENT_SESSIONS = "assessmentSessions";
+  public static final String ASSESSMENT_TYPE_CODES = "assessmentTypeCodes";
+  public static final String ASSESSMENT_TYPE_CODES_JSON = "assessmentTypeCodesJson";
+  public static final String ASSESSMENT_TYPE_CODE_DESCRIPTIONS = "assessmentTypeCodeDescriptions";
+  public static final String PROVINCIAL_SPECIAL_CASE_CODES = "provincialSpecialCaseCodes";
+  public static final String PROVINCIAL_SPECIAL_CASE_CODES_JSON = "provincialSpecialCaseCodesJson";
+  public static final String ADAPTED_ASSESSMENT_INDICATOR_CODES = "adaptedAssessmentIndicatorCodes";
+  public static final String CLAIM_CODES = "claimCodes";
+  public static final String COGNITIVE_LEVEL_CODES = "cognitiveLevelCodes";
+  public static final String CONCEPT_CODES = "conceptCodes";
+  public static final String CONTEXT_CODES = "contextCodes";
+  public static final String TASK_CODES = "taskCodes";
+
+  private final Duration timeToLive;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+  private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+  public ReferenceDataCache(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+    this.timeToLive = Duration.ofSeconds(applicationProperties.getReferenceCacheTtlSeconds());
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> T get(String key, Supplier<T> loader) {
+    return get(key, loader, value -> null);
+  }
+
+  /**
+   * @param validUntil when the loaded value stops being correct by itself, or null; the entry expires then if that is
+   *                   sooner than the time to live
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Supplier<T> loader, Function<T, LocalDateTime> validUntil) {
+    var version = getVersion(key);
+    long currentVersion = version.get();
+    var now = LocalDateTime.now();
+    var entry = entries.get(key);
+    if (entry != null && entry.version == currentVersion && entry.expiresAt.isAfter(now)) {
+      counter(key, "hits").increment();
+      return (T) entry.value;
+    }
+    counter(key, "misses").increment();
+    T value = loader.get();
+    var expiresAt = now.plus(timeToLive);
+    var valueValidUntil = validUntil.apply(value);
+    if (valueValidUntil != null && valueValidUntil.isBefore(expiresAt)) {
+      expiresAt = valueValidUntil;
+    }
+    if (version.get() == currentVersion) {
+      entries.put(key, new CacheEntry(currentVersion, value, expiresAt));
+    }
+    return value;
+  }
+
+  public byte[] getJson(String key, Supplier<?> loader) {
+    return get(key, () -> toJson(loader.get()));
+  }
+
+  /**
+   * @param toReply    turns the loaded value into the object that is serialized
+   * @param validUntil as for {@link #get(String, Supplier, Function)}, applied to the loaded value
+   */
+  public <T> byte[] getJson(String key, Supplier<T> loader, Function<T, ?> toReply, Function<T, LocalDateTime> validUntil) {
+    return get(key, () -> {
+      T value = loader.get();
+      return new JsonValue(toJson(toReply.apply(value)), validUntil.apply(value));
+    }, JsonValue::getValidUntil).getJson();
+  }
+
+  public void invalidate(String... keys) {
+    nextVersion(keys);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          nextVersion(keys);
+        }
+      });
+    }
+  }
+
+  private void nextVersion(String... keys) {
+    for (String key : keys) {
+      getVersion(key).incrementAndGet();
+      entries.remove(key);
+      log.debug("Reference data cache {} has been invalidated", key);
+    }
+  }
+
+  private AtomicLong getVersion(String key) {
+    return versions.computeIfAbsent(key, k -> new AtomicLong());
+  }
+
+  private Counter counter(String key, String result) {
+    return Counter.builder("assessment.reference.cache." + result)
+        .description("Reference data cache lookups by outcome")
+        .tag("cache", key)
+        .register(meterRegistry);
+  }
+
+  private static byte[] toJson(Object value) {
+    try {
+      return JsonUtil.getJsonBytesFromObject(value);
+    } catch (JsonProcessingException e) {
+      throw new StudentAssessmentAPIRuntimeException(e);
+    }
+  }
+
+  private static final class CacheEntry {
+    private final long version;
+    private final Object value;
+    private final LocalDateTime expiresAt;
+
+    private CacheEntry(long version, Object value, LocalDateTime expiresAt) {
+      this.version = version;
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static final class JsonValue {
+    private final byte[] json;
+    private final LocalDateTime validUntil;
+
+    private JsonValue(byte[] json, LocalDateTime validUntil) {
+      this.json = json;
+      this.validUntil = validUntil;
+    }
+
+    private byte[] getJson() {
+      return json;
+    }
+
+    private LocalDateTime getValidUntil() {
+      return validUntil;
+    }
+  }
+}
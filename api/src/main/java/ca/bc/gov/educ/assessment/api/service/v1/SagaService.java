@@ -47,17 +47,23 @@ public class SagaService {
    */
   @Getter(PRIVATE)
   private final SagaEventRepository sagaEventRepository;
+  /**
+   * The executor the paginated saga search runs on.
+   */
+  private final SearchQueryExecutor searchQueryExecutor;
 
   /**
    * Instantiates a new Saga service.
    *
    * @param sagaRepository      the saga repository
    * @param sagaEventRepository the saga event repository
+   * @param searchQueryExecutor the search query executor
    */
   @Autowired
-  public SagaService(final SagaRepository sagaRepository, final SagaEventRepository sagaEventRepository) {
+  public SagaService(final SagaRepository sagaRepository, final SagaEventRepository sagaEventRepository, final SearchQueryExecutor searchQueryExecutor) {
     this.sagaRepository = sagaRepository;
     this.sagaEventRepository = sagaEventRepository;
+    this.searchQueryExecutor = searchQueryExecutor;
   }
 
 
@@ -182,7 +188,7 @@ public class SagaService {
    */
   @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
   public CompletableFuture<Page<AssessmentSagaEntity>> findAll(final Specification<AssessmentSagaEntity> specs, final Integer pageNumber, final Integer pageSize, final List<Sort.Order> sorts) {
-    return CompletableFuture.supplyAsync(() -> {
+    return this.searchQueryExecutor.supplyAsync(() -> {
       final Pageable paging = PageRequest.of(pageNumber, pageSize, Sort.by(sorts));
       try {
         return this.sagaRepository.findAll(specs, paging);
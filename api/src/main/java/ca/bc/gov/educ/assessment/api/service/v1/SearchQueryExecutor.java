@@ -0,0 +1,92 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.exception.ServiceUnavailableException;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the paginated search queries behind the async search endpoints. Each query holds a database connection for as
+ * long as it runs, so at most half of the Hikari pool is given to searches and the rest stays free for writes, sagas
+ * and the schedulers. Searches beyond that wait in a bounded queue, and once the queue is full a search is turned away
+ * with a 503 instead of piling up behind the others.
+ */
+@Component
+@Slf4j
+public class SearchQueryExecutor {
+
+  private final EnhancedQueueExecutor searchQueryExecutor;
+  private final Timer waitTimer;
+  private final Counter rejectedCounter;
+
+  public SearchQueryExecutor(ApplicationProperties applicationProperties, DataSource dataSource, MeterRegistry meterRegistry) {
+    int parallelism = getParallelism(applicationProperties.getSearchQueryParallelism(), dataSource);
+    log.info("Search queries will run on {} threads with up to {} queued", parallelism, applicationProperties.getSearchQueryQueueSize());
+    this.searchQueryExecutor = new EnhancedQueueExecutor.Builder()
+        .setThreadFactory(new ThreadFactoryBuilder().withNameFormat("search-query-executor-%d").get())
+        .setCorePoolSize(parallelism).setMaximumPoolSize(parallelism)
+        .setMaximumQueueSize(applicationProperties.getSearchQueryQueueSize())
+        .setKeepAliveTime(Duration.ofSeconds(60)).build();
+    this.waitTimer = Timer.builder("assessment.search.query.wait")
+        .description("Time a search query waited for a search thread")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("assessment.search.query.rejected")
+        .description("Search queries turned away because the search queue was full")
+        .register(meterRegistry);
+    Gauge.builder("assessment.search.query.active", this.searchQueryExecutor, EnhancedQueueExecutor::getActiveCount)
+        .description("Search queries currently running")
+        .register(meterRegistry);
+    Gauge.builder("assessment.search.query.queue.size", this.searchQueryExecutor, EnhancedQueueExecutor::getQueueSize)
+        .description("Search queries waiting for a search thread")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void close() {
+    this.searchQueryExecutor.shutdown();
+  }
+
+  /**
+   * @throws ServiceUnavailableException if every search thread is busy and the queue is full
+   */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+    long submitted = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        this.waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+        return query.get();
+      }, this.searchQueryExecutor);
+    } catch (RejectedExecutionException e) {
+      this.rejectedCounter.increment();
+      log.warn("Search query rejected, {} queries are already waiting", this.searchQueryExecutor.getQueueSize());
+      throw new ServiceUnavailableException("Too many searches are running, please try again shortly");
+    }
+  }
+
+  private static int getParallelism(int configured, DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return Math.max(1, Math.min(configured, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2));
+      }
+    } catch (SQLException e) {
+      log.warn("Could not read the database pool size, using the configured search parallelism :: {}", e.getMessage());
+    }
+    return configured;
+  }
+}
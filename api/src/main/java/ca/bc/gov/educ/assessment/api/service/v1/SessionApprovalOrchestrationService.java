@@ -32,17 +32,23 @@ public class SessionApprovalOrchestrationService {
     @Getter(AccessLevel.PRIVATE)
     private final AssessmentEventRepository assessmentEventRepository;
 
-    public SessionApprovalOrchestrationService(AssessmentStudentService assessmentStudentService, SagaService sagaService, AssessmentSessionRepository assessmentSessionRepository, AssessmentEventRepository assessmentEventRepository) {
+    @Getter(AccessLevel.PRIVATE)
+    private final ReferenceDataCache referenceDataCache;
+
+    public SessionApprovalOrchestrationService(AssessmentStudentService assessmentStudentService, SagaService sagaService, AssessmentSessionRepository assessmentSessionRepository, AssessmentEventRepository assessmentEventRepository, ReferenceDataCache referenceDataCache) {
         this.assessmentStudentService = assessmentStudentService;
         this.sagaService = sagaService;
         this.assessmentSessionRepository = assessmentSessionRepository;
         this.assessmentEventRepository = assessmentEventRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public AssessmentSessionEntity updateSessionCompletionDate(UUID sessionID) {
         var assessmentSessionEntity = assessmentSessionRepository.findById(sessionID).orElseThrow(() -> new EntityNotFoundException(AssessmentSessionEntity.class));
         assessmentSessionEntity.setCompletionDate(LocalDateTime.now());
-        return assessmentSessionRepository.save(assessmentSessionEntity);
+        var savedSession = assessmentSessionRepository.save(assessmentSessionEntity);
+        referenceDataCache.invalidate(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, ReferenceDataCache.ASSESSMENT_SESSIONS);
+        return savedSession;
     }
 }
@@ -68,12 +68,15 @@ public class SessionService {
     @Getter(AccessLevel.PRIVATE)
     private final SagaService sagaService;
 
+    @Getter(AccessLevel.PRIVATE)
+    private final ReferenceDataCache referenceDataCache;
+
     private static final String ASSESSMENT_API = "ASSESSMENT_API";
 
     private static final SessionMapper mapper = SessionMapper.mapper;
 
     @Autowired
-    public SessionService(final AssessmentSessionRepository assessmentSessionRepository, AssessmentSessionCriteriaRepository assessmentSessionCriteriaRepository, AssessmentRepository assessmentRepository, AssessmentService assessmentService, SessionApprovalOrchestrator sessionApprovalOrchestrator, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentHistoryRepository assessmentStudentHistoryRepository, SagaService sagaService, StagedAssessmentStudentRepository stagedAssessmentStudentRepository) {
+    public SessionService(final AssessmentSessionRepository assessmentSessionRepository, AssessmentSessionCriteriaRepository assessmentSessionCriteriaRepository, AssessmentRepository assessmentRepository, AssessmentService assessmentService, SessionApprovalOrchestrator sessionApprovalOrchestrator, AssessmentStudentRepository assessmentStudentRepository, AssessmentStudentHistoryRepository assessmentStudentHistoryRepository, SagaService sagaService, StagedAssessmentStudentRepository stagedAssessmentStudentRepository, ReferenceDataCache referenceDataCache) {
         this.assessmentSessionRepository = assessmentSessionRepository;
         this.assessmentSessionCriteriaRepository = assessmentSessionCriteriaRepository;
         this.assessmentRepository = assessmentRepository;
@@ -83,6 +86,7 @@ public class SessionService {
         this.assessmentStudentHistoryRepository = assessmentStudentHistoryRepository;
         this.sagaService = sagaService;
         this.stagedAssessmentStudentRepository = stagedAssessmentStudentRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public List<AssessmentSession> getAllSessions() {
@@ -146,6 +150,7 @@ public class SessionService {
         session.setUpdateUser(userID);
         session.setUpdateDate(LocalDateTime.now());
         assessmentSessionRepository.save(session);
+        invalidateCachedSessions();
     }
 
     @Transactional(propagation = Propagation.REQUIRED)
@@ -182,6 +187,7 @@ public class SessionService {
         assessmentSession.setActiveUntilDate(LocalDateTime.now());
 
         AssessmentSessionEntity savedAssessmentSession = assessmentSessionRepository.save(assessmentSession);
+        invalidateCachedSessions();
 
         if(StringUtils.isNotBlank(savedAssessmentSession.getApprovalStudentCertUserID())
                 && StringUtils.isNotBlank(savedAssessmentSession.getApprovalAssessmentDesignUserID())
@@ -213,7 +219,9 @@ public class SessionService {
             log.debug("Assessment session update, current :: {}, new :: {}", assessmentSessionEntity, updatedAssessmentSessionEntity);
             assessmentSessionEntity.setActiveFromDate(updatedAssessmentSessionEntity.getActiveFromDate());
             assessmentSessionEntity.setActiveUntilDate(updatedAssessmentSessionEntity.getActiveUntilDate());
-            return getAssessmentSessionRepository().save(assessmentSessionEntity);
+            var savedSession = getAssessmentSessionRepository().save(assessmentSessionEntity);
+            invalidateCachedSessions();
+            return savedSession;
         } else {
             throw new EntityNotFoundException(AssessmentSessionEntity.class, "SessionEntity", sessionID.toString());
         }
@@ -223,6 +231,11 @@ public class SessionService {
         List<AssessmentSessionCriteriaEntity> activeSessionCriteria = assessmentSessionCriteriaRepository.findAllByEffectiveDateLessThanEqualAndExpiryDateGreaterThanEqual(LocalDateTime.now(), LocalDateTime.now());
         List<AssessmentSessionEntity> newSessions = populateSessionEntities(activeSessionCriteria, schoolYearStart);
         assessmentSessionRepository.saveAll(newSessions);
+        invalidateCachedSessions();
+    }
+
+    private void invalidateCachedSessions() {
+        referenceDataCache.invalidate(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, ReferenceDataCache.ASSESSMENT_SESSIONS);
     }
 
     public List<AssessmentSessionEntity> populateSessionEntities(List<AssessmentSessionCriteriaEntity> sessionTypes, int schoolYearStart){
@@ -11,6 +11,7 @@ import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentMapper;
 import ca.bc.gov.educ.assessment.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.assessment.api.model.v1.*;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.*;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
 import ca.bc.gov.educ.assessment.api.struct.Event;
@@ -23,6 +24,7 @@ import ca.bc.gov.educ.assessment.api.struct.v1.StudentResultSagaData;
 import ca.bc.gov.educ.assessment.api.util.AssessmentUtil;
 import ca.bc.gov.educ.assessment.api.util.JsonUtil;
 import ca.bc.gov.educ.assessment.api.util.TransformUtil;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -36,7 +38,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -49,7 +51,9 @@ public class StudentAssessmentResultService {
     private final StagedStudentResultRepository stagedStudentResultRepository;
     private final StagedAssessmentStudentRepository stagedAssessmentStudentRepository;
     private final AssessmentRepository assessmentRepository;
+    private final ApplicationProperties applicationProperties;
     private final AssessmentChoiceRepository assessmentChoiceRepository;
+    private final AssessmentFormAnswerKeyCache assessmentFormAnswerKeyCache;
     private static final String EVENT_EMPTY_MSG = "Event String is empty, skipping the publish to topic :: {}";
 
     @Async("publisherExecutor")
@@ -62,9 +66,61 @@ public class StudentAssessmentResultService {
                     studentResultSagaData.setPen(el.getPen());
                     return studentResultSagaData;
                 }).toList();
+        Lists.partition(resultSagaDatas, applicationProperties.getStudentIdentityResolutionBatchSize()).forEach(this::resolveStudentIdentities);
         this.publishUnprocessedStudentRecordsForProcessing(resultSagaDatas);
     }
 
+    /**
+     * Looks up the students, their merge targets and their GRAD records for a whole batch with pipelined and bulk
+     * requests, and records them on the saga data. Students that could not be resolved this way are left as they
+     * are and their saga looks them up one at a time as before.
+     */
+    private void resolveStudentIdentities(final List<StudentResultSagaData> studentResultSagaData) {
+        try {
+            val correlationID = UUID.randomUUID();
+            val studentsByPEN = restUtils.getStudentsByPENs(correlationID, studentResultSagaData.stream().map(StudentResultSagaData::getPen).collect(Collectors.toSet()));
+
+            Set<String> trueStudentIDs = studentsByPEN.values().stream().flatMap(Optional::stream)
+                    .filter(student -> "M".equalsIgnoreCase(student.getStatusCode()))
+                    .map(Student::getTrueStudentID)
+                    .collect(Collectors.toSet());
+            Map<String, Student> trueStudentsByID = trueStudentIDs.isEmpty() ? Map.of()
+                    : restUtils.getStudents(correlationID, trueStudentIDs).stream().collect(Collectors.toMap(Student::getStudentID, student -> student, (first, second) -> first));
+
+            Map<String, Student> studentRecordsByPEN = new HashMap<>();
+            studentsByPEN.forEach((pen, student) -> student.ifPresent(s -> {
+                var studentRecord = "M".equalsIgnoreCase(s.getStatusCode()) ? trueStudentsByID.get(s.getTrueStudentID()) : s;
+                if (studentRecord != null) {
+                    studentRecordsByPEN.put(pen, studentRecord);
+                }
+            }));
+            val gradStudentRecordsByStudentID = restUtils.getGradStudentRecordsByStudentIDs(correlationID, studentRecordsByPEN.values().stream().map(student -> UUID.fromString(student.getStudentID())).collect(Collectors.toSet()));
+
+            int resolved = 0;
+            for (var sagaData : studentResultSagaData) {
+                var student = studentsByPEN.get(sagaData.getPen());
+                if (student == null) {
+                    continue;
+                }
+                if (student.isPresent()) {
+                    var studentRecord = studentRecordsByPEN.get(sagaData.getPen());
+                    var gradStudentRecord = studentRecord == null ? null : gradStudentRecordsByStudentID.get(UUID.fromString(studentRecord.getStudentID()));
+                    if (gradStudentRecord == null) {
+                        continue;
+                    }
+                    sagaData.setStudent(student.get());
+                    sagaData.setTrueStudent(studentRecord == student.get() ? null : studentRecord);
+                    sagaData.setGradStudentRecord(gradStudentRecord.orElse(null));
+                }
+                sagaData.setIdentityResolved(true);
+                resolved++;
+            }
+            log.debug("Resolved identities for {} of {} students in batch", resolved, studentResultSagaData.size());
+        } catch (final RuntimeException e) {
+            log.warn("Bulk identity resolution failed, sagas will look up students individually :: {}", e.getMessage());
+        }
+    }
+
     public void publishUnprocessedStudentRecordsForProcessing(final List<StudentResultSagaData> studentResultSagaData) {
         studentResultSagaData.forEach(this::sendIndividualStudentAsMessageToTopic);
     }
@@ -86,6 +142,13 @@ public class StudentAssessmentResultService {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void findGradStudentRecordOrCreate(StudentResultSagaData studentResultSagaData) {
+        if(studentResultSagaData.isIdentityResolved()) {
+            if(studentResultSagaData.getStudent() != null && studentResultSagaData.getGradStudentRecord() == null) {
+                var studentID = getResolvedStudentRecord(studentResultSagaData).getStudentID();
+                restUtils.adoptStudentInGRAD(UUID.randomUUID(), UUID.fromString(studentID));
+            }
+            return;
+        }
         var optStudent = restUtils.getStudentByPEN(UUID.randomUUID(), studentResultSagaData.getPen());
         boolean isMergedRecord = false;
         if(optStudent.isPresent()) {
@@ -124,7 +187,7 @@ public class StudentAssessmentResultService {
                 .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException(AssessmentFormEntity.class, "assessmentFormID", studentResult.getAssessmentFormID().toString()));
 
-        var optStudent = restUtils.getStudentByPEN(UUID.randomUUID(), studentResult.getPen());
+        var optStudent = studentResultSagaData.isIdentityResolved() ? Optional.ofNullable(studentResultSagaData.getStudent()) : restUtils.getStudentByPEN(UUID.randomUUID(), studentResult.getPen());
         var penMatchFound = optStudent.isPresent();
         StagedAssessmentStudentEntity stagedStudent;
         boolean isMergedRecord = false;
@@ -132,15 +195,22 @@ public class StudentAssessmentResultService {
             Student studentApiStudent = optStudent.get();
             Student trueStudentApiStudentRecord = null;
             if(optStudent.get().getStatusCode().equalsIgnoreCase("M")) {
-                List<Student> mergedStudent = restUtils.getStudents(UUID.randomUUID(), Set.of(optStudent.get().getTrueStudentID()));
-                trueStudentApiStudentRecord = mergedStudent.getFirst();
+                if(studentResultSagaData.isIdentityResolved()) {
+                    trueStudentApiStudentRecord = studentResultSagaData.getTrueStudent();
+                } else {
+                    List<Student> mergedStudent = restUtils.getStudents(UUID.randomUUID(), Set.of(optStudent.get().getTrueStudentID()));
+                    trueStudentApiStudentRecord = mergedStudent.getFirst();
+                }
                 isMergedRecord = true;
             }
 
             var studentID = isMergedRecord ? trueStudentApiStudentRecord.getStudentID() : studentApiStudent.getStudentID();
             var studentApiRecord = isMergedRecord ? trueStudentApiStudentRecord : studentApiStudent;
             var existingStudentRegistrationOpt = assessmentStudentRepository.findByAssessmentEntity_AssessmentIDAndStudentID(studentResult.getAssessmentEntity().getAssessmentID(), UUID.fromString(studentID));
-            var gradStudent = restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), UUID.fromString(studentID)).orElse(null);
+            // a student without a GRAD record was adopted by the previous step, so only then is it fetched again
+            var gradStudent = studentResultSagaData.isIdentityResolved() && studentResultSagaData.getGradStudentRecord() != null
+                    ? studentResultSagaData.getGradStudentRecord()
+                    : restUtils.getGradStudentRecordByStudentID(UUID.randomUUID(), UUID.fromString(studentID)).orElse(null);
             stagedStudent = existingStudentRegistrationOpt.isPresent() ?
                     createFromExistingStudentEntity(studentResult, gradStudent, existingStudentRegistrationOpt.get(), formEntity.getAssessmentFormID())
                     : createNewStagedAssessmentStudentEntity(studentResult, school.get(), studentApiRecord, gradStudent, formEntity.getAssessmentFormID(), assessmentEntity);
@@ -196,23 +266,18 @@ public class StudentAssessmentResultService {
     }
 
     private BigDecimal setStagedStudentTotals(StagedAssessmentStudentEntity stagedStudent, ComponentTypeCodes componentType, ComponentSubTypeCodes componentSubType, AssessmentFormEntity formEntity) {
-        var component = formEntity.getAssessmentComponentEntities().stream()
-                .filter(ac -> ac.getComponentTypeCode().equals(componentType.getCode()) && ac.getComponentSubTypeCode().equals(componentSubType.getCode()))
-                .findFirst();
+        var component = getAnswerKey(formEntity).findComponent(componentType, componentSubType);
         if(component.isPresent()) {
             var componentEntity = stagedStudent.getStagedAssessmentStudentComponentEntities().stream()
                     .filter(comp -> Objects.equals(comp.getAssessmentComponentID(), component.get().getAssessmentComponentID()))
                     .findFirst();
 
             if(componentEntity.isPresent()) {
-                var studentAnswers = componentEntity.get().getStagedAssessmentStudentAnswerEntities().stream().toList();
-
                 BigDecimal scaledScore = BigDecimal.ZERO;
-                for (var answer : studentAnswers) {
-                    var score = answer.getScore();
-                    var scale = component.get().getAssessmentQuestionEntities().stream().filter(questionEntity -> Objects.equals(questionEntity.getAssessmentQuestionID(), answer.getAssessmentQuestionID())).findFirst();
-                    if (scale.isPresent()) {
-                        var multipliedScore = score.multiply(BigDecimal.valueOf(scale.get().getScaleFactor()));
+                for (var answer : componentEntity.get().getStagedAssessmentStudentAnswerEntities()) {
+                    var question = component.get().findQuestionByID(answer.getAssessmentQuestionID());
+                    if (question != null) {
+                        var multipliedScore = answer.getScore().multiply(BigDecimal.valueOf(question.getScaleFactor()));
                         scaledScore = scaledScore.add(multipliedScore);
                     }
                 }
@@ -223,23 +288,18 @@ public class StudentAssessmentResultService {
     }
 
     public BigDecimal setAssessmentStudentTotals(AssessmentStudentEntity assessmentStudent, ComponentTypeCodes componentType, ComponentSubTypeCodes componentSubType, AssessmentFormEntity formEntity) {
-        var component = formEntity.getAssessmentComponentEntities().stream()
-                .filter(ac -> ac.getComponentTypeCode().equals(componentType.getCode()) && ac.getComponentSubTypeCode().equals(componentSubType.getCode()))
-                .findFirst();
+        var component = getAnswerKey(formEntity).findComponent(componentType, componentSubType);
         if(component.isPresent()) {
             var componentEntity = assessmentStudent.getAssessmentStudentComponentEntities().stream()
                     .filter(comp -> Objects.equals(comp.getAssessmentComponentID(), component.get().getAssessmentComponentID()))
                     .findFirst();
 
             if(componentEntity.isPresent()) {
-                var studentAnswers = componentEntity.get().getAssessmentStudentAnswerEntities().stream().toList();
-
                 BigDecimal scaledScore = BigDecimal.ZERO;
-                for (var answer : studentAnswers) {
-                    var score = answer.getScore();
-                    var scale = component.get().getAssessmentQuestionEntities().stream().filter(questionEntity -> Objects.equals(questionEntity.getAssessmentQuestionID(), answer.getAssessmentQuestionID())).findFirst();
-                    if (scale.isPresent()) {
-                        var multipliedScore = score.multiply(BigDecimal.valueOf(scale.get().getScaleFactor()));
+                for (var answer : componentEntity.get().getAssessmentStudentAnswerEntities()) {
+                    var question = component.get().findQuestionByID(answer.getAssessmentQuestionID());
+                    if (question != null) {
+                        var multipliedScore = answer.getScore().multiply(BigDecimal.valueOf(question.getScaleFactor()));
                         scaledScore = scaledScore.add(multipliedScore);
                     }
                 }
@@ -306,9 +366,8 @@ public class StudentAssessmentResultService {
         var studentComponent = new StagedAssessmentStudentComponentEntity();
         studentComponent.setStagedAssessmentStudentEntity(assessmentStudent);
 
-        var component = formEntity.getAssessmentComponentEntities().stream()
-                .filter(ac -> ac.getComponentTypeCode().equals(componentType.getCode()) && ac.getComponentSubTypeCode().equals(componentSubType.getCode()))
-                .findFirst().orElseThrow(() -> new EntityNotFoundException(AssessmentComponentEntity.class, componentType.getCode()));
+        var component = getAnswerKey(formEntity).findComponent(componentType, componentSubType)
+                .orElseThrow(() -> new EntityNotFoundException(AssessmentComponentEntity.class, componentType.getCode()));
 
         studentComponent.setAssessmentComponentID(component.getAssessmentComponentID());
         studentComponent.setCreateUser(studentResult.getCreateUser());
@@ -319,17 +378,18 @@ public class StudentAssessmentResultService {
         if(componentType == ComponentTypeCodes.MUL_CHOICE) {
             studentComponent.setChoicePath(studentResult.getChoicePath());
             var multiChoiceMarks = TransformUtil.splitStringEveryNChars(studentResult.getMcMarks(), 4);
-            AtomicInteger questionCounter = new AtomicInteger(1);
-            AtomicInteger itemCounter = new AtomicInteger(1);
+            int questionCounter = 1;
+            int itemCounter = 1;
             for(var multiChoiceMark: multiChoiceMarks) {
                 if (StringUtils.isNotBlank(multiChoiceMark) && !multiChoiceMark.equalsIgnoreCase("9999")) {
                     var answer = new StagedAssessmentStudentAnswerEntity();
                     answer.setStagedAssessmentStudentComponentEntity(studentComponent);
-                    var question = component.getAssessmentQuestionEntities().stream()
-                            .filter(q -> q.getQuestionNumber().equals(questionCounter.get()) && q.getItemNumber().equals(itemCounter.get()))
-                            .findFirst().orElseThrow(() -> new EntityNotFoundException(AssessmentQuestionEntity.class, "questionNumber", questionCounter.toString()));
-                    questionCounter.getAndIncrement();
-                    itemCounter.getAndIncrement();
+                    var question = component.findQuestion(questionCounter, itemCounter);
+                    if (question == null) {
+                        throw new EntityNotFoundException(AssessmentQuestionEntity.class, "questionNumber", Integer.toString(questionCounter));
+                    }
+                    questionCounter++;
+                    itemCounter++;
                     answer.setAssessmentQuestionID(question.getAssessmentQuestionID());
                     answer.setScore(new BigDecimal(multiChoiceMark));
                     answer.setCreateUser(studentResult.getCreateUser());
@@ -338,27 +398,24 @@ public class StudentAssessmentResultService {
                     answer.setUpdateDate(LocalDateTime.now());
                     studentComponent.getStagedAssessmentStudentAnswerEntities().add(answer);
                 } else {
-                    questionCounter.getAndIncrement();
-                    itemCounter.getAndIncrement();
+                    questionCounter++;
+                    itemCounter++;
                 }
             }
         } else if(componentType == ComponentTypeCodes.OPEN_ENDED) {
             var openEndedMarks = TransformUtil.splitStringEveryNChars(studentResult.getOeMarks(), 4);
             int questionCounter = 1;
-            AtomicInteger itemCounter = new AtomicInteger(1);
+            int itemCounter = 1;
             int answerForChoiceCounter = 0;
             int choiceQuestionNumber = 0;
 
             int answerForMultiMarkerCounter = 0;
             for(var openEndedMark: openEndedMarks) {
-                Optional<AssessmentQuestionEntity> question;
                 var quesCount = answerForChoiceCounter != 0 ? choiceQuestionNumber : questionCounter;
-                question = component.getAssessmentQuestionEntities().stream()
-                        .filter(q -> q.getQuestionNumber().equals(quesCount) && q.getItemNumber().equals(itemCounter.get()))
-                        .findFirst();
-                var optAssessmentChoice = assessmentChoiceRepository.findByItemNumberAndAssessmentComponentEntity_AssessmentComponentID(itemCounter.get(), component.getAssessmentComponentID());
+                var question = component.findQuestion(quesCount, itemCounter);
+                var assessmentChoiceID = component.findChoiceID(itemCounter);
 
-                itemCounter.getAndIncrement();
+                itemCounter++;
                 if (answerForChoiceCounter != 0) {
                     if(answerForChoiceCounter == 1) {
                         questionCounter++;
@@ -367,24 +424,22 @@ public class StudentAssessmentResultService {
                 }
 
                 if (StringUtils.isNotBlank(openEndedMark) && !openEndedMark.equalsIgnoreCase("9999")) {
-                    if (question.isEmpty()) {
+                    if (question == null) {
                         //It's a choice!
                         //Value in 4 chars is the question number
                         var questionNumber = getQuestionNumberFromString(openEndedMark);
                         //Pull the number of rows that have this question number in this component
-                        var questionSelected = component.getAssessmentQuestionEntities().stream()
-                                .filter(q -> q.getQuestionNumber().equals(questionNumber))
-                                .toList();
+                        var questionSelected = component.getQuestionsForQuestionNumber(questionNumber);
                         answerForChoiceCounter = questionSelected.size();
                         //Based on number of rows returned, we know how many answers are coming
                         //Item numbers are sequential, while skipping the choice records
                         choiceQuestionNumber = questionNumber;
                         questionCounter++;
 
-                        if(optAssessmentChoice.isPresent()) {
+                        if(assessmentChoiceID != null) {
                             var choice = new StagedAssessmentStudentChoiceEntity();
                             choice.setStagedAssessmentStudentComponentEntity(studentComponent);
-                            choice.setAssessmentChoiceEntity(optAssessmentChoice.get());
+                            choice.setAssessmentChoiceEntity(assessmentChoiceRepository.getReferenceById(assessmentChoiceID));
                             choice.setCreateUser(studentResult.getCreateUser());
                             choice.setCreateDate(LocalDateTime.now());
                             choice.setUpdateUser(studentResult.getUpdateUser());
@@ -404,11 +459,9 @@ public class StudentAssessmentResultService {
                         }
                     } else {
                         // It's a question
-                        if(question.get().getAssessmentChoiceEntity() == null) {
+                        if(!question.isPartOfChoice()) {
                             if (answerForMultiMarkerCounter == 0) {
-                                var questionSelected = component.getAssessmentQuestionEntities().stream()
-                                        .filter(q -> q.getQuestionNumber().equals(quesCount))
-                                        .toList();
+                                var questionSelected = component.getQuestionsForQuestionNumber(quesCount);
                                 answerForMultiMarkerCounter = questionSelected.size() - 1;
                             } else {
                                 answerForMultiMarkerCounter--;
@@ -420,7 +473,7 @@ public class StudentAssessmentResultService {
                         }
                         var answer = new StagedAssessmentStudentAnswerEntity();
                         answer.setStagedAssessmentStudentComponentEntity(studentComponent);
-                        answer.setAssessmentQuestionID(question.get().getAssessmentQuestionID());
+                        answer.setAssessmentQuestionID(question.getAssessmentQuestionID());
                         answer.setScore(new BigDecimal(openEndedMark));
                         answer.setCreateUser(studentResult.getCreateUser());
                         answer.setCreateDate(LocalDateTime.now());
@@ -468,9 +521,8 @@ public class StudentAssessmentResultService {
         var studentComponent = new AssessmentStudentComponentEntity();
         studentComponent.setAssessmentStudentEntity(assessmentStudent);
 
-        var component = formEntity.getAssessmentComponentEntities().stream()
-                .filter(ac -> ac.getComponentTypeCode().equals(componentType.getCode()) && ac.getComponentSubTypeCode().equals(componentSubType.getCode()))
-                .findFirst().orElseThrow(() -> new EntityNotFoundException(AssessmentComponentEntity.class, componentType.getCode()));
+        var component = getAnswerKey(formEntity).findComponent(componentType, componentSubType)
+                .orElseThrow(() -> new EntityNotFoundException(AssessmentComponentEntity.class, componentType.getCode()));
 
         studentComponent.setAssessmentComponentID(component.getAssessmentComponentID());
         studentComponent.setCreateUser(fileUpload.getCreateUser());
@@ -481,17 +533,18 @@ public class StudentAssessmentResultService {
         if(componentType == ComponentTypeCodes.MUL_CHOICE) {
             studentComponent.setChoicePath(studentResult.getChoicePath());
             var multiChoiceMarks = TransformUtil.splitStringEveryNChars(studentResult.getMultiChoiceMarks(), 4);
-            AtomicInteger questionCounter = new AtomicInteger(1);
-            AtomicInteger itemCounter = new AtomicInteger(1);
+            int questionCounter = 1;
+            int itemCounter = 1;
             for(var multiChoiceMark: multiChoiceMarks){
                 if (StringUtils.isNotBlank(multiChoiceMark) && !multiChoiceMark.equalsIgnoreCase("9999")) {
                     var answer = new AssessmentStudentAnswerEntity();
                     answer.setAssessmentStudentComponentEntity(studentComponent);
-                    var question = component.getAssessmentQuestionEntities().stream()
-                            .filter(q -> q.getQuestionNumber().equals(questionCounter.get()) && q.getItemNumber().equals(itemCounter.get()))
-                            .findFirst().orElseThrow(() -> new EntityNotFoundException(AssessmentQuestionEntity.class, "questionNumber", questionCounter.toString()));
-                    questionCounter.getAndIncrement();
-                    itemCounter.getAndIncrement();
+                    var question = component.findQuestion(questionCounter, itemCounter);
+                    if (question == null) {
+                        throw new EntityNotFoundException(AssessmentQuestionEntity.class, "questionNumber", Integer.toString(questionCounter));
+                    }
+                    questionCounter++;
+                    itemCounter++;
                     answer.setAssessmentQuestionID(question.getAssessmentQuestionID());
                     answer.setScore(new BigDecimal(multiChoiceMark));
                     answer.setCreateUser(fileUpload.getCreateUser());
@@ -500,27 +553,24 @@ public class StudentAssessmentResultService {
                     answer.setUpdateDate(LocalDateTime.now());
                     studentComponent.getAssessmentStudentAnswerEntities().add(answer);
                 } else {
-                    questionCounter.getAndIncrement();
-                    itemCounter.getAndIncrement();
+                    questionCounter++;
+                    itemCounter++;
                 }
             }
         } else if(componentType == ComponentTypeCodes.OPEN_ENDED) {
             var openEndedMarks = TransformUtil.splitStringEveryNChars(studentResult.getOpenEndedMarks(), 4);
             int questionCounter = 1;
-            AtomicInteger itemCounter = new AtomicInteger(1);
+            int itemCounter = 1;
             int answerForChoiceCounter = 0;
             int choiceQuestionNumber = 0;
 
             int answerForMultiMarkerCounter = 0;
             for(var openEndedMark: openEndedMarks){
-                    Optional<AssessmentQuestionEntity> question;
                     var quesCount = answerForChoiceCounter != 0 ? choiceQuestionNumber : questionCounter;
-                    question = component.getAssessmentQuestionEntities().stream()
-                            .filter(q -> q.getQuestionNumber().equals(quesCount) && q.getItemNumber().equals(itemCounter.get()))
-                            .findFirst();
-                    var optAssessmentChoice = assessmentChoiceRepository.findByItemNumberAndAssessmentComponentEntity_AssessmentComponentID(itemCounter.get(), component.getAssessmentComponentID());
+                    var question = component.findQuestion(quesCount, itemCounter);
+                    var assessmentChoiceID = component.findChoiceID(itemCounter);
 
-                    itemCounter.getAndIncrement();
+                    itemCounter++;
                     if(answerForChoiceCounter != 0) {
                         if(answerForChoiceCounter == 1) {
                             questionCounter++;
@@ -529,24 +579,22 @@ public class StudentAssessmentResultService {
                     }
 
                 if(StringUtils.isNotBlank(openEndedMark) && !openEndedMark.equalsIgnoreCase("9999")) {
-                    if(question.isEmpty()){
+                    if(question == null){
                         //It's a choice!
                         //Value in 4 chars is the question number
                         var questionNumber = getQuestionNumberFromString(openEndedMark);
                         //Pull the number of rows that have this question number in this component
-                        var questionSelected = component.getAssessmentQuestionEntities().stream()
-                                .filter(q -> q.getQuestionNumber().equals(questionNumber))
-                                .toList();
+                        var questionSelected = component.getQuestionsForQuestionNumber(questionNumber);
                         answerForChoiceCounter = questionSelected.size();
                         //Based on number of rows returned, we know how many answers are coming
                         //Item numbers are sequential, while skipping the choice records
                         choiceQuestionNumber = questionNumber;
                         questionCounter++;
 
-                        if(optAssessmentChoice.isPresent()) {
+                        if(assessmentChoiceID != null) {
                             var choice = new AssessmentStudentChoiceEntity();
                             choice.setAssessmentStudentComponentEntity(studentComponent);
-                            choice.setAssessmentChoiceEntity(optAssessmentChoice.get());
+                            choice.setAssessmentChoiceEntity(assessmentChoiceRepository.getReferenceById(assessmentChoiceID));
                             choice.setCreateUser(fileUpload.getCreateUser());
                             choice.setCreateDate(LocalDateTime.now());
                             choice.setUpdateUser(fileUpload.getUpdateUser());
@@ -565,11 +613,9 @@ public class StudentAssessmentResultService {
                             studentComponent.getAssessmentStudentChoiceEntities().add(choice);
                         }
                     } else {
-                        if(question.get().getAssessmentChoiceEntity() == null) {
+                        if(!question.isPartOfChoice()) {
                             if (answerForMultiMarkerCounter == 0) {
-                                var questionSelected = component.getAssessmentQuestionEntities().stream()
-                                        .filter(q -> q.getQuestionNumber().equals(quesCount))
-                                        .toList();
+                                var questionSelected = component.getQuestionsForQuestionNumber(quesCount);
                                 answerForMultiMarkerCounter = questionSelected.size() - 1;
                             } else {
                                 answerForMultiMarkerCounter--;
@@ -581,7 +627,7 @@ public class StudentAssessmentResultService {
                         }
                         var answer = new AssessmentStudentAnswerEntity();
                         answer.setAssessmentStudentComponentEntity(studentComponent);
-                        answer.setAssessmentQuestionID(question.get().getAssessmentQuestionID());
+                        answer.setAssessmentQuestionID(question.getAssessmentQuestionID());
                         answer.setScore(new BigDecimal(openEndedMark));
                         answer.setCreateUser(fileUpload.getCreateUser());
                         answer.setCreateDate(LocalDateTime.now());
@@ -599,6 +645,14 @@ public class StudentAssessmentResultService {
 
 
 
+    private Student getResolvedStudentRecord(StudentResultSagaData studentResultSagaData) {
+        return studentResultSagaData.getTrueStudent() != null ? studentResultSagaData.getTrueStudent() : studentResultSagaData.getStudent();
+    }
+
+    private AssessmentFormAnswerKey getAnswerKey(AssessmentFormEntity formEntity) {
+        return assessmentFormAnswerKeyCache.get(formEntity);
+    }
+
     private int getQuestionNumberFromString(String s) {
         try {
             double dValue = Double.parseDouble(s);
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.assessment.api.service.v1;
 
 import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
 import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.StagedAssessmentStudentEntity;
@@ -12,21 +13,29 @@ import ca.bc.gov.educ.assessment.api.repository.v1.StagedAssessmentStudentReposi
 import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
 import ca.bc.gov.educ.assessment.api.rest.RestUtils;
 import ca.bc.gov.educ.assessment.api.rest.ComsRestUtils;
+import ca.bc.gov.educ.assessment.api.struct.external.coms.v1.ObjectMetadata;
 import ca.bc.gov.educ.assessment.api.struct.v1.reports.DownloadableReportResponse;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.List;
-import java.util.UUID;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -34,12 +43,14 @@ import java.util.zip.ZipOutputStream;
 @Slf4j
 @RequiredArgsConstructor
 public class XAMFileService {
+    private static final String NO_RESULTS_LINE = "# No assessment results for this school\n";
     private final AssessmentStudentRepository assessmentStudentRepository;
     private AssessmentSessionRepository assessmentSessionRepository;
     private RestUtils restUtils;
     private final ComsRestUtils comsRestUtils;
     private final ApplicationProperties applicationProperties;
     private StagedAssessmentStudentRepository stagedAssessmentStudentRepository;
+    private final ExecutorService xamExecutor;
 
     @Autowired
     public XAMFileService(AssessmentStudentRepository assessmentStudentRepository, AssessmentSessionRepository assessmentSessionRepository, RestUtils restUtils, ComsRestUtils comsRestUtils, ApplicationProperties applicationProperties, StagedAssessmentStudentRepository stagedAssessmentStudentRepository) {
@@ -49,6 +60,15 @@ public class XAMFileService {
         this.comsRestUtils = comsRestUtils;
         this.applicationProperties = applicationProperties;
         this.stagedAssessmentStudentRepository = stagedAssessmentStudentRepository;
+        this.xamExecutor = new EnhancedQueueExecutor.Builder()
+                .setThreadFactory(new ThreadFactoryBuilder().withNameFormat("xam-generation-executor-%d").get())
+                .setCorePoolSize(applicationProperties.getXamGenerationParallelism()).setMaximumPoolSize(applicationProperties.getXamGenerationParallelism())
+                .setKeepAliveTime(Duration.ofSeconds(60)).build();
+    }
+
+    @PreDestroy
+    public void close() {
+        this.xamExecutor.shutdown();
     }
 
     /**
@@ -59,106 +79,98 @@ public class XAMFileService {
      * @return the XAM file content as a String
      */
     protected String generateXamContent(AssessmentSessionEntity assessmentSessionEntity, SchoolTombstone school, boolean forSaga) {
-        StringBuilder sb;
-        if (forSaga) {
-            List<StagedAssessmentStudentEntity> stagedStudents = stagedAssessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(
-                    assessmentSessionEntity.getSessionID(), UUID.fromString(school.getSchoolId()), List.of("ACTIVE", "MERGED"));
-            sb = generateRowsStagedAssessmentStudent(stagedStudents, school);
-        } else {
-            List<AssessmentStudentEntity> students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(
-                    assessmentSessionEntity.getSessionID(), UUID.fromString(school.getSchoolId()), List.of("ACTIVE"));
-            sb = generateRowsAssessmentStudent(students, school);
+        StringWriter writer = new StringWriter();
+        writeXamContent(assessmentSessionEntity, school, forSaga, writer);
+        return writer.toString();
+    }
+
+    private byte[] generateXamBytes(AssessmentSessionEntity assessmentSessionEntity, SchoolTombstone school, boolean forSaga) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(content, StandardCharsets.UTF_8)) {
+            writeXamContent(assessmentSessionEntity, school, forSaga, writer);
+        } catch (IOException e) {
+            throw new StudentAssessmentAPIRuntimeException("Failed to write XAM file for school " + school.getMincode() + ": " + e.getMessage());
         }
-        return sb.toString();
+        return content.toByteArray();
     }
 
-    private StringBuilder generateRowsAssessmentStudent(List<AssessmentStudentEntity> assessmentStudents, SchoolTombstone school) {
-        StringBuilder sb = new StringBuilder();
+    private void writeXamContent(AssessmentSessionEntity assessmentSessionEntity, SchoolTombstone school, boolean forSaga, Writer writer) {
+        try {
+            if (forSaga) {
+                List<StagedAssessmentStudentEntity> stagedStudents = stagedAssessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(
+                        assessmentSessionEntity.getSessionID(), UUID.fromString(school.getSchoolId()), List.of("ACTIVE", "MERGED"));
+                writeRowsStagedAssessmentStudent(stagedStudents, school, writer);
+            } else {
+                List<AssessmentStudentEntity> students = assessmentStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStudentStatusCodeIn(
+                        assessmentSessionEntity.getSessionID(), UUID.fromString(school.getSchoolId()), List.of("ACTIVE"));
+                writeRowsAssessmentStudent(students, school, writer);
+            }
+        } catch (IOException e) {
+            throw new StudentAssessmentAPIRuntimeException("Failed to write XAM file for school " + school.getMincode() + ": " + e.getMessage());
+        }
+    }
 
+    private void writeRowsAssessmentStudent(List<AssessmentStudentEntity> assessmentStudents, SchoolTombstone school, Writer writer) throws IOException {
         if (assessmentStudents.isEmpty()) {
-            sb.append("# No assessment results for this school\n");
-            return sb;
+            writer.write(NO_RESULTS_LINE);
+            return;
         }
 
+        XamRow row = new XamRow();
         for (AssessmentStudentEntity student : assessmentStudents) {
-            var examSchool = restUtils.getSchoolBySchoolID(String.valueOf(student.getAssessmentCenterSchoolID()));
-            var examMincode = examSchool.map(SchoolTombstone::getMincode).orElse("");
-            String row =
-                    padRight("E07", 3) + // TX_ID
-                            padRight(school.getVendorSourceSystemCode(), 1) + // VENDOR_ID
-                            padRight("", 1) + // VERI_FLAG (BLANK)
-                            padRight("", 5) + // FILLER1 (BLANK)
-                            padRight(school.getMincode(), 8) + // MINCODE
-                            padRight(student.getLocalID(), 12) + // STUD_LOCAL_ID
-                            padRight(student.getPen(), 10) + // STUD_NO (PEN)
-                            padRight(student.getAssessmentEntity() != null ? student.getAssessmentEntity().getAssessmentTypeCode() : "", 5) + // CRSE_CODE
-                            padRight("", 3) + // CRSE_LEVEL (BLANK)
-                            padRight(student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null ? student.getAssessmentEntity().getAssessmentSessionEntity().getCourseYear() : "", 4) + // CRSE_YEAR
-                            padRight(student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null ? student.getAssessmentEntity().getAssessmentSessionEntity().getCourseMonth() : "", 2) + // CRSE_MONTH
-                            padRight("", 2) + // INTERIM_LETTER_GRADE (BLANK)
-                            padRight("", 3) + // INTERIM_SCHOOL_PERCENT (BLANK)
-                            padRight("", 3) + // FINAL_SCHOOL_PERCENT (BLANK)
-                            padRight("", 3) + // EXAM_PERCENT (BLANK)
-                            (student.getProficiencyScore() == null ? "000" : String.format("%03d", student.getProficiencyScore())) + // FINAL_PERCENT - formatted as 001-004 - 000 if null
-                            padRight("", 2) + // FINAL_LETTER_GRADE (BLANK)
-                            padRight("Y", 1) + // E-EXAM FLAG - Always Y according to spec
-                            padRight(student.getProvincialSpecialCaseCode(), 1) + // PROV_SPEC_CASE
-                            padRight(student.getLocalAssessmentID(), 20) + // LOCAL_CRSE_ID
-                            padRight("A", 1) + // CRSE_STATUS - Always A according to spec
-                            padRight(student.getSurname(), 25) + // STUD_SURNAME
-                            padRight("", 2) + // NUM_CREDITS (BLANK)
-                            padRight("", 1) + // CRSE_TYPE (BLANK)
-                            padRight("", 1) + // TO_WRITE_FLAG (BLANK)
-                            padRight(examMincode, 8) + // EXAM_MINCODE
-                            "\n";
-            sb.append(row);
+            writeRow(row, school, student.getAssessmentCenterSchoolID(), student.getLocalID(), student.getPen(), student.getAssessmentEntity(),
+                    student.getProficiencyScore(), student.getProvincialSpecialCaseCode(), student.getLocalAssessmentID(), student.getSurname());
+            row.writeTo(writer);
         }
-        return sb;
     }
 
-    private StringBuilder generateRowsStagedAssessmentStudent(List<StagedAssessmentStudentEntity> assessmentStudents, SchoolTombstone school) {
-        StringBuilder sb = new StringBuilder();
-
+    private void writeRowsStagedAssessmentStudent(List<StagedAssessmentStudentEntity> assessmentStudents, SchoolTombstone school, Writer writer) throws IOException {
         // required to not upload zero byte files to COMS
         if (assessmentStudents.isEmpty()) {
-            sb.append("# No assessment results for this school\n");
-            return sb;
+            writer.write(NO_RESULTS_LINE);
+            return;
         }
 
+        XamRow row = new XamRow();
         for (StagedAssessmentStudentEntity student : assessmentStudents) {
-            var examSchool = restUtils.getSchoolBySchoolID(String.valueOf(student.getAssessmentCenterSchoolID()));
-            var examMincode = examSchool.map(SchoolTombstone::getMincode).orElse("");
-            String row =
-                    padRight("E07", 3) + // TX_ID
-                            padRight(school.getVendorSourceSystemCode(), 1) + // VENDOR_ID
-                            padRight("", 1) + // VERI_FLAG (BLANK)
-                            padRight("", 5) + // FILLER1 (BLANK)
-                            padRight(school.getMincode(), 8) + // MINCODE
-                            padRight(student.getLocalID(), 12) + // STUD_LOCAL_ID
-                            padRight(student.getPen(), 10) + // STUD_NO (PEN)
-                            padRight(student.getAssessmentEntity() != null ? student.getAssessmentEntity().getAssessmentTypeCode() : "", 5) + // CRSE_CODE
-                            padRight("", 3) + // CRSE_LEVEL (BLANK)
-                            padRight(student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null ? student.getAssessmentEntity().getAssessmentSessionEntity().getCourseYear() : "", 4) + // CRSE_YEAR
-                            padRight(student.getAssessmentEntity() != null && student.getAssessmentEntity().getAssessmentSessionEntity() != null ? student.getAssessmentEntity().getAssessmentSessionEntity().getCourseMonth() : "", 2) + // CRSE_MONTH
-                            padRight("", 2) + // INTERIM_LETTER_GRADE (BLANK)
-                            padRight("", 3) + // INTERIM_SCHOOL_PERCENT (BLANK)
-                            padRight("", 3) + // FINAL_SCHOOL_PERCENT (BLANK)
-                            padRight("", 3) + // EXAM_PERCENT (BLANK)
-                            (student.getProficiencyScore() == null ? "000" : String.format("%03d", student.getProficiencyScore())) + // FINAL_PERCENT - formatted as 001-004 - 000 if null
-                            padRight("", 2) + // FINAL_LETTER_GRADE (BLANK)
-                            padRight("Y", 1) + // E-EXAM FLAG - Always Y according to spec
-                            padRight(student.getProvincialSpecialCaseCode(), 1) + // PROV_SPEC_CASE
-                            padRight(student.getLocalAssessmentID(), 20) + // LOCAL_CRSE_ID
-                            padRight("A", 1) + // CRSE_STATUS - Always A according to spec
-                            padRight(student.getSurname(), 25) + // STUD_SURNAME
-                            padRight("", 2) + // NUM_CREDITS (BLANK)
-                            padRight("", 1) + // CRSE_TYPE (BLANK)
-                            padRight("", 1) + // TO_WRITE_FLAG (BLANK)
-                            padRight(examMincode, 8) + // EXAM_MINCODE
-                            "\n";
-            sb.append(row);
+            writeRow(row, school, student.getAssessmentCenterSchoolID(), student.getLocalID(), student.getPen(), student.getAssessmentEntity(),
+                    student.getProficiencyScore(), student.getProvincialSpecialCaseCode(), student.getLocalAssessmentID(), student.getSurname());
+            row.writeTo(writer);
         }
-        return sb;
+    }
+
+    private void writeRow(XamRow row, SchoolTombstone school, UUID assessmentCenterSchoolID, String localID, String pen, AssessmentEntity assessment,
+                          Integer proficiencyScore, String provincialSpecialCaseCode, String localAssessmentID, String surname) {
+        var examSchool = restUtils.getSchoolBySchoolID(String.valueOf(assessmentCenterSchoolID));
+        var examMincode = examSchool.map(SchoolTombstone::getMincode).orElse("");
+        var assessmentSession = assessment != null ? assessment.getAssessmentSessionEntity() : null;
+        row.clear()
+                .pad("E07", 3) // TX_ID
+                .pad(school.getVendorSourceSystemCode(), 1) // VENDOR_ID
+                .skip(1) // VERI_FLAG (BLANK)
+                .skip(5) // FILLER1 (BLANK)
+                .pad(school.getMincode(), 8) // MINCODE
+                .pad(localID, 12) // STUD_LOCAL_ID
+                .pad(pen, 10) // STUD_NO (PEN)
+                .pad(assessment != null ? assessment.getAssessmentTypeCode() : "", 5) // CRSE_CODE
+                .skip(3) // CRSE_LEVEL (BLANK)
+                .pad(assessmentSession != null ? assessmentSession.getCourseYear() : "", 4) // CRSE_YEAR
+                .pad(assessmentSession != null ? assessmentSession.getCourseMonth() : "", 2) // CRSE_MONTH
+                .skip(2) // INTERIM_LETTER_GRADE (BLANK)
+                .skip(3) // INTERIM_SCHOOL_PERCENT (BLANK)
+                .skip(3) // FINAL_SCHOOL_PERCENT (BLANK)
+                .skip(3) // EXAM_PERCENT (BLANK)
+                .zeroPad(proficiencyScore, 3) // FINAL_PERCENT - formatted as 001-004 - 000 if null
+                .skip(2) // FINAL_LETTER_GRADE (BLANK)
+                .pad("Y", 1) // E-EXAM FLAG - Always Y according to spec
+                .pad(provincialSpecialCaseCode, 1) // PROV_SPEC_CASE
+                .pad(localAssessmentID, 20) // LOCAL_CRSE_ID
+                .pad("A", 1) // CRSE_STATUS - Always A according to spec
+                .pad(surname, 25) // STUD_SURNAME
+                .skip(2) // NUM_CREDITS (BLANK)
+                .skip(1) // CRSE_TYPE (BLANK)
+                .skip(1) // TO_WRITE_FLAG (BLANK)
+                .pad(examMincode, 8); // EXAM_MINCODE
     }
 
     /**
@@ -178,14 +190,28 @@ public class XAMFileService {
     }
 
     public void uploadToComs(byte[] content, String key) {
+        uploadToComs(key, content.length, () -> comsRestUtils.uploadObject(content, key));
+    }
+
+    public void uploadToComs(Path file, String key) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new StudentAssessmentAPIRuntimeException("Failed to upload file to COMS: " + e.getMessage());
+        }
+        uploadToComs(key, size, () -> comsRestUtils.uploadObject(file, key));
+    }
+
+    private void uploadToComs(String key, long contentLength, Supplier<ObjectMetadata> upload) {
         try {
             String bucketName = applicationProperties.getS3BucketName();
             String endpoint = applicationProperties.getComsEndpointUrl();
 
             log.debug("COMS Upload Configuration - Bucket: {}, Key: {}, Endpoint: {}, Content Size: {} bytes",
-                    bucketName, key, endpoint, content.length);
+                    bucketName, key, endpoint, contentLength);
 
-            var response = comsRestUtils.uploadObject(content, key);
+            var response = upload.get();
 
             log.debug("COMS Upload Response - Object ID: {}, Path: {}, Name: {}", response.getId(), response.getPath(), response.getName());
 
@@ -251,44 +277,93 @@ public class XAMFileService {
         List<SchoolTombstone> myEdSchools = schools.stream()
                 .filter(school -> "MYED".equalsIgnoreCase(school.getVendorSourceSystemCode()))
                 .toList();
-        String folderName = generateXamFolderName(assessmentSessionEntity);
         var schoolsWithStudents = forSaga
                 ? stagedAssessmentStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(assessmentSessionEntity.getSessionID())
                 : assessmentStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(assessmentSessionEntity.getSessionID());
         log.info("Starting generation of XAM zip for {} MYED schools, session {}, forSaga={}", myEdSchools.size(), assessmentSessionEntity.getSessionID(), forSaga);
 
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             ZipOutputStream zos = new ZipOutputStream(baos)) {
-
-            int fileCount = 0;
-            for (SchoolTombstone school : myEdSchools) {
-                if (schoolsWithStudents.contains(UUID.fromString(school.getSchoolId()))) {
-                    log.debug("Generating XAM file for school: {}", school.getMincode());
-                    String xamContent = generateXamContent(assessmentSessionEntity, school, forSaga);
-                    String fileName = generateXamFileName(school, assessmentSessionEntity);
-
-                    ZipEntry entry = new ZipEntry(fileName);
-                    zos.putNextEntry(entry);
-                    zos.write(xamContent.getBytes(StandardCharsets.UTF_8));
-                    zos.closeEntry();
-                    fileCount++;
-                    log.debug("Added XAM file to zip for school: {}", school.getMincode());
+        var schoolsToGenerate = myEdSchools.stream()
+                .filter(school -> schoolsWithStudents.contains(UUID.fromString(school.getSchoolId())))
+                .toList();
+        if (schoolsToGenerate.isEmpty()) {
+            log.info("No XAM files generated for session {}, skipping upload", assessmentSessionEntity.getSessionID());
+        } else {
+            generateAndUploadXamZip(assessmentSessionEntity, schoolsToGenerate, forSaga);
+        }
+        log.info("Completed processing XAM files for session {}", assessmentSessionEntity.getSessionID());
+    }
+
+    private void generateAndUploadXamZip(AssessmentSessionEntity assessmentSessionEntity, List<SchoolTombstone> schools, boolean forSaga) {
+        String folderName = generateXamFolderName(assessmentSessionEntity);
+        Path zipFile = null;
+        try {
+            zipFile = Files.createTempFile(folderName + "-", ".zip");
+            writeXamZip(assessmentSessionEntity, schools, forSaga, zipFile);
+            String zipKey = folderName + "/" + folderName + ".zip";
+            log.info("Uploading zip with {} XAM files ({} bytes) to COMS as {}", schools.size(), Files.size(zipFile), zipKey);
+            uploadToComs(zipFile, zipKey);
+        } catch (IOException e) {
+            throw new StudentAssessmentAPIRuntimeException("Failed to create XAM zip file: " + e.getMessage());
+        } finally {
+            deleteQuietly(zipFile);
+        }
+    }
+
+    /**
+     * Generates the schools' files on the XAM executor and writes them to the zip in school order as they complete.
+     * At most a few files per generation thread are waiting to be written, so the heap holds a handful of schools
+     * rather than the whole archive.
+     */
+    private void writeXamZip(AssessmentSessionEntity assessmentSessionEntity, List<SchoolTombstone> schools, boolean forSaga, Path zipFile) throws IOException {
+        int maxPending = applicationProperties.getXamGenerationParallelism() * 2;
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zipFile)))) {
+            Iterator<SchoolTombstone> toSubmit = schools.iterator();
+            Iterator<SchoolTombstone> toWrite = schools.iterator();
+            while (toWrite.hasNext()) {
+                while (toSubmit.hasNext() && pending.size() < maxPending) {
+                    SchoolTombstone school = toSubmit.next();
+                    pending.add(xamExecutor.submit(() -> {
+                        log.debug("Generating XAM file for school: {}", school.getMincode());
+                        return generateXamBytes(assessmentSessionEntity, school, forSaga);
+                    }));
                 }
+                SchoolTombstone school = toWrite.next();
+                byte[] xamContent = awaitXamContent(pending.poll());
+                zos.putNextEntry(new ZipEntry(generateXamFileName(school, assessmentSessionEntity)));
+                zos.write(xamContent);
+                zos.closeEntry();
+                log.debug("Added XAM file to zip for school: {}", school.getMincode());
             }
             zos.finish();
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
 
-            if (fileCount > 0) {
-                byte[] zipBytes = baos.toByteArray();
-                String zipKey = folderName + "/" + folderName + ".zip";
-                log.info("Uploading zip with {} XAM files ({} bytes) to COMS as {}", fileCount, zipBytes.length, zipKey);
-                uploadToComs(zipBytes, zipKey);
-            } else {
-                log.info("No XAM files generated for session {}, skipping upload", assessmentSessionEntity.getSessionID());
+    private byte[] awaitXamContent(Future<byte[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudentAssessmentAPIRuntimeException("Interrupted while generating XAM files");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw new StudentAssessmentAPIRuntimeException("Failed to generate XAM file: " + e.getCause().getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
         } catch (IOException e) {
-            throw new StudentAssessmentAPIRuntimeException("Failed to create XAM zip file: " + e.getMessage());
+            log.warn("Could not delete temporary XAM zip {}: {}", file, e.getMessage());
         }
-        log.info("Completed processing XAM files for session {}", assessmentSessionEntity.getSessionID());
     }
 
     /**
@@ -306,11 +381,46 @@ public class XAMFileService {
         return school.getMincode() + "-" + assessmentSessionEntity.getCourseYear() + assessmentSessionEntity.getCourseMonth() + "-Results.xam";
     }
 
-    private String padRight(String value, int length) {
-        String str = value == null ? "" : value;
-        if (str.length() > length) {
-            return str.substring(0, length);
+    /**
+     * One fixed width XAM row, reused for every student of a file. Fields are copied into the row in order and
+     * anything not written stays blank.
+     */
+    private static final class XamRow {
+        private static final int ROW_LENGTH = 130;
+        private final char[] chars = new char[ROW_LENGTH + 1];
+        private int position;
+
+        private XamRow clear() {
+            Arrays.fill(chars, 0, ROW_LENGTH, ' ');
+            chars[ROW_LENGTH] = '\n';
+            position = 0;
+            return this;
+        }
+
+        private XamRow pad(String value, int length) {
+            if (value != null) {
+                value.getChars(0, Math.min(value.length(), length), chars, position);
+            }
+            position += length;
+            return this;
+        }
+
+        private XamRow skip(int length) {
+            position += length;
+            return this;
+        }
+
+        private XamRow zeroPad(Integer value, int length) {
+            String digits = value == null ? "" : value.toString();
+            int zeros = Math.max(0, length - digits.length());
+            Arrays.fill(chars, position, position + zeros, '0');
+            digits.getChars(0, Math.min(digits.length(), length - zeros), chars, position + zeros);
+            position += length;
+            return this;
+        }
+
+        private void writeTo(Writer writer) throws IOException {
+            writer.write(chars, 0, chars.length);
         }
-        return String.format("%-" + length + "s", str);
     }
 }
@@ -1,21 +1,33 @@
 package ca.bc.gov.educ.assessment.api.service.v1.events;
 
 
+import ca.bc.gov.educ.assessment.api.constants.v1.StudentRegistrationOutcomeCodes;
 import ca.bc.gov.educ.assessment.api.messaging.MessagePublisher;
-import ca.bc.gov.educ.assessment.api.messaging.jetstream.Publisher;
-import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.struct.Event;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentRegistrationResult;
+import ca.bc.gov.educ.assessment.api.util.ThreadFactoryBuilder;
 import io.nats.client.Message;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import static ca.bc.gov.educ.assessment.api.service.v1.events.EventHandlerService.PAYLOAD_LOG;
 
 
 /**
- * The type Event handler service.
+ * The type Event handler service. Single PROCESS_STUDENT_REGISTRATION events are queued and written in batches by
+ * one registration batch thread; a registration is processed on its own when the queue is full or its batch has failed.
  */
 @Service
 @Slf4j
@@ -26,22 +38,51 @@ public class EventHandlerDelegatorService {
    * The constant RESPONDING_BACK_TO_NATS_ON_CHANNEL.
    */
   public static final String RESPONDING_BACK_TO_NATS_ON_CHANNEL = "responding back to NATS on {} channel ";
+  private static final long REGISTRATION_BATCH_SHUTDOWN_SECONDS = 30;
   private final MessagePublisher messagePublisher;
   private final EventHandlerService eventHandlerService;
-  private final Publisher publisher;
+  private final int registrationBatchSize;
+  private final long registrationBatchWaitNanos;
+  private final BlockingQueue<PendingRegistration> pendingRegistrations;
+  private final ExecutorService registrationBatchExecutor;
+  private volatile boolean acceptingRegistrations = true;
 
   /**
    * Instantiates a new Event handler delegator service.
    *
-   * @param messagePublisher    the message publisher
-   * @param eventHandlerService the event handler service
-   * @param publisher           the publisher
+   * @param messagePublisher      the message publisher
+   * @param eventHandlerService   the event handler service
+   * @param applicationProperties the application properties
    */
   @Autowired
-  public EventHandlerDelegatorService(MessagePublisher messagePublisher, EventHandlerService eventHandlerService, Publisher publisher) {
+  public EventHandlerDelegatorService(MessagePublisher messagePublisher, EventHandlerService eventHandlerService, ApplicationProperties applicationProperties) {
     this.messagePublisher = messagePublisher;
     this.eventHandlerService = eventHandlerService;
-    this.publisher = publisher;
+    this.registrationBatchSize = applicationProperties.getRegistrationBatchSize();
+    this.registrationBatchWaitNanos = TimeUnit.MILLISECONDS.toNanos(applicationProperties.getRegistrationBatchWaitMs());
+    this.pendingRegistrations = new LinkedBlockingQueue<>(applicationProperties.getRegistrationBatchQueueSize());
+    this.registrationBatchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().withNameFormat("registration-batch-%d").get());
+    this.registrationBatchExecutor.execute(this::processPendingRegistrations);
+  }
+
+  /**
+   * Stops queueing registrations, then waits for the batch thread to write what is already queued so it is done
+   * before the datasource is closed. Anything queued while the thread was stopping is processed here.
+   */
+  @PreDestroy
+  public void close() {
+    this.acceptingRegistrations = false;
+    this.registrationBatchExecutor.shutdownNow();
+    try {
+      if (!this.registrationBatchExecutor.awaitTermination(REGISTRATION_BATCH_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Registration batch thread did not finish within {} seconds", REGISTRATION_BATCH_SHUTDOWN_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<PendingRegistration> remaining = new ArrayList<>();
+    pendingRegistrations.drainTo(remaining);
+    remaining.forEach(pending -> handleStudentRegistration(pending.getEvent(), pending.getMessage()));
   }
 
   /**
@@ -73,14 +114,18 @@ public class EventHandlerDelegatorService {
         case PROCESS_STUDENT_REGISTRATION:
           log.debug("Received PROCESS_STUDENT_REGISTRATION event :: {}", event);
           log.trace(PAYLOAD_LOG, event.getEventPayload());
-          var pairResponse = eventHandlerService.handleProcessStudentRegistrationEvent(event);
-          log.debug(RESPONDING_BACK_TO_NATS_ON_CHANNEL, message.getReplyTo() != null ? message.getReplyTo() : event.getReplyTo());
-          publishToNATS(event, message, isSynchronous, pairResponse.getLeft());
-          log.debug("Event response is currently {}", pairResponse.getRight());
-          if(pairResponse.getRight() != null) {
-            publishToJetStream(pairResponse.getRight());
+          if (!acceptingRegistrations || !pendingRegistrations.offer(new PendingRegistration(event, message))) {
+            log.debug("Registration batch queue is full or stopped, processing registration on its own :: {}", event);
+            handleStudentRegistration(event, message);
           }
           break;
+        case PROCESS_STUDENT_REGISTRATION_BATCH:
+          log.debug("Received PROCESS_STUDENT_REGISTRATION_BATCH event :: {}", event);
+          log.trace(PAYLOAD_LOG, event.getEventPayload());
+          var batchResponse = eventHandlerService.handleProcessStudentRegistrationBatchEvent(event);
+          log.debug(RESPONDING_BACK_TO_NATS_ON_CHANNEL, message.getReplyTo() != null ? message.getReplyTo() : event.getReplyTo());
+          publishToNATS(event, message, isSynchronous, batchResponse);
+          break;
         case GET_ASSESSMENT_STUDENTS:
           log.debug("Received GET_PAGINATED_ASSESSMENT_STUDENTS event :: {}", event);
           log.trace(PAYLOAD_LOG, event.getEventPayload());
@@ -97,6 +142,82 @@ public class EventHandlerDelegatorService {
     }
   }
 
+  private void handleStudentRegistration(final Event event, final Message message) {
+    try {
+      var pairResponse = eventHandlerService.handleProcessStudentRegistrationEvent(event);
+      log.debug(RESPONDING_BACK_TO_NATS_ON_CHANNEL, message.getReplyTo() != null ? message.getReplyTo() : event.getReplyTo());
+      publishToNATS(event, message, message.getReplyTo() != null, pairResponse.getLeft());
+      log.debug("Event response is currently {}", pairResponse.getRight());
+    } catch (final Exception e) {
+      log.error("Exception", e);
+    }
+  }
+
+  /**
+   * Runs on the registration batch thread. A batch is written once it is full or the wait since its first
+   * registration has passed; whatever is still queued at shutdown is written before the thread ends.
+   */
+  private void processPendingRegistrations() {
+    List<PendingRegistration> batch = new ArrayList<>(registrationBatchSize);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        batch.add(pendingRegistrations.take());
+        long deadline = System.nanoTime() + registrationBatchWaitNanos;
+        PendingRegistration next;
+        while (batch.size() < registrationBatchSize && (next = pendingRegistrations.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+          batch.add(next);
+        }
+        processRegistrationBatchOrEach(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      pendingRegistrations.drainTo(batch);
+      if (!batch.isEmpty()) {
+        processRegistrationBatchOrEach(batch);
+      }
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Keeps the batch thread alive if writing a batch fails in a way {@link #processRegistrationBatch(List)} does not
+   * handle itself; the batch's registrations are then processed one at a time.
+   */
+  private void processRegistrationBatchOrEach(List<PendingRegistration> batch) {
+    try {
+      processRegistrationBatch(batch);
+    } catch (final RuntimeException e) {
+      log.error("Unexpected error writing a batch of {} student registrations, processing them one at a time", batch.size(), e);
+      batch.forEach(pending -> handleStudentRegistration(pending.getEvent(), pending.getMessage()));
+    }
+  }
+
+  private void processRegistrationBatch(List<PendingRegistration> batch) {
+    List<AssessmentStudentRegistrationResult> batchResults;
+    try {
+      batchResults = eventHandlerService.handleProcessStudentRegistrationEvents(batch.stream().map(PendingRegistration::getEvent).toList());
+    } catch (final Exception e) {
+      log.error("Processing a batch of {} student registrations has failed, processing them one at a time", batch.size(), e);
+      batch.forEach(pending -> handleStudentRegistration(pending.getEvent(), pending.getMessage()));
+      return;
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      var pending = batch.get(i);
+      var result = batchResults.get(i);
+      if (StudentRegistrationOutcomeCodes.FAILED.getCode().equals(result.getOutcome())) {
+        log.debug("Student registration has failed in its batch, processing it on its own :: {}", result);
+        handleStudentRegistration(pending.getEvent(), pending.getMessage());
+        continue;
+      }
+      try {
+        log.debug(RESPONDING_BACK_TO_NATS_ON_CHANNEL, pending.getMessage().getReplyTo() != null ? pending.getMessage().getReplyTo() : pending.getEvent().getReplyTo());
+        publishToNATS(pending.getEvent(), pending.getMessage(), pending.getMessage().getReplyTo() != null, eventHandlerService.createStudentRegistrationResponse(pending.getEvent()));
+      } catch (final Exception e) {
+        log.error("Exception", e);
+      }
+    }
+  }
+
   private void publishToNATS(Event event, Message message, boolean isSynchronous, byte[] left) {
     if (isSynchronous) { // sync, req/reply pattern of nats
       messagePublisher.dispatchMessage(message.getReplyTo(), left);
@@ -105,7 +226,21 @@ public class EventHandlerDelegatorService {
     }
   }
 
-  private void publishToJetStream(final AssessmentEventEntity event) {
-    publisher.dispatchChoreographyEvent(event);
+  private static final class PendingRegistration {
+    private final Event event;
+    private final Message message;
+
+    private PendingRegistration(Event event, Message message) {
+      this.event = event;
+      this.message = message;
+    }
+
+    private Event getEvent() {
+      return event;
+    }
+
+    private Message getMessage() {
+      return message;
+    }
   }
 }
@@ -4,26 +4,34 @@ import ca.bc.gov.educ.assessment.api.constants.EventOutcome;
 import ca.bc.gov.educ.assessment.api.constants.EventType;
 import ca.bc.gov.educ.assessment.api.constants.SagaEnum;
 import ca.bc.gov.educ.assessment.api.constants.SagaStatusEnum;
+import ca.bc.gov.educ.assessment.api.constants.v1.CourseStatusCodes;
+import ca.bc.gov.educ.assessment.api.constants.v1.StudentRegistrationOutcomeCodes;
 import ca.bc.gov.educ.assessment.api.constants.v1.StudentStatusCodes;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentListItemMapper;
 import ca.bc.gov.educ.assessment.api.mappers.v1.AssessmentStudentMapper;
 import ca.bc.gov.educ.assessment.api.mappers.v1.SessionMapper;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.orchestrator.StudentResultProcessingOrchestrator;
 import ca.bc.gov.educ.assessment.api.orchestrator.TransferStudentProcessingOrchestrator;
 import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
 import ca.bc.gov.educ.assessment.api.service.v1.AssessmentStudentService;
+import ca.bc.gov.educ.assessment.api.service.v1.ReferenceDataCache;
 import ca.bc.gov.educ.assessment.api.service.v1.SagaService;
 import ca.bc.gov.educ.assessment.api.struct.Event;
 import ca.bc.gov.educ.assessment.api.struct.v1.*;
+import ca.bc.gov.educ.assessment.api.util.AssessmentUtil;
 import ca.bc.gov.educ.assessment.api.util.EventUtil;
 import ca.bc.gov.educ.assessment.api.util.JsonUtil;
 import ca.bc.gov.educ.assessment.api.util.RequestUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.nimbusds.jose.util.Pair;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,11 +41,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.assessment.api.constants.EventStatus.MESSAGE_PUBLISHED;
@@ -63,6 +70,7 @@ public class EventHandlerService {
      * The constant EVENT_PAYLOAD.
      */
     public static final String EVENT_PAYLOAD = "event is :: {}";
+    private static final String INVALID_REGISTRATION_IDS_MSG = "assessmentID and studentID must be valid UUIDs";
     private static final AssessmentStudentMapper assessmentStudentMapper = AssessmentStudentMapper.mapper;
     private static final AssessmentStudentListItemMapper assessmentStudentListItemMapper = AssessmentStudentListItemMapper.mapper;
     private static final SessionMapper sessionMapper = SessionMapper.mapper;
@@ -73,6 +81,8 @@ public class EventHandlerService {
     private final StudentResultProcessingOrchestrator studentResultProcessingOrchestrator;
     private final TransferStudentProcessingOrchestrator transferStudentProcessingOrchestrator;
     private final AssessmentStudentRepository assessmentStudentRepository;
+    private final AssessmentRepository assessmentRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Pair<byte[], AssessmentEventEntity> handleProcessStudentRegistrationEvent(Event event) throws JsonProcessingException {
@@ -103,33 +113,7 @@ public class EventHandlerService {
             log.info("Student already exists in assessment {} updating school or record school id, local id, local assessment id, assessment center school id", assessmentStudent);
 
             AssessmentStudentEntity existingStudentEntity = student.get();
-
-            if(hasChangeToSchoolOfRecordOrAssessmentCenter(existingStudentEntity, assessmentStudent)){
-                existingStudentEntity.setDownloadDate(null);
-            }
-            
-            final String schoolOfRecordSchoolID = assessmentStudent.getSchoolOfRecordSchoolID();
-            if (StringUtils.isNotBlank(schoolOfRecordSchoolID)) {
-                try {
-                    existingStudentEntity.setSchoolOfRecordSchoolID(UUID.fromString(schoolOfRecordSchoolID));
-                } catch (IllegalArgumentException e) {
-                    // ignore invalid UUID; keep existing value
-                }
-            }
-            existingStudentEntity.setLocalID(assessmentStudent.getLocalID());
-            existingStudentEntity.setLocalAssessmentID(assessmentStudent.getLocalAssessmentID());
-
-            final String assessmentCenterSchoolID = assessmentStudent.getAssessmentCenterSchoolID();
-            if (StringUtils.isNotBlank(assessmentCenterSchoolID)) {
-                try {
-                    existingStudentEntity.setAssessmentCenterSchoolID(UUID.fromString(assessmentCenterSchoolID));
-                } catch (IllegalArgumentException e) {
-                    // ignore invalid UUID; keep existing value
-                }
-            }
-
-            existingStudentEntity.setUpdateUser(StringUtils.isNotBlank(assessmentStudent.getUpdateUser()) ? assessmentStudent.getUpdateUser() : ApplicationProperties.STUDENT_ASSESSMENT_API );
-            existingStudentEntity.setUpdateDate(LocalDateTime.now());
+            updateRegistration(existingStudentEntity, assessmentStudent);
 
             assessmentStudentService.saveAssessmentStudentWithHistory(existingStudentEntity);
             dataChangedForStudent = true;
@@ -147,9 +131,193 @@ public class EventHandlerService {
             assessmentEventRepository.save(assessmentEventEntity);
         }
 
+        return Pair.of(createStudentRegistrationResponse(event), assessmentEventEntity);
+    }
+
+    public byte[] createStudentRegistrationResponse(Event event) throws JsonProcessingException {
         event.setEventOutcome(EventOutcome.STUDENT_REGISTRATION_PROCESSED_IN_ASSESSMENT_API);
         val studentEvent = createEventRecord(event);
-        return Pair.of(createResponseEvent(studentEvent), assessmentEventEntity);
+        return createResponseEvent(studentEvent);
+    }
+
+    /**
+     * Processes every registration of a PROCESS_STUDENT_REGISTRATION_BATCH event in one transaction. The reply holds
+     * the outcome of each registration, in the order they were sent.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public byte[] handleProcessStudentRegistrationBatchEvent(Event event) throws JsonProcessingException {
+        final List<AssessmentStudent> assessmentStudents = JsonUtil.mapper.readValue(event.getEventPayload(), new TypeReference<>() {});
+        var results = processStudentRegistrations(assessmentStudents);
+        event.setEventPayload(JsonUtil.getJsonStringFromObject(results));
+        event.setEventOutcome(EventOutcome.STUDENT_REGISTRATION_BATCH_PROCESSED_IN_ASSESSMENT_API);
+        val studentEvent = createEventRecord(event);
+        return createResponseEvent(studentEvent);
+    }
+
+    /**
+     * Processes the registrations of several PROCESS_STUDENT_REGISTRATION events in one transaction, for the
+     * micro-batching in {@link EventHandlerDelegatorService}. A registration that has failed is left as it was.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<AssessmentStudentRegistrationResult> handleProcessStudentRegistrationEvents(List<Event> events) throws JsonProcessingException {
+        final List<AssessmentStudent> assessmentStudents = new ArrayList<>();
+        for (Event event : events) {
+            assessmentStudents.add(JsonUtil.getJsonObjectFromString(AssessmentStudent.class, event.getEventPayload()));
+        }
+        return processStudentRegistrations(assessmentStudents);
+    }
+
+    /**
+     * Same rules as {@link #handleProcessStudentRegistrationEvent(Event)}, but the assessments, existing registrations
+     * and attempt counts of the whole batch are read up front and the students, history and events are saved together.
+     * A registration that comes later in the batch sees what the earlier ones did. One update event is written per
+     * student, however many of their registrations changed.
+     */
+    private List<AssessmentStudentRegistrationResult> processStudentRegistrations(List<AssessmentStudent> assessmentStudents) throws JsonProcessingException {
+        final Set<UUID> assessmentIDs = new HashSet<>();
+        final Set<UUID> studentIDs = new HashSet<>();
+        for (AssessmentStudent assessmentStudent : assessmentStudents) {
+            val assessmentID = parseUUID(assessmentStudent.getAssessmentID());
+            val studentID = parseUUID(assessmentStudent.getStudentID());
+            if (assessmentID != null && studentID != null) {
+                assessmentIDs.add(assessmentID);
+                studentIDs.add(studentID);
+            }
+        }
+        if (assessmentIDs.isEmpty()) {
+            return assessmentStudents.stream().map(assessmentStudent -> registrationResult(assessmentStudent, StudentRegistrationOutcomeCodes.FAILED, INVALID_REGISTRATION_IDS_MSG)).toList();
+        }
+
+        final Map<UUID, AssessmentEntity> assessments = assessmentRepository.findAllById(assessmentIDs).stream().collect(Collectors.toMap(AssessmentEntity::getAssessmentID, Function.identity()));
+        final Map<String, AssessmentStudentEntity> registrations = new HashMap<>();
+        assessmentStudentRepository.findByAssessmentIDsInAndStudentIDsIn(assessmentIDs, studentIDs)
+                .forEach(entity -> registrations.put(registrationKey(entity.getAssessmentEntity().getAssessmentID(), entity.getStudentID()), entity));
+        final Map<String, Long> attemptCounts = new HashMap<>();
+        assessmentStudentRepository.findNumberOfAttemptsForStudents(studentIDs)
+                .forEach(count -> attemptCounts.put(attemptKey(count.getStudentID(), count.getAssessmentTypeCode()), count.getNumberOfAttempts()));
+
+        final List<AssessmentStudentRegistrationResult> results = new ArrayList<>();
+        final Map<String, AssessmentStudentEntity> studentsToSave = new LinkedHashMap<>();
+        final Map<String, AssessmentEventEntity> events = new LinkedHashMap<>();
+        boolean hasDeletedStudents = false;
+        for (AssessmentStudent assessmentStudent : assessmentStudents) {
+            val assessmentID = parseUUID(assessmentStudent.getAssessmentID());
+            val studentID = parseUUID(assessmentStudent.getStudentID());
+            if (assessmentID == null || studentID == null) {
+                results.add(registrationResult(assessmentStudent, StudentRegistrationOutcomeCodes.FAILED, INVALID_REGISTRATION_IDS_MSG));
+                continue;
+            }
+            val assessment = assessments.get(assessmentID);
+            if (assessment == null) {
+                results.add(registrationResult(assessmentStudent, StudentRegistrationOutcomeCodes.FAILED, "Assessment was not found for assessmentID :: " + assessmentID));
+                continue;
+            }
+
+            val key = registrationKey(assessmentID, studentID);
+            val existingStudentEntity = registrations.get(key);
+            var isWithdrawal = StringUtils.isNotBlank(assessmentStudent.getCourseStatusCode()) && assessmentStudent.getCourseStatusCode().equalsIgnoreCase(CourseStatusCodes.WITHDRAWN.getCode());
+
+            StudentRegistrationOutcomeCodes outcome;
+            if (isWithdrawal && existingStudentEntity == null) {
+                log.error("Student withdrawal record submitted but no registration record is present; ignoring message to remove record");
+                results.add(registrationResult(assessmentStudent, StudentRegistrationOutcomeCodes.IGNORED, "No registration is present to withdraw"));
+                continue;
+            } else if (isWithdrawal) {
+                val deleteConflict = assessmentStudentService.getDeleteConflict(existingStudentEntity, false);
+                if (deleteConflict.isPresent()) {
+                    results.add(registrationResult(assessmentStudent, StudentRegistrationOutcomeCodes.FAILED, deleteConflict.get()));
+                    continue;
+                }
+                log.debug("Removing student registration due to incoming withdrawal record :: student ID: {}", studentID);
+                assessmentStudentService.deleteStudentWithHistoryInCurrentTransaction(existingStudentEntity);
+                registrations.remove(key);
+                studentsToSave.remove(key);
+                hasDeletedStudents = true;
+                outcome = StudentRegistrationOutcomeCodes.DELETED;
+            } else if (existingStudentEntity == null) {
+                RequestUtil.setAuditColumnsForCreate(assessmentStudent);
+                AssessmentStudentEntity createStudentEntity = assessmentStudentMapper.toModel(assessmentStudent);
+                // the ID is generated either way; without one the insert is not preceded by a lookup for it
+                createStudentEntity.setAssessmentStudentID(null);
+                createStudentEntity.setAssessmentEntity(assessment);
+                createStudentEntity.setNumberOfAttempts(AssessmentUtil.getAssessmentTypeCodeList(assessment.getAssessmentTypeCode()).stream()
+                        .mapToInt(assessmentTypeCode -> attemptCounts.getOrDefault(attemptKey(studentID, assessmentTypeCode), 0L).intValue()).sum());
+                createStudentEntity.setStudentStatusCode(StudentStatusCodes.ACTIVE.getCode());
+                if (createStudentEntity.getProficiencyScore() != null || StringUtils.equalsAny(createStudentEntity.getProvincialSpecialCaseCode(), "X", "Q")) {
+                    attemptCounts.merge(attemptKey(studentID, assessment.getAssessmentTypeCode()), 1L, Long::sum);
+                }
+                registrations.put(key, createStudentEntity);
+                studentsToSave.put(key, createStudentEntity);
+                outcome = StudentRegistrationOutcomeCodes.CREATED;
+            } else {
+                updateRegistration(existingStudentEntity, assessmentStudent);
+                studentsToSave.put(key, existingStudentEntity);
+                outcome = StudentRegistrationOutcomeCodes.UPDATED;
+            }
+
+            if (!events.containsKey(assessmentStudent.getStudentID())) {
+                events.put(assessmentStudent.getStudentID(), EventUtil.createEvent(
+                        assessmentStudent.getUpdateUser(), assessmentStudent.getUpdateUser(),
+                        JsonUtil.getJsonStringFromObject(assessmentStudent.getStudentID()),
+                        ASSESSMENT_STUDENT_UPDATE, EventOutcome.ASSESSMENT_STUDENT_UPDATED));
+            }
+            results.add(registrationResult(assessmentStudent, outcome, null));
+        }
+
+        if (hasDeletedStudents) {
+            // a student withdrawn and registered again in the same batch must be deleted before the insert
+            assessmentStudentRepository.flush();
+        }
+        assessmentStudentService.saveAssessmentStudentsWithHistoryInCurrentTransaction(new ArrayList<>(studentsToSave.values()));
+        val assessmentEventEntities = assessmentEventRepository.saveAll(events.values());
+        log.debug("Processed {} student registrations, {} students have changed", assessmentStudents.size(), assessmentEventEntities.size());
+        return results;
+    }
+
+    private void updateRegistration(AssessmentStudentEntity existingStudentEntity, AssessmentStudent assessmentStudent) {
+        if(hasChangeToSchoolOfRecordOrAssessmentCenter(existingStudentEntity, assessmentStudent)){
+            existingStudentEntity.setDownloadDate(null);
+        }
+
+        final String schoolOfRecordSchoolID = assessmentStudent.getSchoolOfRecordSchoolID();
+        if (StringUtils.isNotBlank(schoolOfRecordSchoolID)) {
+            try {
+                existingStudentEntity.setSchoolOfRecordSchoolID(UUID.fromString(schoolOfRecordSchoolID));
+            } catch (IllegalArgumentException e) {
+                // ignore invalid UUID; keep existing value
+            }
+        }
+        existingStudentEntity.setLocalID(assessmentStudent.getLocalID());
+        existingStudentEntity.setLocalAssessmentID(assessmentStudent.getLocalAssessmentID());
+
+        final String assessmentCenterSchoolID = assessmentStudent.getAssessmentCenterSchoolID();
+        if (StringUtils.isNotBlank(assessmentCenterSchoolID)) {
+            try {
+                existingStudentEntity.setAssessmentCenterSchoolID(UUID.fromString(assessmentCenterSchoolID));
+            } catch (IllegalArgumentException e) {
+                // ignore invalid UUID; keep existing value
+            }
+        }
+
+        existingStudentEntity.setUpdateUser(StringUtils.isNotBlank(assessmentStudent.getUpdateUser()) ? assessmentStudent.getUpdateUser() : ApplicationProperties.STUDENT_ASSESSMENT_API );
+        existingStudentEntity.setUpdateDate(LocalDateTime.now());
+    }
+
+    private AssessmentStudentRegistrationResult registrationResult(AssessmentStudent assessmentStudent, StudentRegistrationOutcomeCodes outcome, String message) {
+        return AssessmentStudentRegistrationResult.builder()
+                .assessmentID(assessmentStudent.getAssessmentID())
+                .studentID(assessmentStudent.getStudentID())
+                .outcome(outcome.getCode())
+                .message(message)
+                .build();
+    }
+
+    private static String registrationKey(UUID assessmentID, UUID studentID) {
+        return assessmentID + ":" + studentID;
+    }
+
+    private static String attemptKey(UUID studentID, String assessmentTypeCode) {
+        return studentID + ":" + assessmentTypeCode;
     }
 
     private boolean hasChangeToSchoolOfRecordOrAssessmentCenter(AssessmentStudentEntity existingStudentEntity, AssessmentStudent incomingStudentEntity) {
@@ -171,21 +339,34 @@ public class EventHandlerService {
     }
 
     public byte[] handleGetOpenAssessmentSessionsEvent(Event event, boolean isSynchronous) throws JsonProcessingException {
-        var currentDate = LocalDateTime.now();
-        val sessions = assessmentSessionRepository.findAllByActiveFromDateLessThanEqualAndActiveUntilDateGreaterThanEqualAndCompletionDateIsNull(currentDate, currentDate);
-        var sessionStructs = new ArrayList<>();
-        sessions.forEach(sessionStruct -> sessionStructs.add(sessionMapper.toStructure(sessionStruct)));
+        val sessionsJson = referenceDataCache.getJson(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, () -> {
+            var currentDate = LocalDateTime.now();
+            return assessmentSessionRepository.findAllByActiveFromDateLessThanEqualAndActiveUntilDateGreaterThanEqualAndCompletionDateIsNull(currentDate, currentDate);
+        }, sessions -> sessions.stream().map(sessionMapper::toStructure).toList(), this::getOpenSessionsValidUntil);
         if (isSynchronous) {
-            return JsonUtil.getJsonBytesFromObject(sessionStructs);
+            return sessionsJson;
         }
 
         log.trace(EVENT_PAYLOAD, event);
-        event.setEventPayload(JsonUtil.getJsonStringFromObject(sessionStructs));
+        event.setEventPayload(new String(sessionsJson, StandardCharsets.UTF_8));
         event.setEventOutcome(EventOutcome.SESSIONS_FOUND);
         val studentEvent = createEventRecord(event);
         return createResponseEvent(studentEvent);
     }
 
+    /**
+     * The open sessions stay the same until one of them closes or the next one opens, unless a session is changed.
+     */
+    private LocalDateTime getOpenSessionsValidUntil(List<AssessmentSessionEntity> openSessions) {
+        var nextOpening = assessmentSessionRepository.findFirstByActiveFromDateGreaterThanAndCompletionDateIsNullOrderByActiveFromDate(LocalDateTime.now())
+                .map(AssessmentSessionEntity::getActiveFromDate);
+        return openSessions.stream().map(AssessmentSessionEntity::getActiveUntilDate)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .map(closing -> nextOpening.filter(opening -> opening.isBefore(closing)).orElse(closing))
+                .orElse(nextOpening.orElse(null));
+    }
+
     public byte[] handleGetAssessmentStudentsEvent(Event event) throws JsonProcessingException {
         val assessmentStudentEntityList = assessmentStudentRepository.findByStudentID(UUID.fromString(event.getEventPayload()));
         log.info("Found :: {} assessment student records for student ID :: {}", assessmentStudentEntityList.size(), UUID.fromString(event.getEventPayload()));
@@ -56,6 +56,7 @@ public class EventTaskSchedulerAsyncService {
     private final StagedStudentResultRepository stagedStudentResultRepository;
     private final StudentAssessmentResultService studentAssessmentResultService;
     private final TransferStudentOrchestrationService transferStudentOrchestrationService;
+    private final SagaAdmissionController sagaAdmissionController;
 
     @Value("${number.students.process.saga}")
     private String numberOfStudentsToProcess;
@@ -64,7 +65,7 @@ public class EventTaskSchedulerAsyncService {
     @Setter
     private List<String> statusFilters;
 
-    public EventTaskSchedulerAsyncService(final List<Orchestrator> orchestrators, SagaRepository sagaRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentService assessmentStudentService, SessionService sessionService, StagedStudentResultRepository stagedStudentResultRepository, StudentAssessmentResultService studentAssessmentResultService, TransferStudentOrchestrationService transferStudentOrchestrationService) {
+    public EventTaskSchedulerAsyncService(final List<Orchestrator> orchestrators, SagaRepository sagaRepository, AssessmentStudentRepository assessmentStudentRepository, AssessmentSessionRepository assessmentSessionRepository, AssessmentStudentService assessmentStudentService, SessionService sessionService, StagedStudentResultRepository stagedStudentResultRepository, StudentAssessmentResultService studentAssessmentResultService, TransferStudentOrchestrationService transferStudentOrchestrationService, SagaAdmissionController sagaAdmissionController) {
         this.sagaRepository = sagaRepository;
         this.assessmentStudentRepository = assessmentStudentRepository;
         this.assessmentSessionRepository = assessmentSessionRepository;
@@ -73,6 +74,7 @@ public class EventTaskSchedulerAsyncService {
         this.stagedStudentResultRepository = stagedStudentResultRepository;
         this.studentAssessmentResultService = studentAssessmentResultService;
         this.transferStudentOrchestrationService = transferStudentOrchestrationService;
+        this.sagaAdmissionController = sagaAdmissionController;
         orchestrators.forEach(orchestrator -> this.sagaOrchestrators.put(orchestrator.getSagaName(), orchestrator));
     }
 
@@ -105,16 +107,19 @@ public class EventTaskSchedulerAsyncService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void findAndPublishLoadedStudentRecordsForProcessing() {
         log.debug("Querying for loaded students to process");
-        if (this.getSagaRepository().findByStatusIn(this.getStatusFilters(), 101).size() > 100) { // at max there will be 100 parallel sagas.
-            log.debug("Saga count is greater than 100, so not processing student records");
+        final long inFlight = this.getSagaRepository().countByStatusIn(this.getStatusFilters());
+        final long queueDepth = stagedStudentResultRepository.countByStagedStudentResultStatus("LOADED");
+        final int admissible = sagaAdmissionController.nextBatchSize(inFlight, queueDepth);
+        if (admissible == 0) {
+            log.debug("Saga count {} is at the current limit of {}, so not processing student records", inFlight, sagaAdmissionController.getLimit());
             return;
         }
-        final var entities = stagedStudentResultRepository.findTopLoadedStudentForProcessing(numberOfStudentsToProcess);
+        final var entities = stagedStudentResultRepository.findTopLoadedStudentForProcessing(String.valueOf(admissible));
         log.debug("Found :: {}  records in loaded status", entities.size());
         if (!entities.isEmpty()) {
             studentAssessmentResultService.prepareAndSendStudentsForFurtherProcessing(entities);
         } else {
-            int batchSize = Integer.parseInt(numberOfStudentsToProcess);
+            int batchSize = Math.min(Integer.parseInt(numberOfStudentsToProcess), admissible);
             final var transferStudents = assessmentStudentService.findBatchOfTransferStudentIds(batchSize);
             log.debug("Found :: {} students marked for transfer in this batch", transferStudents.size());
             if(!transferStudents.isEmpty()) {
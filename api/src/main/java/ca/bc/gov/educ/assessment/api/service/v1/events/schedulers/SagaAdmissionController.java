@@ -0,0 +1,97 @@
+package ca.bc.gov.educ.assessment.api.service.v1.events.schedulers;
+
+import ca.bc.gov.educ.assessment.api.constants.SagaStatusEnum;
+import ca.bc.gov.educ.assessment.api.messaging.MessagePublisher;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.SagaRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides how many new result sagas may be started on each scheduler run. The limit on in flight sagas grows while
+ * sagas are completing and nothing downstream is struggling, and is cut back as soon as requests wait for a database
+ * connection or NATS replies slow down.
+ */
+@Service
+@Slf4j
+public class SagaAdmissionController {
+
+    private final ApplicationProperties applicationProperties;
+    private final DataSource dataSource;
+    private final MessagePublisher messagePublisher;
+    private final SagaRepository sagaRepository;
+    private final AtomicInteger limit;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private LocalDateTime lastRun = LocalDateTime.now();
+
+    public SagaAdmissionController(ApplicationProperties applicationProperties, DataSource dataSource, MessagePublisher messagePublisher, SagaRepository sagaRepository, MeterRegistry meterRegistry) {
+        this.applicationProperties = applicationProperties;
+        this.dataSource = dataSource;
+        this.messagePublisher = messagePublisher;
+        this.sagaRepository = sagaRepository;
+        this.limit = new AtomicInteger(applicationProperties.getSagaAdmissionInitialLimit());
+        Gauge.builder("assessment.saga.admission.limit", this.limit, AtomicInteger::get)
+                .description("Current limit on in flight result sagas")
+                .register(meterRegistry);
+        Gauge.builder("assessment.saga.admission.queue.depth", this.queueDepth, AtomicLong::get)
+                .description("Staged results waiting for a saga")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adjusts the limit from what happened since the previous run and returns how many sagas may be started now. Only
+     * sagas that were marked completed since then count as completed, so sagas that were force stopped or purged do
+     * not raise the limit.
+     *
+     * @param inFlight   sagas currently started or in progress
+     * @param queueDepth staged results still waiting to be processed
+     * @return the number of sagas that may be started, never negative
+     */
+    public synchronized int nextBatchSize(long inFlight, long queueDepth) {
+        this.queueDepth.set(queueDepth);
+        LocalDateTime now = LocalDateTime.now();
+        long completed = this.sagaRepository.countByStatusAndUpdateDateAfter(SagaStatusEnum.COMPLETED.toString(), this.lastRun);
+        this.lastRun = now;
+
+        int current = this.limit.get();
+        int next = current;
+        int threadsAwaitingConnection = getThreadsAwaitingConnection();
+        long natsLatency = this.messagePublisher.getRequestLatencyMillis();
+        if (threadsAwaitingConnection > 0 || natsLatency > this.applicationProperties.getSagaAdmissionNatsLatencyThresholdMs()) {
+            next = Math.max(this.applicationProperties.getSagaAdmissionMinLimit(), current * 3 / 4);
+        } else if (queueDepth > 0 && (completed > 0 || inFlight < current)) {
+            long increase = Math.max(this.applicationProperties.getSagaAdmissionIncreaseStep(), completed / 2);
+            next = (int) Math.min(this.applicationProperties.getSagaAdmissionMaxLimit(), current + increase);
+        }
+        if (next != current) {
+            log.debug("Saga limit changed from {} to {} :: completed {}, threads awaiting connection {}, NATS latency {}ms", current, next, completed, threadsAwaitingConnection, natsLatency);
+            this.limit.set(next);
+        }
+        return (int) Math.max(0, next - inFlight);
+    }
+
+    public int getLimit() {
+        return this.limit.get();
+    }
+
+    private int getThreadsAwaitingConnection() {
+        try {
+            if (this.dataSource.isWrapperFor(HikariDataSource.class)) {
+                var pool = this.dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+            }
+        } catch (SQLException e) {
+            log.debug("Unable to read connection pool state :: {}", e.getMessage());
+        }
+        return 0;
+    }
+}
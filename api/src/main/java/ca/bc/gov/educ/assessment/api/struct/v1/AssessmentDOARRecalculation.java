@@ -0,0 +1,33 @@
+package ca.bc.gov.educ.assessment.api.struct.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.ReadOnlyProperty;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AssessmentDOARRecalculation extends BaseRequest implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    @ReadOnlyProperty
+    private String assessmentDOARRecalculationID;
+    @ReadOnlyProperty
+    private String assessmentID;
+    @ReadOnlyProperty
+    private String statusCode;
+    @ReadOnlyProperty
+    private Integer totalStudents;
+    @ReadOnlyProperty
+    private Integer processedStudents;
+    @ReadOnlyProperty
+    private Integer skippedStudents;
+}
@@ -0,0 +1,25 @@
+package ca.bc.gov.educ.assessment.api.struct.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of the keyset student search. The continuation token is null on the last page and the total is only set
+ * when it was asked for.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentStudentKeysetPage {
+
+  private List<AssessmentStudentListItem> content;
+
+  private String continuationToken;
+
+  private Long totalElements;
+}
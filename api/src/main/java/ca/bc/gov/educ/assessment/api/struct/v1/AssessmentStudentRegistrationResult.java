@@ -0,0 +1,25 @@
+package ca.bc.gov.educ.assessment.api.struct.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What became of one registration of a PROCESS_STUDENT_REGISTRATION_BATCH event. The message is only set when the
+ * registration was ignored or has failed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentStudentRegistrationResult {
+
+  private String assessmentID;
+
+  private String studentID;
+
+  private String outcome;
+
+  private String message;
+}
@@ -0,0 +1,47 @@
+package ca.bc.gov.educ.assessment.api.struct.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of the student search, selected together with its assessment and session columns by a constructor
+ * expression. Rows are never managed by the persistence context, so streaming a large export holds no entities.
+ * The constructor is called by the query in field order.
+ */
+@Getter
+@AllArgsConstructor
+public class AssessmentStudentSearchResult {
+  private UUID assessmentStudentID;
+  private UUID assessmentID;
+  private String assessmentTypeCode;
+  private UUID sessionID;
+  private String courseYear;
+  private String courseMonth;
+  private LocalDateTime completionDate;
+  private UUID assessmentFormID;
+  private UUID schoolAtWriteSchoolID;
+  private UUID assessmentCenterSchoolID;
+  private UUID schoolOfRecordSchoolID;
+  private UUID studentID;
+  private String studentStatusCode;
+  private String givenName;
+  private String surname;
+  private String pen;
+  private String localID;
+  private String gradeAtRegistration;
+  private String localAssessmentID;
+  private Integer proficiencyScore;
+  private String provincialSpecialCaseCode;
+  private Integer numberOfAttempts;
+  private String adaptedAssessmentCode;
+  private String irtScore;
+  private String markingSession;
+  private LocalDateTime downloadDate;
+  private String createUser;
+  private LocalDateTime createDate;
+  private String updateUser;
+  private LocalDateTime updateDate;
+}
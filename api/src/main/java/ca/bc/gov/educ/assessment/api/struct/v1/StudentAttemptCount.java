@@ -0,0 +1,9 @@
+package ca.bc.gov.educ.assessment.api.struct.v1;
+
+import java.util.UUID;
+
+public interface StudentAttemptCount {
+    UUID getStudentID();
+    String getAssessmentTypeCode();
+    Long getNumberOfAttempts();
+}
@@ -1,5 +1,7 @@
 package ca.bc.gov.educ.assessment.api.struct.v1;
 
+import ca.bc.gov.educ.assessment.api.struct.external.grad.v1.GradStudentRecord;
+import ca.bc.gov.educ.assessment.api.struct.external.studentapi.v1.Student;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,4 +20,13 @@ public class StudentResultSagaData implements Serializable {
   private String assessmentID;
   private String pen;
   private String stagedStudentResultID;
+
+  /**
+   * Set when the student's identity was looked up in bulk before the saga started. The saga then uses the
+   * fields below instead of calling the student and GRAD APIs itself.
+   */
+  private boolean identityResolved;
+  private Student student;
+  private Student trueStudent;
+  private GradStudentRecord gradStudentRecord;
 }
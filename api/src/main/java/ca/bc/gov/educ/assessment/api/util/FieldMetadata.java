@@ -0,0 +1,120 @@
+package ca.bc.gov.educ.assessment.api.util;
+
+import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.*;
+
+import static org.springframework.util.StringUtils.capitalize;
+
+/**
+ * The fields of an entity or struct class, read once per class: the type each field leads to, for checking search
+ * criteria paths, and getter and setter handles for its {@link UpperCase} fields. Looking a field up afterwards is a map
+ * lookup, so searches and payload normalization neither scan the class nor throw.
+ */
+public final class FieldMetadata {
+
+  private static final ClassValue<FieldMetadata> METADATA = new ClassValue<>() {
+    @Override
+    protected FieldMetadata computeValue(Class<?> type) {
+      return new FieldMetadata(type);
+    }
+  };
+  private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Map<String, Class<?>> fieldTypes = new HashMap<>();
+  private final Set<String> uppercaseFieldNames = new HashSet<>();
+  private final List<UppercaseField> uppercaseFields = new ArrayList<>();
+
+  private FieldMetadata(Class<?> type) {
+    var lookup = MethodHandles.publicLookup();
+    for (var clazz = type; clazz != null && !clazz.equals(Object.class); clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || fieldTypes.containsKey(field.getName())) {
+          continue;
+        }
+        fieldTypes.put(field.getName(), getPathType(field));
+        if (field.getType().equals(String.class) && field.getAnnotation(UpperCase.class) != null) {
+          uppercaseFieldNames.add(field.getName());
+          uppercaseFields.add(new UppercaseField(lookup, type, field.getName()));
+        }
+      }
+    }
+  }
+
+  public static FieldMetadata of(Class<?> type) {
+    return METADATA.get(type);
+  }
+
+  public boolean isUppercaseField(String fieldName) {
+    return uppercaseFieldNames.contains(fieldName);
+  }
+
+  /**
+   * Whether the dot separated path names a field of this class, following each field to its type, or to its element
+   * type for a collection. Only fields of the application's own classes can be followed.
+   */
+  public boolean hasPath(String path) {
+    var metadata = this;
+    int start = 0;
+    while (true) {
+      int end = path.indexOf('.', start);
+      var fieldType = metadata.fieldTypes.get(end < 0 ? path.substring(start) : path.substring(start, end));
+      if (fieldType == null) {
+        return false;
+      }
+      if (end < 0) {
+        return true;
+      }
+      if (fieldType.isPrimitive() || fieldType.getPackageName().startsWith("java.")) {
+        return false;
+      }
+      metadata = of(fieldType);
+      start = end + 1;
+    }
+  }
+
+  public <T> T uppercaseFields(T object) {
+    uppercaseFields.forEach(field -> field.uppercase(object));
+    return object;
+  }
+
+  private static Class<?> getPathType(Field field) {
+    if (Collection.class.isAssignableFrom(field.getType()) && field.getGenericType() instanceof ParameterizedType parameterizedType
+        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      return elementType;
+    }
+    return field.getType();
+  }
+
+  private static final class UppercaseField {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private UppercaseField(MethodHandles.Lookup lookup, Class<?> type, String fieldName) {
+      try {
+        this.getter = lookup.findVirtual(type, "get" + capitalize(fieldName), MethodType.methodType(String.class)).asType(GETTER);
+        this.setter = lookup.findVirtual(type, "set" + capitalize(fieldName), MethodType.methodType(void.class, String.class)).asType(SETTER);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new StudentAssessmentAPIRuntimeException(e);
+      }
+    }
+
+    private void uppercase(Object object) {
+      try {
+        var value = (String) (Object) getter.invokeExact(object);
+        if (value != null) {
+          setter.invokeExact(object, (Object) value.toUpperCase());
+        }
+      } catch (Throwable e) {
+        throw new StudentAssessmentAPIRuntimeException(e.getMessage());
+      }
+    }
+  }
+}
@@ -1,17 +1,10 @@
 package ca.bc.gov.educ.assessment.api.util;
 
-import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
 import lombok.extern.slf4j.Slf4j;
 
-import java.beans.Expression;
-import java.beans.Statement;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
-import static org.springframework.util.StringUtils.capitalize;
-
 /**
  * The type Transform util.
  */
@@ -29,15 +22,7 @@ public class TransformUtil {
    * @return the t
    */
   public static <T> T uppercaseFields(T claz) {
-    var clazz = claz.getClass();
-    List<Field> fields = new ArrayList<>();
-    var superClazz = clazz;
-    while (!superClazz.equals(Object.class)) {
-      fields.addAll(Arrays.asList(superClazz.getDeclaredFields()));
-      superClazz = superClazz.getSuperclass();
-    }
-    fields.forEach(field -> TransformUtil.transformFieldToUppercase(field, claz));
-    return claz;
+    return FieldMetadata.of(claz.getClass()).uppercaseFields(claz);
   }
 
   /**
@@ -48,36 +33,7 @@ public class TransformUtil {
    * @return the boolean
    */
   public static boolean isUppercaseField(Class<?> clazz, String fieldName) {
-    var superClazz = clazz;
-    while (!superClazz.equals(Object.class)) {
-      try {
-        Field field = superClazz.getDeclaredField(fieldName);
-        return field.getAnnotation(UpperCase.class) != null;
-      } catch (NoSuchFieldException e) {
-        superClazz = superClazz.getSuperclass();
-      }
-    }
-    return false;
-  }
-
-  private static <T> void transformFieldToUppercase(Field field, T claz) {
-    if (!field.getType().equals(String.class)) {
-      return;
-    }
-
-    if (field.getAnnotation(UpperCase.class) != null) {
-      try {
-        var fieldName = capitalize(field.getName());
-        var expr = new Expression(claz, "get" + fieldName, new Object[0]);
-        var entityFieldValue = (String) expr.getValue();
-        if (entityFieldValue != null) {
-          var stmt = new Statement(claz, "set" + fieldName, new Object[]{entityFieldValue.toUpperCase()});
-          stmt.execute();
-        }
-      } catch (Exception ex) {
-        throw new StudentAssessmentAPIRuntimeException(ex.getMessage());
-      }
-    }
+    return FieldMetadata.of(clazz).isUppercaseField(fieldName);
   }
 
   public static List<String> splitStringEveryNChars(String text, int n) {
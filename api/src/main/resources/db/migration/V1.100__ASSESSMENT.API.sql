@@ -0,0 +1,3 @@
+ALTER TABLE STAGED_STUDENT_RESULT_UPLOAD ADD COLUMN LOAD_ID UUID;
+
+CREATE INDEX STAGED_STUDENT_RESULT_UPLOAD_LOAD_ID_IDX ON STAGED_STUDENT_RESULT_UPLOAD (LOAD_ID);
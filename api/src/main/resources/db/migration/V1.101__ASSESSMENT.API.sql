@@ -0,0 +1 @@
+ALTER TABLE ASSESSMENT_DOAR_RECALCULATION ADD COLUMN SKIPPED_STUDENTS INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1 @@
+ALTER TABLE ASSESSMENT_EVENT ADD COLUMN CLAIMED_UNTIL TIMESTAMP;
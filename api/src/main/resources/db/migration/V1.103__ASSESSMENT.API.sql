@@ -0,0 +1 @@
+CREATE INDEX ASSESSMENT_SAGA_STATUS_UPDATE_DATE_IDX ON ASSESSMENT_SAGA (STATUS, UPDATE_DATE);
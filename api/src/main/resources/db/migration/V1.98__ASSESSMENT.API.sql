@@ -0,0 +1,18 @@
+CREATE TABLE ASSESSMENT_DOAR_RECALCULATION
+(
+    ASSESSMENT_DOAR_RECALCULATION_ID  UUID                                NOT NULL,
+    ASSESSMENT_ID                     UUID                                NOT NULL,
+    STATUS_CODE                       VARCHAR(20)                         NOT NULL,
+    TOTAL_STUDENTS                    INTEGER                             NOT NULL,
+    PROCESSED_STUDENTS                INTEGER                             NOT NULL,
+    LAST_ASSESSMENT_STUDENT_ID        UUID,
+    CREATE_USER                       VARCHAR(100)                        NOT NULL,
+    CREATE_DATE                       TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    UPDATE_USER                       VARCHAR(100)                        NOT NULL,
+    UPDATE_DATE                       TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT ASSESSMENT_DOAR_RECALCULATION_ID_PK PRIMARY KEY (ASSESSMENT_DOAR_RECALCULATION_ID),
+    CONSTRAINT FK_ASSESSMENT_DOAR_RECALCULATION_ASSESSMENT_ID FOREIGN KEY (ASSESSMENT_ID)
+        REFERENCES ASSESSMENT (ASSESSMENT_ID) ON DELETE CASCADE
+);
+
+CREATE INDEX ASSESSMENT_DOAR_RECALCULATION_ASSESSMENT_ID_IDX ON ASSESSMENT_DOAR_RECALCULATION (ASSESSMENT_ID);
@@ -0,0 +1 @@
+CREATE INDEX ASSESSMENT_STUDENT_ASSESSMENT_ID_KEYSET_IDX ON ASSESSMENT_STUDENT (ASSESSMENT_ID, ASSESSMENT_STUDENT_ID);
@@ -0,0 +1,99 @@
+package ca.bc.gov.educ.assessment.api.batch.service;
+
+import ca.bc.gov.educ.assessment.api.BaseAssessmentAPITest;
+import ca.bc.gov.educ.assessment.api.batch.exception.ResultsFileUnProcessableException;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultDetails;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.StagedStudentResultEntity;
+import ca.bc.gov.educ.assessment.api.repository.v1.*;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentResultFileUpload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AssessmentResultServiceTest extends BaseAssessmentAPITest {
+
+    @Autowired
+    private AssessmentResultService assessmentResultService;
+    @Autowired
+    private AssessmentSessionRepository assessmentSessionRepository;
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+    @Autowired
+    private AssessmentFormRepository assessmentFormRepository;
+    @Autowired
+    private StagedStudentResultRepository stagedStudentResultRepository;
+
+    private AssessmentEntity savedAssessment;
+
+    @BeforeEach
+    void setUp() {
+        var savedSession = assessmentSessionRepository.save(createMockSessionEntity());
+        savedAssessment = assessmentRepository.save(createMockAssessmentEntity(savedSession, "LTP10"));
+        assessmentFormRepository.save(createMockAssessmentFormEntity(savedAssessment, "A"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stagedStudentResultRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        assessmentSessionRepository.deleteAll();
+    }
+
+    @Test
+    void testResultLoads_givenTwoOverlappingLoads_ShouldReleaseOnlyTheFirstToComplete() throws ResultsFileUnProcessableException {
+        var sessionID = savedAssessment.getAssessmentSessionEntity().getSessionID();
+        var fileUpload = AssessmentResultFileUpload.builder().createUser("ABC").updateUser("ABC").replaceResultsFlag("Y").build();
+
+        var firstLoad = assessmentResultService.startResultLoad("first", sessionID, "LTP10", fileUpload);
+        var secondLoad = assessmentResultService.startResultLoad("second", sessionID, "LTP10", fileUpload);
+        assessmentResultService.stageResultChunk("first", firstLoad, List.of(createResult("123456789"), createResult("223456789")), fileUpload);
+        assessmentResultService.stageResultChunk("second", secondLoad, List.of(createResult("323456789")), fileUpload);
+
+        assessmentResultService.completeResultLoad("first", firstLoad);
+        assertThrows(ResultsFileUnProcessableException.class, () -> assessmentResultService.completeResultLoad("second", secondLoad));
+        assessmentResultService.abandonResultLoad(secondLoad);
+
+        var staged = stagedStudentResultRepository.findAll();
+        assertThat(staged).extracting(StagedStudentResultEntity::getPen).containsExactlyInAnyOrder("123456789", "223456789");
+        assertThat(staged).extracting(StagedStudentResultEntity::getStagedStudentResultStatus).containsOnly(AssessmentResultService.LOADED);
+        assertThat(staged).extracting(StagedStudentResultEntity::getLoadID).containsOnly(firstLoad.getLoadID());
+    }
+
+    @Test
+    void testResultLoads_givenOverlappingLoadAbandoned_ShouldKeepOtherLoadsRows() throws ResultsFileUnProcessableException {
+        var sessionID = savedAssessment.getAssessmentSessionEntity().getSessionID();
+        var fileUpload = AssessmentResultFileUpload.builder().createUser("ABC").updateUser("ABC").replaceResultsFlag("Y").build();
+
+        var firstLoad = assessmentResultService.startResultLoad("first", sessionID, "LTP10", fileUpload);
+        assessmentResultService.stageResultChunk("first", firstLoad, List.of(createResult("123456789")), fileUpload);
+        var secondLoad = assessmentResultService.startResultLoad("second", sessionID, "LTP10", fileUpload);
+        assessmentResultService.stageResultChunk("second", secondLoad, List.of(createResult("223456789")), fileUpload);
+        assessmentResultService.abandonResultLoad(secondLoad);
+        assessmentResultService.completeResultLoad("first", firstLoad);
+
+        var staged = stagedStudentResultRepository.findAll();
+        assertThat(staged).extracting(StagedStudentResultEntity::getPen).containsExactly("123456789");
+        assertThat(staged.getFirst().getStagedStudentResultStatus()).isEqualTo(AssessmentResultService.LOADED);
+    }
+
+    private AssessmentResultDetails createResult(String pen) {
+        return AssessmentResultDetails.builder()
+                .txID(UUID.randomUUID().toString())
+                .componentType("1")
+                .assessmentCode("LTP10")
+                .mincode("03636018")
+                .pen(pen)
+                .formCode("A")
+                .proficiencyScore("3")
+                .lineNumber("1")
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package ca.bc.gov.educ.assessment.api.batch.validation;
+
+import ca.bc.gov.educ.assessment.api.batch.exception.ResultsFileUnProcessableException;
+import ca.bc.gov.educ.assessment.api.batch.struct.AssessmentResultDetails;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicatePenDetectorTest {
+
+    @Test
+    void testValidate_givenUniquePenAndComponentType_ShouldPass() {
+        var detector = DuplicatePenDetector.of(List.of(
+                createResult("123456789", "1", "1"),
+                createResult("123456789", "7", "2"),
+                createResult("987654321", "1", "3")));
+
+        assertFalse(detector.hasDuplicates());
+        assertDoesNotThrow(() -> detector.validate("guid"));
+    }
+
+    @Test
+    void testValidate_givenDuplicates_ShouldReportEveryDuplicateWithLines() {
+        var detector = DuplicatePenDetector.of(List.of(
+                createResult("123456789", "1", "1"),
+                createResult("987654321", "1", "2"),
+                createResult("123456789", "1", "3"),
+                createResult("987654321", "1", "4"),
+                createResult("123456789", "1", "5"),
+                createResult("555555555", "1", "6")));
+
+        assertTrue(detector.hasDuplicates());
+        var exception = assertThrows(ResultsFileUnProcessableException.class, () -> detector.validate("guid"));
+        assertEquals("Same PEN was found in the file more than once with the same component type: PEN 123456789 on lines 1, 3, 5; PEN 987654321 on lines 2, 4.", exception.getReason());
+    }
+
+    @Test
+    void testValidate_givenComponentTypeInDifferentCase_ShouldTreatAsDuplicate() {
+        var detector = DuplicatePenDetector.of(List.of(
+                createResult("123456789", "a", "1"),
+                createResult("123456789", "A", "2")));
+
+        assertTrue(detector.hasDuplicates());
+    }
+
+    private AssessmentResultDetails createResult(String pen, String componentType, String lineNumber) {
+        return AssessmentResultDetails.builder().pen(pen).componentType(componentType).lineNumber(lineNumber).build();
+    }
+}
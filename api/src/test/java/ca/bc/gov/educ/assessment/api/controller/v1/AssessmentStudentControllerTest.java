@@ -16,6 +16,7 @@ import ca.bc.gov.educ.assessment.api.struct.v1.Search;
 import ca.bc.gov.educ.assessment.api.struct.v1.SearchCriteria;
 import ca.bc.gov.educ.assessment.api.struct.v1.ValueType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -370,6 +371,103 @@ class AssessmentStudentControllerTest extends BaseAssessmentAPITest {
     this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(1)));
   }
 
+  @Test
+  void testFindAll_GivenSameSearchShapeWithDifferentValues_ShouldBindEachValue() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    AssessmentSessionEntity session = createMockSessionEntity();
+    session.setCourseMonth("08");
+    AssessmentSessionEntity assessmentSessionEntity = assessmentSessionRepository.save(session);
+    AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionEntity, AssessmentTypeCodes.LTP10.getCode()));
+    studentRepository.save(createMockStudentEntity(assessment));
+    AssessmentEntity assessment2 = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionEntity, AssessmentTypeCodes.LTF12.getCode()));
+    studentRepository.save(createMockStudentEntity(assessment2));
+    studentRepository.save(createMockStudentEntity(assessment2));
+
+    assertSearchResultCount(mockAuthority, AssessmentTypeCodes.LTP10.getCode(), 1);
+    assertSearchResultCount(mockAuthority, AssessmentTypeCodes.LTF12.getCode(), 2);
+  }
+
+  private void assertSearchResultCount(SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority, String assessmentTypeCode, int count) throws Exception {
+    SearchCriteria criteriaAssessmentTypeCode = SearchCriteria.builder()
+            .key("assessmentEntity.assessmentTypeCode")
+            .operation(FilterOperation.EQUAL)
+            .value(assessmentTypeCode)
+            .valueType(ValueType.STRING)
+            .build();
+    SearchCriteria criteriaSessionMonth = SearchCriteria.builder()
+            .condition(AND)
+            .key("assessmentEntity.assessmentSessionEntity.courseMonth")
+            .operation(FilterOperation.EQUAL)
+            .value("08")
+            .valueType(ValueType.STRING)
+            .build();
+
+    List<Search> searches = new LinkedList<>();
+    searches.add(Search.builder().searchCriteriaList(List.of(criteriaAssessmentTypeCode, criteriaSessionMonth)).build());
+    String criteriaJSON = new ObjectMapper().writeValueAsString(searches);
+
+    final MvcResult result = this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.PAGINATED)
+                            .with(mockAuthority)
+                            .param("searchCriteriaList", criteriaJSON)
+                            .contentType(APPLICATION_JSON))
+            .andDo(print())
+            .andReturn();
+    this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(count)));
+  }
+
+  @Test
+  void testFindAll_GivenUnsupportedOperation_ShouldReturnBadRequest() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    SearchCriteria criteria = SearchCriteria.builder()
+            .key("surname")
+            .operation(FilterOperation.STARTS_WITH)
+            .value("DO")
+            .valueType(ValueType.STRING)
+            .build();
+
+    List<Search> searches = new LinkedList<>();
+    searches.add(Search.builder().searchCriteriaList(List.of(criteria)).build());
+    String criteriaJSON = new ObjectMapper().writeValueAsString(searches);
+
+    this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.PAGINATED)
+                            .with(mockAuthority)
+                            .param("searchCriteriaList", criteriaJSON)
+                            .contentType(APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testFindAll_GivenUnknownSearchKey_ShouldReturnBadRequest() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    SearchCriteria criteria = SearchCriteria.builder()
+            .key("assessmentEntity.unknownField")
+            .operation(FilterOperation.EQUAL)
+            .value("08")
+            .valueType(ValueType.STRING)
+            .build();
+
+    List<Search> searches = new LinkedList<>();
+    searches.add(Search.builder().searchCriteriaList(List.of(criteria)).build());
+    String criteriaJSON = new ObjectMapper().writeValueAsString(searches);
+
+    this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.PAGINATED)
+                            .with(mockAuthority)
+                            .param("searchCriteriaList", criteriaJSON)
+                            .contentType(APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+  }
+
   @Test
   void testFindAll_GivenAssessmentID_ShouldReturnStudent() throws Exception {
     final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
@@ -415,6 +513,85 @@ class AssessmentStudentControllerTest extends BaseAssessmentAPITest {
     this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$.content", hasSize(2)));
   }
 
+  @Test
+  void testFindAllByKeyset_GivenAssessmentID_ShouldPageWithContinuationToken() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    AssessmentSessionEntity assessmentSessionEntity = assessmentSessionRepository.save(createMockSessionEntity());
+    AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionEntity, AssessmentTypeCodes.LTP10.getCode()));
+    AssessmentEntity otherAssessment = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionEntity, AssessmentTypeCodes.LTF12.getCode()));
+    for (int i = 0; i < 3; i++) {
+      studentRepository.save(createMockStudentEntity(assessment));
+    }
+    studentRepository.save(createMockStudentEntity(otherAssessment));
+
+    SearchCriteria criteriaAssessmentID = SearchCriteria.builder()
+            .key("assessmentEntity.assessmentID")
+            .operation(FilterOperation.EQUAL)
+            .value(assessment.getAssessmentID().toString())
+            .valueType(ValueType.UUID)
+            .build();
+    List<Search> searches = List.of(Search.builder().searchCriteriaList(List.of(criteriaAssessmentID)).build());
+    String criteriaJSON = new ObjectMapper().writeValueAsString(searches);
+
+    final MvcResult firstPage = this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.KEYSET_PAGINATED)
+                            .with(mockAuthority)
+                            .param("searchCriteriaList", criteriaJSON)
+                            .param("pageSize", "2")
+                            .param("includeCount", "true")
+                            .contentType(APPLICATION_JSON))
+            .andReturn();
+    final MvcResult firstPageResult = this.mockMvc.perform(asyncDispatch(firstPage)).andDo(print()).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(jsonPath("$.continuationToken").isNotEmpty())
+            .andReturn();
+    String continuationToken = JsonPath.read(firstPageResult.getResponse().getContentAsString(), "$.continuationToken");
+
+    final MvcResult secondPage = this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.KEYSET_PAGINATED)
+                            .with(mockAuthority)
+                            .param("searchCriteriaList", criteriaJSON)
+                            .param("pageSize", "2")
+                            .param("continuationToken", continuationToken)
+                            .contentType(APPLICATION_JSON))
+            .andReturn();
+    this.mockMvc.perform(asyncDispatch(secondPage)).andDo(print()).andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.continuationToken").doesNotExist());
+  }
+
+  @Test
+  void testFindAllByKeyset_GivenInvalidContinuationToken_ShouldReturnBadRequest() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.KEYSET_PAGINATED)
+                            .with(mockAuthority)
+                            .param("continuationToken", "not-a-token")
+                            .contentType(APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testFindAllByKeyset_GivenPageSizeBelowOne_ShouldReturnBadRequest() throws Exception {
+    final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
+    final SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+    this.mockMvc.perform(
+                    get(URL.BASE_URL_STUDENT + URL.KEYSET_PAGINATED)
+                            .with(mockAuthority)
+                            .param("pageSize", "0")
+                            .contentType(APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+  }
+
   @Test
   void testFindAll_GivenSchoolYear_ShouldReturnStudent() throws Exception {
     final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_STUDENT";
@@ -468,7 +468,10 @@ class FileUploadControllerTest extends BaseAssessmentAPITest {
                 .with(jwt().jwt(jwt -> jwt.claim("scope", "WRITE_ASSESSMENT_FILES")))
                 .header("correlationID", UUID.randomUUID().toString())
                 .content(JsonUtil.getJsonStringFromObject(file))
-                .contentType(APPLICATION_JSON)).andExpect(status().isBadRequest());
+                .contentType(APPLICATION_JSON)).andExpect(status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.subErrors[0].message").value("Same PEN was found in the file more than once with the same component type: PEN 117379339 on lines 1, 2."));
+
+        assertEquals(0, stagedStudentResultRepository.count(), "Rows staged before the duplicate was found should be removed");
     }
 
     @Test
@@ -706,6 +709,9 @@ class FileUploadControllerTest extends BaseAssessmentAPITest {
             // Verify student has PEN
             assertNotNull(stagedStudent.getPen(), "Student PEN should be set");
             assertTrue(stagedStudent.getPen().length() >= 9, "PEN should be valid length");
+
+            // Verify the streamed load was released for processing
+            assertEquals("LOADED", stagedStudent.getStagedStudentResultStatus(), "Staged result should be loaded");
         }
 
         // 3. Verify assessment form reference
@@ -38,22 +38,31 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.OidcLoginRequestPostProcessor;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static ca.bc.gov.educ.assessment.api.constants.v1.reports.AssessmentReportTypeCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oidcLogin;
@@ -119,7 +128,14 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
             "/%s/INVALID_TYPE",
             "/%s/INVALID_TYPE/available",
             "/%s/school/%s/INVALID_TYPE/available",
-            "/student/%s/INVALID_TYPE/available"
+            "/student/%s/INVALID_TYPE/available",
+            "/%s/testing/stream/JANE",
+            "/%s/school/%s/testing/stream",
+            "/student/%s/INVALID_TYPE/stream",
+            "/student-pen/117379339/INVALID_TYPE/stream",
+            "/%s/district/%s/INVALID_TYPE/zip",
+            "/%s/district/%s/yukon-summary-report/zip",
+            "/%s/school/%s/student/INVALID_TYPE/zip"
     })
     void testReportEndpoints_WithWrongType_ShouldReturnBadRequest(String urlTemplate) throws Exception {
         final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
@@ -185,6 +201,66 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         assertThat(summary1.getReportType()).isEqualTo(AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode());
     }
 
+    @Test
+    void testStreamMinistryReport_ValidType_ShouldStreamCsvFile() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        var school = this.createMockSchool();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+
+        AssessmentSessionEntity session = createMockSessionEntity();
+        session.setCourseMonth("08");
+        AssessmentSessionEntity assessmentSessionEntity = assessmentSessionRepository.save(session);
+        AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionEntity, AssessmentTypeCodes.LTP10.getCode()));
+
+        AssessmentStudentEntity student = createMockStudentEntity(assessment);
+        student.setPen("123456789");
+        studentRepository.save(student);
+
+        var resultActions = this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + assessmentSessionEntity.getSessionID() + "/" + AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode() + "/stream/JANE").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"));
+
+        String csvContent = resultActions.andReturn().getResponse().getContentAsString();
+        String contentDisposition = resultActions.andReturn().getResponse().getHeader("Content-Disposition");
+        assertThat(contentDisposition).startsWith("attachment; filename=\"" + AssessmentReportTypeCode.ALL_SESSION_REGISTRATIONS.getCode());
+        assertThat(csvContent).startsWith("Registered Students");
+        assertThat(csvContent).contains("123456789");
+
+        var updatedSession = assessmentSessionRepository.findById(assessmentSessionEntity.getSessionID()).orElseThrow();
+        assertThat(updatedSession.getAssessmentRegistrationsExportUserID()).isEqualTo("JANE");
+    }
+
+    @Test
+    void testStreamMinistryReport_NotFoundSession_ShouldReturnNotFound() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + UUID.randomUUID() + "/" + AssessmentReportTypeCode.NME_KEY_SUMMARY.getCode() + "/stream/JANE").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testStreamMinistryReport_WithValidButUnstreamableType_ShouldReturnBadRequest() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + UUID.randomUUID() + "/" + SESSION_RESULTS.getCode() + "/stream/TESTUSER").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + UUID.randomUUID() + "/school/" + UUID.randomUUID() + "/" + SESSION_RESULTS.getCode() + "/stream").with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetMinistryRandomSessionZip_ShouldReturnZip() throws Exception {
         final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
@@ -705,6 +781,56 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
                                 .andDo(print()).andExpect(status().isPreconditionRequired());
     }
 
+    @Test
+    void testStreamStudentReportZipForSchool_ISR_ShouldStreamZipWithReportPerStudent() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        var school = this.createMockSchool();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        var district = this.createMockDistrict();
+        when(this.restUtils.getDistrictByDistrictID(anyString())).thenReturn(Optional.of(district));
+        when(restUtils.getGradStudentRecordByStudentID(any(), any())).thenReturn(Optional.of(createMockGradStudentAPIRecord()));
+        when(this.restUtils.getStudents(any(UUID.class), any())).thenReturn(List.of(this.createMockStudentAPIStudent()));
+
+        AssessmentSessionEntity session = createMockSessionEntity();
+        session.setCourseMonth("08");
+        AssessmentSessionEntity sessionEntity = assessmentSessionRepository.save(session);
+        AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(sessionEntity, "LTP10"));
+
+        for (int i = 0; i < 3; i++) {
+            AssessmentStudentEntity student = createMockStudentEntity(assessment);
+            student.setPen("12345678" + i);
+            student.setProficiencyScore(2);
+            student.setSchoolAtWriteSchoolID(UUID.fromString(school.getSchoolId()));
+            student.setSchoolOfRecordSchoolID(UUID.fromString(school.getSchoolId()));
+            studentRepository.save(student);
+        }
+
+        var response = this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + sessionEntity.getSessionID() + "/school/" + school.getSchoolId() + "/student/ISR/zip")
+                                .with(mockAuthority))
+                .andDo(print()).andExpect(status().isOk()).andReturn().getResponse();
+
+        assertThat(response.getContentType()).isEqualTo("application/zip");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("ISR-" + school.getMincode());
+        assertThat(readZipEntryNames(response.getContentAsByteArray())).hasSize(3).allMatch(name -> name.startsWith("ISR - ") && name.endsWith(".pdf"));
+    }
+
+    @Test
+    void testStreamStudentReportZipForSchool_NoResults_ShouldReturnPreconditionRequired() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        var school = this.createMockSchool();
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        AssessmentSessionEntity sessionEntity = assessmentSessionRepository.save(createMockSessionEntity());
+
+        this.mockMvc.perform(get(URL.BASE_URL_REPORT + "/" + sessionEntity.getSessionID() + "/school/" + school.getSchoolId() + "/student/ISR/zip")
+                        .with(mockAuthority))
+                .andDo(print()).andExpect(status().isPreconditionRequired());
+    }
+
     @Test
     void testGetDownloadableReportForISRByPEN_ValidTypeSessionResults_ShouldReturnCSVFile() throws Exception {
         final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
@@ -1226,7 +1352,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var district = this.createMockDistrict();
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(school));
         when(restUtils.getDistrictByDistrictID(school.getDistrictId())).thenReturn(Optional.of(district));
 
         AssessmentSessionEntity session = createMockSessionEntity();
@@ -1290,6 +1416,79 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         assertThat(summary.getDocumentData()).isNotBlank();
     }
 
+    @Test
+    void testStreamDownloadableReport_DOARProvincialSummary_ShouldStreamPDFFile() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        var district = this.createMockDistrict();
+        var school = this.createMockSchool();
+        school.setDistrictId(district.getDistrictId());
+        when(this.restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(school));
+        when(restUtils.getDistrictByDistrictID(school.getDistrictId())).thenReturn(Optional.of(district));
+
+        AssessmentSessionEntity session = createMockSessionEntity();
+        session.setCourseMonth("08");
+        session.setCompletionDate(LocalDateTime.now().minusDays(1));
+        AssessmentSessionEntity sessionEntity = assessmentSessionRepository.save(session);
+        AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(sessionEntity, AssessmentTypeCodes.LTE10.getCode()));
+
+        var savedForm = assessmentFormRepository.save(createMockAssessmentFormEntity(assessment, "A"));
+
+        var savedMultiComp = assessmentComponentRepository.save(createMockAssessmentComponentEntity(savedForm, "MUL_CHOICE", "NONE"));
+        for(int i = 1;i < 29;i++) {
+            assessmentQuestionRepository.save(createMockAssessmentQuestionEntity(savedMultiComp, i, i));
+        }
+
+        var savedOpenEndedComp = assessmentComponentRepository.save(createMockAssessmentComponentEntity(savedForm, "OPEN_ENDED", "NONE"));
+        var oe1 = assessmentQuestionRepository.save(createMockAssessmentQuestionEntity(savedOpenEndedComp, 2, 2));
+        assessmentQuestionRepository.save(createMockAssessmentQuestionEntity(savedOpenEndedComp, 2, 3));
+        assessmentQuestionRepository.save(createMockAssessmentQuestionEntity(savedOpenEndedComp, 4, 5));
+        var oe4 = assessmentQuestionRepository.save(createMockAssessmentQuestionEntity(savedOpenEndedComp, 4, 6));
+
+        var studentEntity1 = createMockStudentEntity(assessment);
+        studentEntity1.setSchoolAtWriteSchoolID(UUID.fromString(school.getSchoolId()));
+        studentEntity1.setProficiencyScore(2);
+        var componentEntity1 = createMockAssessmentStudentComponentEntity(studentEntity1, savedMultiComp.getAssessmentComponentID());
+        var componentEntity2 = createMockAssessmentStudentComponentEntity(studentEntity1, savedOpenEndedComp.getAssessmentComponentID());
+
+        var multiQues = assessmentQuestionRepository.findByAssessmentComponentEntity_AssessmentComponentID(savedMultiComp.getAssessmentComponentID());
+        for(int i = 1;i < multiQues.size() ;i++) {
+            if(i % 2 == 0) {
+                componentEntity1.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(multiQues.get(i).getAssessmentQuestionID(), BigDecimal.ZERO, componentEntity1));
+            } else {
+                componentEntity1.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(multiQues.get(i).getAssessmentQuestionID(), BigDecimal.ONE, componentEntity1));
+
+            }
+        }
+
+        componentEntity2.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(oe1.getAssessmentQuestionID(), BigDecimal.ONE, componentEntity2));
+        componentEntity2.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(oe4.getAssessmentQuestionID(), new BigDecimal(9999), componentEntity2));
+
+        studentEntity1.getAssessmentStudentComponentEntities().addAll(List.of(componentEntity1, componentEntity2));
+        studentEntity1.setAssessmentFormID(savedForm.getAssessmentFormID());
+        var student = studentRepository.save(studentEntity1);
+
+        var sagaData = TransferOnApprovalSagaData
+                .builder()
+                .stagedStudentAssessmentID(UUID.randomUUID().toString())
+                .studentID(String.valueOf(student.getStudentID()))
+                .assessmentID(String.valueOf(student.getAssessmentEntity().getAssessmentID()))
+                .build();
+        doarReportService.createAndPopulateDOARSummaryCalculations(sagaData);
+
+        var resultActions = this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + sessionEntity.getSessionID() + "/doar-prov-summary/stream/" + "TESTUSER")
+                                .with(mockAuthority))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"));
+
+        byte[] pdf = resultActions.andReturn().getResponse().getContentAsByteArray();
+        assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        assertThat(resultActions.andReturn().getResponse().getHeader("Content-Disposition")).endsWith(".pdf\"");
+    }
+
     @ParameterizedTest
     @CsvSource({
             "NMF10",
@@ -1307,7 +1506,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var district = this.createMockDistrict();
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(school));
         when(restUtils.getDistrictByDistrictID(school.getDistrictId())).thenReturn(Optional.of(district));
 
         AssessmentSessionEntity session = createMockSessionEntity();
@@ -1419,7 +1618,10 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var mockPaginatedResponse = createMockPaginatedResponse(List.of(mockCollection));
 
         when(restUtils.getLastFourCollections(any())).thenReturn(mockPaginatedResponse);
-        when(restUtils.get1701DataForStudents(anyString(), anyList())).thenReturn(mockSdcStudents);
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<SdcSchoolCollectionStudent>>>getArgument(2).accept(mockSdcStudents);
+            return null;
+        }).when(restUtils).stream1701DataForStudents(anyString(), anyList(), any());
 
         AssessmentSessionEntity session = createMockSessionEntity();
         session.setCourseMonth("04");
@@ -2231,7 +2433,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
         when(this.restUtils.getYukonDistrict()).thenReturn(Optional.of(district));
-        when(this.restUtils.getSchools()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
 
         var session = createMockSessionEntity();
         var savedSession = assessmentSessionRepository.save(session);
@@ -2259,7 +2461,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
         when(this.restUtils.getYukonDistrict()).thenReturn(Optional.of(district));
-        when(this.restUtils.getSchools()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
 
         var session = createMockSessionEntity();
         var savedSession = assessmentSessionRepository.save(session);
@@ -2288,7 +2490,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
         when(this.restUtils.getYukonDistrict()).thenReturn(Optional.of(district));
-        when(this.restUtils.getSchools()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
 
         var session = createMockSessionEntity();
         var savedSession = assessmentSessionRepository.save(session);
@@ -2316,7 +2518,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
         when(this.restUtils.getYukonDistrict()).thenReturn(Optional.of(district));
-        when(this.restUtils.getSchools()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
 
         var session = createMockSessionEntity();
         var savedSession = assessmentSessionRepository.save(session);
@@ -2610,7 +2812,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         schoolWithResults.setDistrictId(district.getDistrictId());
         var schoolWithoutResults = this.createMockSchool();
         schoolWithoutResults.setDistrictId(district.getDistrictId());
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(schoolWithResults, schoolWithoutResults));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(schoolWithResults, schoolWithoutResults));
 
         AssessmentSessionEntity session = createMockSessionEntity();
         session.setCourseMonth("08");
@@ -2633,6 +2835,38 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         assertThat(schoolIDs).containsExactly(UUID.fromString(schoolWithResults.getSchoolId()));
     }
 
+    @Test
+    void testStreamReportZipForDistrict_DOARSummary_ShouldStreamZipWithReportPerSchool() throws Exception {
+        final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
+        final OidcLoginRequestPostProcessor mockAuthority = oidcLogin().authorities(grantedAuthority);
+
+        var district = this.createMockDistrict();
+        var school = this.createMockSchool();
+        school.setDistrictId(district.getDistrictId());
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolBySchoolID(anyString())).thenReturn(Optional.of(school));
+        when(this.restUtils.getDistrictByDistrictID(anyString())).thenReturn(Optional.of(district));
+
+        AssessmentSessionEntity session = createMockSessionEntity();
+        session.setCourseMonth("08");
+        AssessmentSessionEntity sessionEntity = assessmentSessionRepository.save(session);
+        AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(sessionEntity, AssessmentTypeCodes.LTP10.getCode()));
+
+        var student = createMockStudentEntity(assessment);
+        student.setSchoolAtWriteSchoolID(UUID.fromString(school.getSchoolId()));
+        student.setProficiencyScore(2);
+        studentRepository.save(student);
+
+        var response = this.mockMvc.perform(
+                        get(URL.BASE_URL_REPORT + "/" + sessionEntity.getSessionID() + "/district/" + district.getDistrictId() + "/" + DOAR_SUMMARY.getCode() + "/zip")
+                                .with(mockAuthority))
+                .andDo(print()).andExpect(status().isOk()).andReturn().getResponse();
+
+        assertThat(response.getContentType()).isEqualTo("application/zip");
+        assertThat(readZipEntryNames(response.getContentAsByteArray())).containsExactly(DOAR_SUMMARY.getCode() + " - " + school.getMincode() + ".pdf");
+    }
+
     @Test
     void testGetDistrictSchoolsWithResults_WhenNoSchoolsInDistrict_ShouldReturnEmptyList() throws Exception {
         final GrantedAuthority grantedAuthority = () -> "SCOPE_READ_ASSESSMENT_REPORT";
@@ -2640,7 +2874,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
 
         var district = this.createMockDistrict();
         var otherDistrictSchool = this.createMockSchool();
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(otherDistrictSchool));
+        when(this.restUtils.getSchoolsByDistrictID(otherDistrictSchool.getDistrictId())).thenReturn(List.of(otherDistrictSchool));
 
         AssessmentSessionEntity session = createMockSessionEntity();
         session.setCourseMonth("08");
@@ -2671,7 +2905,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var district = this.createMockDistrict();
         var school = this.createMockSchool();
         school.setDistrictId(district.getDistrictId());
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(school));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(school));
 
         AssessmentSessionEntity session = createMockSessionEntity();
         session.setCourseMonth("08");
@@ -2710,7 +2944,7 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         var offshoreSchool = this.createMockSchool();
         offshoreSchool.setDistrictId(district.getDistrictId());
         offshoreSchool.setSchoolCategoryCode("OFFSHORE");
-        when(this.restUtils.getAllSchoolTombstones()).thenReturn(List.of(publicSchool, independentSchool, offshoreSchool));
+        when(this.restUtils.getSchoolsByDistrictID(district.getDistrictId())).thenReturn(List.of(publicSchool, independentSchool, offshoreSchool));
 
         AssessmentSessionEntity session = createMockSessionEntity();
         session.setCourseMonth("08");
@@ -2735,4 +2969,15 @@ class ReportsControllerTest extends BaseAssessmentAPITest {
         assertThat(schoolIDs).containsExactly(UUID.fromString(publicSchool.getSchoolId()));
     }
 
+
+    private List<String> readZipEntryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
 }
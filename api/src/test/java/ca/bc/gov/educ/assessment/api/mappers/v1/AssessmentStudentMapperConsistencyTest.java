@@ -5,10 +5,12 @@ import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudent;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentListItem;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentSearchResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,6 +85,32 @@ class AssessmentStudentMapperConsistencyTest {
         assertFalse(listItem.getWroteFlag(), "AssessmentStudentListItem wroteFlag should be false");
     }
 
+    @Test
+    void testListItemMapper_GivenSearchResult_ShouldMatchEntityMapping() {
+        // Given
+        AssessmentStudentEntity entity = createMockAssessmentStudentEntity();
+        entity.getAssessmentEntity().getAssessmentSessionEntity().setCompletionDate(LocalDateTime.now().minusDays(1));
+        entity.setProficiencyScore(null);
+        entity.setProvincialSpecialCaseCode(null);
+        entity.setNumberOfAttempts(2);
+        entity.setCreateDate(LocalDateTime.now());
+        var session = entity.getAssessmentEntity().getAssessmentSessionEntity();
+        AssessmentStudentSearchResult searchResult = new AssessmentStudentSearchResult(entity.getAssessmentStudentID(), entity.getAssessmentEntity().getAssessmentID(),
+                entity.getAssessmentEntity().getAssessmentTypeCode(), session.getSessionID(), session.getCourseYear(), session.getCourseMonth(), session.getCompletionDate(),
+                entity.getAssessmentFormID(), entity.getSchoolAtWriteSchoolID(), entity.getAssessmentCenterSchoolID(), entity.getSchoolOfRecordSchoolID(), entity.getStudentID(),
+                entity.getStudentStatusCode(), entity.getGivenName(), entity.getSurname(), entity.getPen(), entity.getLocalID(), entity.getGradeAtRegistration(),
+                entity.getLocalAssessmentID(), entity.getProficiencyScore(), entity.getProvincialSpecialCaseCode(), entity.getNumberOfAttempts(), entity.getAdaptedAssessmentCode(),
+                entity.getIrtScore(), entity.getMarkingSession(), entity.getDownloadDate(), entity.getCreateUser(), entity.getCreateDate(), entity.getUpdateUser(), entity.getUpdateDate());
+
+        // When
+        AssessmentStudentListItem fromEntity = listItemMapper.toStructure(entity);
+        AssessmentStudentListItem fromSearchResult = listItemMapper.toStructure(searchResult);
+
+        // Then
+        assertEquals(fromEntity, fromSearchResult);
+        assertTrue(fromSearchResult.getDidNotAttemptFlag(), "Search result didNotAttemptFlag should be true after the session completed");
+    }
+
     private AssessmentStudentEntity createMockAssessmentStudentEntity() {
         AssessmentSessionEntity session = AssessmentSessionEntity.builder()
                 .sessionID(UUID.randomUUID())
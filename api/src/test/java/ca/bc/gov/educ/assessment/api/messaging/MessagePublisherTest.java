@@ -0,0 +1,31 @@
+package ca.bc.gov.educ.assessment.api.messaging;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MessagePublisherTest {
+
+    @Test
+    void testRequestMessage_givenSteadyLatency_ShouldConvergeOnIt() {
+        var connection = mock(Connection.class);
+        when(connection.request(anyString(), any(byte[].class))).thenAnswer(invocation ->
+            CompletableFuture.supplyAsync(() -> mock(Message.class), CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS)));
+        var messagePublisher = new MessagePublisher(connection);
+
+        for (int i = 0; i < 40; i++) {
+            messagePublisher.requestMessage("subject", new byte[0]).join();
+        }
+
+        assertThat(messagePublisher.getRequestLatencyMillis()).isGreaterThanOrEqualTo(9);
+    }
+}
@@ -245,6 +245,7 @@ class SessionApprovalOrchestratorTest extends BaseAssessmentAPITest {
         RestUtils dummyRestUtils = Mockito.mock(RestUtils.class);
         ComsRestUtils dummyComsRestUtils = Mockito.mock(ComsRestUtils.class);
         ApplicationProperties dummyApplicationProperties = Mockito.mock(ApplicationProperties.class);
+        Mockito.when(dummyApplicationProperties.getXamGenerationParallelism()).thenReturn(1);
         StagedAssessmentStudentRepository dummyStagedAssessmentStudentRepository = Mockito.mock(StagedAssessmentStudentRepository.class);
         XAMFileService dummyService = new XAMFileService(dummyStudentRepo, dummySessionRepo, dummyRestUtils, dummyComsRestUtils, dummyApplicationProperties, dummyStagedAssessmentStudentRepository);
         XAMFileService spyService = Mockito.spy(dummyService);
@@ -36,7 +36,10 @@ import java.util.Set;
 import java.util.UUID;
 
 import static ca.bc.gov.educ.assessment.api.constants.EventType.CREATE_STUDENT_RESULT;
+import static ca.bc.gov.educ.assessment.api.constants.EventType.CALCULATE_STAGED_STUDENT_DOAR;
 import static ca.bc.gov.educ.assessment.api.constants.EventType.FIND_STUDENT_IN_GRAD_OR_ADOPT;
+import static ca.bc.gov.educ.assessment.api.constants.EventType.MARK_SAGA_COMPLETE;
+import static ca.bc.gov.educ.assessment.api.constants.SagaStatusEnum.COMPLETED;
 import static ca.bc.gov.educ.assessment.api.constants.SagaStatusEnum.IN_PROGRESS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -199,6 +202,41 @@ class StudentResultProcessingOrchestratorTest extends BaseAssessmentAPITest {
         assertThat(stagedResult.get().getStagedStudentResultStatus()).isEqualTo("LOADED");
     }
 
+    @SneakyThrows
+    @Test
+    void testHandleEvent_givenEventTypeTypeInitiated_WhereIdentityResolved_ShouldNotLookUpStudentAgain() {
+        Student stud1 = new Student();
+        stud1.setStudentID(UUID.randomUUID().toString());
+        stud1.setPen("123456789");
+        stud1.setStatusCode("A");
+
+        var sagaData = StudentResultSagaData
+                .builder()
+                .assessmentID(String.valueOf(savedAssessmentEntity.getAssessmentID()))
+                .pen("123456789")
+                .identityResolved(true)
+                .student(stud1)
+                .gradStudentRecord(new GradStudentRecord())
+                .build();
+
+        val saga = this.createStudentResultMockSaga(sagaData);
+        saga.setSagaId(null);
+        this.sagaRepository.save(saga);
+
+        val event = Event.builder()
+                .sagaId(saga.getSagaId())
+                .eventType(EventType.INITIATED)
+                .eventOutcome(EventOutcome.INITIATE_SUCCESS)
+                .eventPayload(JsonUtil.getJsonStringFromObject(sagaData)).build();
+        this.studentResultProcessingOrchestrator.handleEvent(event);
+
+        verify(this.messagePublisher, atMost(2)).dispatchMessage(eq(this.studentResultProcessingOrchestrator.getTopicToSubscribe()), this.eventCaptor.capture());
+        final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
+        assertThat(newEvent.getEventOutcome()).isEqualTo(EventOutcome.FIND_STUDENT_IN_GRAD_OR_ADOPT_COMPLETED);
+        verify(this.restUtils, never()).getStudentByPEN(any(), any());
+        verify(this.restUtils, never()).adoptStudentInGRAD(any(), any());
+    }
+
     @SneakyThrows
     @Test
     void testHandleEvent_givenEventTypeTypeInitiated_createStudentResultRecord_WhereStudentStatusIsMerged_WithEventOutCome_STUDENT_RESULT_CREATED() {
@@ -264,15 +302,17 @@ class StudentResultProcessingOrchestratorTest extends BaseAssessmentAPITest {
         this.studentResultProcessingOrchestrator.handleEvent(event);
 
 
+        // the DOAR calculation and completion run in process, so the only message is the completion notification
         verify(this.messagePublisher, atMost(2)).dispatchMessage(eq(this.studentResultProcessingOrchestrator.getTopicToSubscribe()), this.eventCaptor.capture());
         final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
-        assertThat(newEvent.getEventType()).isEqualTo(CREATE_STUDENT_RESULT);
-        assertThat(newEvent.getEventOutcome()).isEqualTo(EventOutcome.STUDENT_RESULT_CREATED);
+        assertThat(newEvent.getEventType()).isEqualTo(MARK_SAGA_COMPLETE);
+        assertThat(newEvent.getEventOutcome()).isEqualTo(EventOutcome.SAGA_COMPLETED);
 
         val savedSagaInDB = this.sagaRepository.findById(saga.getSagaId());
         assertThat(savedSagaInDB).isPresent();
-        assertThat(savedSagaInDB.get().getStatus()).isEqualTo(IN_PROGRESS.toString());
-        assertThat(savedSagaInDB.get().getSagaState()).isEqualTo(CREATE_STUDENT_RESULT.toString());
+        assertThat(savedSagaInDB.get().getStatus()).isEqualTo(COMPLETED.toString());
+        assertThat(sagaEventRepository.findBySaga(savedSagaInDB.get())).extracting(AssessmentSagaEventStatesEntity::getSagaEventState)
+                .contains(FIND_STUDENT_IN_GRAD_OR_ADOPT.toString(), CREATE_STUDENT_RESULT.toString(), CALCULATE_STAGED_STUDENT_DOAR.toString());
 
         val stagedResult = stagedStudentResultRepository.findById(savedStudentResult.getStagedStudentResultID());
         assertThat(stagedResult).isPresent();
@@ -412,8 +452,10 @@ class StudentResultProcessingOrchestratorTest extends BaseAssessmentAPITest {
         verify(messagePublisher, atLeastOnce()).dispatchMessage(eq(studentResultProcessingOrchestrator.getTopicToSubscribe()), eventCaptor.capture());
         String dispatchedPayload = new String(eventCaptor.getValue());
         Event dispatchedEvent = JsonUtil.getJsonObjectFromString(Event.class, dispatchedPayload);
-        assertThat(dispatchedEvent.getEventType()).isEqualTo(EventType.CALCULATE_STAGED_STUDENT_DOAR);
-        assertThat(dispatchedEvent.getEventOutcome()).isEqualTo(EventOutcome.STAGED_STUDENT_DOAR_CALCULATED);
+        assertThat(dispatchedEvent.getEventType()).isEqualTo(EventType.MARK_SAGA_COMPLETE);
+        assertThat(dispatchedEvent.getEventOutcome()).isEqualTo(EventOutcome.SAGA_COMPLETED);
+        assertThat(eventCaptor.getAllValues()).noneMatch(payload -> new String(payload).contains(EventOutcome.STAGED_STUDENT_DOAR_CALCULATED.toString()));
+        assertThat(sagaRepository.findById(saga.getSagaId()).orElseThrow().getStatus()).isEqualTo(COMPLETED.toString());
     }
 
 }
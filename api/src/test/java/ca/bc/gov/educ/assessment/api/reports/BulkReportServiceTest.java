@@ -0,0 +1,69 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import ca.bc.gov.educ.assessment.api.exception.EntityNotFoundException;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.rest.RestUtils;
+import ca.bc.gov.educ.assessment.api.struct.external.institute.v1.SchoolTombstone;
+import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.byAssessment.SchoolStudentRootNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkReportServiceTest {
+
+  private JasperReportRegistry jasperReportRegistry;
+  private BulkReportService bulkReportService;
+
+  @BeforeEach
+  void setUp() {
+    jasperReportRegistry = new JasperReportRegistry();
+    jasperReportRegistry.init();
+    var applicationProperties = mock(ApplicationProperties.class);
+    when(applicationProperties.getBulkReportParallelism()).thenReturn(2);
+    when(applicationProperties.getBulkReportVirtualizerMaxPages()).thenReturn(50);
+    bulkReportService = new BulkReportService(mock(RestUtils.class), jasperReportRegistry, applicationProperties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    bulkReportService.close();
+    jasperReportRegistry.close();
+  }
+
+  @Test
+  void testStreamReportZip_givenOneSchoolFails_ShouldSkipItsEntry() throws Exception {
+    var response = new MockHttpServletResponse();
+
+    bulkReportService.streamReportZip("reports.zip", List.of("001", "002", "003"),
+        mincode -> "SchoolStudentsInSession - " + mincode + ".pdf",
+        mincode -> {
+          if (mincode.equals("002")) {
+            throw new EntityNotFoundException(SchoolTombstone.class, "mincode", mincode);
+          }
+          var node = new SchoolStudentRootNode();
+          node.setReports(new ArrayList<>());
+          return node;
+        },
+        JasperReportRegistry.SCHOOL_STUDENTS_BY_ASSESSMENT, response);
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    List<String> entries = new ArrayList<>();
+    try (var zis = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      for (var entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+        assertThat(zis.readAllBytes()).isNotEmpty();
+        entries.add(entry.getName());
+      }
+    }
+    assertThat(entries).containsExactly("SchoolStudentsInSession - 001.pdf", "SchoolStudentsInSession - 003.pdf");
+  }
+}
@@ -46,6 +46,8 @@ class DOARProvincialReportServiceTest {
   private StagedAssessmentStudentDOARCalculationRepository stagedAssessmentStudentDOARCalculationRepository;
   @Mock
   private RestUtils restUtils;
+  @Mock
+  private JasperReportRegistry jasperReportRegistry;
 
   private DOARProvincialReportService service;
 
@@ -57,14 +59,15 @@ class DOARProvincialReportServiceTest {
       stagedAssessmentStudentLightRepository,
       assessmentStudentDOARCalculationRepository,
       stagedAssessmentStudentDOARCalculationRepository,
-      restUtils
+      restUtils,
+      jasperReportRegistry
     );
   }
 
   @Test
   void setStudentLevelsForStaging_ordersReportsByAssessmentTypeCode() {
     UUID schoolId = UUID.randomUUID();
-    when(restUtils.getAllSchoolTombstones()).thenReturn(List.of(publicSchool(schoolId)));
+    when(restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(publicSchool(schoolId)));
     when(stagedAssessmentStudentDOARCalculationRepository.findAllByAssessmentIDAndAssessmentStudentIDIn(any(), anyList()))
       .thenReturn(List.of());
 
@@ -91,7 +94,7 @@ class DOARProvincialReportServiceTest {
   @Test
   void setStudentLevels_ordersReportsByAssessmentTypeCode() {
     UUID schoolId = UUID.randomUUID();
-    when(restUtils.getAllSchoolTombstones()).thenReturn(List.of(publicSchool(schoolId)));
+    when(restUtils.getSchoolsBySchoolCategoryCodes(any())).thenReturn(List.of(publicSchool(schoolId)));
     when(assessmentStudentDOARCalculationRepository.findAllByAssessmentIDAndAssessmentStudentIDIn(any(), anyList()))
       .thenReturn(List.of());
 
@@ -0,0 +1,51 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import ca.bc.gov.educ.assessment.api.exception.StudentAssessmentAPIRuntimeException;
+import net.sf.jasperreports.repo.ReportResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JasperReportRegistryTest {
+
+  private JasperReportRegistry jasperReportRegistry;
+
+  @BeforeEach
+  void setUp() {
+    jasperReportRegistry = new JasperReportRegistry();
+    jasperReportRegistry.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jasperReportRegistry.close();
+  }
+
+  @Test
+  void testGetReport_givenRegisteredTemplate_ShouldReturnSameCompiledReport() {
+    var report = jasperReportRegistry.getReport(JasperReportRegistry.ISR_MAIN);
+
+    assertThat(report.getName()).isNotBlank();
+    assertThat(jasperReportRegistry.getReport(JasperReportRegistry.ISR_MAIN)).isSameAs(report);
+    assertThatThrownBy(() -> jasperReportRegistry.getReport("unknown")).isInstanceOf(StudentAssessmentAPIRuntimeException.class);
+  }
+
+  @Test
+  void testGetResource_givenSubReportLocation_ShouldResolveFromRegistry() {
+    var resource = jasperReportRegistry.getResource(JasperReportRegistry.SUBREPORT_DIR + "lte10summary.jasper", ReportResource.class);
+
+    assertThat(resource.getReport()).isSameAs(jasperReportRegistry.getReport("lte10summary"));
+    assertThat(jasperReportRegistry.getResource(JasperReportRegistry.SUBREPORT_DIR + "bc_gov_logo.jpg", ReportResource.class)).isNull();
+    assertThat(jasperReportRegistry.getResource(JasperReportRegistry.SUBREPORT_DIR + "unknown.jasper", ReportResource.class)).isNull();
+  }
+
+  @Test
+  void testSaveResource_givenAnyResource_ShouldRejectIt() {
+    var resource = new ReportResource();
+
+    assertThatThrownBy(() -> jasperReportRegistry.saveResource(JasperReportRegistry.SUBREPORT_DIR + "lte10summary.jasper", resource)).isInstanceOf(StudentAssessmentAPIRuntimeException.class);
+  }
+}
@@ -0,0 +1,41 @@
+package ca.bc.gov.educ.assessment.api.reports;
+
+import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentNode;
+import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentReportNode;
+import ca.bc.gov.educ.assessment.api.struct.v1.reports.student.inSession.SchoolStudentRootNode;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.design.JRDesignField;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportNodeDataSourceTest {
+
+  @Test
+  void testOf_givenDecomposedName_ShouldNormalizeAndSelectSubDataSource() throws JRException {
+    var decomposed = Normalizer.normalize("Ḵwak̓wala", Normalizer.Form.NFD);
+    var student = SchoolStudentNode.builder().name(decomposed).pen("123456789").build();
+    var report = SchoolStudentReportNode.builder().schoolMincodeAndName("School").students(List.of(student)).build();
+    var root = SchoolStudentRootNode.builder().report(report).build();
+
+    var dataSource = ReportNodeDataSource.of(root, "report");
+    assertThat(dataSource.next()).isTrue();
+    assertThat(dataSource.getFieldValue(field("schoolMincodeAndName"))).isEqualTo("School");
+
+    var students = dataSource.subDataSource("students");
+    assertThat(students.next()).isTrue();
+    assertThat(students.getFieldValue(field("name"))).isEqualTo(Normalizer.normalize(decomposed, Normalizer.Form.NFC));
+    assertThat(students.next()).isFalse();
+  }
+
+  private JRDesignField field(String name) {
+    var field = new JRDesignField();
+    field.setName(name);
+    field.setDescription(name);
+    field.setValueClass(String.class);
+    return field;
+  }
+}
@@ -43,6 +43,10 @@ class SchoolStudentsByAssessmentReportServiceTest {
   @Mock
   private RestUtils restUtils;
   @Mock
+  private JasperReportRegistry jasperReportRegistry;
+  @Mock
+  private BulkReportService bulkReportService;
+  @Mock
   private CodeTableService codeTableService;
   @Mock
   private StagedAssessmentStudentRepository stagedAssessmentStudentRepository;
@@ -56,7 +60,9 @@ class SchoolStudentsByAssessmentReportServiceTest {
         assessmentStudentRepository,
         restUtils,
         codeTableService,
-        stagedAssessmentStudentRepository);
+        stagedAssessmentStudentRepository,
+        jasperReportRegistry,
+        bulkReportService);
   }
 
   @Test
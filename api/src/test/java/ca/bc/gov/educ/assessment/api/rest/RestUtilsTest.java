@@ -17,19 +17,25 @@ import ca.bc.gov.educ.assessment.api.struct.external.servicesapi.v1.StudentMerge
 import ca.bc.gov.educ.assessment.api.struct.external.studentapi.v1.Student;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.nats.client.Message;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.net.ConnectException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -49,20 +55,25 @@ class RestUtilsTest {
     @Mock
     private MessagePublisher messagePublisher;
 
-    @InjectMocks
     private RestUtils restUtils;
 
     @Mock
     private ApplicationProperties props;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        restUtils = spy(new RestUtils(webClient, webClient, props, messagePublisher));
+        when(props.getSdcFetchParallelism()).thenReturn(2);
+        when(props.getSdcFetchMaxAttempts()).thenReturn(2);
+        when(props.getSdcFetchRetryBackoffMs()).thenReturn(1L);
+        meterRegistry = new SimpleMeterRegistry();
+        restUtils = spy(new RestUtils(webClient, webClient, props, messagePublisher, meterRegistry));
     }
 
     @Test
-    void testPopulateSchoolMap_WhenApiCallSucceeds_ShouldPopulateMaps() {
+    void testPopulateInstituteSnapshot_WhenApiCallSucceeds_ShouldIndexSchools() {
         // Given
         val school1ID = String.valueOf(UUID.randomUUID());
         val school2ID = String.valueOf(UUID.randomUUID());
@@ -84,27 +95,27 @@ class RestUtilsTest {
                 .build();
 
         doReturn(List.of(school1, school2, school3)).when(restUtils).getSchools();
+        doReturn(List.of()).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
 
         // When
-        restUtils.populateSchoolMap();
-
-        // Then verify the maps are populated
-        Map<String, SchoolTombstone> schoolMap = (Map<String, SchoolTombstone>) ReflectionTestUtils.getField(restUtils, "schoolMap");
-        assertEquals(3, schoolMap.size());
-        assertEquals(school1, schoolMap.get(school1ID));
-        assertEquals(school2, schoolMap.get(school2ID));
-        assertEquals(school3, schoolMap.get(school3ID));
-
-        Map<String, List<UUID>> independentAuthorityToSchoolIDMap = (Map<String, List<UUID>>) ReflectionTestUtils.getField(restUtils, "independentAuthorityToSchoolIDMap");
-        assertEquals(2, independentAuthorityToSchoolIDMap.size());
-        assertTrue(independentAuthorityToSchoolIDMap.containsKey("Authority 1"));
-        assertTrue(independentAuthorityToSchoolIDMap.containsKey("Authority 2"));
+        restUtils.populateInstituteSnapshot();
+
+        // Then verify the snapshot is populated
+        assertEquals(3, restUtils.getAllSchoolTombstones().size());
+        assertEquals(school1, restUtils.getSchoolBySchoolID(school1ID).get());
+        assertEquals(school2, restUtils.getSchoolBySchoolID(school2ID).get());
+        assertEquals(school3, restUtils.getSchoolBySchoolID(school3ID).get());
+
+        Map<String, List<UUID>> independentAuthorityToSchoolIDMap = Map.of(
+                "Authority 1", restUtils.getSchoolIDsByIndependentAuthorityID("Authority 1").orElseThrow(),
+                "Authority 2", restUtils.getSchoolIDsByIndependentAuthorityID("Authority 2").orElseThrow());
         assertEquals(2, independentAuthorityToSchoolIDMap.get("Authority 1").size());
         assertEquals(1, independentAuthorityToSchoolIDMap.get("Authority 2").size());
     }
 
     @Test
-    void testPopulateDistrictMap_WhenApiCallSucceeds_ShouldPopulateMaps() {
+    void testPopulateInstituteSnapshot_WhenApiCallSucceeds_ShouldIndexDistricts() {
         // Given
         val district1ID = String.valueOf(UUID.randomUUID());
         val district2ID = String.valueOf(UUID.randomUUID());
@@ -122,22 +133,22 @@ class RestUtilsTest {
                 .displayName("District 3")
                 .build();
 
+        doReturn(List.of()).when(restUtils).getSchools();
         doReturn(List.of(district1, district2, district3)).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
 
         // When
-        restUtils.populateDistrictMap();
+        restUtils.populateInstituteSnapshot();
 
-        // Then verify the maps are populated
-        Map<String, District> districtMap = (Map<String, District>) ReflectionTestUtils.getField(restUtils, "districtMap");
-        assertEquals(3, districtMap.size());
-        assertEquals(district1, districtMap.get(district1ID));
-        assertEquals(district2, districtMap.get(district2ID));
-        assertEquals(district3, districtMap.get(district3ID));
+        // Then verify the snapshot is populated
+        assertEquals(district1, restUtils.getDistrictByDistrictID(district1ID).get());
+        assertEquals(district2, restUtils.getDistrictByDistrictID(district2ID).get());
+        assertEquals(district3, restUtils.getDistrictByDistrictID(district3ID).get());
     }
 
 
     @Test
-    void testPopulateSchoolMap_WhenNoIndependentAuthorityId_ShouldPopulateMapsCorrectly() {
+    void testPopulateInstituteSnapshot_WhenNoIndependentAuthorityId_ShouldIndexSchoolsCorrectly() {
         // Given
         val school1ID = String.valueOf(UUID.randomUUID());
         val school2ID = String.valueOf(UUID.randomUUID());
@@ -158,40 +169,80 @@ class RestUtilsTest {
                 .build();
 
         doReturn(List.of(school1, school2, school3)).when(restUtils).getSchools();
+        doReturn(List.of()).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
 
         // When
-        restUtils.populateSchoolMap();
-
-        // Then verify the maps are populated
-        Map<String, SchoolTombstone> schoolMap = (Map<String, SchoolTombstone>) ReflectionTestUtils.getField(restUtils, "schoolMap");
-        assertEquals(3, schoolMap.size());
-        assertEquals(school1, schoolMap.get(school1ID));
-        assertEquals(school2, schoolMap.get(school2ID));
-        assertEquals(school3, schoolMap.get(school3ID));
-
-        Map<String, List<UUID>> independentAuthorityToSchoolIDMap = (Map<String, List<UUID>>) ReflectionTestUtils.getField(restUtils, "independentAuthorityToSchoolIDMap");
-        assertEquals(2, independentAuthorityToSchoolIDMap.size());
-        assertTrue(independentAuthorityToSchoolIDMap.containsKey("Authority 1"));
-        assertTrue(independentAuthorityToSchoolIDMap.containsKey("Authority 2"));
+        restUtils.populateInstituteSnapshot();
+
+        // Then verify the snapshot is populated
+        assertEquals(3, restUtils.getAllSchoolTombstones().size());
+        assertEquals(school1, restUtils.getSchoolBySchoolID(school1ID).get());
+        assertEquals(school2, restUtils.getSchoolBySchoolID(school2ID).get());
+        assertEquals(school3, restUtils.getSchoolBySchoolID(school3ID).get());
+
+        Map<String, List<UUID>> independentAuthorityToSchoolIDMap = Map.of(
+                "Authority 1", restUtils.getSchoolIDsByIndependentAuthorityID("Authority 1").orElseThrow(),
+                "Authority 2", restUtils.getSchoolIDsByIndependentAuthorityID("Authority 2").orElseThrow());
         assertEquals(1, independentAuthorityToSchoolIDMap.get("Authority 1").size());
         assertEquals(1, independentAuthorityToSchoolIDMap.get("Authority 2").size());
     }
 
 
     @Test
-    void testPopulateSchoolMap_WhenApiCallFails_ShouldHandleException() {
+    void testPopulateInstituteSnapshot_WhenApiCallSucceeds_ShouldIndexSchoolsByDistrictAndCategory() {
+        // Given
+        val yukonDistrictID = String.valueOf(UUID.randomUUID());
+        val yukonDistrict = District.builder().districtId(yukonDistrictID).districtRegionCode("Yukon").displayName("Yukon").build();
+        val otherDistrict = District.builder().districtId(String.valueOf(UUID.randomUUID())).districtRegionCode("METRO").displayName("District 2").build();
+        val yukonSchool = SchoolTombstone.builder().schoolId(String.valueOf(UUID.randomUUID())).districtId(yukonDistrictID).schoolCategoryCode("YUKON").build();
+        val publicSchool = SchoolTombstone.builder().schoolId(String.valueOf(UUID.randomUUID())).districtId(otherDistrict.getDistrictId()).schoolCategoryCode("PUBLIC").build();
+        val independentSchool = SchoolTombstone.builder().schoolId(String.valueOf(UUID.randomUUID())).districtId(otherDistrict.getDistrictId()).schoolCategoryCode("INDEPEND").build();
+
+        doReturn(List.of(yukonSchool, publicSchool, independentSchool)).when(restUtils).getSchools();
+        doReturn(List.of(yukonDistrict, otherDistrict)).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
+
+        // When
+        restUtils.populateInstituteSnapshot();
+
+        // Then
+        assertEquals(yukonDistrict, restUtils.getYukonDistrict().get());
+        assertEquals(List.of(yukonSchool), restUtils.getSchoolsByDistrictID(yukonDistrictID));
+        assertEquals(List.of(publicSchool, independentSchool), restUtils.getSchoolsByDistrictID(otherDistrict.getDistrictId()));
+        assertTrue(restUtils.getSchoolsByDistrictID(String.valueOf(UUID.randomUUID())).isEmpty());
+        assertEquals(Set.of(yukonSchool, publicSchool), new HashSet<>(restUtils.getSchoolsBySchoolCategoryCodes(Set.of("PUBLIC", "YUKON"))));
+        verify(restUtils, times(1)).getSchools();
+    }
+
+    @Test
+    void testPopulateInstituteSnapshot_WhenApiCallFails_ShouldHandleException() {
         // Given
         doThrow(new RuntimeException("API call failed")).when(restUtils).getSchools();
 
         // When
-        assertDoesNotThrow(() -> restUtils.populateSchoolMap()); //checks exception is handled
+        assertDoesNotThrow(() -> restUtils.populateInstituteSnapshot()); //checks exception is handled
+
+        // Then Verify that the snapshot is not populated
+        assertSame(InstituteSnapshot.EMPTY, ReflectionTestUtils.getField(restUtils, "instituteSnapshot"));
+    }
+
+    @Test
+    void testPopulateInstituteSnapshot_WhenRefreshFails_ShouldKeepPreviousSnapshot() {
+        // Given
+        val school = SchoolTombstone.builder().schoolId(String.valueOf(UUID.randomUUID())).mincode("97083").displayName("School 1").build();
+        doReturn(List.of(school)).when(restUtils).getSchools();
+        doReturn(List.of()).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
+        restUtils.populateInstituteSnapshot();
+        doThrow(new RuntimeException("API call failed")).when(restUtils).getDistricts();
 
-        // Then Verify that the maps are not populated
-        Map<String, SchoolTombstone> schoolMap = (Map<String, SchoolTombstone>) ReflectionTestUtils.getField(restUtils, "schoolMap");
-        assertEquals(0, schoolMap.size());
+        // When
+        restUtils.populateInstituteSnapshot();
 
-        Map<String, List<UUID>> independentAuthorityToSchoolIDMap = (Map<String, List<UUID>>) ReflectionTestUtils.getField(restUtils, "independentAuthorityToSchoolIDMap");
-        assertEquals(0, independentAuthorityToSchoolIDMap.size());
+        // Then
+        assertEquals(school, restUtils.getSchoolByMincode("97083").get());
+        verify(restUtils, times(2)).getSchools();
     }
 
     @Test
@@ -199,7 +250,8 @@ class RestUtilsTest {
         // Given
         String authorityId = "AUTH_ID";
         List<UUID> schoolIds = Collections.singletonList(UUID.randomUUID());
-        ReflectionTestUtils.setField(restUtils, "independentAuthorityToSchoolIDMap", Collections.singletonMap(authorityId, schoolIds));
+        val school = SchoolTombstone.builder().schoolId(schoolIds.get(0).toString()).independentAuthorityId(authorityId).build();
+        ReflectionTestUtils.setField(restUtils, "instituteSnapshot", InstituteSnapshot.of(List.of(school), List.of(), List.of()));
 
         // Then
         Optional<List<UUID>> result = restUtils.getSchoolIDsByIndependentAuthorityID(authorityId);
@@ -207,26 +259,25 @@ class RestUtilsTest {
         // When
         assertTrue(result.isPresent());
         assertEquals(schoolIds, result.get());
-        verify(restUtils, never()).populateSchoolMap();
+        verify(restUtils, never()).populateInstituteSnapshot();
     }
 
     @Test
     void testGetSchoolIDsByIndependentAuthorityID_WhenAuthorityIDDoesNotExist_ShouldReturnEmptyOptional() {
         // Given
         String authorityId = "AUTH_ID";
-        ReflectionTestUtils.setField(restUtils, "independentAuthorityToSchoolIDMap", Collections.emptyMap());
-        doNothing().when(restUtils).populateSchoolMap();
+        doNothing().when(restUtils).populateInstituteSnapshot();
 
         // When
         Optional<List<UUID>> result = restUtils.getSchoolIDsByIndependentAuthorityID(authorityId);
 
         // Then
         assertFalse(result.isPresent());
-        verify(restUtils).populateSchoolMap();
+        verify(restUtils).populateInstituteSnapshot();
     }
 
     @Test
-    void testPopulateSchoolMincodeMap_WhenApiCallSucceeds_ShouldPopulateMap() {
+    void testPopulateInstituteSnapshot_WhenApiCallSucceeds_ShouldIndexMincodes() {
         // Given
         val school1Mincode = "97083";
         val school2Mincode = "97084";
@@ -249,16 +300,17 @@ class RestUtilsTest {
                 .build();
 
         doReturn(List.of(school1, school2, school3)).when(restUtils).getSchools();
+        doReturn(List.of()).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
 
         // When
-        restUtils.populateSchoolMincodeMap();
+        restUtils.populateInstituteSnapshot();
 
-        // Then verify the maps are populated
-        Map<String, SchoolTombstone> schoolMincodeMap = (Map<String, SchoolTombstone>) ReflectionTestUtils.getField(restUtils, "schoolMincodeMap");
-        assertEquals(3, schoolMincodeMap.size());
-        assertEquals(school1, schoolMincodeMap.get(school1Mincode));
-        assertEquals(school2, schoolMincodeMap.get(school2Mincode));
-        assertEquals(school3, schoolMincodeMap.get(school3Mincode));
+        // Then verify the snapshot is populated
+        assertEquals(school1, restUtils.getSchoolByMincode(school1Mincode).get());
+        assertEquals(school2, restUtils.getSchoolByMincode(school2Mincode).get());
+        assertEquals(school3, restUtils.getSchoolByMincode(school3Mincode).get());
+        verify(restUtils, times(1)).getSchools();
 
     }
 
@@ -286,6 +338,8 @@ class RestUtilsTest {
                 .build();
 
         doReturn(List.of(school1, school2, school3)).when(restUtils).getSchools();
+        doReturn(List.of()).when(restUtils).getDistricts();
+        doReturn(List.of()).when(restUtils).getAuthorities();
 
         // When
         var result = restUtils.getSchoolByMincode(school1Mincode);
@@ -425,7 +479,7 @@ class RestUtilsTest {
     }
 
     @Test
-    void testGet1701DataForStudents_WhenApiCallSucceeds_ShouldReturnStudents() {
+    void testStream1701DataForStudents_WhenApiCallSucceeds_ShouldReturnStudents() {
         // Given
         String collectionID = UUID.randomUUID().toString();
         List<String> assignedStudentIds = Arrays.asList("123456789", "987654321", "555444333");
@@ -457,7 +511,8 @@ class RestUtilsTest {
         when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
 
         // When
-        List<SdcSchoolCollectionStudent> result = restUtils.get1701DataForStudents(collectionID, assignedStudentIds);
+        List<SdcSchoolCollectionStudent> result = new ArrayList<>();
+        restUtils.stream1701DataForStudents(collectionID, assignedStudentIds, result::addAll);
 
         // Then
         assertNotNull(result);
@@ -470,7 +525,7 @@ class RestUtilsTest {
     }
 
     @Test
-    void testGet1701DataForStudents_WithLargeStudentList_ShouldBatchRequests() {
+    void testStream1701DataForStudents_WithLargeStudentList_ShouldBatchRequests() {
         // Given
         String collectionID = UUID.randomUUID().toString();
 
@@ -502,17 +557,18 @@ class RestUtilsTest {
         when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
 
         // When
-        List<SdcSchoolCollectionStudent> result = restUtils.get1701DataForStudents(collectionID, assignedStudentIds);
+        List<List<SdcSchoolCollectionStudent>> batches = new ArrayList<>();
+        restUtils.stream1701DataForStudents(collectionID, assignedStudentIds, batches::add);
 
         // Then
-        assertNotNull(result);
+        assertEquals(2, batches.size());
 
         // Verify that WebClient was called multiple times for batching (2000 students / 1500 batch size = 2 batches)
         verify(webClient, atLeast(2)).get();
     }
 
     @Test
-    void testGet1701DataForStudents_WhenBatchFails_ShouldReturnPartialResults() {
+    void testStream1701DataForStudents_WhenBatchFails_ShouldRetryAndThrow() {
         // Given
         String collectionID = UUID.randomUUID().toString();
         List<String> assignedStudentIds = Arrays.asList("123456789", "987654321");
@@ -525,16 +581,84 @@ class RestUtilsTest {
         when(uriSpec.uri(anyString())).thenReturn(headersSpec);
         when(headersSpec.header(anyString(), anyString())).thenReturn(headersSpec);
         when(headersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenThrow(new RuntimeException("API Error"));
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenThrow(WebClientResponseException.create(503, "Service Unavailable", null, null, null));
 
         when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
 
         // When
-        List<SdcSchoolCollectionStudent> result = restUtils.get1701DataForStudents(collectionID, assignedStudentIds);
+        List<SdcSchoolCollectionStudent> result = new ArrayList<>();
+        assertThrows(StudentAssessmentAPIRuntimeException.class, () -> restUtils.stream1701DataForStudents(collectionID, assignedStudentIds, result::addAll));
 
         // Then
-        assertNotNull(result);
         assertTrue(result.isEmpty());
+        verify(responseSpec, times(2)).bodyToMono(any(ParameterizedTypeReference.class));
+        assertEquals(2, meterRegistry.counter("assessment.sdc.fetch.errors").count());
+    }
+
+    @Test
+    void testStream1701DataForStudents_WhenPageFailsOnce_ShouldRetryPage() {
+        // Given
+        String collectionID = UUID.randomUUID().toString();
+        List<String> assignedStudentIds = List.of("123456789");
+
+        SdcSchoolCollectionStudent student = new SdcSchoolCollectionStudent();
+        student.setSdcSchoolCollectionStudentID(String.valueOf(UUID.randomUUID()));
+        student.setAssignedStudentId("123456789");
+
+        PaginatedResponse<SdcSchoolCollectionStudent> mockResponse = new PaginatedResponse<>(
+                List.of(student),
+                PageRequest.of(0, 1500),
+                1L
+        );
+
+        WebClient.RequestHeadersUriSpec uriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec headersSpec = mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = mock(WebClient.ResponseSpec.class);
+
+        when(webClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(anyString())).thenReturn(headersSpec);
+        when(headersSpec.header(anyString(), anyString())).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenThrow(new WebClientRequestException(new ConnectException("Connection refused"), HttpMethod.GET, URI.create("http://localhost:8080/api/v1/sdc"), new HttpHeaders()))
+                .thenReturn(Mono.just(mockResponse));
+
+        when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
+
+        // When
+        List<SdcSchoolCollectionStudent> result = new ArrayList<>();
+        restUtils.stream1701DataForStudents(collectionID, assignedStudentIds, result::addAll);
+
+        // Then
+        assertEquals(List.of(student), result);
+        assertEquals(1, meterRegistry.counter("assessment.sdc.fetch.errors").count());
+    }
+
+    @Test
+    void testStream1701DataForStudents_WhenPageIsRejected_ShouldNotRetry() {
+        // Given
+        String collectionID = UUID.randomUUID().toString();
+        List<String> assignedStudentIds = List.of("123456789");
+
+        WebClient.RequestHeadersUriSpec uriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec headersSpec = mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec responseSpec = mock(WebClient.ResponseSpec.class);
+
+        when(webClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(anyString())).thenReturn(headersSpec);
+        when(headersSpec.header(anyString(), anyString())).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenThrow(WebClientResponseException.create(400, "Bad Request", null, null, null));
+
+        when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
+
+        // When
+        List<SdcSchoolCollectionStudent> result = new ArrayList<>();
+        assertThrows(StudentAssessmentAPIRuntimeException.class, () -> restUtils.stream1701DataForStudents(collectionID, assignedStudentIds, result::addAll));
+
+        // Then
+        verify(responseSpec, times(1)).bodyToMono(any(ParameterizedTypeReference.class));
+        assertEquals(1, meterRegistry.counter("assessment.sdc.fetch.errors").count());
     }
 
     @Test
@@ -640,7 +764,7 @@ class RestUtilsTest {
     }
 
     @Test
-    void testFetchStudentsForBatch_WhenApiCallFails_ShouldReturnEmptyList() throws Exception {
+    void testFetchStudentsForBatch_WhenApiCallFails_ShouldThrowAfterRetrying() throws Exception {
         // Given
         int pageSize = 100;
         List<Map<String, Object>> searchCriteriaList = Arrays.asList(
@@ -655,17 +779,15 @@ class RestUtilsTest {
         when(uriSpec.uri(anyString())).thenReturn(headersSpec);
         when(headersSpec.header(anyString(), anyString())).thenReturn(headersSpec);
         when(headersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenThrow(new RuntimeException("API Error"));
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenThrow(WebClientResponseException.create(503, "Service Unavailable", null, null, null));
 
         when(props.getSdcApiURL()).thenReturn("http://localhost:8080/api/v1/sdc");
 
         // When
-        List<SdcSchoolCollectionStudent> result = (List<SdcSchoolCollectionStudent>)
-                ReflectionTestUtils.invokeMethod(restUtils, "fetchStudentsForBatch", pageSize, searchCriteriaList);
+        assertThrows(StudentAssessmentAPIRuntimeException.class, () -> ReflectionTestUtils.invokeMethod(restUtils, "fetchStudentsForBatch", pageSize, searchCriteriaList));
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        verify(responseSpec, times(2)).bodyToMono(any(ParameterizedTypeReference.class));
     }
 
     @Test
@@ -923,4 +1045,59 @@ class RestUtilsTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void testGetStudentsByPENs_givenFoundNotFoundAndTimedOut_ShouldMapEachPEN() throws Exception {
+        UUID correlationID = UUID.randomUUID();
+        ObjectMapper mapper = new ObjectMapper();
+        Student student = Student.builder().studentID(UUID.randomUUID().toString()).pen("123456789").statusCode("A").build();
+
+        Message foundMessage = mock(Message.class);
+        when(foundMessage.getData()).thenReturn(mapper.writeValueAsBytes(student));
+        Message notFoundMessage = mock(Message.class);
+        when(notFoundMessage.getData()).thenReturn(mapper.writeValueAsBytes(Event.builder().eventOutcome(EventOutcome.STUDENT_NOT_FOUND).build()));
+
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class)))
+                .thenAnswer(invocation -> {
+                    String request = new String((byte[]) invocation.getArgument(1));
+                    if (request.contains("123456789")) {
+                        return CompletableFuture.completedFuture(foundMessage);
+                    } else if (request.contains("987654321")) {
+                        return CompletableFuture.completedFuture(notFoundMessage);
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        Map<String, Optional<Student>> result = restUtils.getStudentsByPENs(correlationID, Set.of("123456789", "987654321", "555555555"));
+
+        assertEquals(2, result.size());
+        assertEquals(student.getStudentID(), result.get("123456789").orElseThrow().getStudentID());
+        assertTrue(result.get("987654321").isEmpty());
+        assertFalse(result.containsKey("555555555"));
+        verify(messagePublisher, times(3)).requestMessage(anyString(), any(byte[].class));
+    }
+
+    @Test
+    void testGetGradStudentRecordsByStudentIDs_givenFoundAndNotFound_ShouldMapEachStudent() throws Exception {
+        UUID correlationID = UUID.randomUUID();
+        UUID foundStudentID = UUID.randomUUID();
+        UUID notFoundStudentID = UUID.randomUUID();
+        ObjectMapper mapper = new ObjectMapper();
+
+        Message foundMessage = mock(Message.class);
+        when(foundMessage.getData()).thenReturn(mapper.writeValueAsBytes(Map.of("studentID", foundStudentID.toString(), "schoolOfRecordId", UUID.randomUUID().toString())));
+        Message notFoundMessage = mock(Message.class);
+        when(notFoundMessage.getData()).thenReturn(mapper.writeValueAsBytes(Map.of("exception", "not found")));
+
+        when(messagePublisher.requestMessage(anyString(), any(byte[].class)))
+                .thenAnswer(invocation -> new String((byte[]) invocation.getArgument(1)).contains(foundStudentID.toString())
+                        ? CompletableFuture.completedFuture(foundMessage)
+                        : CompletableFuture.completedFuture(notFoundMessage));
+
+        var result = restUtils.getGradStudentRecordsByStudentIDs(correlationID, Set.of(foundStudentID, notFoundStudentID));
+
+        assertEquals(2, result.size());
+        assertEquals(foundStudentID.toString(), result.get(foundStudentID).orElseThrow().getStudentID());
+        assertTrue(result.get(notFoundStudentID).isEmpty());
+    }
 }
@@ -0,0 +1,61 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentFormEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AssessmentFormAnswerKeyCacheTest {
+
+    private AssessmentFormAnswerKeyCache assessmentFormAnswerKeyCache;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = mock(ApplicationProperties.class);
+        when(applicationProperties.getAnswerKeyCacheMaxForms()).thenReturn(2);
+        assessmentFormAnswerKeyCache = new AssessmentFormAnswerKeyCache(applicationProperties);
+    }
+
+    @Test
+    void testGet_givenCachedForm_ShouldReturnSameKey() {
+        var form = createForm();
+
+        assertThat(assessmentFormAnswerKeyCache.get(form)).isSameAs(assessmentFormAnswerKeyCache.get(form));
+    }
+
+    @Test
+    void testGet_givenMoreFormsThanMax_ShouldEvictLeastRecentlyUsed() {
+        var first = createForm();
+        var second = createForm();
+        var firstKey = assessmentFormAnswerKeyCache.get(first);
+        var secondKey = assessmentFormAnswerKeyCache.get(second);
+        assessmentFormAnswerKeyCache.get(first);
+
+        assessmentFormAnswerKeyCache.get(createForm());
+
+        assertThat(assessmentFormAnswerKeyCache.get(first)).isSameAs(firstKey);
+        assertThat(assessmentFormAnswerKeyCache.get(second)).isNotSameAs(secondKey);
+    }
+
+    @Test
+    void testEvict_givenCachedForm_ShouldCompileAgain() {
+        var form = createForm();
+        var answerKey = assessmentFormAnswerKeyCache.get(form);
+
+        assessmentFormAnswerKeyCache.evict(List.of(form.getAssessmentFormID()));
+
+        assertThat(assessmentFormAnswerKeyCache.get(form)).isNotSameAs(answerKey);
+    }
+
+    private AssessmentFormEntity createForm() {
+        return AssessmentFormEntity.builder().assessmentFormID(UUID.randomUUID()).assessmentComponentEntities(new HashSet<>()).build();
+    }
+}
@@ -0,0 +1,55 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.constants.v1.ComponentSubTypeCodes;
+import ca.bc.gov.educ.assessment.api.constants.v1.ComponentTypeCodes;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentChoiceEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentComponentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentFormEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentQuestionEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssessmentFormAnswerKeyTest {
+
+    @Test
+    void testCompile_givenOpenEndedComponentWithChoice_ShouldIndexQuestionsAndChoices() {
+        var component = AssessmentComponentEntity.builder().assessmentComponentID(UUID.randomUUID()).componentTypeCode("OPEN_ENDED").componentSubTypeCode("NONE")
+                .assessmentQuestionEntities(new HashSet<>()).assessmentChoiceEntities(new HashSet<>()).build();
+        var choice = AssessmentChoiceEntity.builder().assessmentChoiceID(UUID.randomUUID()).itemNumber(1).assessmentComponentEntity(component).build();
+        component.getAssessmentChoiceEntities().add(choice);
+        var firstMarker = createQuestion(component, 2, 2, choice, 3);
+        var secondMarker = createQuestion(component, 2, 3, choice, 3);
+        var standalone = createQuestion(component, 4, 5, null, 5);
+
+        var form = AssessmentFormEntity.builder().assessmentFormID(UUID.randomUUID()).assessmentComponentEntities(new HashSet<>()).build();
+        form.getAssessmentComponentEntities().add(component);
+
+        var answerKey = AssessmentFormAnswerKey.compile(form);
+        assertTrue(answerKey.findComponent(ComponentTypeCodes.MUL_CHOICE, ComponentSubTypeCodes.NONE).isEmpty());
+        var componentKey = answerKey.findComponent(ComponentTypeCodes.OPEN_ENDED, ComponentSubTypeCodes.NONE).orElseThrow();
+
+        assertEquals(component.getAssessmentComponentID(), componentKey.getAssessmentComponentID());
+        assertEquals(secondMarker.getAssessmentQuestionID(), componentKey.findQuestion(2, 3).getAssessmentQuestionID());
+        assertTrue(componentKey.findQuestion(2, 3).isPartOfChoice());
+        assertFalse(componentKey.findQuestion(4, 5).isPartOfChoice());
+        assertNull(componentKey.findQuestion(3, 3));
+        assertNull(componentKey.findQuestion(1, 99));
+        assertEquals(2, componentKey.getQuestionsForQuestionNumber(2).size());
+        assertTrue(componentKey.getQuestionsForQuestionNumber(-1).isEmpty());
+        assertEquals(choice.getAssessmentChoiceID(), componentKey.findChoiceID(1));
+        assertNull(componentKey.findChoiceID(2));
+        assertEquals(3, componentKey.findQuestionByID(firstMarker.getAssessmentQuestionID()).getScaleFactor());
+        assertEquals(5, componentKey.findQuestionByID(standalone.getAssessmentQuestionID()).getScaleFactor());
+    }
+
+    private AssessmentQuestionEntity createQuestion(AssessmentComponentEntity component, int questionNumber, int itemNumber, AssessmentChoiceEntity choice, int scaleFactor) {
+        var question = AssessmentQuestionEntity.builder().assessmentQuestionID(UUID.randomUUID()).assessmentComponentEntity(component).assessmentChoiceEntity(choice)
+                .questionNumber(questionNumber).itemNumber(itemNumber).scaleFactor(scaleFactor).build();
+        component.getAssessmentQuestionEntities().add(question);
+        return question;
+    }
+}
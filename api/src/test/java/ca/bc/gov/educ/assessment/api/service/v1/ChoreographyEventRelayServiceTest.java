@@ -0,0 +1,111 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.BaseAssessmentAPITest;
+import ca.bc.gov.educ.assessment.api.constants.EventStatus;
+import ca.bc.gov.educ.assessment.api.constants.EventType;
+import ca.bc.gov.educ.assessment.api.messaging.jetstream.ChoreographyEventRelay;
+import ca.bc.gov.educ.assessment.api.messaging.jetstream.Publisher;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ChoreographyEventRelayServiceTest extends BaseAssessmentAPITest {
+
+    @Autowired
+    private ChoreographyEventRelay choreographyEventRelay;
+    @Autowired
+    private ChoreographyEventRelayService choreographyEventRelayService;
+    @Autowired
+    private AssessmentEventRepository assessmentEventRepository;
+
+    @MockBean
+    private Publisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        this.assessmentEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.assessmentEventRepository.deleteAll();
+    }
+
+    @Test
+    void testSave_givenOutgoingEvent_ShouldBePublishedOnCommit() {
+        when(publisher.publishChoreographyEvents(anyList(), any())).thenAnswer(invocation -> {
+            List<AssessmentEventEntity> events = invocation.getArgument(0);
+            return events.stream().map(AssessmentEventEntity::getEventId).toList();
+        });
+
+        var event = assessmentEventRepository.save(createEvent(EventType.ASSESSMENT_STUDENT_UPDATE.toString()));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(assessmentEventRepository.findById(event.getEventId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.MESSAGE_PUBLISHED.toString()));
+    }
+
+    @Test
+    void testPublishPendingEvents_givenNotAcknowledged_ShouldLeaveEventCommitted() {
+        when(publisher.publishChoreographyEvents(anyList(), any())).thenReturn(List.of());
+
+        var event = assessmentEventRepository.save(createEvent(EventType.ASSESSMENT_STUDENT_UPDATE.toString()));
+
+        assertThat(choreographyEventRelay.publishPendingEvents(LocalDateTime.now().plusSeconds(1))).isZero();
+        // the relay woken by the save may still hold the claim transaction open
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            var unpublished = assessmentEventRepository.findById(event.getEventId()).orElseThrow();
+            assertThat(unpublished.getEventStatus()).isEqualTo(EventStatus.DB_COMMITTED.toString());
+            assertThat(unpublished.getClaimedUntil()).isNotNull();
+        });
+    }
+
+    @Test
+    void testClaimPendingEvents_givenClaimedEvent_ShouldClaimAgainOnlyOnceClaimRunsOut() {
+        when(publisher.publishChoreographyEvents(anyList(), any())).thenReturn(List.of());
+
+        var event = assessmentEventRepository.save(createEvent(EventType.ASSESSMENT_STUDENT_UPDATE.toString()));
+        choreographyEventRelay.publishPendingEvents(LocalDateTime.now().plusSeconds(1));
+
+        assertThat(choreographyEventRelayService.claimPendingEvents(LocalDateTime.now().plusSeconds(1))).extracting(AssessmentEventEntity::getEventId).doesNotContain(event.getEventId());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(choreographyEventRelayService.claimPendingEvents(LocalDateTime.now())).extracting(AssessmentEventEntity::getEventId).contains(event.getEventId()));
+    }
+
+    @Test
+    void testPublishPendingEvents_givenIncomingEvent_ShouldNotPublish() {
+        var event = assessmentEventRepository.save(createEvent(EventType.CREATE_MERGE.toString()));
+
+        assertThat(choreographyEventRelay.publishPendingEvents(LocalDateTime.now().plusSeconds(1))).isZero();
+        verify(publisher, never()).publishChoreographyEvents(anyList(), any());
+        assertThat(assessmentEventRepository.findById(event.getEventId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.DB_COMMITTED.toString());
+    }
+
+    private AssessmentEventEntity createEvent(String eventType) {
+        return AssessmentEventEntity.builder()
+            .eventType(eventType)
+            .eventOutcome("EVENT_OUTCOME")
+            .eventStatus(EventStatus.DB_COMMITTED.toString())
+            .eventPayload("{\"studentID\":\"" + UUID.randomUUID() + "\"}")
+            .createUser(ApplicationProperties.STUDENT_ASSESSMENT_API)
+            .updateUser(ApplicationProperties.STUDENT_ASSESSMENT_API)
+            .createDate(LocalDateTime.now())
+            .updateDate(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.model.v1.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DOARCalculateServiceTest {
+
+    private final DOARCalculateService doarCalculateService = new DOARCalculateService();
+
+    @Test
+    void testCalculateMCTotal_givenNotMarkedAnswer_ShouldScoreItAsZero() {
+        var component = createComponent("MUL_CHOICE", "NONE");
+        var answered = createQuestion(component, 1, 1, "1");
+        var notMarked = createQuestion(component, 2, 2, "1");
+        var student = createStudent(component, createAnswer(answered, "1"), createAnswer(notMarked, "9999"));
+
+        var total = doarCalculateService.calculateMCTotal(List.of(answered, notMarked), DOARStudentAnswers.of(student));
+
+        assertEquals(0, new BigDecimal("50").compareTo(total));
+    }
+
+    @Test
+    void testCalculateOETotal_givenMultiMarkerQuestion_ShouldAverageMarkerScores() {
+        var component = createComponent("OPEN_ENDED", "NONE");
+        var firstMarker = createQuestion(component, 2, 2, "4");
+        var secondMarker = createQuestion(component, 2, 2, "4");
+        var singleMarker = createQuestion(component, 3, 3, "2");
+        var student = createStudent(component, createAnswer(firstMarker, "4"), createAnswer(secondMarker, "2"), createAnswer(singleMarker, "1"));
+
+        var total = doarCalculateService.calculateOETotal(List.of(firstMarker, secondMarker, singleMarker), DOARStudentAnswers.of(student));
+
+        // (average of 4 and 2) + 1 out of 4 + 2
+        assertEquals(0, new BigDecimal("66.66").compareTo(total));
+    }
+
+    private AssessmentComponentEntity createComponent(String componentTypeCode, String componentSubTypeCode) {
+        return AssessmentComponentEntity.builder().assessmentComponentID(UUID.randomUUID()).componentTypeCode(componentTypeCode).componentSubTypeCode(componentSubTypeCode)
+                .assessmentQuestionEntities(new HashSet<>()).build();
+    }
+
+    private AssessmentQuestionEntity createQuestion(AssessmentComponentEntity component, int masterQuestionNumber, int questionNumber, String questionValue) {
+        var question = AssessmentQuestionEntity.builder().assessmentQuestionID(UUID.randomUUID()).assessmentComponentEntity(component)
+                .masterQuestionNumber(masterQuestionNumber).questionNumber(questionNumber).questionValue(new BigDecimal(questionValue)).scaleFactor(100).build();
+        component.getAssessmentQuestionEntities().add(question);
+        return question;
+    }
+
+    private AssessmentStudentAnswerEntity createAnswer(AssessmentQuestionEntity question, String score) {
+        return AssessmentStudentAnswerEntity.builder().assessmentStudentAnswerID(UUID.randomUUID()).assessmentQuestionID(question.getAssessmentQuestionID()).score(new BigDecimal(score)).build();
+    }
+
+    private AssessmentStudentEntity createStudent(AssessmentComponentEntity component, AssessmentStudentAnswerEntity... answers) {
+        var studentComponent = AssessmentStudentComponentEntity.builder().assessmentComponentID(component.getAssessmentComponentID()).assessmentStudentAnswerEntities(new HashSet<>(List.of(answers))).build();
+        var student = AssessmentStudentEntity.builder().assessmentStudentID(UUID.randomUUID()).assessmentStudentComponentEntities(new HashSet<>()).build();
+        student.getAssessmentStudentComponentEntities().add(studentComponent);
+        return student;
+    }
+}
@@ -0,0 +1,199 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.BaseAssessmentAPITest;
+import ca.bc.gov.educ.assessment.api.constants.v1.DOARRecalculationStatusCodes;
+import ca.bc.gov.educ.assessment.api.model.v1.*;
+import ca.bc.gov.educ.assessment.api.repository.v1.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DOARRecalculationServiceTest extends BaseAssessmentAPITest {
+
+    @Autowired
+    private DOARRecalculationService doarRecalculationService;
+    @Autowired
+    private DOARRecalculationAsyncService doarRecalculationAsyncService;
+    @Autowired
+    private AssessmentSessionRepository assessmentSessionRepository;
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+    @Autowired
+    private AssessmentFormRepository assessmentFormRepository;
+    @Autowired
+    private AssessmentComponentRepository assessmentComponentRepository;
+    @Autowired
+    private AssessmentQuestionRepository assessmentQuestionRepository;
+    @Autowired
+    private AssessmentStudentRepository studentRepository;
+    @Autowired
+    private AssessmentStudentDOARCalculationRepository assessmentStudentDOARCalculationRepository;
+    @Autowired
+    private AssessmentDOARRecalculationRepository assessmentDOARRecalculationRepository;
+
+    @BeforeEach
+    void setUp() {
+        assessmentDOARRecalculationRepository.deleteAll();
+        assessmentStudentDOARCalculationRepository.deleteAll();
+        studentRepository.deleteAll();
+        assessmentQuestionRepository.deleteAll();
+        assessmentFormRepository.deleteAll();
+        assessmentRepository.deleteAll();
+        assessmentSessionRepository.deleteAll();
+    }
+
+    @Test
+    void testRecalculate_givenSessionWithStudents_ShouldUpsertEveryStudentAndCompleteJob() {
+        var session = setData(3);
+        var students = studentRepository.findAll();
+        var existing = assessmentStudentDOARCalculationRepository.save(AssessmentStudentDOARCalculationEntity.builder()
+                .assessmentStudentID(students.get(0).getAssessmentStudentID())
+                .assessmentID(students.get(0).getAssessmentEntity().getAssessmentID())
+                .createUser("TEST").updateUser("TEST").createDate(LocalDateTime.now()).updateDate(LocalDateTime.now())
+                .build());
+
+        var jobs = doarRecalculationService.createOrResumeJobs(session.getSessionID());
+        doarRecalculationAsyncService.recalculate(jobs.stream().map(AssessmentDOARRecalculationEntity::getAssessmentDOARRecalculationID).toList());
+
+        var job = assessmentDOARRecalculationRepository.findById(jobs.get(0).getAssessmentDOARRecalculationID()).orElseThrow();
+        assertThat(job.getStatusCode()).isEqualTo(DOARRecalculationStatusCodes.COMPLETED.getCode());
+        assertThat(job.getTotalStudents()).isEqualTo(3);
+        assertThat(job.getProcessedStudents()).isEqualTo(3);
+
+        var calculations = assessmentStudentDOARCalculationRepository.findAll();
+        assertThat(calculations).hasSize(3);
+        var updated = assessmentStudentDOARCalculationRepository.findById(existing.getAssessmentStudentDOARCalculationID()).orElseThrow();
+        assertThat(updated.getCreateUser()).isEqualTo("TEST");
+        assertThat(updated.getTaskPlan()).isNotNull();
+    }
+
+    @Test
+    void testCreateOrResumeJobs_givenFailedJob_ShouldResumeAfterLastSavedChunk() {
+        var session = setData(3);
+        var jobID = doarRecalculationService.createOrResumeJobs(session.getSessionID()).get(0).getAssessmentDOARRecalculationID();
+
+        assertThat(doarRecalculationService.recalculateNextChunk(jobID)).isTrue();
+        doarRecalculationService.markFailed(jobID);
+        assertThat(doarRecalculationService.recalculateNextChunk(jobID)).isFalse();
+
+        var resumed = doarRecalculationService.createOrResumeJobs(session.getSessionID());
+        assertThat(resumed).hasSize(1);
+        assertThat(resumed.get(0).getAssessmentDOARRecalculationID()).isEqualTo(jobID);
+        assertThat(resumed.get(0).getProcessedStudents()).isEqualTo(2);
+        assertThat(resumed.get(0).getLastAssessmentStudentID()).isNotNull();
+
+        doarRecalculationAsyncService.recalculate(List.of(jobID));
+
+        var job = assessmentDOARRecalculationRepository.findById(jobID).orElseThrow();
+        assertThat(job.getStatusCode()).isEqualTo(DOARRecalculationStatusCodes.COMPLETED.getCode());
+        assertThat(job.getProcessedStudents()).isEqualTo(3);
+        assertThat(assessmentStudentDOARCalculationRepository.findAll()).hasSize(3);
+        assertThat(doarRecalculationService.getJobs(session.getSessionID())).hasSize(1);
+    }
+
+    @Test
+    void testRecalculate_givenStudentWithRemovedForm_ShouldCountStudentAsSkipped() {
+        var session = setData(3);
+        var otherSession = createMockSessionEntity();
+        otherSession.setCourseYear("2030");
+        var otherAssessment = assessmentRepository.save(createMockAssessmentEntity(assessmentSessionRepository.save(otherSession), "NME10"));
+        var otherForm = assessmentFormRepository.save(createMockAssessmentFormEntity(otherAssessment, "B"));
+        var student = studentRepository.findAll().get(0);
+        student.setAssessmentFormID(otherForm.getAssessmentFormID());
+        studentRepository.save(student);
+
+        var jobs = doarRecalculationService.createOrResumeJobs(session.getSessionID());
+        doarRecalculationAsyncService.recalculate(jobs.stream().map(AssessmentDOARRecalculationEntity::getAssessmentDOARRecalculationID).toList());
+
+        var job = assessmentDOARRecalculationRepository.findById(jobs.get(0).getAssessmentDOARRecalculationID()).orElseThrow();
+        assertThat(job.getStatusCode()).isEqualTo(DOARRecalculationStatusCodes.COMPLETED.getCode());
+        assertThat(job.getTotalStudents()).isEqualTo(3);
+        assertThat(job.getProcessedStudents()).isEqualTo(2);
+        assertThat(job.getSkippedStudents()).isEqualTo(1);
+        assertThat(assessmentStudentDOARCalculationRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    void testCreateOrResumeJobs_givenLegacyAssessmentInSession_ShouldOnlyCreateJobsForDOARAssessments() {
+        var session = setData(2);
+        var legacyAssessment = assessmentRepository.save(createMockAssessmentEntity(session, "NME"));
+        var legacyForm = assessmentFormRepository.save(createMockAssessmentFormEntity(legacyAssessment, "A"));
+        var legacyStudent = createMockStudentEntity(legacyAssessment);
+        legacyStudent.setAssessmentFormID(legacyForm.getAssessmentFormID());
+        studentRepository.save(legacyStudent);
+
+        var jobs = doarRecalculationService.createOrResumeJobs(session.getSessionID());
+        doarRecalculationAsyncService.recalculate(jobs.stream().map(AssessmentDOARRecalculationEntity::getAssessmentDOARRecalculationID).toList());
+
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getAssessmentID()).isNotEqualTo(legacyAssessment.getAssessmentID());
+        var job = assessmentDOARRecalculationRepository.findById(jobs.get(0).getAssessmentDOARRecalculationID()).orElseThrow();
+        assertThat(job.getStatusCode()).isEqualTo(DOARRecalculationStatusCodes.COMPLETED.getCode());
+        assertThat(job.getProcessedStudents()).isEqualTo(2);
+        assertThat(assessmentStudentDOARCalculationRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    void testCreateOrResumeJobs_givenConcurrentRequests_ShouldCreateOneJobPerAssessment() throws Exception {
+        var session = setData(3);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var start = new CountDownLatch(1);
+            Callable<List<AssessmentDOARRecalculationEntity>> request = () -> {
+                start.await();
+                return doarRecalculationService.createOrResumeJobs(session.getSessionID());
+            };
+            var first = executor.submit(request);
+            var second = executor.submit(request);
+            start.countDown();
+
+            assertThat(first.get(30, TimeUnit.SECONDS).get(0).getAssessmentDOARRecalculationID()).isEqualTo(second.get(30, TimeUnit.SECONDS).get(0).getAssessmentDOARRecalculationID());
+            assertThat(assessmentDOARRecalculationRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AssessmentSessionEntity setData(int numberOfStudents) {
+        var savedSession = assessmentSessionRepository.save(createMockSessionEntity());
+        var savedAssessmentEntity = assessmentRepository.save(createMockAssessmentEntity(savedSession, "NME10"));
+        var savedForm = assessmentFormRepository.save(createMockAssessmentFormEntity(savedAssessmentEntity, "A"));
+
+        var savedMultiComp = assessmentComponentRepository.save(createMockAssessmentComponentEntity(savedForm, "MUL_CHOICE", "NONE"));
+        for (int i = 1; i < 5; i++) {
+            var question = createMockAssessmentQuestionEntity(savedMultiComp, i, i);
+            question.setTaskCode("P");
+            assessmentQuestionRepository.save(question);
+        }
+        var savedOpenEndedComp = assessmentComponentRepository.save(createMockAssessmentComponentEntity(savedForm, "OPEN_ENDED", "NONE"));
+        var openEnded = createMockAssessmentQuestionEntity(savedOpenEndedComp, 5, 5);
+        openEnded.setTaskCode("P");
+        openEnded.setMasterQuestionNumber(5);
+        var savedOpenEnded = assessmentQuestionRepository.save(openEnded);
+
+        var multiQues = assessmentQuestionRepository.findByAssessmentComponentEntity_AssessmentComponentID(savedMultiComp.getAssessmentComponentID());
+        for (int s = 0; s < numberOfStudents; s++) {
+            var student = createMockStudentEntity(savedAssessmentEntity);
+            var multiComp = createMockAssessmentStudentComponentEntity(student, savedMultiComp.getAssessmentComponentID());
+            for (var question : multiQues) {
+                multiComp.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(question.getAssessmentQuestionID(), BigDecimal.ONE, multiComp));
+            }
+            var openEndedComp = createMockAssessmentStudentComponentEntity(student, savedOpenEndedComp.getAssessmentComponentID());
+            openEndedComp.getAssessmentStudentAnswerEntities().add(createMockAssessmentStudentAnswerEntity(savedOpenEnded.getAssessmentQuestionID(), BigDecimal.ONE, openEndedComp));
+            student.getAssessmentStudentComponentEntities().addAll(List.of(multiComp, openEndedComp));
+            student.setAssessmentFormID(savedForm.getAssessmentFormID());
+            studentRepository.save(student);
+        }
+        return savedSession;
+    }
+}
@@ -7,7 +7,9 @@ import ca.bc.gov.educ.assessment.api.constants.EventType;
 import ca.bc.gov.educ.assessment.api.constants.TopicsEnum;
 import ca.bc.gov.educ.assessment.api.constants.v1.AssessmentTypeCodes;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentHistoryRepository;
@@ -39,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.List;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentListItem;
+import ca.bc.gov.educ.assessment.api.struct.v1.AssessmentStudentRegistrationResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -61,6 +64,9 @@ class EventHandlerServiceTest extends BaseAssessmentAPITest {
   @Autowired
   AssessmentStudentHistoryRepository assessmentStudentHistoryRepository;
 
+  @Autowired
+  AssessmentEventRepository assessmentEventRepository;
+
   @Autowired
   EventHandlerService eventHandlerServiceUnderTest;
   private final boolean isSynchronous = false;
@@ -210,6 +216,63 @@ class EventHandlerServiceTest extends BaseAssessmentAPITest {
     assertThat(Integer.parseInt(studentResponseEvent.getNumberOfAttempts())).isEqualTo(2);
   }
 
+  @Test
+  void testHandleEvent_givenEventTypePROCESS_STUDENT_REGISTRATION_BATCH_shouldReturnOutcomePerStudent() throws IOException {
+    AssessmentSessionEntity session = assessmentSessionRepository.save(createMockSessionEntity());
+    AssessmentEntity assessmentNME10 = assessmentRepository.save(createMockAssessmentEntity(session, AssessmentTypeCodes.NME10.getCode()));
+    AssessmentEntity assessmentNMF10 = assessmentRepository.save(createMockAssessmentEntity(session, AssessmentTypeCodes.NMF10.getCode()));
+    AssessmentEntity assessmentLTF12 = assessmentRepository.save(createMockAssessmentEntity(session, AssessmentTypeCodes.LTF12.getCode()));
+
+    AssessmentStudent existing = createMockStudent();
+    existing.setAssessmentID(assessmentLTF12.getAssessmentID().toString());
+    eventHandlerServiceUnderTest.handleProcessStudentRegistrationEvent(Event.builder().eventType(EventType.PROCESS_STUDENT_REGISTRATION).eventPayload(JsonUtil.getJsonStringFromObject(existing)).build());
+    AssessmentStudent withdrawn = createMockStudent();
+    withdrawn.setAssessmentID(assessmentLTF12.getAssessmentID().toString());
+    eventHandlerServiceUnderTest.handleProcessStudentRegistrationEvent(Event.builder().eventType(EventType.PROCESS_STUDENT_REGISTRATION).eventPayload(JsonUtil.getJsonStringFromObject(withdrawn)).build());
+
+    AssessmentStudent numeracyNME10 = createMockStudent();
+    numeracyNME10.setAssessmentID(assessmentNME10.getAssessmentID().toString());
+    numeracyNME10.setProficiencyScore("1");
+    AssessmentStudent numeracyNMF10 = createMockStudent();
+    numeracyNMF10.setAssessmentID(assessmentNMF10.getAssessmentID().toString());
+    numeracyNMF10.setStudentID(numeracyNME10.getStudentID());
+    AssessmentStudent update = createMockStudent();
+    update.setAssessmentID(existing.getAssessmentID());
+    update.setStudentID(existing.getStudentID());
+    update.setLocalID("NEW_LOCAL_ID");
+    AssessmentStudent withdrawal = createMockStudent();
+    withdrawal.setAssessmentID(withdrawn.getAssessmentID());
+    withdrawal.setStudentID(withdrawn.getStudentID());
+    withdrawal.setCourseStatusCode("W");
+    AssessmentStudent withdrawalWithoutRegistration = createMockStudent();
+    withdrawalWithoutRegistration.setAssessmentID(assessmentLTF12.getAssessmentID().toString());
+    withdrawalWithoutRegistration.setCourseStatusCode("W");
+    AssessmentStudent invalid = createMockStudent();
+    invalid.setAssessmentID("not-a-uuid");
+
+    var registrations = List.of(numeracyNME10, numeracyNMF10, update, withdrawal, withdrawalWithoutRegistration, invalid);
+    final Event event = Event.builder().eventType(EventType.PROCESS_STUDENT_REGISTRATION_BATCH).sagaId(UUID.randomUUID()).replyTo(ASSESSMENT_API_TOPIC).eventPayload(JsonUtil.getJsonStringFromObject(registrations)).build();
+    var response = eventHandlerServiceUnderTest.handleProcessStudentRegistrationBatchEvent(event);
+
+    Event responseEvent = JsonUtil.getJsonObjectFromByteArray(Event.class, response);
+    assertThat(responseEvent.getEventOutcome()).isEqualTo(EventOutcome.STUDENT_REGISTRATION_BATCH_PROCESSED_IN_ASSESSMENT_API);
+    List<AssessmentStudentRegistrationResult> results = new ObjectMapper().readValue(responseEvent.getEventPayload(), new TypeReference<>() {
+    });
+    assertThat(results).extracting(AssessmentStudentRegistrationResult::getOutcome).containsExactly("CREATED", "CREATED", "UPDATED", "DELETED", "IGNORED", "FAILED");
+    assertThat(results.get(5).getMessage()).isNotBlank();
+    var eventPayloads = assessmentEventRepository.findAll().stream().map(AssessmentEventEntity::getEventPayload).toList();
+    assertThat(eventPayloads).containsOnlyOnce(JsonUtil.getJsonStringFromObject(numeracyNME10.getStudentID()));
+    assertThat(eventPayloads).filteredOn(JsonUtil.getJsonStringFromObject(existing.getStudentID())::equals).hasSize(2);
+    assertThat(eventPayloads).filteredOn(JsonUtil.getJsonStringFromObject(withdrawn.getStudentID())::equals).hasSize(2);
+    assertThat(eventPayloads).doesNotContain(JsonUtil.getJsonStringFromObject(withdrawalWithoutRegistration.getStudentID()));
+
+    var createdNMF10 = assessmentStudentRepository.findByAssessmentEntity_AssessmentIDAndStudentID(assessmentNMF10.getAssessmentID(), UUID.fromString(numeracyNMF10.getStudentID())).orElseThrow();
+    assertThat(createdNMF10.getNumberOfAttempts()).isEqualTo(1);
+    assertThat(assessmentStudentHistoryRepository.findAllByAssessmentIDAndAssessmentStudentID(assessmentNMF10.getAssessmentID(), createdNMF10.getAssessmentStudentID())).hasSize(1);
+    assertThat(assessmentStudentRepository.findByAssessmentEntity_AssessmentIDAndStudentID(assessmentLTF12.getAssessmentID(), UUID.fromString(existing.getStudentID())).orElseThrow().getLocalID()).isEqualTo("NEW_LOCAL_ID");
+    assertThat(assessmentStudentRepository.findByAssessmentEntity_AssessmentIDAndStudentID(assessmentLTF12.getAssessmentID(), UUID.fromString(withdrawn.getStudentID()))).isEmpty();
+  }
+
   @Nested
   @DisplayName("GET_ASSESSMENT_STUDENTS Event Tests")
   class GetAssessmentStudentsEventTests {
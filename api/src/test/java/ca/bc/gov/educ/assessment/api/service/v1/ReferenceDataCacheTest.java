@@ -0,0 +1,80 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache referenceDataCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = mock(ApplicationProperties.class);
+        when(applicationProperties.getReferenceCacheTtlSeconds()).thenReturn(300L);
+        meterRegistry = new SimpleMeterRegistry();
+        referenceDataCache = new ReferenceDataCache(applicationProperties, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_givenCachedValue_ShouldNotLoadAgain() {
+        assertThat(referenceDataCache.get(ReferenceDataCache.TASK_CODES, this::load)).isEqualTo(List.of("1"));
+        assertThat(referenceDataCache.get(ReferenceDataCache.TASK_CODES, this::load)).isEqualTo(List.of("1"));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("assessment.reference.cache.hits").tag("cache", ReferenceDataCache.TASK_CODES).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("assessment.reference.cache.misses").tag("cache", ReferenceDataCache.TASK_CODES).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_givenInvalidated_ShouldLoadAgain() {
+        referenceDataCache.get(ReferenceDataCache.ASSESSMENT_SESSIONS, this::load);
+        referenceDataCache.invalidate(ReferenceDataCache.ASSESSMENT_SESSIONS);
+
+        assertThat(referenceDataCache.get(ReferenceDataCache.ASSESSMENT_SESSIONS, this::load)).isEqualTo(List.of("2"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGet_givenInvalidatedWhileLoading_ShouldNotKeepValue() {
+        referenceDataCache.get(ReferenceDataCache.ASSESSMENT_SESSIONS, () -> {
+            referenceDataCache.invalidate(ReferenceDataCache.ASSESSMENT_SESSIONS);
+            return load();
+        });
+
+        assertThat(referenceDataCache.get(ReferenceDataCache.ASSESSMENT_SESSIONS, this::load)).isEqualTo(List.of("2"));
+    }
+
+    @Test
+    void testGet_givenValidUntilPassed_ShouldLoadAgain() {
+        referenceDataCache.get(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, this::load, value -> LocalDateTime.now().minusSeconds(1));
+
+        assertThat(referenceDataCache.get(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, this::load)).isEqualTo(List.of("2"));
+    }
+
+    @Test
+    void testGetJson_givenCachedValue_ShouldReturnSameBytes() {
+        var first = referenceDataCache.getJson(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, this::load, value -> value, value -> null);
+        var second = referenceDataCache.getJson(ReferenceDataCache.OPEN_ASSESSMENT_SESSIONS, this::load, value -> value, value -> null);
+
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("[\"1\"]");
+        assertThat(second).isSameAs(first);
+    }
+
+    private List<String> load() {
+        return List.of(String.valueOf(loads.incrementAndGet()));
+    }
+}
@@ -0,0 +1,92 @@
+package ca.bc.gov.educ.assessment.api.service.v1;
+
+import ca.bc.gov.educ.assessment.api.exception.ServiceUnavailableException;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchQueryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchQueryExecutor searchQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = mock(ApplicationProperties.class);
+        when(applicationProperties.getSearchQueryParallelism()).thenReturn(1);
+        when(applicationProperties.getSearchQueryQueueSize()).thenReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        searchQueryExecutor = new SearchQueryExecutor(applicationProperties, mock(DataSource.class), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchQueryExecutor.close();
+    }
+
+    @Test
+    void testSupplyAsync_givenQueueFull_ShouldRejectWithServiceUnavailable() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        var first = searchQueryExecutor.supplyAsync(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        var queued = searchQueryExecutor.supplyAsync(() -> "queued");
+
+        assertThatThrownBy(() -> searchQueryExecutor.supplyAsync(() -> "rejected")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("assessment.search.query.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("assessment.search.query.queue.size").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(meterRegistry.get("assessment.search.query.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testSupplyAsync_givenQueuedQueryCancelled_ShouldNotRunIt() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        var first = searchQueryExecutor.supplyAsync(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        var ran = new AtomicBoolean();
+        var queued = searchQueryExecutor.supplyAsync(() -> {
+            ran.set(true);
+            return "queued";
+        });
+
+        queued.cancel(true);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        var next = searchQueryExecutor.supplyAsync(() -> "next");
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+        assertThat(ran).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
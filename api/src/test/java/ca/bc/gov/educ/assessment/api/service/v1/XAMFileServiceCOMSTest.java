@@ -17,7 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -52,6 +51,7 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
 
         when(applicationProperties.getS3BucketName()).thenReturn("test-bucket");
         when(applicationProperties.getComsEndpointUrl()).thenReturn("https://test-endpoint.com");
+        when(applicationProperties.getXamGenerationParallelism()).thenReturn(2);
 
         xamFileService = spy(new XAMFileService(studentRepository, sessionRepository, restUtils, comsRestUtils, applicationProperties, stagedStudentRepository));
     }
@@ -160,16 +160,16 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
         );
         when(restUtils.getAllSchoolTombstones()).thenReturn(schools);
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any())).thenReturn(List.of(UUID.fromString(schoolID)));
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), anyString());
+        doNothing().when(xamFileService).uploadToComs(any(Path.class), anyString());
 
         assertDoesNotThrow(() -> xamFileService.generateAndUploadXamFiles(sessionEntity));
 
         // Verify a single zip upload
-        verify(xamFileService, times(1)).uploadToComs(any(byte[].class), anyString());
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), anyString());
 
         // Verify the correct keys were used
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(xamFileService, times(1)).uploadToComs(any(byte[].class), keyCaptor.capture());
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), keyCaptor.capture());
 
         assertEquals("xam-files-202309/xam-files-202309.zip", keyCaptor.getValue());
     }
@@ -186,7 +186,7 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
         when(stagedStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(eq(sessionEntity.getSessionID()), any(), eq(List.of("ACTIVE"))))
                 .thenReturn(List.of());
 
-        doThrow(new StudentAssessmentAPIRuntimeException("COMS upload failed")).when(xamFileService).uploadToComs(any(byte[].class), anyString());
+        doThrow(new StudentAssessmentAPIRuntimeException("COMS upload failed")).when(xamFileService).uploadToComs(any(Path.class), anyString());
 
         // The method should throw
         StudentAssessmentAPIRuntimeException exception = assertThrows(StudentAssessmentAPIRuntimeException.class,
@@ -194,7 +194,7 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
 
         assertTrue(exception.getMessage().contains("COMS upload failed"));
 
-        verify(xamFileService).uploadToComs(any(byte[].class), eq("xam-files-202309/xam-files-202309.zip"));
+        verify(xamFileService).uploadToComs(any(Path.class), eq("xam-files-202309/xam-files-202309.zip"));
     }
 
     @Test
@@ -215,16 +215,15 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
         when(stagedStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(eq(sessionEntity.getSessionID()), any(), eq(List.of("ACTIVE"))))
             .thenReturn(List.of());
 
-        ArgumentCaptor<byte[]> zipCaptor = ArgumentCaptor.forClass(byte[].class);
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), anyString());
+        Set<String> entryNames = new HashSet<>();
+        doAnswer(invocation -> entryNames.addAll(getZipEntryNames(invocation.getArgument(0)))).when(xamFileService).uploadToComs(any(Path.class), anyString());
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any())).thenReturn(List.of(UUID.fromString(schoolID)));
         xamFileService.generateAndUploadXamFiles(sessionEntity);
 
         // Verify a single zip upload
-        verify(xamFileService, times(1)).uploadToComs(zipCaptor.capture(), anyString());
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), anyString());
 
         // Verify zip only contains the MYED school
-        Set<String> entryNames = getZipEntryNames(zipCaptor.getValue());
         assertTrue(entryNames.contains("12345678-202309-Results.xam"));
         assertFalse(entryNames.stream().anyMatch(name -> name.contains("87654321")));
         assertFalse(entryNames.stream().anyMatch(name -> name.contains("11223344")));
@@ -239,12 +238,12 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
         when(stagedStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(eq(sessionEntity.getSessionID()), any(), eq(List.of("ACTIVE"))))
             .thenReturn(List.of());
         when(restUtils.getAllSchoolTombstones()).thenReturn(List.of(school));
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), anyString());
+        doNothing().when(xamFileService).uploadToComs(any(Path.class), anyString());
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any())).thenReturn(List.of(UUID.fromString(schoolID)));
         xamFileService.generateAndUploadXamFiles(sessionEntity);
 
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(xamFileService).uploadToComs(any(byte[].class), keyCaptor.capture());
+        verify(xamFileService).uploadToComs(any(Path.class), keyCaptor.capture());
 
         String expectedKey = "xam-files-202309/xam-files-202309.zip";
         assertEquals(expectedKey, keyCaptor.getValue());
@@ -269,9 +268,9 @@ class XAMFileServiceCOMSTest extends BaseAssessmentAPITest {
         return session;
     }
 
-    private Set<String> getZipEntryNames(byte[] zipBytes) throws IOException {
+    private Set<String> getZipEntryNames(Path zipFile) throws IOException {
         Set<String> names = new HashSet<>();
-        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+        try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(zipFile))) {
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
                 names.add(entry.getName());
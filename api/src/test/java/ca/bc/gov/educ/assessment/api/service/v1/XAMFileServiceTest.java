@@ -20,8 +20,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.zip.ZipEntry;
@@ -53,6 +54,7 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
 
         when(applicationProperties.getS3BucketName()).thenReturn("test-bucket");
         when(applicationProperties.getComsEndpointUrl()).thenReturn("https://test-endpoint.com");
+        when(applicationProperties.getXamGenerationParallelism()).thenReturn(2);
 
         ObjectMetadata uploadResponse = ObjectMetadata.builder()
                 .id("test-object-id")
@@ -109,6 +111,38 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
         assertTrue(content.contains("Doe"));
     }
 
+    @Test
+    void testGenerateXamContent_givenLongAndMissingValues_ShouldWriteFixedWidthRow() {
+        AssessmentSessionEntity sessionEntity = mock(AssessmentSessionEntity.class);
+        when(sessionEntity.getSessionID()).thenReturn(UUID.randomUUID());
+        when(sessionEntity.getCourseYear()).thenReturn("2023");
+        when(sessionEntity.getCourseMonth()).thenReturn("09");
+
+        AssessmentEntity assessment = mock(AssessmentEntity.class);
+        when(assessment.getAssessmentTypeCode()).thenReturn("LTE10");
+        when(assessment.getAssessmentSessionEntity()).thenReturn(sessionEntity);
+
+        StagedAssessmentStudentEntity student = mock(StagedAssessmentStudentEntity.class);
+        when(student.getLocalID()).thenReturn("LOCALID-TOO-LONG");
+        when(student.getPen()).thenReturn("123456789");
+        when(student.getProficiencyScore()).thenReturn(3);
+        when(student.getSurname()).thenReturn("Doe");
+        when(student.getAssessmentEntity()).thenReturn(assessment);
+        when(stagedStudentRepository.findByAssessmentEntity_AssessmentSessionEntity_SessionIDAndSchoolAtWriteSchoolIDAndStagedAssessmentStudentStatusIn(eq(sessionEntity.getSessionID()), any(), eq(List.of("ACTIVE", "MERGED"))))
+                .thenReturn(List.of(student, student));
+
+        SchoolTombstone school = new SchoolTombstone();
+        school.setSchoolId(UUID.randomUUID().toString());
+        school.setMincode("12345678");
+        school.setVendorSourceSystemCode("MYED");
+
+        String expectedRow = String.format("%-3s%-1s%-1s%-5s%-8s%-12s%-10s%-5s%-3s%-4s%-2s%-2s%-3s%-3s%-3s%s%-2s%-1s%-1s%-20s%-1s%-25s%-2s%-1s%-1s%-8s\n",
+                "E07", "M", "", "", "12345678", "LOCALID-TOO-", "123456789", "LTE10", "", "2023", "09", "", "", "", "", "003", "", "Y", "", "", "A", "Doe", "", "", "", "");
+
+        String content = xamFileService.generateXamContent(sessionEntity, school, true);
+        assertEquals(expectedRow + expectedRow, content);
+    }
+
     @Test
     void testGenerateXamReport_success() {
         UUID sessionId = UUID.randomUUID();
@@ -238,11 +272,11 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
         when(restUtils.getAllSchoolTombstones()).thenReturn(List.of(myEdSchool));
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any())).thenReturn(List.of(UUID.fromString(schoolID)));
 
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), any());
+        doNothing().when(xamFileService).uploadToComs(any(Path.class), any());
         xamFileService.generateAndUploadXamFiles(sessionEntity);
 
         // Verify a single zip is uploaded
-        verify(xamFileService, times(1)).uploadToComs(any(byte[].class), eq("xam-files-202309/xam-files-202309.zip"));
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), eq("xam-files-202309/xam-files-202309.zip"));
     }
 
     @Test
@@ -264,11 +298,11 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
         when(restUtils.getAllSchoolTombstones()).thenReturn(List.of(myEdSchool));
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any())).thenReturn(List.of(UUID.fromString(schoolID)));
 
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), any());
+        doNothing().when(xamFileService).uploadToComs(any(Path.class), any());
         xamFileService.generateAndUploadXamFiles(sessionEntity);
 
         // Verify single zip uploaded to xam-files-202510/
-        verify(xamFileService, times(1)).uploadToComs(any(byte[].class), eq("xam-files-202510/xam-files-202510.zip"));
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), eq("xam-files-202510/xam-files-202510.zip"));
     }
 
     @Test
@@ -300,15 +334,14 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
         when(stagedStudentRepository.getSchoolIDsOfSchoolsWithStudentsInSession(any()))
                 .thenReturn(schoolsWithStudents);
 
-        org.mockito.ArgumentCaptor<byte[]> zipCaptor = org.mockito.ArgumentCaptor.forClass(byte[].class);
-        doNothing().when(xamFileService).uploadToComs(any(byte[].class), any());
+        Set<String> entryNames = new HashSet<>();
+        doAnswer(invocation -> entryNames.addAll(getZipEntryNames(invocation.getArgument(0)))).when(xamFileService).uploadToComs(any(Path.class), any());
         xamFileService.generateAndUploadXamFiles(sessionEntity);
 
         // Verify a single zip is uploaded
-        verify(xamFileService, times(1)).uploadToComs(zipCaptor.capture(), eq("xam-files-202403/xam-files-202403.zip"));
+        verify(xamFileService, times(1)).uploadToComs(any(Path.class), eq("xam-files-202403/xam-files-202403.zip"));
 
         // Verify zip contents contain both MYED schools but not the non-MYED school
-        Set<String> entryNames = getZipEntryNames(zipCaptor.getValue());
         assertTrue(entryNames.contains("11111111-202403-Results.xam"));
         assertTrue(entryNames.contains("22222222-202403-Results.xam"));
         assertFalse(entryNames.stream().anyMatch(name -> name.contains("33333333")));
@@ -328,9 +361,9 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
         verify(comsRestUtils).makeObjectPublic(eq("test-object-id"));
     }
 
-    private Set<String> getZipEntryNames(byte[] zipBytes) throws IOException {
+    private Set<String> getZipEntryNames(Path zipFile) throws IOException {
         Set<String> names = new HashSet<>();
-        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(zipBytes))) {
+        try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(zipFile))) {
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
                 names.add(entry.getName());
@@ -377,6 +410,6 @@ class XAMFileServiceTest extends BaseAssessmentAPITest {
 
         assertDoesNotThrow(() -> xamFileService.generateAndUploadXamFiles(sessionId));
         // No MYED schools with students → no zip is uploaded
-        verify(xamFileService, never()).uploadToComs(any(), any());
+        verify(xamFileService, never()).uploadToComs(any(Path.class), any());
     }
 }
@@ -1,17 +1,24 @@
 package ca.bc.gov.educ.assessment.api.service.v1.events;
 
 import ca.bc.gov.educ.assessment.api.BaseAssessmentAPITest;
+import ca.bc.gov.educ.assessment.api.constants.EventOutcome;
+import ca.bc.gov.educ.assessment.api.constants.EventStatus;
 import ca.bc.gov.educ.assessment.api.constants.EventType;
 import ca.bc.gov.educ.assessment.api.constants.TopicsEnum;
 import ca.bc.gov.educ.assessment.api.messaging.MessagePublisher;
 import ca.bc.gov.educ.assessment.api.messaging.jetstream.Publisher;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEntity;
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentEventEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentSessionEntity;
 import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentEventRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentSessionRepository;
+import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentHistoryRepository;
 import ca.bc.gov.educ.assessment.api.repository.v1.AssessmentStudentRepository;
 import ca.bc.gov.educ.assessment.api.struct.Event;
+import ca.bc.gov.educ.assessment.api.util.JsonUtil;
 import ca.bc.gov.educ.assessment.api.constants.v1.AssessmentTypeCodes;
 import io.nats.client.Message;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +35,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -59,19 +71,30 @@ class EventHandlerDelegatorServiceTest extends BaseAssessmentAPITest {
   @Autowired
   private AssessmentStudentRepository assessmentStudentRepository;
 
+  @Autowired
+  private AssessmentStudentHistoryRepository assessmentStudentHistoryRepository;
+
+  @Autowired
+  private AssessmentEventRepository assessmentEventRepository;
+
+  @Autowired
+  private ApplicationProperties applicationProperties;
+
   private EventHandlerDelegatorService eventHandlerDelegatorService;
 
   @BeforeEach
   void setUp() {
     eventHandlerDelegatorService = new EventHandlerDelegatorService(
-        messagePublisher, eventHandlerService, publisher);
+        messagePublisher, eventHandlerService, applicationProperties);
     assessmentSessionRepository.save(createMockSessionEntity());
     assessmentStudentRepository.deleteAll();
   }
 
   @AfterEach
   void tearDown() {
+    eventHandlerDelegatorService.close();
     assessmentStudentRepository.deleteAll();
+    assessmentStudentHistoryRepository.deleteAll();
     assessmentRepository.deleteAll();
     assessmentSessionRepository.deleteAll();
   }
@@ -266,4 +289,72 @@ class EventHandlerDelegatorServiceTest extends BaseAssessmentAPITest {
       assertThat(payloadCaptor.getValue()).isNotEmpty();
     }
   }
+
+  @Nested
+  @DisplayName("PROCESS_STUDENT_REGISTRATION Event Tests")
+  class ProcessStudentRegistrationEventTests {
+
+    @Test
+    @DisplayName("Should write queued registrations together and reply to each message")
+    void testHandleEvent_givenEventTypePROCESS_STUDENT_REGISTRATION_whenSeveralArrive_shouldReplyToEachMessage() throws Exception {
+      AssessmentSessionEntity session = assessmentSessionRepository.save(createMockSessionEntity());
+      AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(session, AssessmentTypeCodes.LTF12.getCode()));
+      when(publisher.publishChoreographyEvents(anyList(), any())).thenAnswer(invocation -> {
+        List<AssessmentEventEntity> events = invocation.getArgument(0);
+        return events.stream().map(AssessmentEventEntity::getEventId).toList();
+      });
+
+      List<String> eventPayloads = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        var student = createMockStudent();
+        student.setAssessmentID(assessment.getAssessmentID().toString());
+        eventPayloads.add(JsonUtil.getJsonStringFromObject(student.getStudentID()));
+        final Event event = Event.builder()
+            .eventType(EventType.PROCESS_STUDENT_REGISTRATION)
+            .sagaId(UUID.randomUUID())
+            .replyTo(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC.toString())
+            .eventPayload(JsonUtil.getJsonStringFromObject(student))
+            .build();
+        Message mockMessage = mock(Message.class);
+        when(mockMessage.getReplyTo()).thenReturn("test-reply-channel-" + i);
+        eventHandlerDelegatorService.handleEvent(event, mockMessage);
+      }
+
+      ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+      verify(messagePublisher, timeout(5000).times(3)).dispatchMessage(anyString(), payloadCaptor.capture());
+      for (byte[] payload : payloadCaptor.getAllValues()) {
+        assertThat(JsonUtil.getJsonObjectFromByteArray(Event.class, payload).getEventOutcome()).isEqualTo(EventOutcome.STUDENT_REGISTRATION_PROCESSED_IN_ASSESSMENT_API);
+      }
+      assertThat(assessmentStudentRepository.findAll()).hasSize(3);
+      await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+          assertThat(assessmentEventRepository.findAll()).filteredOn(event -> eventPayloads.contains(event.getEventPayload()))
+              .hasSize(3)
+              .extracting(AssessmentEventEntity::getEventStatus).containsOnly(EventStatus.MESSAGE_PUBLISHED.toString()));
+    }
+
+    @Test
+    @DisplayName("Should process a registration on its own once the service is closed")
+    void testHandleEvent_givenEventTypePROCESS_STUDENT_REGISTRATION_whenClosed_shouldProcessRegistrationOnItsOwn() throws Exception {
+      AssessmentSessionEntity session = assessmentSessionRepository.save(createMockSessionEntity());
+      AssessmentEntity assessment = assessmentRepository.save(createMockAssessmentEntity(session, AssessmentTypeCodes.LTF12.getCode()));
+      eventHandlerDelegatorService.close();
+
+      var student = createMockStudent();
+      student.setAssessmentID(assessment.getAssessmentID().toString());
+      final Event event = Event.builder()
+          .eventType(EventType.PROCESS_STUDENT_REGISTRATION)
+          .sagaId(UUID.randomUUID())
+          .replyTo(TopicsEnum.STUDENT_ASSESSMENT_API_TOPIC.toString())
+          .eventPayload(JsonUtil.getJsonStringFromObject(student))
+          .build();
+      Message mockMessage = mock(Message.class);
+      when(mockMessage.getReplyTo()).thenReturn("test-reply-channel");
+      eventHandlerDelegatorService.handleEvent(event, mockMessage);
+
+      ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+      verify(messagePublisher, times(1)).dispatchMessage(anyString(), payloadCaptor.capture());
+      assertThat(JsonUtil.getJsonObjectFromByteArray(Event.class, payloadCaptor.getValue()).getEventOutcome()).isEqualTo(EventOutcome.STUDENT_REGISTRATION_PROCESSED_IN_ASSESSMENT_API);
+      assertThat(assessmentStudentRepository.findAll()).hasSize(1);
+    }
+  }
 }
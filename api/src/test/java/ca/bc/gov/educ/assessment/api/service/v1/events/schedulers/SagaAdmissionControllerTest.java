@@ -0,0 +1,79 @@
+package ca.bc.gov.educ.assessment.api.service.v1.events.schedulers;
+
+import ca.bc.gov.educ.assessment.api.messaging.MessagePublisher;
+import ca.bc.gov.educ.assessment.api.properties.ApplicationProperties;
+import ca.bc.gov.educ.assessment.api.repository.v1.SagaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SagaAdmissionControllerTest {
+
+    private MessagePublisher messagePublisher;
+    private SagaRepository sagaRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SagaAdmissionController sagaAdmissionController;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var properties = new ApplicationProperties();
+        properties.setSagaAdmissionInitialLimit(100);
+        properties.setSagaAdmissionMinLimit(10);
+        properties.setSagaAdmissionMaxLimit(150);
+        properties.setSagaAdmissionIncreaseStep(10);
+        properties.setSagaAdmissionNatsLatencyThresholdMs(2000L);
+        var dataSource = mock(DataSource.class);
+        when(dataSource.isWrapperFor(any())).thenReturn(false);
+        messagePublisher = mock(MessagePublisher.class);
+        sagaRepository = mock(SagaRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sagaAdmissionController = new SagaAdmissionController(properties, dataSource, messagePublisher, sagaRepository, meterRegistry);
+    }
+
+    @Test
+    void testNextBatchSize_givenBacklogAndNoPressure_ShouldRampUpToMaxLimit() {
+        assertEquals(110, sagaAdmissionController.nextBatchSize(0, 5000));
+
+        // all 110 sagas completed since the previous run
+        when(sagaRepository.countByStatusAndUpdateDateAfter(eq("COMPLETED"), any())).thenReturn(110L);
+        assertEquals(150, sagaAdmissionController.nextBatchSize(0, 4890));
+        assertEquals(150, sagaAdmissionController.getLimit());
+        assertEquals(150, meterRegistry.get("assessment.saga.admission.limit").gauge().value());
+        assertEquals(4890, meterRegistry.get("assessment.saga.admission.queue.depth").gauge().value());
+    }
+
+    @Test
+    void testNextBatchSize_givenSlowNatsReplies_ShouldBackOffToMinLimit() {
+        when(messagePublisher.getRequestLatencyMillis()).thenReturn(5000L);
+
+        assertEquals(0, sagaAdmissionController.nextBatchSize(90, 5000));
+        assertEquals(75, sagaAdmissionController.getLimit());
+        for (int i = 0; i < 10; i++) {
+            sagaAdmissionController.nextBatchSize(90, 5000);
+        }
+        assertEquals(10, sagaAdmissionController.getLimit());
+    }
+
+    @Test
+    void testNextBatchSize_givenSagasEndedWithoutCompleting_ShouldOnlyRaiseLimitByStep() {
+        assertEquals(0, sagaAdmissionController.nextBatchSize(100, 5000));
+
+        // 60 sagas were force stopped or purged, none completed
+        assertEquals(70, sagaAdmissionController.nextBatchSize(40, 5000));
+        assertEquals(110, sagaAdmissionController.getLimit());
+    }
+
+    @Test
+    void testNextBatchSize_givenEmptyQueue_ShouldHoldLimit() {
+        assertEquals(60, sagaAdmissionController.nextBatchSize(40, 0));
+        assertEquals(100, sagaAdmissionController.getLimit());
+    }
+}
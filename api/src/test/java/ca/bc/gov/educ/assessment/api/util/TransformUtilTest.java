@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.assessment.api.util;
 
+import ca.bc.gov.educ.assessment.api.model.v1.AssessmentStudentEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -64,4 +65,43 @@ class TransformUtilTest {
         assertEquals("B", result.get(1));
         assertEquals("C", result.get(2));
     }
+
+    @Test
+    void testUppercaseFields_ShouldUppercaseAnnotatedFieldsOnly() {
+        var student = AssessmentStudentEntity.builder().givenName("jane").surname("doe").pen("abc").build();
+
+        TransformUtil.uppercaseFields(student);
+
+        assertEquals("JANE", student.getGivenName());
+        assertEquals("DOE", student.getSurname());
+        assertEquals("abc", student.getPen());
+    }
+
+    @Test
+    void testUppercaseFields_withNullValue() {
+        var student = AssessmentStudentEntity.builder().givenName(null).surname("doe").build();
+
+        TransformUtil.uppercaseFields(student);
+
+        assertNull(student.getGivenName());
+        assertEquals("DOE", student.getSurname());
+    }
+
+    @Test
+    void testIsUppercaseField() {
+        assertTrue(TransformUtil.isUppercaseField(AssessmentStudentEntity.class, "givenName"));
+        assertFalse(TransformUtil.isUppercaseField(AssessmentStudentEntity.class, "pen"));
+        assertFalse(TransformUtil.isUppercaseField(AssessmentStudentEntity.class, "unknownField"));
+    }
+
+    @Test
+    void testHasPath() {
+        var metadata = FieldMetadata.of(AssessmentStudentEntity.class);
+
+        assertTrue(metadata.hasPath("givenName"));
+        assertTrue(metadata.hasPath("assessmentEntity.assessmentSessionEntity.schoolYear"));
+        assertFalse(metadata.hasPath("unknownField"));
+        assertFalse(metadata.hasPath("assessmentEntity.unknownField"));
+        assertFalse(metadata.hasPath("givenName.value"));
+    }
 }